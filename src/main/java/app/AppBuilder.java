@@ -1,7 +1,7 @@
 package app;
 
 import data_access.*;
-import entity.RestaurantFactory;
+import interface_adapter.ImageResources;
 import interface_adapter.ViewManagerModel;
 import interface_adapter.add_review.AddReviewController;
 import interface_adapter.add_review.AddReviewPresenter;
@@ -27,6 +27,9 @@ import interface_adapter.google_login.GoogleLoginPresenter;
 import interface_adapter.list_search.ListSearchController;
 import interface_adapter.list_search.ListSearchPresenter;
 import interface_adapter.list_search.ListSearchViewModel;
+import interface_adapter.nearby_restaurants.NearbyRestaurantsController;
+import interface_adapter.nearby_restaurants.NearbyRestaurantsPresenter;
+import interface_adapter.nearby_restaurants.NearbyRestaurantsViewModel;
 import interface_adapter.logged_in.LoggedInViewModel;
 import interface_adapter.login.LoginController;
 import interface_adapter.login.LoginPresenter;
@@ -42,7 +45,6 @@ import interface_adapter.view_restaurant.ViewRestaurantPresenter;
 import interface_adapter.view_restaurant.ViewRestaurantViewModel;
 import service.ChatGPTService;
 import use_case.IAuthGateway;
-import use_case.IUserRepo;
 import use_case.add_review.AddReviewInputBoundary;
 import use_case.add_review.AddReviewInteractor;
 import use_case.add_review.AddReviewOutputBoundary;
@@ -69,18 +71,20 @@ import use_case.google_login.GoogleLoginInputBoundary;
 import use_case.google_login.GoogleLoginInteractor;
 import use_case.list_search.ListSearchInputBoundary;
 import use_case.list_search.ListSearchInteractor;
+import use_case.nearby_restaurants.NearbyRestaurantsInputBoundary;
+import use_case.nearby_restaurants.NearbyRestaurantsInteractor;
 import use_case.logout.LogoutInputBoundary;
 import use_case.logout.LogoutUserInteractor;
 import use_case.random_restaurant.RandomRestaurantInputBoundary;
 import use_case.random_restaurant.RandomRestaurantInteractor;
 import use_case.view_restaurant.ViewRestaurantInputBoundary;
 import use_case.view_restaurant.ViewRestaurantInteractor;
-import use_case.view_restaurant.ViewRestaurantOutputBoundary;
 import view.*;
 
 import javax.swing.*;
 import java.awt.*;
 import java.io.IOException;
+import java.nio.file.Path;
 
 /**
  * The AppBuilder is responsible for constructing and wiring together
@@ -99,9 +103,11 @@ public class AppBuilder {
 
     // Shared data access objects
     private final IAuthGateway authGateway = new FirebaseUserAuth();
-    private final IUserRepo userRepository = new FirestoreUserRepo();
+    private final FirestoreUserRepo userRepository =
+            new FirestoreUserRepo(new UserCache(), LocalUserStore.openDefault(), false, false);
     private final CurrentUser currentUser = new CurrentUser(authGateway, userRepository);
-    private final GooglePlacesGateway googlePlacesGateway = new GooglePlacesGateway();
+    // One photo cache shared by every view, so a photo is downloaded once however it is reached
+    private final CachingImageDataAccess googlePlacesGateway = new CachingImageDataAccess(new GooglePlacesGateway());
 
     // ======== View Models ========
     // Home page
@@ -118,6 +124,7 @@ public class AppBuilder {
     private ViewRestaurantViewModel viewRestaurantViewModel;
     private RestaurantView restaurantView;
     private JsonRestaurantDataAccessObject restaurantDataAccess;
+    private RestaurantCatalogWatcher catalogWatcher;
     private JsonReviewDataAccessObject reviewDataAccess;
     // Shared Google Login Controller
     private GoogleLoginController googleLoginController;
@@ -129,13 +136,21 @@ public class AppBuilder {
         // tell card panel to use cardLayout to manage its layout.
         cardPanel.setLayout(cardLayout);
 
+        // Decode the placeholder images while the user logs in, so the first grid does not wait
+        ImageResources.preloadInBackground();
+
         // Initialize restaurant data access
         try {
-            RestaurantFactory restaurantFactory = new RestaurantFactory();
-            this.restaurantDataAccess = new JsonRestaurantDataAccessObject(
-                    "src/main/java/data/restaurant.json",
-                    restaurantFactory
+            // The same catalog instance also backs the restaurant lookups in FirestoreUserRepo.
+            // RESTAURANT_STORAGE=COLUMNAR keeps large catalogs in columns instead of objects.
+            RestaurantCatalog restaurantCatalog = RestaurantCatalog.shared(
+                    Path.of("src/main/java/data/restaurant.json"),
+                    RestaurantCatalog.LoadMode.SNAPSHOT,
+                    restaurantStorage()
             );
+            this.restaurantDataAccess = new JsonRestaurantDataAccessObject(restaurantCatalog);
+            // Pick up exports written by RestaurantDataImporter while the app is running
+            this.catalogWatcher = this.restaurantDataAccess.watchForUpdates(Path.of("src/main/java/data"));
 
             this.reviewDataAccess = new JsonReviewDataAccessObject("src/main/java/data/reviews.json");
 
@@ -323,6 +338,14 @@ public class AppBuilder {
         loggedInView.setSearchController(listSearchController);
         listSearchController.search("");
 
+        // Create NearbyRestaurants components
+        NearbyRestaurantsViewModel nearbyRestaurantsViewModel = new NearbyRestaurantsViewModel();
+        NearbyRestaurantsInputBoundary nearbyRestaurantsInteractor = new NearbyRestaurantsInteractor(
+                restaurantDataAccess, new NearbyRestaurantsPresenter(nearbyRestaurantsViewModel));
+        loggedInView.setNearbyRestaurantsViewModel(nearbyRestaurantsViewModel);
+        loggedInView.setNearbyRestaurantsController(
+                new NearbyRestaurantsController(nearbyRestaurantsInteractor));
+
         // Add to card panel
         cardPanel.add(loggedInView, loggedInView.getViewName());
 
@@ -386,8 +409,8 @@ public class AppBuilder {
      */
     @SuppressWarnings("checkstyle:VariableDeclarationUsageDistance")
     public AppBuilder addRestaurantUseCase() {
-        final ViewRestaurantOutputBoundary viewRestaurantOutputBoundary =
-                new ViewRestaurantPresenter(viewManagerModel, viewRestaurantViewModel, googlePlacesGateway);
+        final ViewRestaurantPresenter viewRestaurantOutputBoundary = new ViewRestaurantPresenter(
+                viewManagerModel, viewRestaurantViewModel, googlePlacesGateway, SwingUtilities::invokeLater);
 
         final ViewRestaurantInputBoundary viewRestaurantInteractor =
                 new ViewRestaurantInteractor(restaurantDataAccess, viewRestaurantOutputBoundary);
@@ -396,7 +419,7 @@ public class AppBuilder {
                 new RandomRestaurantInteractor(restaurantDataAccess, viewRestaurantOutputBoundary);
 
         ViewRestaurantController viewRestaurantController = new ViewRestaurantController(
-                viewRestaurantInteractor);
+                viewRestaurantInteractor, viewRestaurantOutputBoundary.getPhotoGallery());
         RandomRestaurantController randomRestaurantController = new RandomRestaurantController(
                 randomRestaurantInteractor);
 
@@ -491,9 +514,11 @@ public class AppBuilder {
         );
 
         // Step 5: Create Remove Favorite Interactor
+        // Firestore answers off the event thread; present back on it
         RemoveFavoriteInputBoundary removeFavoriteInteractor = new RemoveFavoriteInteractor(
-                (UserDataAccessInterface) userRepository,
-                favoritesPresenter
+                (AsyncUserDataAccessInterface) userRepository,
+                favoritesPresenter,
+                SwingUtilities::invokeLater
         );
 
         // Create Controllers
@@ -520,8 +545,9 @@ public class AppBuilder {
             loggedInView.setFavoritesViewModel(favoritesViewModel);
             loggedInView.setGetFavoritesController(getFavoritesController);
             loggedInView.setAddFavoriteController(new AddFavoriteController(
-                    new AddFavoriteInteractor((UserDataAccessInterface) userRepository,
-                            new AddFavoritePresenter(favoritesViewModel))
+                    new AddFavoriteInteractor((AsyncUserDataAccessInterface) userRepository,
+                            new AddFavoritePresenter(favoritesViewModel),
+                            SwingUtilities::invokeLater)
             ));
             loggedInView.setRemoveFavoriteController(removeFavoriteController);
             loggedInView.setUserDataAccess((UserDataAccessInterface) userRepository);
@@ -549,8 +575,9 @@ public class AppBuilder {
 
         // Create AddFavorite interactor
         AddFavoriteInputBoundary addFavoriteInteractor = new AddFavoriteInteractor(
-                (UserDataAccessInterface) userRepository,
-                addFavoritePresenter
+                (AsyncUserDataAccessInterface) userRepository,
+                addFavoritePresenter,
+                SwingUtilities::invokeLater
         );
 
         // Create AddFavorite controller
@@ -561,8 +588,9 @@ public class AppBuilder {
 
         // Create RemoveFavorite interactor
         RemoveFavoriteInputBoundary removeFavoriteInteractor = new RemoveFavoriteInteractor(
-                (UserDataAccessInterface) userRepository,
-                removeFavoritePresenter
+                (AsyncUserDataAccessInterface) userRepository,
+                removeFavoritePresenter,
+                SwingUtilities::invokeLater
         );
 
         // Create RemoveFavorite controller
@@ -582,6 +610,8 @@ public class AppBuilder {
     public JFrame build() {
         final JFrame application = new JFrame("UofT Eats - Restaurant Review App");
         application.setDefaultCloseOperation(WindowConstants.EXIT_ON_CLOSE);
+        // Closing the window exits the JVM; release the data access objects on the way out
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close, "app-shutdown"));
 
         application.add(cardPanel);
 
@@ -593,6 +623,37 @@ public class AppBuilder {
         return application;
     }
 
+    /**
+     * @return the catalog storage named by the RESTAURANT_STORAGE environment variable, OBJECTS if
+     *         it is unset or unknown
+     */
+    private static RestaurantCatalog.Storage restaurantStorage() {
+        String storage = System.getenv("RESTAURANT_STORAGE");
+        if (storage != null) {
+            try {
+                return RestaurantCatalog.Storage.valueOf(storage.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                System.err.println("Unknown RESTAURANT_STORAGE " + storage + ", keeping restaurant objects");
+            }
+        }
+        return RestaurantCatalog.Storage.OBJECTS;
+    }
+
+    /**
+     * Writes favorite changes still queued and stops watching the data directory. Called once, when
+     * the app exits.
+     */
+    public void close() {
+        userRepository.close();
+        if (catalogWatcher != null) {
+            try {
+                catalogWatcher.close();
+            } catch (IOException e) {
+                System.err.println("Failed to stop watching restaurant data: " + e.getMessage());
+            }
+        }
+    }
+
     /**
      * Creates the shared Google Login Controller (used by both Login and Register views).
      */
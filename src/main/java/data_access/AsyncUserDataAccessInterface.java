@@ -0,0 +1,107 @@
+package data_access;
+
+import entity.Restaurant;
+import entity.User;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking variant of UserDataAccessInterface. User reads and writes return at once and
+ * complete when the database answers, so callers such as the Swing event thread are never blocked
+ * by the network. Restaurant lookups stay synchronous because they are served from memory.
+ */
+public interface AsyncUserDataAccessInterface extends UserDataAccessInterface {
+
+  /**
+   * Retrieves a user by their ID.
+   *
+   * @param userId the ID of the user to retrieve
+   * @return completes with the User object, or null if not found
+   */
+  CompletableFuture<User> getUserAsync(String userId);
+
+  /**
+   * Saves or updates a user.
+   *
+   * @param user the user to save
+   * @return completes once the user is saved, or exceptionally if the save fails
+   */
+  CompletableFuture<Void> saveUserAsync(User user);
+
+  /**
+   * Saves a restaurant just added to the user's favorites. Implementations may write only the
+   * change, and may delay it to combine it with other changes; by default the whole user is saved.
+   *
+   * @param user         the user, already holding the new favorite
+   * @param restaurantId the restaurant added
+   * @return completes once the change is saved, or exceptionally if the save fails
+   */
+  default CompletableFuture<Void> addFavoriteAsync(User user, String restaurantId) {
+    return saveUserAsync(user);
+  }
+
+  /**
+   * Saves a restaurant just removed from the user's favorites. Implementations may write only the
+   * change, and may delay it to combine it with other changes; by default the whole user is saved.
+   *
+   * @param user         the user, no longer holding the favorite
+   * @param restaurantId the restaurant removed
+   * @return completes once the change is saved, or exceptionally if the save fails
+   */
+  default CompletableFuture<Void> removeFavoriteAsync(User user, String restaurantId) {
+    return saveUserAsync(user);
+  }
+
+  /**
+   * Adapts a blocking data access object. The returned futures are already complete, so callers
+   * behave exactly as with the blocking object.
+   *
+   * @param userDataAccess the blocking data access object
+   * @return the same data access through the asynchronous interface
+   */
+  static AsyncUserDataAccessInterface blocking(UserDataAccessInterface userDataAccess) {
+    if (userDataAccess instanceof AsyncUserDataAccessInterface) {
+      return (AsyncUserDataAccessInterface) userDataAccess;
+    }
+    return new AsyncUserDataAccessInterface() {
+      @Override
+      public CompletableFuture<User> getUserAsync(String userId) {
+        try {
+          return CompletableFuture.completedFuture(userDataAccess.getUser(userId));
+        } catch (RuntimeException e) {
+          return CompletableFuture.failedFuture(e);
+        }
+      }
+
+      @Override
+      public CompletableFuture<Void> saveUserAsync(User user) {
+        try {
+          userDataAccess.saveUser(user);
+          return CompletableFuture.completedFuture(null);
+        } catch (RuntimeException e) {
+          return CompletableFuture.failedFuture(e);
+        }
+      }
+
+      @Override
+      public User getUser(String userId) {
+        return userDataAccess.getUser(userId);
+      }
+
+      @Override
+      public void saveUser(User user) {
+        userDataAccess.saveUser(user);
+      }
+
+      @Override
+      public Restaurant getRestaurantById(String restaurantId) {
+        return userDataAccess.getRestaurantById(restaurantId);
+      }
+
+      @Override
+      public List<Restaurant> getRestaurantsByIds(List<String> restaurantIds) {
+        return userDataAccess.getRestaurantsByIds(restaurantIds);
+      }
+    };
+  }
+}
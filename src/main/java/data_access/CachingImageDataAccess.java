@@ -0,0 +1,223 @@
+package data_access;
+
+import interface_adapter.ImageDataAccessInterface;
+import interface_adapter.ImageScaling;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import javax.imageio.ImageIO;
+
+/**
+ * Restaurant photos served from memory, then from disk, and only then downloaded, so navigating
+ * back to a restaurant does not download and decode its photos again.
+ *
+ * <p>Decoded photos are kept in memory up to a bound on their pixel bytes, least recently used
+ * first out; encoded photos are kept on disk in a DiskImageCache. Photos are keyed by reference
+ * and size. Requests for a photo already being loaded wait for that load instead of starting
+ * another. Failed downloads are not cached.
+ */
+public class CachingImageDataAccess implements ImageDataAccessInterface {
+
+    /** Pixel bytes kept in memory when no bound is given. */
+    public static final long DEFAULT_MEMORY_BYTES = 64L * 1024 * 1024;
+
+    private final PhotoSource source;
+    private final DiskImageCache disk;
+    private final long maxMemoryBytes;
+
+    // guarded by itself; access order, so the eldest photo is the least recently used
+    private final LinkedHashMap<String, BufferedImage> memory = new LinkedHashMap<>(16, 0.75f, true);
+    private long memoryBytes;   // guarded by memory
+
+    private final Map<String, CompletableFuture<BufferedImage>> loads = new ConcurrentHashMap<>();
+
+    private final AtomicLong memoryHits = new AtomicLong();
+    private final AtomicLong diskHits = new AtomicLong();
+    private final AtomicLong downloads = new AtomicLong();
+    private final AtomicLong sharedLoads = new AtomicLong();
+
+    /**
+     * Cache with the default memory bound and the disk cache in the user's home directory.
+     * @param source where photos are downloaded from
+     */
+    public CachingImageDataAccess(PhotoSource source) {
+        this(source, DEFAULT_MEMORY_BYTES, DiskImageCache.openDefault());
+    }
+
+    /**
+     * @param source where photos are downloaded from
+     * @param maxMemoryBytes most pixel bytes of decoded photos kept in memory
+     * @param disk where encoded photos are kept between runs, or null to keep them in memory only
+     */
+    public CachingImageDataAccess(PhotoSource source, long maxMemoryBytes, DiskImageCache disk) {
+        this.source = source;
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.disk = disk;
+    }
+
+    @Override
+    public BufferedImage fetchRestaurantImage(String photoId, String api_key) {
+        return fetchRestaurantImage(photoId, api_key, GooglePlacesGateway.DEFAULT_MAX_WIDTH_PX);
+    }
+
+    @Override
+    public BufferedImage fetchRestaurantImage(String photoId, String api_key, int maxWidthPx) {
+        String key = photoId + "@" + maxWidthPx;
+        return cached(key, () -> load(key, photoId, api_key, maxWidthPx));
+    }
+
+    /**
+     * Thumbnails are kept in memory at their final size, so a grid of cards never holds or rescales
+     * full-size photos. The photo is fetched only as wide as the thumbnail, and that is what is kept
+     * on disk.
+     */
+    @Override
+    public BufferedImage fetchRestaurantThumbnail(String photoId, String api_key, int width, int height) {
+        return cached(photoId + "@" + width + "x" + height, () -> {
+            BufferedImage photo = load(photoId + "@" + width, photoId, api_key, width);
+            return photo == null ? null : ImageScaling.scaleToFill(photo, width, height);
+        });
+    }
+
+    private BufferedImage cached(String key, Supplier<BufferedImage> loader) {
+        BufferedImage image = fromMemory(key);
+        if (image != null) {
+            memoryHits.incrementAndGet();
+            return image;
+        }
+
+        CompletableFuture<BufferedImage> load = new CompletableFuture<>();
+        CompletableFuture<BufferedImage> inFlight = loads.putIfAbsent(key, load);
+        if (inFlight != null) {
+            sharedLoads.incrementAndGet();
+            return inFlight.join();
+        }
+        try {
+            image = loader.get();
+            if (image != null) {
+                toMemory(key, image);
+            }
+            load.complete(image);
+            return image;
+        } catch (RuntimeException e) {
+            load.complete(null);
+            throw e;
+        } finally {
+            loads.remove(key, load);
+        }
+    }
+
+    /**
+     * @return share of requests served without downloading, from 0 to 1
+     */
+    public double getHitRate() {
+        long hits = memoryHits.get() + diskHits.get() + sharedLoads.get();
+        long requests = hits + downloads.get();
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+
+    /**
+     * @return requests served from memory
+     */
+    public long getMemoryHits() {
+        return memoryHits.get();
+    }
+
+    /**
+     * @return requests served from disk
+     */
+    public long getDiskHits() {
+        return diskHits.get();
+    }
+
+    /**
+     * @return requests that downloaded the photo
+     */
+    public long getDownloads() {
+        return downloads.get();
+    }
+
+    /**
+     * @return requests that waited for the same photo already being loaded
+     */
+    public long getSharedLoads() {
+        return sharedLoads.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CachingImageDataAccess{hitRate=%.2f, memoryHits=%d, diskHits=%d, downloads=%d, "
+                        + "sharedLoads=%d}", getHitRate(), getMemoryHits(), getDiskHits(), getDownloads(),
+                getSharedLoads());
+    }
+
+    private BufferedImage load(String key, String photoReference, String apiKey, int maxWidthPx) {
+        if (disk != null) {
+            byte[] stored = disk.get(key);
+            if (stored != null) {
+                BufferedImage image = decode(stored);
+                if (image != null) {
+                    diskHits.incrementAndGet();
+                    return image;
+                }
+                disk.remove(key);
+            }
+        }
+
+        downloads.incrementAndGet();
+        byte[] bytes;
+        try {
+            bytes = source.fetchPhoto(photoReference, apiKey, maxWidthPx);
+        } catch (IOException e) {
+            System.err.println("Failed to fetch image: " + e.getMessage());
+            return null;
+        }
+        BufferedImage image = decode(bytes);
+        if (image != null && disk != null) {
+            disk.put(key, bytes);
+        }
+        return image;
+    }
+
+    private static BufferedImage decode(byte[] bytes) {
+        try {
+            return ImageIO.read(new ByteArrayInputStream(bytes));
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private BufferedImage fromMemory(String key) {
+        synchronized (memory) {
+            return memory.get(key);
+        }
+    }
+
+    private void toMemory(String key, BufferedImage image) {
+        synchronized (memory) {
+            BufferedImage previous = memory.put(key, image);
+            memoryBytes += weight(image) - (previous == null ? 0 : weight(previous));
+            Iterator<BufferedImage> eldest = memory.values().iterator();
+            while (memoryBytes > maxMemoryBytes && eldest.hasNext()) {
+                BufferedImage evicted = eldest.next();
+                if (evicted == image) {
+                    // Never evict the photo just loaded, even if it alone exceeds the bound
+                    break;
+                }
+                eldest.remove();
+                memoryBytes -= weight(evicted);
+            }
+        }
+    }
+
+    private static long weight(BufferedImage image) {
+        return 4L * image.getWidth() * image.getHeight();
+    }
+}
@@ -0,0 +1,79 @@
+package data_access;
+
+import entity.Restaurant;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Differences between two versions of a restaurant catalog, keyed by CID.
+ */
+public class CatalogDiff {
+
+    private final List<String> addedCids;
+    private final List<String> changedCids;
+    private final List<String> removedCids;
+
+    public CatalogDiff(List<String> addedCids, List<String> changedCids, List<String> removedCids) {
+        this.addedCids = List.copyOf(addedCids);
+        this.changedCids = List.copyOf(changedCids);
+        this.removedCids = List.copyOf(removedCids);
+    }
+
+    /**
+     * @return CIDs only present in the newer catalog
+     */
+    public List<String> getAddedCids() {
+        return addedCids;
+    }
+
+    /**
+     * @return CIDs present in both catalogs whose restaurant data differs
+     */
+    public List<String> getChangedCids() {
+        return changedCids;
+    }
+
+    /**
+     * @return CIDs only present in the older catalog
+     */
+    public List<String> getRemovedCids() {
+        return removedCids;
+    }
+
+    /**
+     * @return whether the two catalogs hold the same restaurants
+     */
+    public boolean isEmpty() {
+        return addedCids.isEmpty() && changedCids.isEmpty() && removedCids.isEmpty();
+    }
+
+    /**
+     * Compares every field read from the json file.
+     * @param a one version of a restaurant
+     * @param b another version of the same restaurant
+     * @return whether both carry the same data
+     */
+    static boolean sameContent(Restaurant a, Restaurant b) {
+        return Objects.equals(a.getId(), b.getId())
+                && Objects.equals(a.getName(), b.getName())
+                && Objects.equals(a.getAddress(), b.getAddress())
+                && Objects.equals(a.getMapUri(), b.getMapUri())
+                && a.getLatitude() == b.getLatitude()
+                && a.getLongitude() == b.getLongitude()
+                && Objects.equals(a.getType(), b.getType())
+                && a.getRating() == b.getRating()
+                && a.getRatingCount() == b.getRatingCount()
+                && Objects.equals(a.getPhoneNumber(), b.getPhoneNumber())
+                && Objects.equals(a.getWebsiteUri(), b.getWebsiteUri())
+                && Objects.equals(a.getHours(), b.getHours())
+                && a.hasStudentDiscount() == b.hasStudentDiscount()
+                && a.getDiscountValue() == b.getDiscountValue()
+                && Objects.equals(a.getPhotoIds(), b.getPhotoIds());
+    }
+
+    @Override
+    public String toString() {
+        return "added=" + addedCids.size() + ", changed=" + changedCids.size()
+                + ", removed=" + removedCids.size();
+    }
+}
@@ -0,0 +1,349 @@
+package data_access;
+
+import entity.Restaurant;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Column-oriented storage for a large restaurant catalog. Instead of one Restaurant with its
+ * Location, Rating, Contact and StudentDiscount objects and two lists per place, numbers live in
+ * parallel primitive arrays, repeated strings (types, weekday opening-hours lines, whole
+ * opening-hours lists) are stored once in pools, and photo names, the bulk of each place, are kept
+ * as bytes in one array without the prefix they share with the restaurant id.
+ *
+ * <p>{@link #get(int)} hands out a lightweight {@link Restaurant} view of one row, created on
+ * demand and backed by the columns. Views are read-only: the catalog shares its rows between
+ * threads and caches scores computed from them, so their setters throw.
+ */
+public class ColumnarRestaurants {
+
+    private final int size;
+
+    private final String[] ids;
+    private final String[] names;
+    private final String[] addresses;
+    private final String[] mapUris;
+    private final String[] phoneNumbers;
+    private final String[] websiteUris;
+
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final double[] ratings;
+    private final int[] ratingCounts;
+    private final boolean[] hasDiscounts;
+    private final double[] discountValues;
+
+    private final String[] typePool;
+    private final int[] typeIndexes;
+
+    private final List<List<String>> hoursPool;
+    private final int[] hoursIndexes;
+
+    // Photo ids of row i are photos photoStarts[i] .. photoStarts[i + 1] - 1, stored back to
+    // back as UTF-8 in photoBytes[i]; photo p ends at photoEnds[p] within its row's bytes. When
+    // photoPrefixed[p] is set the bytes omit the "<restaurant id>/photos/" prefix that every
+    // Places photo name starts with.
+    private final byte[][] photoBytes;
+    private final int[] photoEnds;
+    private final boolean[] photoPrefixed;
+    private final int[] photoStarts;
+
+    private final List<Restaurant> asList = new RowList(null);
+
+    private ColumnarRestaurants(List<Restaurant> restaurants) {
+        size = restaurants.size();
+        ids = new String[size];
+        names = new String[size];
+        addresses = new String[size];
+        mapUris = new String[size];
+        phoneNumbers = new String[size];
+        websiteUris = new String[size];
+        latitudes = new double[size];
+        longitudes = new double[size];
+        ratings = new double[size];
+        ratingCounts = new int[size];
+        hasDiscounts = new boolean[size];
+        discountValues = new double[size];
+        typeIndexes = new int[size];
+        hoursIndexes = new int[size];
+        photoStarts = new int[size + 1];
+
+        Map<String, Integer> typeIds = new HashMap<>();
+        Map<List<String>, Integer> hoursIds = new HashMap<>();
+        Map<String, String> hourLines = new HashMap<>();
+        List<String> types = new ArrayList<>();
+        List<List<String>> hoursLists = new ArrayList<>();
+
+        int photoCount = 0;
+        for (Restaurant restaurant : restaurants) {
+            photoCount += restaurant.getPhotoIds() == null ? 0 : restaurant.getPhotoIds().size();
+        }
+        photoEnds = new int[photoCount];
+        photoPrefixed = new boolean[photoCount];
+        photoBytes = new byte[size][];
+        ByteArrayOutputStream photoOut = new ByteArrayOutputStream();
+
+        int photo = 0;
+        for (int row = 0; row < size; row++) {
+            Restaurant restaurant = restaurants.get(row);
+            ids[row] = restaurant.getId();
+            names[row] = restaurant.getName();
+            addresses[row] = restaurant.getAddress();
+            mapUris[row] = restaurant.getMapUri();
+            phoneNumbers[row] = restaurant.getPhoneNumber();
+            websiteUris[row] = restaurant.getWebsiteUri();
+            latitudes[row] = restaurant.getLatitude();
+            longitudes[row] = restaurant.getLongitude();
+            ratings[row] = restaurant.getRating();
+            ratingCounts[row] = restaurant.getRatingCount();
+            hasDiscounts[row] = restaurant.hasStudentDiscount();
+            discountValues[row] = restaurant.getDiscountValue();
+
+            typeIndexes[row] = typeIds.computeIfAbsent(restaurant.getType(), type -> {
+                types.add(type);
+                return types.size() - 1;
+            });
+
+            List<String> hours = restaurant.getHours() == null ? List.of() : restaurant.getHours();
+            Integer hoursId = hoursIds.get(hours);
+            if (hoursId == null) {
+                String[] lines = new String[hours.size()];
+                for (int i = 0; i < lines.length; i++) {
+                    lines[i] = hourLines.computeIfAbsent(hours.get(i), line -> line);
+                }
+                List<String> pooled = List.of(lines);
+                hoursId = hoursLists.size();
+                hoursLists.add(pooled);
+                hoursIds.put(pooled, hoursId);
+            }
+            hoursIndexes[row] = hoursId;
+
+            photoStarts[row] = photo;
+            photoOut.reset();
+            if (restaurant.getPhotoIds() != null) {
+                String prefix = photoPrefix(restaurant.getId());
+                for (String photoId : restaurant.getPhotoIds()) {
+                    photoPrefixed[photo] = prefix != null && photoId.startsWith(prefix);
+                    String stored = photoPrefixed[photo] ? photoId.substring(prefix.length()) : photoId;
+                    photoOut.writeBytes(stored.getBytes(StandardCharsets.UTF_8));
+                    photoEnds[photo++] = photoOut.size();
+                }
+            }
+            photoBytes[row] = photoOut.toByteArray();
+        }
+        photoStarts[size] = photo;
+
+        typePool = types.toArray(new String[0]);
+        hoursPool = List.copyOf(hoursLists);
+    }
+
+    /**
+     * Copies restaurants into columns. The given objects are not referenced afterwards.
+     * @param restaurants the restaurants, in row order
+     * @return the columnar copy
+     */
+    public static ColumnarRestaurants of(List<Restaurant> restaurants) {
+        return new ColumnarRestaurants(restaurants);
+    }
+
+    private static String photoPrefix(String restaurantId) {
+        return restaurantId == null ? null : restaurantId + "/photos/";
+    }
+
+    private String photo(int row, int photo) {
+        int start = photo == photoStarts[row] ? 0 : photoEnds[photo - 1];
+        String stored = new String(photoBytes[row], start, photoEnds[photo] - start, StandardCharsets.UTF_8);
+        return photoPrefixed[photo] ? photoPrefix(ids[row]) + stored : stored;
+    }
+
+    /**
+     * @return number of rows
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param row row index
+     * @return a view of the row; a new object on every call
+     */
+    public Restaurant get(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " of " + size);
+        }
+        return new Row(row);
+    }
+
+    /**
+     * @return unmodifiable list over every row; the same instance on every call
+     */
+    public List<Restaurant> asList() {
+        return asList;
+    }
+
+    /**
+     * @param rows row indexes
+     * @return unmodifiable list over the given rows, in the given order
+     */
+    public List<Restaurant> rows(int[] rows) {
+        return new RowList(rows.clone());
+    }
+
+    /**
+     * @return number of distinct opening-hours lists kept in the pool
+     */
+    public int distinctHoursLists() {
+        return hoursPool.size();
+    }
+
+    /**
+     * Read-only list of row views; a null row array means every row in order.
+     */
+    private class RowList extends AbstractList<Restaurant> implements RandomAccess {
+        private final int[] rows;
+
+        RowList(int[] rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public Restaurant get(int index) {
+            if (rows == null) {
+                return ColumnarRestaurants.this.get(index);
+            }
+            return ColumnarRestaurants.this.get(rows[index]);
+        }
+
+        @Override
+        public int size() {
+            return rows == null ? size : rows.length;
+        }
+    }
+
+    /**
+     * Photo ids of one row, decoded from the photo pool on access.
+     */
+    private class PhotoList extends AbstractList<String> implements RandomAccess {
+        private final int row;
+
+        PhotoList(int row) {
+            this.row = row;
+        }
+
+        @Override
+        public String get(int index) {
+            int count = size();
+            if (index < 0 || index >= count) {
+                throw new IndexOutOfBoundsException("Photo " + index + " of " + count);
+            }
+            return photo(row, photoStarts[row] + index);
+        }
+
+        @Override
+        public int size() {
+            return photoStarts[row + 1] - photoStarts[row];
+        }
+    }
+
+    /**
+     * A read-only restaurant whose every value is read from the columns at its row.
+     */
+    private class Row extends Restaurant {
+        private final int row;
+
+        Row(int row) {
+            this.row = row;
+        }
+
+        @Override
+        public String getId() {
+            return ids[row];
+        }
+
+        @Override
+        public String getName() {
+            return names[row];
+        }
+
+        @Override
+        public String getAddress() {
+            return addresses[row];
+        }
+
+        @Override
+        public double getLatitude() {
+            return latitudes[row];
+        }
+
+        @Override
+        public double getLongitude() {
+            return longitudes[row];
+        }
+
+        @Override
+        public String getMapUri() {
+            return mapUris[row];
+        }
+
+        @Override
+        public String getType() {
+            return typePool[typeIndexes[row]];
+        }
+
+        @Override
+        public double getRating() {
+            return ratings[row];
+        }
+
+        @Override
+        public void setRating(double rating) {
+            throw new UnsupportedOperationException("Columnar restaurants are read-only");
+        }
+
+        @Override
+        public int getRatingCount() {
+            return ratingCounts[row];
+        }
+
+        @Override
+        public String getPhoneNumber() {
+            return phoneNumbers[row];
+        }
+
+        @Override
+        public String getWebsiteUri() {
+            return websiteUris[row];
+        }
+
+        @Override
+        public List<String> getPhotoIds() {
+            return new PhotoList(row);
+        }
+
+        @Override
+        public List<String> getHours() {
+            return hoursPool.get(hoursIndexes[row]);
+        }
+
+        @Override
+        public double getDiscountValue() {
+            return discountValues[row];
+        }
+
+        @Override
+        public boolean hasStudentDiscount() {
+            return hasDiscounts[row];
+        }
+
+        @Override
+        public void setStudentDiscount(boolean hasDiscount, double value) {
+            throw new UnsupportedOperationException("Columnar restaurants are read-only");
+        }
+    }
+}
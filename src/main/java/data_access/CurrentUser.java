@@ -8,27 +8,33 @@ public class CurrentUser {
 
   private final IAuthGateway userAuth;
   private final IUserRepo userRepo;
-  private User currentUser = null;
 
   public CurrentUser(IAuthGateway userAuth, IUserRepo userRepo) {
     this.userAuth = userAuth;
     this.userRepo = userRepo;
   }
 
+  /**
+   * Returns the logged-in user as the repository holds it now, read through its cache on every
+   * call so snapshot updates and undo are never missed. The user is watched from the first call.
+   */
   public User getCurrentUser() {
     String currentUid = userAuth.getCurrentUserUid();
-
-    if (currentUser != null) {
-      return currentUser;
-    }
-
+    userRepo.watchUser(currentUid);
     return userRepo.getUserByUid(currentUid);
   }
 
   /**
-   * Method to clear current user when logging out.
+   * Sends the user's changes still waiting to be written, so none are lost when logging out.
+   */
+  public void flushPendingWrites() {
+    userRepo.flushPendingWrites();
+  }
+
+  /**
+   * Method to stop watching the current user when logging out.
    */
   public void clearCache() {
-    this.currentUser = null;
+    userRepo.stopWatchingUser();
   }
 }
@@ -0,0 +1,177 @@
+package data_access;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encoded photos kept on disk between runs, one file per photo and size, named by the SHA-256 of
+ * the cache key. The files' total size is bounded; the least recently used files are deleted
+ * first, tracked by their modification time so the order survives restarts.
+ */
+public class DiskImageCache {
+
+    /** Bytes kept when no bound is given. */
+    public static final long DEFAULT_MAX_BYTES = 256L * 1024 * 1024;
+
+    private static final String SUFFIX = ".img";
+
+    private final Path directory;
+    private final long maxBytes;
+
+    // guarded by this; file name -> size, in access order so the eldest is the least recently used
+    private final LinkedHashMap<String, Long> files = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    /**
+     * Indexes the photos already in the directory.
+     * @param directory where photos are kept; created if missing
+     * @param maxBytes most bytes kept
+     * @throws IOException if the directory cannot be created or read
+     */
+    public DiskImageCache(Path directory, long maxBytes) throws IOException {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        Files.createDirectories(directory);
+
+        List<Path> found = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            stream.forEach(found::add);
+        }
+        Map<Path, FileTime> modified = new LinkedHashMap<>();
+        for (Path file : found) {
+            modified.put(file, Files.getLastModifiedTime(file));
+        }
+        found.sort(Comparator.comparing(modified::get));
+        for (Path file : found) {
+            long size = Files.size(file);
+            files.put(file.getFileName().toString(), size);
+            totalBytes += size;
+        }
+        evict();
+    }
+
+    /**
+     * Opens the cache in the user's home directory.
+     * @return the cache, or null if it cannot be opened, in which case photos are only kept in memory
+     */
+    public static DiskImageCache openDefault() {
+        Path directory = Path.of(System.getProperty("user.home"), ".teamproject", "images");
+        try {
+            return new DiskImageCache(directory, DEFAULT_MAX_BYTES);
+        } catch (IOException e) {
+            System.err.println("WARNING DiskImageCache: Cannot open " + directory
+                    + ", photos will not be kept between runs: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * @param key the photo's cache key
+     * @return the photo's encoded bytes, or null if not kept
+     */
+    public synchronized byte[] get(String key) {
+        String name = fileName(key);
+        // get, not containsKey: only get marks the file as recently used
+        if (files.get(name) == null) {
+            return null;
+        }
+        Path file = directory.resolve(name);
+        try {
+            byte[] bytes = Files.readAllBytes(file);
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return bytes;
+        } catch (IOException e) {
+            forget(name);
+            return null;
+        }
+    }
+
+    /**
+     * Keeps a photo, deleting the least recently used ones beyond the size bound. The file is
+     * written under a temporary name and moved into place, so a crash never leaves half a photo.
+     * @param key the photo's cache key
+     * @param bytes the photo's encoded bytes
+     */
+    public synchronized void put(String key, byte[] bytes) {
+        String name = fileName(key);
+        Path temp = directory.resolve(name + ".tmp");
+        try {
+            Files.write(temp, bytes);
+            Files.move(temp, directory.resolve(name), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("WARNING DiskImageCache: Could not keep photo: " + e.getMessage());
+            return;
+        }
+        Long previous = files.put(name, (long) bytes.length);
+        totalBytes += bytes.length - (previous == null ? 0 : previous);
+        evict();
+    }
+
+    /**
+     * Deletes a photo, e.g. one that could not be decoded.
+     * @param key the photo's cache key
+     */
+    public synchronized void remove(String key) {
+        forget(fileName(key));
+    }
+
+    /**
+     * @return bytes kept
+     */
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<String, Long>> eldest = files.entrySet().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            Map.Entry<String, Long> entry = eldest.next();
+            eldest.remove();
+            totalBytes -= entry.getValue();
+            try {
+                Files.deleteIfExists(directory.resolve(entry.getKey()));
+            } catch (IOException e) {
+                System.err.println("WARNING DiskImageCache: Could not delete " + entry.getKey() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private void forget(String name) {
+        Long size = files.remove(name);
+        if (size != null) {
+            totalBytes -= size;
+        }
+        try {
+            Files.deleteIfExists(directory.resolve(name));
+        } catch (IOException e) {
+            System.err.println("WARNING DiskImageCache: Could not delete " + name + ": " + e.getMessage());
+        }
+    }
+
+    private static String fileName(String key) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            StringBuilder name = new StringBuilder();
+            for (byte b : hash) {
+                name.append(String.format("%02x", b));
+            }
+            return name.append(SUFFIX).toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is always available", e);
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package data_access;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Write-behind queue for favorite changes. Changes to one user's favorites made within a short
+ * delay of each other are sent together as one write of the restaurant IDs added and removed, so
+ * toggling a heart several times costs one request instead of one full document write per click.
+ *
+ * <p>Each user has at most one write in flight; changes made meanwhile wait for the next write, so
+ * writes reach the database in the order the changes were made. Failed writes are retried with
+ * exponential backoff and jitter, and given up after the last attempt.
+ */
+public class FavoritesWriteBehindQueue implements Closeable {
+
+    /** How long changes wait for more changes to the same user before they are written. */
+    public static final long DEFAULT_DELAY_MILLIS = 300;
+    /** Writes attempted before changes are given up. */
+    public static final int DEFAULT_MAX_ATTEMPTS = 5;
+    private static final long MAX_BACKOFF_MILLIS = 30_000;
+    private static final long CLOSE_TIMEOUT_SECONDS = 5;
+
+    /**
+     * Writes one user's coalesced favorite changes to the database.
+     */
+    public interface Writer {
+
+        /**
+         * @param uid the user whose favorites changed
+         * @param added restaurant IDs to add to the user's favorites
+         * @param removed restaurant IDs to remove from the user's favorites; never in added
+         * @return completes once the database confirms the write
+         */
+        CompletableFuture<Void> write(String uid, Set<String> added, Set<String> removed);
+
+        /**
+         * Called when changes are given up after the last attempt, so they can be undone wherever
+         * they were applied optimistically. Changes made again since are not included.
+         */
+        default void abandoned(String uid, Set<String> added, Set<String> removed) {
+        }
+    }
+
+    /**
+     * A user's changes not written yet, and the callers waiting for them.
+     */
+    private static final class Pending {
+        private final Set<String> added = new LinkedHashSet<>();
+        private final Set<String> removed = new LinkedHashSet<>();
+        private final List<CompletableFuture<Void>> waiters = new ArrayList<>();
+        private int attempts;
+    }
+
+    private final Writer writer;
+    private final long delayMillis;
+    private final int maxAttempts;
+    private final ScheduledExecutorService scheduler;
+
+    // guarded by this
+    private final Map<String, Pending> pending = new HashMap<>();
+    private final Map<String, Pending> inFlight = new HashMap<>();
+    private final Set<String> scheduled = new HashSet<>();
+
+    /**
+     * Queue with the default delay and attempts.
+     * @param writer writes the coalesced changes
+     */
+    public FavoritesWriteBehindQueue(Writer writer) {
+        this(writer, DEFAULT_DELAY_MILLIS, DEFAULT_MAX_ATTEMPTS);
+    }
+
+    /**
+     * @param writer writes the coalesced changes
+     * @param delayMillis how long changes wait for more changes before they are written; also the
+     *                    first retry's backoff
+     * @param maxAttempts writes attempted before changes are given up
+     */
+    public FavoritesWriteBehindQueue(Writer writer, long delayMillis, int maxAttempts) {
+        this.writer = writer;
+        this.delayMillis = delayMillis;
+        this.maxAttempts = maxAttempts;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "favorites-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues adding a restaurant to a user's favorites, cancelling a queued removal of it.
+     * @return completes once the change is written, or exceptionally if it is given up
+     */
+    public synchronized CompletableFuture<Void> add(String uid, String restaurantId) {
+        Pending changes = pending.computeIfAbsent(uid, id -> new Pending());
+        changes.removed.remove(restaurantId);
+        changes.added.add(restaurantId);
+        return enqueued(uid, changes);
+    }
+
+    /**
+     * Queues removing a restaurant from a user's favorites, cancelling a queued addition of it.
+     * @return completes once the change is written, or exceptionally if it is given up
+     */
+    public synchronized CompletableFuture<Void> remove(String uid, String restaurantId) {
+        Pending changes = pending.computeIfAbsent(uid, id -> new Pending());
+        changes.added.remove(restaurantId);
+        changes.removed.add(restaurantId);
+        return enqueued(uid, changes);
+    }
+
+    /**
+     * Writes every queued change now instead of after its delay, e.g. on logout.
+     * @return completes once every change queued so far is written or given up
+     */
+    public synchronized CompletableFuture<Void> flush() {
+        List<CompletableFuture<Void>> waiters = new ArrayList<>();
+        for (Pending changes : inFlight.values()) {
+            waiters.addAll(changes.waiters);
+        }
+        for (Map.Entry<String, Pending> entry : pending.entrySet()) {
+            waiters.addAll(entry.getValue().waiters);
+            schedule(entry.getKey(), 0);
+        }
+        // Given-up changes count as flushed; their callers already see the failure
+        CompletableFuture<?>[] settled = waiters.stream()
+                .map(waiter -> waiter.handle((result, error) -> null))
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(settled);
+    }
+
+    /**
+     * Applies the changes queued or being written for a user to favorites read from the database,
+     * so a read made before they are written does not undo them.
+     * @param uid the user whose favorites were read
+     * @param favorites the favorites as read
+     * @return the favorites with the user's unwritten changes applied
+     */
+    public synchronized List<String> withUnwrittenChanges(String uid, List<String> favorites) {
+        Set<String> result = new LinkedHashSet<>(favorites);
+        for (Pending changes : new Pending[]{inFlight.get(uid), pending.get(uid)}) {
+            if (changes != null) {
+                result.removeAll(changes.removed);
+                result.addAll(changes.added);
+            }
+        }
+        return new ArrayList<>(result);
+    }
+
+    /**
+     * Flushes, waits a few seconds for the writes, and stops the queue.
+     */
+    @Override
+    public void close() {
+        try {
+            flush().get(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            System.err.println("WARNING FavoritesWriteBehindQueue: Favorite changes not written before close: "
+                    + e.getMessage());
+        }
+        scheduler.shutdown();
+    }
+
+    private CompletableFuture<Void> enqueued(String uid, Pending changes) {
+        CompletableFuture<Void> waiter = new CompletableFuture<>();
+        changes.waiters.add(waiter);
+        if (!inFlight.containsKey(uid) && !scheduled.contains(uid)) {
+            schedule(uid, delayMillis);
+        }
+        return waiter;
+    }
+
+    private void schedule(String uid, long delay) {
+        scheduled.add(uid);
+        scheduler.schedule(() -> send(uid), delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void send(String uid) {
+        Pending changes;
+        synchronized (this) {
+            scheduled.remove(uid);
+            if (inFlight.containsKey(uid) || !pending.containsKey(uid)) {
+                // Sent after the write in flight completes, or already sent by a flush
+                return;
+            }
+            changes = pending.remove(uid);
+            inFlight.put(uid, changes);
+        }
+        changes.attempts++;
+
+        CompletableFuture<Void> write;
+        try {
+            write = writer.write(uid, new LinkedHashSet<>(changes.added),
+                    new LinkedHashSet<>(changes.removed));
+        } catch (RuntimeException e) {
+            write = CompletableFuture.failedFuture(e);
+        }
+        write.whenComplete((result, error) -> written(uid, changes,
+                error instanceof CompletionException && error.getCause() != null ? error.getCause() : error));
+    }
+
+    private void written(String uid, Pending changes, Throwable error) {
+        List<CompletableFuture<Void>> done = new ArrayList<>();
+        boolean givenUp = false;
+        Set<String> abandonedAdded = new LinkedHashSet<>();
+        Set<String> abandonedRemoved = new LinkedHashSet<>();
+        synchronized (this) {
+            inFlight.remove(uid);
+            Pending newer = pending.get(uid);
+            if (error == null || changes.attempts >= maxAttempts) {
+                done.addAll(changes.waiters);
+                if (error != null) {
+                    givenUp = true;
+                    abandonedAdded.addAll(changes.added);
+                    abandonedRemoved.addAll(changes.removed);
+                    if (newer != null) {
+                        abandonedAdded.removeAll(newer.added);
+                        abandonedAdded.removeAll(newer.removed);
+                        abandonedRemoved.removeAll(newer.added);
+                        abandonedRemoved.removeAll(newer.removed);
+                    }
+                }
+                if (newer != null && !scheduled.contains(uid)) {
+                    schedule(uid, delayMillis);
+                }
+            } else {
+                // Retry the failed changes together with any made since; the newer ones win
+                Pending retry = newer == null ? new Pending() : newer;
+                for (String restaurantId : changes.added) {
+                    if (!retry.removed.contains(restaurantId)) {
+                        retry.added.add(restaurantId);
+                    }
+                }
+                for (String restaurantId : changes.removed) {
+                    if (!retry.added.contains(restaurantId)) {
+                        retry.removed.add(restaurantId);
+                    }
+                }
+                retry.waiters.addAll(changes.waiters);
+                retry.attempts = changes.attempts;
+                pending.put(uid, retry);
+                long backoff = Math.min(MAX_BACKOFF_MILLIS, Math.max(1, delayMillis) << (changes.attempts - 1));
+                System.err.println("WARNING FavoritesWriteBehindQueue: Attempt " + changes.attempts
+                        + " to save favorites of user " + uid + " failed, retrying: " + error.getMessage());
+                schedule(uid, backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1));
+            }
+        }
+
+        if (error == null) {
+            done.forEach(waiter -> waiter.complete(null));
+            return;
+        }
+        if (givenUp) {
+            System.err.println("WARNING FavoritesWriteBehindQueue: Gave up saving favorites of user " + uid
+                    + " after " + changes.attempts + " attempts: " + error.getMessage());
+            writer.abandoned(uid, abandonedAdded, abandonedRemoved);
+            done.forEach(waiter -> waiter.completeExceptionally(error));
+        }
+    }
+}
@@ -1,19 +1,23 @@
 package data_access;
 
 import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
 import com.google.cloud.firestore.*;
+import com.google.common.util.concurrent.MoreExecutors;
 import entity.User;
 import entity.UserFactory;
+import use_case.IAsyncUserRepo;
 import use_case.IUserRepo;
 import use_case.PersistenceException;
 import entity.Restaurant;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Paths;
-import org.json.JSONArray;
-import org.json.JSONObject;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 
 /**
@@ -22,28 +26,49 @@ import java.util.concurrent.ExecutionException;
  *
  * Firestore is a NoSQL document database where data is stored in collections of documents.
  * Each User is stored as a document in the "users" collection, with the Firebase Auth UID
- * as the document ID for efficient O(1) lookups.
+ * as the document ID for efficient O(1) lookups. Users are read as they are asked for and kept
+ * in a UserCache bounded in size and age, rather than loading the whole collection up front.
  *
- * All operations are asynchronous but use ApiFuture.get() to block until completion,
- * simplifying the programming model at the cost of blocking the calling thread.
+ * Every operation is available without blocking through IAsyncUserRepo and
+ * AsyncUserDataAccessInterface: the Firestore ApiFuture is chained into a CompletableFuture that
+ * completes on Firestore's own threads. The IUserRepo methods wait on those futures, for callers
+ * that are not on the Swing event thread.
  *
  * @see IUserRepo
+ * @see IAsyncUserRepo
  * @see User
  * @see PersistenceException
  */
-public class FirestoreUserRepo implements IUserRepo, UserDataAccessInterface {
+public class FirestoreUserRepo implements IUserRepo, IAsyncUserRepo, AsyncUserDataAccessInterface, AutoCloseable {
 
     private final Firestore db;
-    private final Map<String, User> usersById = new HashMap<>();
 
-    /** Flag to ensure the cache is loaded only once. */
-    private volatile boolean isCacheLoaded = false;
+    /** Users read recently, bounded in size and age; others are read on demand. */
+    private final UserCache users;
 
-    /** Cache for restaurants loaded from JSON file. */
-    private final Map<String, Restaurant> restaurantsById = new HashMap<>();
+    /** Users kept on disk, so they are shown at once on startup; null if it cannot be opened. */
+    private final LocalUserStore localStore;
 
-    /** Flag to ensure the restaurant cache is loaded only once. */
-    private volatile boolean isRestaurantCacheLoaded = false;
+    /** Reads of single users in flight, shared by callers asking for the same user meanwhile. */
+    private final Map<String, CompletableFuture<User>> userLoads = new ConcurrentHashMap<>();
+
+    /** Whether loadAllUsers reads the whole collection, or leaves users to be read on demand. */
+    private final boolean preloadAllUsers;
+
+    /** The full preload in flight or done, shared by concurrent callers; null before the first. */
+    private CompletableFuture<Void> cacheLoad;
+
+    /** Favorite changes waiting to be written, combined per user. */
+    private final FavoritesWriteBehindQueue favoritesQueue;
+
+    /** Applies realtime snapshots of the watched user to the cache; null unless opted in. */
+    private final UserSnapshotSync snapshotSync;
+
+    /**
+     * Catalog passed in by the caller. When null, restaurant lookups are served by the process-wide
+     * catalog, the same instance the restaurant DAO reads, so the json file is parsed once.
+     */
+    private volatile RestaurantCatalog restaurantCatalog;
 
     /** Path to the restaurant data JSON file. */
     private static final String RESTAURANT_JSON_PATH = "src/main/java/data/restaurant.json";
@@ -54,12 +79,84 @@ public class FirestoreUserRepo implements IUserRepo, UserDataAccessInterface {
      */
     private static final String COLLECTION_NAME = "users";
 
+    /** Most documents requested in one batched read. */
+    private static final int MAX_BATCH_GET = 100;
+
     /**
      * Constructs a new FirestoreUserRepo and initializes the Firestore database connection.
-     * The Firestore instance is obtained from the FirebaseService singleton.
+     * The Firestore instance is obtained from the FirebaseService singleton. Users are read on
+     * demand into a cache of the default size and time to live, and kept in memory only.
      */
     public FirestoreUserRepo() {
+        this(new UserCache(), false);
+    }
+
+    /**
+     * Constructs a new FirestoreUserRepo with the given user cache.
+     *
+     * @param users the cache users are read into
+     * @param preloadAllUsers whether loadAllUsers reads every user document up front, instead of
+     *                        reading users as they are asked for
+     */
+    public FirestoreUserRepo(UserCache users, boolean preloadAllUsers) {
+        this(users, preloadAllUsers, false);
+    }
+
+    /**
+     * Constructs a new FirestoreUserRepo with the given user cache, optionally listening for
+     * realtime changes to the watched user's document. Users are kept in memory only; pass a
+     * LocalUserStore, e.g. {@link LocalUserStore#openDefault()}, to keep them on disk.
+     *
+     * @param users the cache users are read into
+     * @param preloadAllUsers whether loadAllUsers reads every user document up front, instead of
+     *                        reading users as they are asked for
+     * @param realtimeUpdates whether watchUser registers a Firestore snapshot listener that applies
+     *                        changes made elsewhere to the cached user as they happen
+     */
+    public FirestoreUserRepo(UserCache users, boolean preloadAllUsers, boolean realtimeUpdates) {
+        this(users, null, preloadAllUsers, realtimeUpdates);
+    }
+
+    /**
+     * Constructs a new FirestoreUserRepo with the given user cache and local store.
+     *
+     * @param users the cache users are read into
+     * @param localStore users kept on disk, served before Firestore answers; null to keep users in
+     *                   memory only
+     * @param preloadAllUsers whether loadAllUsers reads every user document up front, instead of
+     *                        reading users as they are asked for
+     * @param realtimeUpdates whether watchUser registers a Firestore snapshot listener that applies
+     *                        changes made elsewhere to the cached user as they happen
+     */
+    public FirestoreUserRepo(UserCache users, LocalUserStore localStore, boolean preloadAllUsers,
+                             boolean realtimeUpdates) {
         this.db = FirebaseService.getInstance().getFirestore();
+        this.users = users;
+        this.localStore = localStore;
+        this.preloadAllUsers = preloadAllUsers;
+        this.favoritesQueue = new FavoritesWriteBehindQueue(new FavoritesWriteBehindQueue.Writer() {
+            @Override
+            public CompletableFuture<Void> write(String uid, Set<String> added, Set<String> removed) {
+                return writeFavorites(uid, added, removed);
+            }
+
+            @Override
+            public void abandoned(String uid, Set<String> added, Set<String> removed) {
+                undoFavorites(uid, added, removed);
+            }
+        });
+        this.snapshotSync = realtimeUpdates
+                ? new UserSnapshotSync(users, this::listen, favoritesQueue, this::storeLocally) : null;
+    }
+
+    /**
+     * Constructs a new FirestoreUserRepo that reads restaurants from the given catalog.
+     *
+     * @param restaurantCatalog the catalog used by getRestaurantById and getRestaurantsByIds
+     */
+    public FirestoreUserRepo(RestaurantCatalog restaurantCatalog) {
+        this();
+        this.restaurantCatalog = restaurantCatalog;
     }
 
     /**
@@ -133,16 +230,214 @@ public class FirestoreUserRepo implements IUserRepo, UserDataAccessInterface {
      */
     @Override
     public User getUserByUid(String uid) throws PersistenceException {
-        if(!isCacheLoaded){
-            loadAllUsers();
+        return await(getUserByUidAsync(uid));
+    }
+
+    /**
+     * Non-blocking {@link #getUserByUid}: answered from the cache, then from the local store, and
+     * otherwise by reading the user's document. A user served from the local store is brought up to
+     * date from Firestore in the background. Callers asking for a user already being read share the
+     * read.
+     */
+    @Override
+    public CompletableFuture<User> getUserByUidAsync(String uid) {
+        User cached = users.get(uid);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        User stored = localStore == null ? null : localStore.get(uid);
+        if (stored != null) {
+            users.put(stored);
+            refreshInBackground(uid);
+            return CompletableFuture.completedFuture(stored);
         }
 
-        User user = usersById.get(uid);
+        CompletableFuture<User> load = new CompletableFuture<>();
+        CompletableFuture<User> inFlight = userLoads.putIfAbsent(uid, load);
+        if (inFlight != null) {
+            return inFlight;
+        }
+        CompletableFuture<User> read = toCompletableFuture(db.collection(COLLECTION_NAME).document(uid).get())
+                .thenApply(this::documentToUser);
+        withFailureMessage(read, "Failed to load user " + uid).whenComplete((user, error) -> {
+            userLoads.remove(uid, load);
+            if (error != null) {
+                load.completeExceptionally(error);
+                return;
+            }
+            if (user != null) {
+                users.put(user);
+                storeLocally(user);
+            }
+            load.complete(user);
+        });
+        return load;
+    }
 
-        return user;
+    /**
+     * Reads a user served from the local store and caches it in place of the stored copy, so the
+     * next read sees any changes made since it was stored. The stored copy is replaced rather than
+     * changed, as the Swing thread may be reading it.
+     */
+    private void refreshInBackground(String uid) {
+        toCompletableFuture(db.collection(COLLECTION_NAME).document(uid).get()).thenAccept(document -> {
+            User fresh = documentToUser(document);
+            if (fresh == null) {
+                users.invalidate(uid);
+                removeLocally(uid);
+                return;
+            }
+            List<String> favorites = favoritesQueue.withUnwrittenChanges(uid, fresh.getFavoriteRestaurantIds());
+            User user = new User(uid, fresh.getEmail(), fresh.getNickname(), fresh.getLanguage(), favorites);
+            users.put(user);
+            storeLocally(user);
+        }).exceptionally(e -> {
+            System.err.println("WARNING FirestoreUserRepo: Showing stored copy of user " + uid
+                    + ", could not refresh it: " + e.getMessage());
+            return null;
+        });
     }
 
+    private void storeLocally(User user) {
+        if (localStore == null) {
+            return;
+        }
+        try {
+            localStore.put(user);
+        } catch (IOException e) {
+            System.err.println("WARNING FirestoreUserRepo: Could not store user " + user.getUid() + " locally: "
+                    + e.getMessage());
+        }
+    }
 
+    private void removeLocally(String uid) {
+        if (localStore == null) {
+            return;
+        }
+        try {
+            localStore.remove(uid);
+        } catch (IOException e) {
+            System.err.println("WARNING FirestoreUserRepo: Could not remove user " + uid + " locally: "
+                    + e.getMessage());
+        }
+    }
+
+    /**
+     * @return the user cache, e.g. to read its hit, miss and eviction counts
+     */
+    public UserCache getUserCache() {
+        return users;
+    }
+
+    /**
+     * Retrieves many User entities, reading every one that is neither cached nor stored locally in
+     * a single batched Firestore getAll instead of one round trip per user.
+     *
+     * @param uids The unique Firebase Authentication IDs of the users
+     * @return The users found, keyed by UID
+     * @throws PersistenceException if a database error occurs during retrieval
+     */
+    @Override
+    public Map<String, User> getUsersByUids(Collection<String> uids) throws PersistenceException {
+        return await(getUsersByUidsAsync(uids));
+    }
+
+    /**
+     * Non-blocking {@link #getUsersByUids}. Each user is looked up the way
+     * {@link #getUserByUidAsync} does: from the cache, then from the local store, and otherwise
+     * from Firestore. Users already being read are waited for rather than read again; the rest are
+     * registered as reads in flight and fetched in requests of at most 100 documents, all sent at
+     * once. Fetched users are cached and stored locally.
+     */
+    @Override
+    public CompletableFuture<Map<String, User>> getUsersByUidsAsync(Collection<String> uids) {
+        Map<String, CompletableFuture<User>> lookups = new LinkedHashMap<>();
+        Map<String, CompletableFuture<User>> missing = new LinkedHashMap<>();
+        for (String uid : new LinkedHashSet<>(uids)) {
+            User cached = users.get(uid);
+            if (cached != null) {
+                lookups.put(uid, CompletableFuture.completedFuture(cached));
+                continue;
+            }
+            User stored = localStore == null ? null : localStore.get(uid);
+            if (stored != null) {
+                users.put(stored);
+                refreshInBackground(uid);
+                lookups.put(uid, CompletableFuture.completedFuture(stored));
+                continue;
+            }
+            CompletableFuture<User> load = new CompletableFuture<>();
+            CompletableFuture<User> inFlight = userLoads.putIfAbsent(uid, load);
+            if (inFlight != null) {
+                lookups.put(uid, inFlight);
+            } else {
+                lookups.put(uid, load);
+                missing.put(uid, load);
+            }
+        }
+
+        List<String> missingUids = new ArrayList<>(missing.keySet());
+        for (int from = 0; from < missingUids.size(); from += MAX_BATCH_GET) {
+            List<String> batch = missingUids.subList(from, Math.min(missingUids.size(), from + MAX_BATCH_GET));
+            readBatch(batch, missing);
+        }
+        if (!missing.isEmpty()) {
+            System.out.println("DEBUG: Fetching " + missing.size() + " uncached users in one batch");
+        }
+
+        CompletableFuture<Void> all = CompletableFuture.allOf(lookups.values().toArray(new CompletableFuture<?>[0]));
+        CompletableFuture<Map<String, User>> found = all.thenApply(ignored -> {
+            Map<String, User> result = new HashMap<>();
+            for (Map.Entry<String, CompletableFuture<User>> lookup : lookups.entrySet()) {
+                User user = lookup.getValue().join();
+                if (user != null) {
+                    result.put(lookup.getKey(), user);
+                }
+            }
+            return result;
+        });
+        return withFailureMessage(found, "Failed to load " + lookups.size() + " users");
+    }
+
+    /**
+     * Reads one batch of users with a single getAll and completes each user's read in flight. A
+     * malformed document is skipped, completing its read with null.
+     */
+    private void readBatch(List<String> batch, Map<String, CompletableFuture<User>> loads) {
+        DocumentReference[] documents = new DocumentReference[batch.size()];
+        for (int i = 0; i < documents.length; i++) {
+            documents[i] = db.collection(COLLECTION_NAME).document(batch.get(i));
+        }
+        toCompletableFuture(db.getAll(documents)).whenComplete((snapshots, error) -> {
+            Map<String, User> read = new HashMap<>();
+            if (error == null) {
+                for (DocumentSnapshot document : snapshots) {
+                    try {
+                        User user = documentToUser(document);
+                        if (user != null) {
+                            read.put(user.getUid(), user);
+                        }
+                    } catch (PersistenceException e) {
+                        System.err.println("Skipping malformed user document " + document.getId() + ": " + e.getMessage());
+                    }
+                }
+            }
+            for (String uid : batch) {
+                CompletableFuture<User> load = loads.get(uid);
+                userLoads.remove(uid, load);
+                if (error != null) {
+                    load.completeExceptionally(error);
+                    continue;
+                }
+                User user = read.get(uid);
+                if (user != null) {
+                    users.put(user);
+                    storeLocally(user);
+                }
+                load.complete(user);
+            }
+        });
+    }
 
     /**
      * Saves a User entity to Firestore, creating a new document or overwriting an existing one.
@@ -170,68 +465,75 @@ public class FirestoreUserRepo implements IUserRepo, UserDataAccessInterface {
      */
     @Override
     public void save(User user) throws PersistenceException {
-        try {
-            System.out.println("DEBUG: Saving user " + user.getUid() + " with favorites: " + user.getFavoriteRestaurantIds());
-
-            // Get reference to document with ID = user's UID
-            DocumentReference docRef = db.collection(COLLECTION_NAME).document(user.getUid());
-
-            // Convert User entity to Firestore-compatible Map
-            HashMap<String, Object> data = new HashMap<>();
-            data.put("email", user.getEmail());
-            data.put("nickname", user.getNickname());
-            data.put("language", user.getLanguage());
-            data.put("favoriteRestaurantIds", user.getFavoriteRestaurantIds());
-
-            // Asynchronously write to Firestore (set = upsert: create or replace)
-            ApiFuture<WriteResult> future = docRef.set(data);
-
-            // Block until write is confirmed (future.get() returns WriteResult with timestamp)
-            future.get();
-
-            usersById.put(user.getUid(), user);
+        await(saveAsync(user));
+    }
 
+    /**
+     * Non-blocking {@link #save}: completes once Firestore confirms the write.
+     */
+    @Override
+    public CompletableFuture<Void> saveAsync(User user) {
+        System.out.println("DEBUG: Saving user " + user.getUid() + " with favorites: " + user.getFavoriteRestaurantIds());
+
+        // Get reference to document with ID = user's UID
+        DocumentReference docRef = db.collection(COLLECTION_NAME).document(user.getUid());
+
+        // Convert User entity to Firestore-compatible Map
+        HashMap<String, Object> data = new HashMap<>();
+        data.put("email", user.getEmail());
+        data.put("nickname", user.getNickname());
+        data.put("language", user.getLanguage());
+        data.put("favoriteRestaurantIds", user.getFavoriteRestaurantIds());
+
+        // Write to Firestore (set = upsert: create or replace) and update the cache once confirmed
+        CompletableFuture<Void> saved = toCompletableFuture(docRef.set(data)).thenRun(() -> {
+            users.put(user);
+            storeLocally(user);
             System.out.println("DEBUG: User saved successfully. Cache updated with favorites: " + user.getFavoriteRestaurantIds());
-
-        } catch (InterruptedException | ExecutionException e) {
-            // Wrap checked exceptions in domain-specific exception
-            throw new PersistenceException("Failed to save user " + user.getUid() + ": " + e.getMessage());
-        }
+        });
+        return withFailureMessage(saved, "Failed to save user " + user.getUid());
     }
 
     @Override
     public void loadAllUsers() throws PersistenceException{
-        if(isCacheLoaded){
-            return;
+        await(loadAllUsersAsync());
+    }
+
+    /**
+     * Non-blocking {@link #loadAllUsers}. Does nothing unless this repository was created to preload
+     * all users; users are otherwise read as they are asked for. Callers arriving while the load is
+     * in flight share it; a failed load is retried by the next caller. Users beyond the cache's size
+     * are evicted as they are loaded.
+     */
+    @Override
+    public synchronized CompletableFuture<Void> loadAllUsersAsync() {
+        if (!preloadAllUsers) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (cacheLoad != null && !cacheLoad.isCompletedExceptionally()) {
+            return cacheLoad;
         }
 
         System.out.println("DEBUG: Loading all users from Firestore into cache");
 
-        try {
-            // gets a list containing all user document
-            ApiFuture<QuerySnapshot> future = db.collection(COLLECTION_NAME).get();
-            List<QueryDocumentSnapshot> documents = future.get().getDocuments();
-
-
+        // gets a list containing all user document
+        CompletableFuture<Void> load = toCompletableFuture(db.collection(COLLECTION_NAME).get()).thenAccept(snapshot -> {
             // convert each document into user objects
-            for (QueryDocumentSnapshot document : documents) {
+            for (QueryDocumentSnapshot document : snapshot.getDocuments()) {
                 try {
                     User user = documentToUser(document);
                     if (user != null) {
-                        System.out.println(user.getUid());
-                        usersById.put(user.getUid(), user);
+                        users.put(user);
                     }
                 } catch (PersistenceException e) {
                     System.err.println("Skipping malformed user document " + document.getId() + ": " + e.getMessage());
                 }
             }
 
-            isCacheLoaded = true; // Set flag after successful load
-            System.out.println("DEBUG: Cache loaded with " + usersById.size() + " users.");
-
-        } catch (InterruptedException | ExecutionException e) {
-            throw new PersistenceException("Failed to load all users into cache: " + e.getMessage());
-        }
+            System.out.println("DEBUG: Cache loaded with " + users.size() + " users.");
+        });
+        cacheLoad = withFailureMessage(load, "Failed to load all users into cache");
+        return cacheLoad;
     }
 
     /**
@@ -285,25 +587,26 @@ public class FirestoreUserRepo implements IUserRepo, UserDataAccessInterface {
      */
     @Override
     public boolean existsByUid(String uid) {
-        try {
-            // Get reference to the document
-            DocumentReference docRef = db.collection(COLLECTION_NAME).document(uid);
-
-            // Asynchronously fetch the document
-            ApiFuture<DocumentSnapshot> future = docRef.get();
-
-            // Block until document is retrieved
-            DocumentSnapshot document = future.get();
-
-            // Check if document exists (doesn't load data, just checks existence)
-            return document.exists();
+        return await(existsByUidAsync(uid));
+    }
 
-        } catch (InterruptedException | ExecutionException e) {
-            // Log error but don't throw - return false to indicate "doesn't exist"
-            // This prevents registration failures due to network issues
-            System.err.println("Error checking existence for user " + uid + ": " + e.getMessage());
-            return false;
-        }
+    /**
+     * Non-blocking {@link #existsByUid}.
+     */
+    @Override
+    public CompletableFuture<Boolean> existsByUidAsync(String uid) {
+        // Get reference to the document and fetch it
+        DocumentReference docRef = db.collection(COLLECTION_NAME).document(uid);
+
+        // Check if document exists (doesn't load data, just checks existence)
+        return toCompletableFuture(docRef.get())
+                .thenApply(DocumentSnapshot::exists)
+                .exceptionally(e -> {
+                    // Log error but don't fail - return false to indicate "doesn't exist"
+                    // This prevents registration failures due to network issues
+                    System.err.println("Error checking existence for user " + uid + ": " + e.getMessage());
+                    return false;
+                });
     }
 
     /**
@@ -327,19 +630,22 @@ public class FirestoreUserRepo implements IUserRepo, UserDataAccessInterface {
      * @throws PersistenceException if the delete operation fails
      */
     public void delete(String uid) throws PersistenceException {
-        try {
-            // Get reference to document and delete it
-            ApiFuture<WriteResult> future = db.collection(COLLECTION_NAME).document(uid).delete();
-
-            // Block until delete is confirmed
-            future.get();
-
-            usersById.remove(uid);
+        await(deleteAsync(uid));
+    }
 
-        } catch (InterruptedException | ExecutionException e) {
-            // Wrap checked exceptions in domain-specific exception
-            throw new PersistenceException("Failed to delete user " + uid + ": " + e.getMessage());
-        }
+    /**
+     * Non-blocking {@link #delete}.
+     *
+     * @param uid The unique Firebase Authentication ID of the user to delete
+     * @return completes once Firestore confirms the delete
+     */
+    public CompletableFuture<Void> deleteAsync(String uid) {
+        CompletableFuture<Void> deleted = toCompletableFuture(db.collection(COLLECTION_NAME).document(uid).delete())
+                .thenRun(() -> {
+                    users.invalidate(uid);
+                    removeLocally(uid);
+                });
+        return withFailureMessage(deleted, "Failed to delete user " + uid);
     }
 
     // ========= UserDataAccessInterface Implementation =========
@@ -363,218 +669,205 @@ public class FirestoreUserRepo implements IUserRepo, UserDataAccessInterface {
         }
     }
 
-    /**
-     * Loads all restaurants from the restaurant.json file into memory cache.
-     * This method is called lazily on first access to restaurant data.
-     *
-     * @throws RuntimeException if the JSON file cannot be read or parsed
-     */
-    private void loadRestaurantsFromJson() {
-        if (isRestaurantCacheLoaded) {
-            return;
-        }
+    @Override
+    public CompletableFuture<User> getUserAsync(String userId) {
+        return getUserByUidAsync(userId);
+    }
 
-        System.out.println("DEBUG: Loading restaurants from " + RESTAURANT_JSON_PATH);
+    @Override
+    public CompletableFuture<Void> saveUserAsync(User user) {
+        return saveAsync(user);
+    }
 
-        try {
-            // Read the entire JSON file as a string
-            String jsonContent = new String(Files.readAllBytes(Paths.get(RESTAURANT_JSON_PATH)));
+    /**
+     * Updates the cached user at once and queues the change, so favorites toggled in quick
+     * succession are written together as one arrayUnion/arrayRemove update.
+     */
+    @Override
+    public CompletableFuture<Void> addFavoriteAsync(User user, String restaurantId) {
+        // The user is normally the cached instance already; keep it cached so reads see the change
+        users.put(user);
+        storeLocally(user);
+        return favoritesQueue.add(user.getUid(), restaurantId);
+    }
 
-            // Parse as JSON array
-            JSONArray restaurantsArray = new JSONArray(jsonContent);
+    /**
+     * Updates the cached user at once and queues the change; see {@link #addFavoriteAsync}.
+     */
+    @Override
+    public CompletableFuture<Void> removeFavoriteAsync(User user, String restaurantId) {
+        users.put(user);
+        storeLocally(user);
+        return favoritesQueue.remove(user.getUid(), restaurantId);
+    }
 
-            // Convert each JSON object to a Restaurant entity
-            for (int i = 0; i < restaurantsArray.length(); i++) {
-                JSONObject restaurantJson = restaurantsArray.getJSONObject(i);
+    @Override
+    public void flushPendingWrites() {
+        favoritesQueue.flush();
+    }
 
-                try {
-                    // Extract CID from placeUri
-                    String placeUri = restaurantJson.getJSONObject("googleMapsLinks").getString("placeUri");
-                    String cid = extractCidFromPlaceUri(placeUri);
-
-                    // Extract Google Places ID from first photo
-                    String placesId = null;
-                    if (restaurantJson.has("photos") && restaurantJson.getJSONArray("photos").length() > 0) {
-                        JSONObject firstPhoto = restaurantJson.getJSONArray("photos").getJSONObject(0);
-                        if (firstPhoto.has("name")) {
-                            String photoName = firstPhoto.getString("name");
-                            placesId = extractPlacesIdFromPhotoName(photoName);
-                        }
-                    }
+    /**
+     * Writes favorite changes still queued, waiting a few seconds for them, and stops watching the
+     * logged-in user. Call once when the app exits.
+     */
+    @Override
+    public void close() {
+        stopWatchingUser();
+        favoritesQueue.close();
+    }
 
-                    Restaurant restaurant = jsonToRestaurant(restaurantJson);
+    @Override
+    public void watchUser(String uid) {
+        if (snapshotSync != null) {
+            snapshotSync.watch(uid);
+        }
+    }
 
-                    // Store by CID
-                    restaurantsById.put(cid, restaurant);
+    @Override
+    public void stopWatchingUser() {
+        if (snapshotSync != null) {
+            snapshotSync.stop();
+        }
+    }
 
-                    // ALSO store by Google Places ID if we found one
-                    if (placesId != null) {
-                        restaurantsById.put(placesId, restaurant);
-                        System.out.println("DEBUG FirestoreUserRepo: Mapped both " + cid + " and " + placesId);
+    /**
+     * Registers a Firestore snapshot listener on a user's document. Firestore sends only the
+     * document's changes, so keeping the user current costs no re-reads.
+     */
+    private UserSnapshotSync.Registration listen(String uid, UserSnapshotSync.Listener listener) {
+        ListenerRegistration registration = db.collection(COLLECTION_NAME).document(uid)
+                .addSnapshotListener((snapshot, error) -> {
+                    if (error != null) {
+                        listener.onError(uid, error);
+                        return;
                     }
+                    try {
+                        listener.onSnapshot(uid, documentToUser(snapshot));
+                    } catch (PersistenceException e) {
+                        listener.onError(uid, e);
+                    }
+                });
+        return registration::remove;
+    }
 
-                } catch (Exception e) {
-                    System.err.println("Skipping malformed restaurant at index " + i + ": " + e.getMessage());
-                }
-            }
-
-            isRestaurantCacheLoaded = true;
-            System.out.println("DEBUG: Restaurant cache loaded with " + restaurantsById.size() + " entries.");
+    /**
+     * Writes one user's combined favorite changes in a single batch. The two updates touch only the
+     * favorites array, so they cannot overwrite other fields or changes made elsewhere.
+     */
+    private CompletableFuture<Void> writeFavorites(String uid, Set<String> added, Set<String> removed) {
+        System.out.println("DEBUG: Saving favorites of user " + uid + ": added " + added + ", removed " + removed);
 
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to read restaurant.json: " + e.getMessage(), e);
+        DocumentReference docRef = db.collection(COLLECTION_NAME).document(uid);
+        WriteBatch batch = db.batch();
+        if (!added.isEmpty()) {
+            batch.update(docRef, "favoriteRestaurantIds", FieldValue.arrayUnion(added.toArray()));
+        }
+        if (!removed.isEmpty()) {
+            batch.update(docRef, "favoriteRestaurantIds", FieldValue.arrayRemove(removed.toArray()));
         }
+        CompletableFuture<Void> written = toCompletableFuture(batch.commit()).thenApply(results -> null);
+        return withFailureMessage(written, "Failed to save favorites of user " + uid);
     }
 
     /**
-     * Extracts the Google Places ID from a photo name.
-     * Example: "places/ChIJs_Gr4rE0K4gR4PCci36eEkg/photos/AWn5..." -> "places/ChIJs_Gr4rE0K4gR4PCci36eEkg"
+     * Reverts favorite changes that could not be written, caching a corrected copy of the user
+     * rather than changing the cached one, which the Swing thread may be reading.
      */
-    private String extractPlacesIdFromPhotoName(String photoName) {
-        if (photoName != null && photoName.startsWith("places/")) {
-            int photosIndex = photoName.indexOf("/photos/");
-            if (photosIndex != -1) {
-                return photoName.substring(0, photosIndex);
+    private void undoFavorites(String uid, Set<String> added, Set<String> removed) {
+        User cached = users.get(uid);
+        if (cached != null) {
+            List<String> favorites = new ArrayList<>(cached.getFavoriteRestaurantIds());
+            favorites.removeAll(added);
+            for (String restaurantId : removed) {
+                if (!favorites.contains(restaurantId)) {
+                    favorites.add(restaurantId);
+                }
             }
+            User user = new User(uid, cached.getEmail(), cached.getNickname(), cached.getLanguage(), favorites);
+            users.put(user);
+            storeLocally(user);
         }
-        return null;
     }
 
+    // ========= Future helpers =========
+
     /**
-     * Converts a JSON object to a Restaurant entity using the Builder pattern.
-     * Extracts all available data from the Google Places API JSON format.
-     *
-     * Expected JSON structure:
-     * {
-     *   "displayName": { "text": "Restaurant Name", "languageCode": "en" },
-     *   "googleMapsLinks": {
-     *     "placeUri": "https://maps.google.com/?cid=5193387586656989408&...",
-     *     "directionsUri": "https://..."
-     *   },
-     *   "location": { "latitude": 43.6532, "longitude": -79.3832 },
-     *   "formattedAddress": "123 Street Name, City, Province",
-     *   "rating": 4.5,
-     *   "userRatingCount": 150,
-     *   "primaryTypeDisplayName": { "text": "Cafe", "languageCode": "en-US" },
-     *   "nationalPhoneNumber": "+1 416-555-1234",
-     *   "websiteUri": "https://example.com",
-     *   "regularOpeningHours": { "weekdayDescriptions": ["Monday: 9:00 AM – 5:00 PM", ...] },
-     *   "photos": [
-     *     { "name": "places/.../photos/photo_id_1" }
-     *   ]
-     * }
-     *
-     * @param json The JSON object representing a restaurant
-     * @return A Restaurant entity
-     */
-    private Restaurant jsonToRestaurant(JSONObject json) {
-        Restaurant.Builder builder = new Restaurant.Builder();
-
-        // Extract CID from placeUri (required)
-        String placeUri = json.getJSONObject("googleMapsLinks").getString("placeUri");
-        String cid = extractCidFromPlaceUri(placeUri);
-        builder.id(cid);
-
-        // Extract name (required)
-        String name = json.getJSONObject("displayName").getString("text");
-        builder.name(name);
-
-        // Extract location data (address, mapUri, latitude, longitude)
-        String address = json.optString("formattedAddress", "Address not available");
-        String mapUri = json.getJSONObject("googleMapsLinks").optString("directionsUri", "");
-        double latitude = 0.0;
-        double longitude = 0.0;
-        if (json.has("location")) {
-            JSONObject location = json.getJSONObject("location");
-            latitude = location.optDouble("latitude", 0.0);
-            longitude = location.optDouble("longitude", 0.0);
-        }
-        builder.location(address, mapUri, latitude, longitude);
+     * Bridges a Firestore ApiFuture to a CompletableFuture without blocking any thread. Later stages
+     * run on the thread that completes the ApiFuture.
+     */
+    private static <T> CompletableFuture<T> toCompletableFuture(ApiFuture<T> apiFuture) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        ApiFutures.addCallback(apiFuture, new ApiFutureCallback<T>() {
+            @Override
+            public void onFailure(Throwable t) {
+                future.completeExceptionally(t);
+            }
 
-        // Extract type
-        String type = "Restaurant"; // Default
-        if (json.has("primaryTypeDisplayName")) {
-            type = json.getJSONObject("primaryTypeDisplayName").optString("text", "Restaurant");
-        }
-        builder.type(type);
-
-        // Extract rating and count
-        double rating = json.optDouble("rating", 0.0);
-        int ratingCount = json.optInt("userRatingCount", 0);
-        builder.rating(rating, ratingCount);
-
-        // Extract contact info
-        String phoneNumber = json.optString("nationalPhoneNumber", "");
-        String websiteUri = json.optString("websiteUri", "");
-        builder.contact(phoneNumber, websiteUri);
-
-        // Extract opening hours
-        List<String> openingHours = new ArrayList<>();
-        if (json.has("regularOpeningHours")) {
-            JSONObject hoursObj = json.getJSONObject("regularOpeningHours");
-            if (hoursObj.has("weekdayDescriptions")) {
-                JSONArray hoursArray = hoursObj.getJSONArray("weekdayDescriptions");
-                for (int i = 0; i < hoursArray.length(); i++) {
-                    openingHours.add(hoursArray.getString(i));
-                }
+            @Override
+            public void onSuccess(T result) {
+                future.complete(result);
             }
-        }
-        builder.openingHours(openingHours);
-
-        // Extract student discount (default to no discount since Google Places doesn't have this)
-        builder.studentDiscount(false, 0.0);
-
-        // Extract photo IDs - KEEP THE FULL PATH
-        List<String> photoIds = new ArrayList<>();
-        if (json.has("photos")) {
-            JSONArray photosArray = json.getJSONArray("photos");
-            for (int i = 0; i < photosArray.length(); i++) {
-                JSONObject photo = photosArray.getJSONObject(i);
-                if (photo.has("name")) {
-                    // Keep the FULL photo name including places/ChIJ.../photos/...
-                    String photoName = photo.getString("name");
-                    System.out.println("DEBUG FirestoreUserRepo: Extracted photo name: " + photoName);
-                    photoIds.add(photoName);  // Use full path, not just the ID!
-                }
+        }, MoreExecutors.directExecutor());
+        return future;
+    }
+
+    /**
+     * Fails the future with a PersistenceException carrying the given message and the cause's.
+     */
+    private static <T> CompletableFuture<T> withFailureMessage(CompletableFuture<T> future, String message) {
+        return future.handle((result, error) -> {
+            if (error == null) {
+                return result;
             }
-        }
-        builder.photoIds(photoIds);
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (cause instanceof PersistenceException) {
+                throw (PersistenceException) cause;
+            }
+            throw new PersistenceException(message + ": " + cause.getMessage());
+        });
+    }
 
-        return builder.build();
+    /**
+     * Blocks until the future completes, for the IUserRepo methods.
+     */
+    private static <T> T await(CompletableFuture<T> future) throws PersistenceException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PersistenceException("Interrupted while waiting for Firestore");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof PersistenceException) {
+                throw (PersistenceException) e.getCause();
+            }
+            throw new PersistenceException(e.getCause().getMessage());
+        }
     }
 
     /**
-     * Extracts the CID parameter from a Google Maps placeUri.
-     * Example: "https://maps.google.com/?cid=5193387586656989408&..." -> "5193387586656989408"
+     * Returns the restaurant catalog, loading the shared one on first use. The shared catalog is
+     * looked up on every call rather than kept, so a refreshed version is picked up immediately.
      *
-     * @param placeUri The Google Maps place URI
-     * @return The CID string
-     * @throws IllegalArgumentException if no CID is found in the URI
-     */
-    private String extractCidFromPlaceUri(String placeUri) {
-        int cidStart = placeUri.indexOf("cid=");
-        if (cidStart == -1) {
-            throw new IllegalArgumentException("No CID found in placeUri: " + placeUri);
+     * @throws RuntimeException if the JSON file cannot be read or parsed
+     */
+    private RestaurantCatalog restaurantCatalog() {
+        RestaurantCatalog catalog = restaurantCatalog;
+        if (catalog != null) {
+            return catalog;
         }
-
-        cidStart += 4; // Move past "cid="
-        int cidEnd = placeUri.indexOf('&', cidStart);
-
-        if (cidEnd == -1) {
-            // CID is at the end of the URL
-            return placeUri.substring(cidStart);
-        } else {
-            return placeUri.substring(cidStart, cidEnd);
+        try {
+            return RestaurantCatalog.shared(Paths.get(RESTAURANT_JSON_PATH), RestaurantCatalog.LoadMode.SNAPSHOT);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read restaurant.json: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * Looks up a restaurant by CID, Google Places ID or name in the shared catalog.
+     */
     @Override
     public Restaurant getRestaurantById(String restaurantId) {
-        if (!isRestaurantCacheLoaded) {
-            loadRestaurantsFromJson();
-        }
-
-        Restaurant restaurant = restaurantsById.get(restaurantId);
+        Restaurant restaurant = restaurantCatalog().get(restaurantId);
 
         if (restaurant == null) {
             System.err.println("Restaurant not found: " + restaurantId);
@@ -585,14 +878,11 @@ public class FirestoreUserRepo implements IUserRepo, UserDataAccessInterface {
 
     @Override
     public List<Restaurant> getRestaurantsByIds(List<String> restaurantIds) {
-        if (!isRestaurantCacheLoaded) {
-            loadRestaurantsFromJson();
-        }
-
+        RestaurantCatalog catalog = restaurantCatalog();
         List<Restaurant> restaurants = new ArrayList<>();
 
         for (String id : restaurantIds) {
-            Restaurant restaurant = restaurantsById.get(id);
+            Restaurant restaurant = catalog.get(id);
             if (restaurant != null) {
                 restaurants.add(restaurant);
             } else {
@@ -3,36 +3,53 @@ package data_access;
 import interface_adapter.ImageDataAccessInterface;
 
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import javax.imageio.ImageIO;
 
-public class GooglePlacesGateway implements ImageDataAccessInterface {
+public class GooglePlacesGateway implements ImageDataAccessInterface, PhotoSource {
+
+    /** Width photos are requested at. */
+    public static final int DEFAULT_MAX_WIDTH_PX = 800;
 
     public GooglePlacesGateway() {
     }
 
     @Override
     public BufferedImage fetchRestaurantImage(String photoReference, String apiKey) {
-        try {
-            String mediaName = photoReference + "/media";
-            String urlStr = "https://places.googleapis.com/v1/" + mediaName + "?maxWidthPx=800";
-
-            System.out.println("Fetching photo from: " + urlStr);
-
-            URL url = new URL(urlStr);
-            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-            connection.setRequestMethod("GET");
-            connection.setRequestProperty("X-Goog-Api-Key", apiKey);
-
-            BufferedImage image = ImageIO.read(connection.getInputStream());
-            connection.disconnect();
+        return fetchRestaurantImage(photoReference, apiKey, DEFAULT_MAX_WIDTH_PX);
+    }
 
-            return image;
+    @Override
+    public BufferedImage fetchRestaurantImage(String photoReference, String apiKey, int maxWidthPx) {
+        try {
+            return ImageIO.read(new ByteArrayInputStream(fetchPhoto(photoReference, apiKey, maxWidthPx)));
         } catch (Exception e) {
             System.err.println("Failed to fetch image: " + e.getMessage());
             e.printStackTrace();
             return null;
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public byte[] fetchPhoto(String photoReference, String apiKey, int maxWidthPx) throws IOException {
+        String mediaName = photoReference + "/media";
+        String urlStr = "https://places.googleapis.com/v1/" + mediaName + "?maxWidthPx=" + maxWidthPx;
+
+        System.out.println("Fetching photo from: " + urlStr);
+
+        URL url = new URL(urlStr);
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod("GET");
+        connection.setRequestProperty("X-Goog-Api-Key", apiKey);
+
+        try (InputStream body = connection.getInputStream()) {
+            return body.readAllBytes();
+        } finally {
+            connection.disconnect();
+        }
+    }
+}
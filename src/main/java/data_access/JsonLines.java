@@ -0,0 +1,153 @@
+package data_access;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * Helpers for files holding one json object per line, appended to as things change and rewritten
+ * now and then. Shared by the local user store, the review journal and the Places import spool.
+ *
+ * <p>A crash may cut the last line short. Reading skips such a line, and opening the file for
+ * appending starts a fresh line after it. Rewrites go to a temporary file that is synced and then
+ * moved over the old one, so readers see either the old file or the new one.
+ */
+public final class JsonLines {
+
+    /**
+     * Writes the contents of a file being rewritten.
+     */
+    public interface Contents {
+        void writeTo(BufferedWriter writer) throws IOException;
+    }
+
+    private JsonLines() {
+    }
+
+    /**
+     * Reads every line of a file, skipping blank lines and lines that cannot be read.
+     * @param path the file; nothing is read if it does not exist
+     * @param apply receives each line's json object, oldest first; a JSONException or
+     *              IllegalArgumentException it throws skips the line
+     * @param owner name logged with a skipped line
+     * @return how many lines were passed on
+     * @throws IOException if the file cannot be read
+     */
+    public static int replay(Path path, Consumer<JSONObject> apply, String owner) throws IOException {
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        int count = 0;
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    apply.accept(new JSONObject(line));
+                    count++;
+                } catch (JSONException | IllegalArgumentException e) {
+                    System.err.println("WARNING " + owner + ": Skipping unreadable line in " + path.getFileName());
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Opens a file for appending, creating it if missing. If a crash cut its last line short, a
+     * newline is written first so the next line starts on its own.
+     * @param path the file
+     * @return the channel, positioned at the end of the file
+     * @throws IOException if the file cannot be opened
+     */
+    public static FileChannel openForAppend(Path path) throws IOException {
+        boolean cutShort = !endsWithNewline(path);
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        if (cutShort) {
+            channel.write(ByteBuffer.wrap(new byte[]{'\n'}));
+        }
+        return channel;
+    }
+
+    /**
+     * Writes one json object as a line. The line is handed to the operating system but not synced.
+     * If only part of it is written, the file is cut back to where it ended before, or failing that
+     * the partial line is ended, so the next line is not joined onto it.
+     * @param channel a channel opened by {@link #openForAppend}
+     * @param json the object to write
+     * @throws IOException if the line cannot be written
+     */
+    public static void append(FileChannel channel, JSONObject json) throws IOException {
+        ByteBuffer line = ByteBuffer.wrap((json + "\n").getBytes(StandardCharsets.UTF_8));
+        long end = channel.size();
+        try {
+            while (line.hasRemaining()) {
+                channel.write(line);
+            }
+        } catch (IOException e) {
+            discardPartialLine(channel, end, e);
+            throw e;
+        }
+    }
+
+    private static void discardPartialLine(FileChannel channel, long end, IOException failure) {
+        try {
+            channel.truncate(end);
+        } catch (IOException truncateFailure) {
+            failure.addSuppressed(truncateFailure);
+            try {
+                channel.write(ByteBuffer.wrap(new byte[]{'\n'}));
+            } catch (IOException newlineFailure) {
+                failure.addSuppressed(newlineFailure);
+            }
+        }
+    }
+
+    /**
+     * Replaces a file in one step: the contents are written to a temporary file next to it, synced,
+     * and moved over it.
+     * @param path the file to replace
+     * @param contents writes the new contents
+     * @throws IOException if the contents cannot be written or moved into place; the old file is
+     *                     then left as it was
+     */
+    public static void replaceAtomically(Path path, Contents contents) throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            contents.writeTo(writer);
+        }
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * @param path a file
+     * @return whether the file is missing, empty or ends with a newline
+     * @throws IOException if the file cannot be read
+     */
+    public static boolean endsWithNewline(Path path) throws IOException {
+        if (!Files.exists(path) || Files.size(path) == 0) {
+            return true;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer last = ByteBuffer.allocate(1);
+            channel.read(last, channel.size() - 1);
+            return last.get(0) == '\n';
+        }
+    }
+}
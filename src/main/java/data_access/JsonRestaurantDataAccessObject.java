@@ -1,29 +1,32 @@
 package data_access;
 
+import data_access.RestaurantCatalog.LoadMode;
 import entity.Restaurant;
 import entity.RestaurantFactory;
 import use_case.filter.IRestaurantDataAccess;
+import use_case.filter.RestaurantRanking;
+import use_case.nearby_restaurants.RestaurantSpatialIndex;
 import use_case.random_restaurant.RandomRestaurantDataAccessInterface;
 import use_case.view_restaurant.ViewRestaurantDataAccessInterface;
 import java.io.*;
-import java.util.*;
-import java.util.stream.Collectors;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import org.json.JSONArray;
-import org.json.JSONObject;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 /**
- * DAO for restaurant data implemented with json file to persist data
+ * DAO for restaurant data implemented with json file to persist data.
+ * Reads are served from a {@link RestaurantCatalog}, which can be shared with other DAOs.
+ * The catalog can be swapped for a newer version at any time (see {@link #watchForUpdates(Path)});
+ * each read sees either the old or the new catalog, never a mix, and readers never wait.
  */
 public class JsonRestaurantDataAccessObject implements
         IRestaurantDataAccess,
         ViewRestaurantDataAccessInterface,
         RandomRestaurantDataAccessInterface {
 
-    private final Map<String, Restaurant> restaurantById = new HashMap<>();
-    private final Map<String, String> placesIdToCid = new HashMap<>();
-    private final Map<String, String> nameToCid = new HashMap<>();  // NEW: name -> CID mapping
+    private volatile RestaurantCatalog catalog;
+    private final List<Consumer<CatalogDiff>> refreshListeners = new CopyOnWriteArrayList<>();
 
     /**
      * Construct DAO for saving to and reading from a local json file
@@ -32,116 +35,79 @@ public class JsonRestaurantDataAccessObject implements
      * @throws IOException throws IOException
      */
     public JsonRestaurantDataAccessObject(String jsonPath, RestaurantFactory restaurantFactory) throws IOException {
-        try {
-            JSONArray restaurantData = new JSONArray(Files.readString(Path.of(jsonPath)));
-            // Map CID to their respective restaurant obj
-            for (int i = 0; i < restaurantData.length(); i++) {
-                JSONObject curObj = restaurantData.getJSONObject(i);
-
-                // Extract CID from placeUri
-                String placeUri = curObj.getJSONObject("googleMapsLinks").getString("placeUri");
-                String cid = extractCidFromPlaceUri(placeUri);
-
-                // Extract Google Places ID from the first photo's name
-                if (curObj.has("photos") && curObj.getJSONArray("photos").length() > 0) {
-                    JSONObject firstPhoto = curObj.getJSONArray("photos").getJSONObject(0);
-                    if (firstPhoto.has("name")) {
-                        String photoName = firstPhoto.getString("name");
-                        // Extract "places/ChIJ..." from "places/ChIJ.../photos/..."
-                        String placesId = extractPlacesIdFromPhotoName(photoName);
-                        if (placesId != null) {
-                            placesIdToCid.put(placesId, cid);
-                            System.out.println("DEBUG JsonRestaurantDAO: Mapped " + placesId + " -> " + cid);
-                        }
-                    }
-                }
-
-                Restaurant restaurant = restaurantFactory.create(curObj);
-                restaurantById.put(cid, restaurant);
-
-                // NEW: Also map by name for easy lookup
-                nameToCid.put(restaurant.getName(), cid);
-            }
-
-            System.out.println("DEBUG JsonRestaurantDAO: Loaded " + restaurantById.size() + " restaurants");
-            System.out.println("DEBUG JsonRestaurantDAO: Created " + placesIdToCid.size() + " Places ID mappings");
-            System.out.println("DEBUG JsonRestaurantDAO: Created " + nameToCid.size() + " name mappings");
-        } catch (IOException e) {
-            throw new IOException(e);
-        }
+        this(jsonPath, restaurantFactory, LoadMode.DOM);
     }
 
     /**
-     * Extracts the CID parameter from a Google Maps placeUri.
-     * Example: "https://maps.google.com/?cid=5193387586656989408&..." -> "5193387586656989408"
+     * Construct DAO for saving to and reading from a local json file, using the given load mode.
+     * The DAO loads its own catalog; use {@link #JsonRestaurantDataAccessObject(RestaurantCatalog)}
+     * to read from a shared one.
+     * @param jsonPath the json file path to extract data from
+     * @param restaurantFactory factory for creating restaurant objects
+     * @param loadMode whether to parse the file as a DOM, stream it or use its snapshot
+     * @throws IOException throws IOException
      */
-    private String extractCidFromPlaceUri(String placeUri) {
-        int cidStart = placeUri.indexOf("cid=");
-        if (cidStart == -1) {
-            throw new IllegalArgumentException("No CID found in placeUri: " + placeUri);
-        }
-
-        cidStart += 4; // Move past "cid="
-        int cidEnd = placeUri.indexOf('&', cidStart);
-
-        if (cidEnd == -1) {
-            // CID is at the end of the URL
-            return placeUri.substring(cidStart);
-        } else {
-            return placeUri.substring(cidStart, cidEnd);
-        }
+    public JsonRestaurantDataAccessObject(String jsonPath, RestaurantFactory restaurantFactory,
+                                          LoadMode loadMode) throws IOException {
+        this(RestaurantCatalog.load(Path.of(jsonPath), restaurantFactory, loadMode));
     }
 
     /**
-     * Extracts the Google Places ID from a photo name.
-     * Example: "places/ChIJs_Gr4rE0K4gR4PCci36eEkg/photos/AWn5..." -> "places/ChIJs_Gr4rE0K4gR4PCci36eEkg"
+     * Construct DAO reading from an already loaded catalog.
+     * @param catalog the restaurant catalog
      */
-    private String extractPlacesIdFromPhotoName(String photoName) {
-        if (photoName != null && photoName.startsWith("places/")) {
-            int photosIndex = photoName.indexOf("/photos/");
-            if (photosIndex != -1) {
-                return photoName.substring(0, photosIndex);
-            }
-        }
-        return null;
+    public JsonRestaurantDataAccessObject(RestaurantCatalog catalog) {
+        this.catalog = catalog;
     }
 
     /**
-     * Converts a Google Places ID or restaurant name to CID if needed.
-     * If the ID is already a CID, returns it as-is.
-     * @param id Either a CID, Google Places ID (places/ChIJ...), or restaurant name
-     * @return The corresponding CID
+     * Watch a data directory and swap in every new restaurant export written there. Exports are
+     * loaded into the same storage as the current catalog.
+     * @param directory the data directory, usually the one holding restaurant.json
+     * @return the running watcher; close it to stop watching
+     * @throws IOException if the directory cannot be watched
      */
-    private String normalizeId(String id) {
-        if (id == null) {
-            return null;
-        }
+    public RestaurantCatalogWatcher watchForUpdates(Path directory) throws IOException {
+        return new RestaurantCatalogWatcher(directory, new RestaurantFactory(), catalog.getStorage(),
+                this::replaceCatalog);
+    }
 
-        // If it's a Google Places ID format, convert to CID
-        if (id.startsWith("places/")) {
-            String cid = placesIdToCid.get(id);
-            if (cid != null) {
-                System.out.println("DEBUG JsonRestaurantDAO: Converted Places ID " + id + " -> " + cid);
-                return cid;
-            }
-            System.err.println("WARNING JsonRestaurantDAO: No CID mapping found for " + id);
-            return id; // Return as-is if no mapping found
-        }
+    /**
+     * Register a callback that receives the added, changed and removed counts of every refresh.
+     * @param listener called on the watcher thread after each swap
+     */
+    public void addRefreshListener(Consumer<CatalogDiff> listener) {
+        refreshListeners.add(listener);
+    }
 
-        // Check if it's already a CID (exists in restaurantById)
-        if (restaurantById.containsKey(id)) {
-            return id;
+    /**
+     * Atomically replace the catalog with a newer version. Shared registrations of the old catalog
+     * are replaced too, so other DAOs that look it up pick up the new data. Nothing is swapped when
+     * the new version holds the same restaurants, which keeps derived search indexes valid.
+     * @param next the new catalog
+     * @return the places added, changed and removed
+     */
+    public synchronized CatalogDiff replaceCatalog(RestaurantCatalog next) {
+        RestaurantCatalog previous = catalog;
+        CatalogDiff diff = previous.diff(next);
+        if (diff.isEmpty()) {
+            System.out.println("DEBUG JsonRestaurantDataAccessObject: Catalog unchanged, keeping current version");
+            return diff;
         }
-
-        // NEW: Check if it's a restaurant name
-        String cidFromName = nameToCid.get(id);
-        if (cidFromName != null) {
-            System.out.println("DEBUG JsonRestaurantDAO: Converted name '" + id + "' -> " + cidFromName);
-            return cidFromName;
+        catalog = next;
+        RestaurantCatalog.replaceShared(previous, next);
+        System.out.println("DEBUG JsonRestaurantDataAccessObject: Refreshed catalog (" + diff + ")");
+        for (Consumer<CatalogDiff> listener : refreshListeners) {
+            listener.accept(diff);
         }
+        return diff;
+    }
 
-        // Return as-is if nothing matched
-        return id;
+    /**
+     * @return load time and peak heap measured while the catalog read its json file
+     */
+    public RestaurantLoadStats getLoadStats() {
+        return catalog.getLoadStats();
     }
 
     /**
@@ -151,9 +117,28 @@ public class JsonRestaurantDataAccessObject implements
      */
     @Override
     public List<Restaurant> getRestaurantsByType(String type) {
-        return restaurantById.values().stream()
-                .filter(restaurant -> restaurant.getType().equals(type))
-                .collect(Collectors.toList());
+        return catalog.getRestaurantsByType(type);
+    }
+
+    /**
+     * Get the best ranked restaurants of a type, from scores the catalog computed at load.
+     * @param type the restaurant type to filter by
+     * @param limit maximum number of restaurants
+     * @param ranking how to rank them
+     * @return up to limit restaurants of the type, best first
+     */
+    @Override
+    public List<Restaurant> getTopRestaurantsByType(String type, int limit, RestaurantRanking ranking) {
+        return catalog.getTopRestaurantsByType(type, limit, ranking);
+    }
+
+    /**
+     * Get the spatial index over the current catalog, built once per catalog.
+     * @return the spatial index over all restaurants
+     */
+    @Override
+    public RestaurantSpatialIndex getSpatialIndex() {
+        return catalog.getSpatialIndex();
     }
 
     /**
@@ -163,20 +148,16 @@ public class JsonRestaurantDataAccessObject implements
      */
     @Override
     public String[] getAllRestaurantTypes() {
-        return restaurantById.values().stream()
-                .map(Restaurant::getType)
-                .distinct()
-                .limit(5)
-                .toArray(String[]::new);
+        return catalog.getRestaurantTypes();
     }
 
     /**
      * Get all restaurants in data JSON.
-     * @return list of restaurant objects.
+     * @return unmodifiable list of restaurant objects, in file order.
      */
     @Override
     public List<Restaurant> getAllRestaurants() {
-        return new ArrayList<>(restaurantById.values());
+        return catalog.getAllRestaurants();
     }
 
     /**
@@ -186,30 +167,37 @@ public class JsonRestaurantDataAccessObject implements
      */
     @Override
     public Restaurant get(String id) {
-        String cid = normalizeId(id);
-        return restaurantById.get(cid);
+        return catalog.get(id);
     }
 
     @Override
     public boolean existById(String id){
-        String cid = normalizeId(id);
-        return restaurantById.containsKey(cid);
+        return catalog.contains(id);
     }
 
     @Override
     public Restaurant getRandom(){
-        List<Restaurant> restaurants = new ArrayList<>(restaurantById.values());
-        Random rand = new Random();
-        int randomIndex = rand.nextInt(restaurants.size());
-        return restaurants.get(randomIndex);
+        return catalog.getRandom();
     }
 
     /**
-     * Get the CID for a restaurant name.
+     * Get the CID for a restaurant name. Matching ignores case and surrounding whitespace.
      * @param name the restaurant name
      * @return the CID or null if not found
      */
+    @Override
     public String getCidByName(String name) {
-        return nameToCid.get(name);
+        return catalog.getCidByName(name);
+    }
+
+    @Override
+    public Restaurant getRestaurantByName(String name) {
+        RestaurantCatalog current = catalog;
+        return current.getByCid(current.getCidByName(name));
+    }
+
+    @Override
+    public String getCidByPlacesId(String placesId) {
+        return catalog.getCidByPlacesId(placesId);
     }
-}
\ No newline at end of file
+}
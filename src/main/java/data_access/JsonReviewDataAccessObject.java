@@ -1,68 +1,176 @@
 package data_access;
 
 import entity.Review;
+import java.io.Closeable;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import org.json.JSONArray;
-import org.json.JSONObject;
+import java.util.concurrent.ConcurrentHashMap;
 import use_case.add_review.AddReviewDataAccessInterface;
+import use_case.display_reviews.ReviewOrder;
 
-public class JsonReviewDataAccessObject implements AddReviewDataAccessInterface {
+/**
+ * Reviews stored in a json snapshot plus an append-only log of newer reviews (see ReviewJournal),
+ * so adding a review costs one appended line however many reviews exist.
+ *
+ * <p>Each restaurant's reviews are also kept sorted in every ReviewOrder. Adding a review inserts it
+ * into its restaurant's lists only, so opening a restaurant page costs as much as that restaurant's
+ * reviews, not all reviews.
+ */
+public class JsonReviewDataAccessObject implements AddReviewDataAccessInterface, Closeable {
 
-    private final Map<String, Review> reviewsById = new HashMap<>();
+    private final Map<String, Review> reviewsById = new ConcurrentHashMap<>();
+    // restaurantId -> its reviews in each order; the lists are unmodifiable and replaced on change
+    private final Map<String, Map<ReviewOrder, List<Review>>> reviewsByRestaurant =
+            new ConcurrentHashMap<>();
+    private final ReviewJournal journal;
 
+    /**
+     * Loads the snapshot at jsonPath and replays the reviews logged since.
+     * @param jsonPath the reviews json snapshot
+     */
     public JsonReviewDataAccessObject(String jsonPath) {
+        this(jsonPath, ReviewJournal.DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * @param jsonPath the reviews json snapshot
+     * @param compactionThreshold reviews logged before they are folded into the snapshot
+     */
+    public JsonReviewDataAccessObject(String jsonPath, int compactionThreshold) {
         try {
-            JSONArray reviewData = new JSONArray(Files.readString(Path.of(jsonPath)));
-            for (int i = 0; i < reviewData.length(); i++) {
-                JSONObject curObj = reviewData.getJSONObject(i);
-                String reviewId = curObj.getString("reviewId");
-                String userId = curObj.getString("authorId");
-                String restaurantId = curObj.getString("restaurantId");
-                String content = curObj.getString("content");
-                int likes = curObj.getInt("likes");
-                String creationDate = curObj.getString("creationDate");
-                Review review = new Review(reviewId, userId, restaurantId, content, creationDate, likes);
-                reviewsById.put(reviewId, review);
-            }
+            this.journal = new ReviewJournal(Path.of(jsonPath), compactionThreshold,
+                    review -> reviewsById.put(review.getReviewId(), review),
+                    () -> new ArrayList<>(reviewsById.values()));
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
+        buildIndex();
     }
 
     @Override
     public void addReview(String reviewId, String userId, String restaurantId, String content,
                           String creationDate) throws IOException {
         Review review = new Review(reviewId, userId, restaurantId, content, creationDate);
-        reviewsById.put(reviewId, review);
-        save();
+        journal.append(review, () -> index(review));
     }
 
+    /**
+     * @param restaurantId the restaurant's ID
+     * @param order how to order the reviews
+     * @return the restaurant's reviews as an unmodifiable list, empty if it has none
+     */
+    public List<Review> reviewsForRestaurant(String restaurantId, ReviewOrder order) {
+        Map<ReviewOrder, List<Review>> lists = reviewsByRestaurant.get(restaurantId);
+        return lists == null ? List.of() : lists.get(order);
+    }
+
+    /**
+     * One page of a restaurant's reviews. Pages are positioned by the last review already shown
+     * rather than by offset, so reviews added while paging do not shift later pages.
+     * @param restaurantId the restaurant's ID
+     * @param order how to order the reviews
+     * @param afterReviewId ID of the last review of the previous page, or null for the first page
+     * @param limit most reviews to return
+     * @return up to limit reviews that come after afterReviewId, as an unmodifiable list
+     */
+    public List<Review> reviewsAfter(String restaurantId, ReviewOrder order, String afterReviewId,
+                                     int limit) {
+        List<Review> reviews = reviewsForRestaurant(restaurantId, order);
+        int from = 0;
+        if (afterReviewId != null) {
+            Review after = reviewsById.get(afterReviewId);
+            if (after == null || !after.getRestaurantId().equals(restaurantId)) {
+                return List.of();
+            }
+            int at = Collections.binarySearch(reviews, after, order.comparator());
+            from = at >= 0 ? at + 1 : -at - 1;
+        }
+        return reviews.subList(from, Math.min(reviews.size(), from + limit));
+    }
+
+    /**
+     * Writes every review to the json snapshot now instead of waiting for the next compaction.
+     * @throws IOException if the snapshot cannot be written
+     */
     public void save() throws IOException {
-        JSONArray reviews = new JSONArray(reviewsById.values());
-        Path folder = Path.of("src", "main", "java", "data");
-        Files.createDirectories(folder);
-        Path file = folder.resolve("reviews.json");
-        Files.writeString(file, reviews.toString(2));
+        journal.compact();
     }
 
+    /**
+     * Writes the snapshot and closes the log.
+     * @throws IOException if the snapshot cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        journal.close();
+    }
 
-    public Map<String, Review> reviewByRestaurant(String restaurantId) {
-        HashMap<String, Review> result = new HashMap<>();
 
-        // Map.Entry<String, Review > entry is a java's way of representing a single key and value pair inside a map.
-        // reviewsById.entrySet() returns a set of all key and value pairs inside reviewsById
-        for (Map.Entry<String, Review> entry : reviewsById.entrySet()) {
+    /**
+     * @param restaurantId the restaurant's ID
+     * @return the restaurant's reviews by review ID, newest first, as an unmodifiable map
+     */
+    public Map<String, Review> reviewByRestaurant(String restaurantId) {
+        Map<String, Review> result = new LinkedHashMap<>();
+        for (Review review : reviewsForRestaurant(restaurantId, ReviewOrder.NEWEST)) {
+            result.put(review.getReviewId(), review);
+        }
+        return Collections.unmodifiableMap(result);
+    }
 
-            if (entry.getValue().getRestaurantId().equals(restaurantId)) {
-                result.put(entry.getKey(), entry.getValue());
+    /**
+     * Sorts every restaurant's reviews once after loading.
+     */
+    private void buildIndex() {
+        Map<String, List<Review>> grouped = new HashMap<>();
+        for (Review review : reviewsById.values()) {
+            grouped.computeIfAbsent(review.getRestaurantId(), id -> new ArrayList<>()).add(review);
+        }
+        for (Map.Entry<String, List<Review>> entry : grouped.entrySet()) {
+            Map<ReviewOrder, List<Review>> lists = new EnumMap<>(ReviewOrder.class);
+            for (ReviewOrder order : ReviewOrder.values()) {
+                List<Review> sorted = new ArrayList<>(entry.getValue());
+                sorted.sort(order.comparator());
+                lists.put(order, Collections.unmodifiableList(sorted));
             }
+            reviewsByRestaurant.put(entry.getKey(), lists);
+        }
+    }
 
+    /**
+     * Adds a review, replacing one with the same ID. Called under the journal's write lock, so
+     * updates never interleave; readers keep whichever lists they already hold.
+     */
+    private void index(Review review) {
+        Review previous = reviewsById.put(review.getReviewId(), review);
+        if (previous != null) {
+            reviewsByRestaurant.computeIfPresent(previous.getRestaurantId(),
+                    (id, lists) -> updated(lists, previous, false));
         }
+        reviewsByRestaurant.merge(review.getRestaurantId(), updated(null, review, true),
+                (lists, added) -> updated(lists, review, true));
+    }
 
+    private static Map<ReviewOrder, List<Review>> updated(Map<ReviewOrder, List<Review>> lists,
+                                                          Review review, boolean add) {
+        Map<ReviewOrder, List<Review>> result = new EnumMap<>(ReviewOrder.class);
+        for (ReviewOrder order : ReviewOrder.values()) {
+            List<Review> sorted = new ArrayList<>(lists == null ? List.of() : lists.get(order));
+            if (add) {
+                int at = Collections.binarySearch(sorted, review, order.comparator());
+                sorted.add(at < 0 ? -at - 1 : at, review);
+            } else {
+                sorted.remove(review);
+            }
+            result.put(order, Collections.unmodifiableList(sorted));
+        }
         return result;
     }
-}
\ No newline at end of file
+}
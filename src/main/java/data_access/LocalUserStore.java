@@ -0,0 +1,164 @@
+package data_access;
+
+import entity.User;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * Local copy of user profiles and favorites, so a user can be shown at startup before the database
+ * answers, or while it cannot be reached.
+ *
+ * <p>Users are kept in a key-value log under the user's home directory, one json object per line;
+ * a later line replaces an earlier one for the same user, and a line marked deleted removes it.
+ * Saving a user appends one line. Once most lines are outdated, the log is rewritten with one line
+ * per user to a temporary file and moved over the old one. A line cut short by a crash is skipped.
+ */
+public class LocalUserStore implements Closeable {
+
+    /** Outdated lines tolerated before the log is rewritten. */
+    private static final int MIN_COMPACTION_LINES = 1000;
+
+    private final Path path;
+    private final Map<String, JSONObject> usersById = new HashMap<>();   // guarded by this
+    private FileChannel log;                                             // guarded by this
+    private int lines;                                                   // guarded by this
+
+    /**
+     * Reads the stored users and opens the log for appending.
+     * @param path the log file; its directory is created if missing
+     * @throws IOException if the log cannot be read or opened
+     */
+    public LocalUserStore(Path path) throws IOException {
+        this.path = path;
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        this.lines = JsonLines.replay(path, this::apply, "LocalUserStore");
+        this.log = JsonLines.openForAppend(path);
+        System.out.println("DEBUG LocalUserStore: Loaded " + usersById.size() + " users from " + path);
+    }
+
+    /**
+     * Opens the store in the user's home directory.
+     * @return the store, or null if it cannot be opened, in which case users are only kept in memory
+     */
+    public static LocalUserStore openDefault() {
+        Path path = Path.of(System.getProperty("user.home"), ".teamproject", "users.jsonl");
+        try {
+            return new LocalUserStore(path);
+        } catch (IOException e) {
+            System.err.println("WARNING LocalUserStore: Cannot open " + path + ", users will not be kept offline: "
+                    + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * @param uid the user's ID
+     * @return a new copy of the stored user, or null if none is stored
+     */
+    public synchronized User get(String uid) {
+        JSONObject json = usersById.get(uid);
+        return json == null ? null : fromJson(json);
+    }
+
+    /**
+     * Stores a user, replacing any stored with the same ID. The line is handed to the operating
+     * system but not synced, so saving costs no disk wait; losing the last saves in a power cut
+     * only loses what the database still has.
+     * @param user the user to store
+     * @throws IOException if the line cannot be written
+     */
+    public synchronized void put(User user) throws IOException {
+        append(toJson(user));
+    }
+
+    /**
+     * Removes a stored user.
+     * @param uid the user's ID
+     * @throws IOException if the line cannot be written
+     */
+    public synchronized void remove(String uid) throws IOException {
+        if (usersById.containsKey(uid)) {
+            append(new JSONObject().put("uid", uid).put("deleted", true));
+        }
+    }
+
+    /**
+     * @return how many users are stored
+     */
+    public synchronized int size() {
+        return usersById.size();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        log.close();
+    }
+
+    private void append(JSONObject json) throws IOException {
+        JsonLines.append(log, json);
+        apply(json);
+        lines++;
+        if (lines - usersById.size() > Math.max(MIN_COMPACTION_LINES, usersById.size())) {
+            compact();
+        }
+    }
+
+    private void apply(JSONObject json) {
+        String uid = json.getString("uid");
+        if (json.optBoolean("deleted")) {
+            usersById.remove(uid);
+        } else {
+            usersById.put(uid, json);
+        }
+    }
+
+    private void compact() throws IOException {
+        // Closed first, as a file still open cannot be replaced on every platform
+        log.close();
+        try {
+            JsonLines.replaceAtomically(path, writer -> {
+                for (JSONObject json : usersById.values()) {
+                    writer.write(json.toString());
+                    writer.write("\n");
+                }
+            });
+            lines = usersById.size();
+        } finally {
+            log = JsonLines.openForAppend(path);
+        }
+    }
+
+    private static JSONObject toJson(User user) {
+        JSONObject json = new JSONObject();
+        json.put("uid", user.getUid());
+        json.put("email", user.getEmail());
+        json.put("nickname", user.getNickname());
+        json.put("language", user.getLanguage());
+        json.put("favoriteRestaurantIds", new JSONArray(user.getFavoriteRestaurantIds()));
+        return json;
+    }
+
+    private static User fromJson(JSONObject json) {
+        List<String> favoriteRestaurantIds = new ArrayList<>();
+        JSONArray favorites = json.optJSONArray("favoriteRestaurantIds");
+        if (favorites != null) {
+            for (int i = 0; i < favorites.length(); i++) {
+                favoriteRestaurantIds.add(favorites.getString(i));
+            }
+        }
+        return new User(json.getString("uid"), json.optString("email", null),
+                json.optString("nickname", null), json.optString("language", "en"),
+                favoriteRestaurantIds);
+    }
+}
@@ -0,0 +1,19 @@
+package data_access;
+
+import java.io.IOException;
+
+/**
+ * Where restaurant photos are downloaded from, as encoded image bytes (e.g. JPEG).
+ */
+public interface PhotoSource {
+
+    /**
+     * Downloads a photo.
+     * @param photoReference the photo's reference, e.g. places/.../photos/...
+     * @param apiKey the API key
+     * @param maxWidthPx widest the returned photo may be, in pixels
+     * @return the encoded photo
+     * @throws IOException if the photo cannot be downloaded
+     */
+    byte[] fetchPhoto(String photoReference, String apiKey, int maxWidthPx) throws IOException;
+}
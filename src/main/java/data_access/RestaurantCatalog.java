@@ -0,0 +1,639 @@
+package data_access;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import entity.Restaurant;
+import entity.RestaurantFactory;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import use_case.filter.RestaurantRanking;
+import use_case.filter.TopRestaurants;
+import use_case.nearby_restaurants.RestaurantSpatialIndex;
+
+/**
+ * Immutable, thread-safe catalog of every restaurant in a restaurant json file, with the lookup
+ * indexes built once at load time (CID, Google Places ID, normalized name and type) and the
+ * popularity score of every restaurant precomputed for ranking.
+ *
+ * <p>Use {@link #shared(Path, LoadMode)} so every data access object reading the same file shares
+ * one parsed copy of the catalog instead of loading its own.
+ */
+public class RestaurantCatalog {
+
+    /** Maximum number of types offered as filter buttons. */
+    private static final int MAX_RESTAURANT_TYPES = 5;
+
+    /** Score arrays kept for at most this many rankings; others are scored on every call. */
+    private static final int MAX_CACHED_RANKINGS = 8;
+
+    /** Shared mapper; its factory creates the streaming parsers and it is thread-safe once configured. */
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+
+    /** One catalog per json file for the whole process, keyed by absolute path. */
+    private static final Map<Path, RestaurantCatalog> SHARED = new ConcurrentHashMap<>();
+
+    /**
+     * How the restaurant json file is turned into restaurant objects.
+     */
+    public enum LoadMode {
+        /** Read the whole file into a string and build an org.json DOM before converting. */
+        DOM,
+        /** Stream the file with a Jackson parser and convert one place object at a time. */
+        STREAMING,
+        /**
+         * Read the binary snapshot next to the json file; if it is missing or no longer matches
+         * the json content, stream the json and write a fresh snapshot for the next launch.
+         */
+        SNAPSHOT
+    }
+
+    /**
+     * How the loaded restaurants are kept in memory.
+     */
+    public enum Storage {
+        /** One Restaurant object graph per place. */
+        OBJECTS,
+        /**
+         * Parallel primitive columns and pooled strings ({@link ColumnarRestaurants}); restaurants
+         * are handed out as lightweight views. Worth it for catalogs of many thousands of places.
+         */
+        COLUMNAR
+    }
+
+    // All lookup structures are built once at load time and never mutated afterwards,
+    // so reads need no locking and every lookup is a single hash probe.
+    private final Map<String, Integer> rowByCid;
+    private final Map<String, String> placesIdToCid;
+    private final Map<String, String> normalizedNameToCid;
+    private final Map<String, List<Restaurant>> restaurantsByType;
+    private final Map<String, int[]> rowsByType;
+    private final List<Restaurant> allRestaurants;
+    private final String[] restaurantTypes;
+
+    // Ranking -> score of every row; filled for POPULARITY at load, other rankings on first use.
+    private final Map<RestaurantRanking, double[]> scoresByRanking = new ConcurrentHashMap<>();
+
+    private final Storage storage;
+    // Built on the first location query and dropped with the catalog
+    private RestaurantSpatialIndex spatialIndex;
+    private final RestaurantLoadStats loadStats;
+
+    /**
+     * Freezes the loaded rows and maps; the load stats cover everything from loadStartNanos on.
+     */
+    private RestaurantCatalog(IndexBuilder indexes, Storage storage, LoadMode loadMode,
+                              long loadStartNanos, long heapBaseline) {
+        this.rowByCid = Collections.unmodifiableMap(indexes.rowByCid);
+        this.placesIdToCid = Collections.unmodifiableMap(indexes.placesIdToCid);
+        this.normalizedNameToCid = Collections.unmodifiableMap(indexes.normalizedNameToCid);
+
+        Map<String, List<Restaurant>> byType = new LinkedHashMap<>();
+        Map<String, int[]> typeRows = new HashMap<>();
+        for (Map.Entry<String, List<Integer>> entry : indexes.rowsByType.entrySet()) {
+            typeRows.put(entry.getKey(), toArray(entry.getValue()));
+        }
+        if (storage == Storage.COLUMNAR) {
+            ColumnarRestaurants columns = ColumnarRestaurants.of(indexes.rows);
+            this.allRestaurants = columns.asList();
+            for (Map.Entry<String, List<Integer>> entry : indexes.rowsByType.entrySet()) {
+                byType.put(entry.getKey(), columns.rows(typeRows.get(entry.getKey())));
+            }
+        } else {
+            this.allRestaurants = List.copyOf(indexes.rows);
+            for (Map.Entry<String, List<Integer>> entry : indexes.rowsByType.entrySet()) {
+                List<Restaurant> ofType = new ArrayList<>(entry.getValue().size());
+                for (int row : entry.getValue()) {
+                    ofType.add(allRestaurants.get(row));
+                }
+                byType.put(entry.getKey(), List.copyOf(ofType));
+            }
+        }
+        this.restaurantsByType = Collections.unmodifiableMap(byType);
+        this.rowsByType = Collections.unmodifiableMap(typeRows);
+        scoresByRanking.put(RestaurantRanking.POPULARITY, computeScores(RestaurantRanking.POPULARITY));
+        this.restaurantTypes = restaurantsByType.keySet().stream()
+                .limit(MAX_RESTAURANT_TYPES)
+                .toArray(String[]::new);
+        this.storage = storage;
+        this.loadStats = new RestaurantLoadStats(loadMode.name() + "/" + storage, allRestaurants.size(),
+                (System.nanoTime() - loadStartNanos) / 1_000_000, RestaurantLoadStats.peakHeapSince(heapBaseline));
+    }
+
+    /**
+     * Returns the process-wide catalog for a json file, loading it on first use. Later calls for
+     * the same file return the same instance whatever load mode they pass.
+     * @param jsonPath the json file path to extract data from
+     * @param loadMode how to read the file if it has not been loaded yet
+     * @return the shared catalog
+     * @throws IOException if the file cannot be read
+     */
+    public static RestaurantCatalog shared(Path jsonPath, LoadMode loadMode) throws IOException {
+        return shared(jsonPath, loadMode, Storage.OBJECTS);
+    }
+
+    /**
+     * Returns the process-wide catalog for a json file, loading it into the given storage on first
+     * use. Later calls for the same file return the same instance whatever they pass.
+     * @param jsonPath the json file path to extract data from
+     * @param loadMode how to read the file if it has not been loaded yet
+     * @param storage whether to keep restaurant objects or columns if it has not been loaded yet
+     * @return the shared catalog
+     * @throws IOException if the file cannot be read
+     */
+    public static RestaurantCatalog shared(Path jsonPath, LoadMode loadMode, Storage storage)
+            throws IOException {
+        Path key = jsonPath.toAbsolutePath().normalize();
+        try {
+            return SHARED.computeIfAbsent(key, path -> {
+                try {
+                    return load(path, new RestaurantFactory(), loadMode, storage);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Replaces every shared registration of one catalog with a newer version, so callers of
+     * {@link #shared(Path, LoadMode)} get the refreshed data from then on.
+     * @param previous the catalog being replaced
+     * @param next the catalog to hand out instead
+     */
+    static void replaceShared(RestaurantCatalog previous, RestaurantCatalog next) {
+        SHARED.replaceAll((path, catalog) -> catalog == previous ? next : catalog);
+    }
+
+    /**
+     * Loads a new, unshared catalog from a json file.
+     * @param jsonPath the json file path to extract data from
+     * @param restaurantFactory factory for creating restaurant objects
+     * @param loadMode whether to parse the file as a DOM, stream it or use its snapshot
+     * @return the loaded catalog
+     * @throws IOException if the file cannot be read
+     */
+    public static RestaurantCatalog load(Path jsonPath, RestaurantFactory restaurantFactory,
+                                         LoadMode loadMode) throws IOException {
+        return load(jsonPath, restaurantFactory, loadMode, Storage.OBJECTS);
+    }
+
+    /**
+     * Loads a new, unshared catalog from a json file into the given storage.
+     * @param jsonPath the json file path to extract data from
+     * @param restaurantFactory factory for creating restaurant objects
+     * @param loadMode whether to parse the file as a DOM, stream it or use its snapshot
+     * @param storage whether to keep restaurant objects or columns
+     * @return the loaded catalog
+     * @throws IOException if the file cannot be read
+     */
+    public static RestaurantCatalog load(Path jsonPath, RestaurantFactory restaurantFactory,
+                                         LoadMode loadMode, Storage storage) throws IOException {
+        long heapBaseline = RestaurantLoadStats.resetHeapPeak();
+        long start = System.nanoTime();
+
+        IndexBuilder indexes = new IndexBuilder();
+        if (loadMode == LoadMode.SNAPSHOT) {
+            indexes = loadSnapshot(jsonPath, restaurantFactory);
+        } else if (loadMode == LoadMode.STREAMING) {
+            loadStreaming(jsonPath, restaurantFactory, indexes);
+        } else {
+            loadDom(jsonPath, restaurantFactory, indexes);
+        }
+
+        RestaurantCatalog catalog = new RestaurantCatalog(indexes, storage, loadMode, start, heapBaseline);
+
+        System.out.println("DEBUG RestaurantCatalog: Loaded " + catalog.size() + " restaurants (" + storage + ")");
+        System.out.println("DEBUG RestaurantCatalog: Created " + catalog.placesIdToCid.size() + " Places ID mappings");
+        System.out.println("DEBUG RestaurantCatalog: Created " + catalog.normalizedNameToCid.size() + " name mappings");
+        System.out.println("DEBUG RestaurantCatalog: Indexed " + catalog.restaurantsByType.size() + " restaurant types");
+        System.out.println("DEBUG RestaurantCatalog: " + catalog.loadStats);
+        return catalog;
+    }
+
+    /**
+     * Reads the whole file into memory and walks the org.json DOM.
+     */
+    private static void loadDom(Path jsonPath, RestaurantFactory restaurantFactory,
+                                IndexBuilder indexes) throws IOException {
+        JSONArray restaurantData = new JSONArray(Files.readString(jsonPath));
+        // Map CID to their respective restaurant obj
+        for (int i = 0; i < restaurantData.length(); i++) {
+            JSONObject curObj = restaurantData.getJSONObject(i);
+
+            // Extract CID from placeUri
+            String placeUri = curObj.getJSONObject("googleMapsLinks").getString("placeUri");
+            String cid = extractCidFromPlaceUri(placeUri);
+
+            // Extract Google Places ID from the first photo's name
+            String placesId = null;
+            if (curObj.has("photos") && curObj.getJSONArray("photos").length() > 0) {
+                JSONObject firstPhoto = curObj.getJSONArray("photos").getJSONObject(0);
+                if (firstPhoto.has("name")) {
+                    // Extract "places/ChIJ..." from "places/ChIJ.../photos/..."
+                    placesId = extractPlacesIdFromPhotoName(firstPhoto.getString("name"));
+                }
+            }
+
+            indexes.add(cid, placesId, restaurantFactory.create(curObj));
+        }
+    }
+
+    /**
+     * Streams the top-level array with a Jackson parser. Only the place currently being read is
+     * held as a tree, so the raw file and a full DOM never sit on the heap together.
+     */
+    private static void loadStreaming(Path jsonPath, RestaurantFactory restaurantFactory,
+                                      IndexBuilder indexes) throws IOException {
+        try (JsonParser parser = JSON_MAPPER.getFactory().createParser(jsonPath.toFile())) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("Expected a JSON array of places in " + jsonPath);
+            }
+
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                JsonNode curObj = parser.readValueAsTree();
+
+                String placeUri = curObj.get("googleMapsLinks").get("placeUri").asText();
+                String cid = extractCidFromPlaceUri(placeUri);
+
+                String placesId = null;
+                JsonNode photos = curObj.path("photos");
+                if (photos.size() > 0 && photos.get(0).has("name")) {
+                    placesId = extractPlacesIdFromPhotoName(photos.get(0).get("name").asText());
+                }
+
+                indexes.add(cid, placesId, restaurantFactory.create(curObj));
+            }
+        }
+    }
+
+    /**
+     * Reads the binary snapshot of the json file. Falls back to streaming the json,
+     * then saves a new snapshot, when the snapshot is missing, stale or unreadable.
+     */
+    private static IndexBuilder loadSnapshot(Path jsonPath, RestaurantFactory restaurantFactory) throws IOException {
+        Path snapshotPath = RestaurantSnapshot.snapshotPathFor(jsonPath);
+        IndexBuilder fromSnapshot = new IndexBuilder();
+        try {
+            if (RestaurantSnapshot.read(snapshotPath, jsonPath, fromSnapshot::add)) {
+                System.out.println("DEBUG RestaurantCatalog: Read snapshot " + snapshotPath);
+                return fromSnapshot;
+            }
+        } catch (IOException | RuntimeException e) {
+            System.err.println("WARNING RestaurantCatalog: Ignoring unreadable snapshot " + snapshotPath + ": " + e);
+        }
+
+        IndexBuilder fromJson = new IndexBuilder();
+        loadStreaming(jsonPath, restaurantFactory, fromJson);
+        try {
+            RestaurantSnapshot.write(snapshotPath, jsonPath, fromJson.restaurantsByCid(), fromJson.placesIdToCid);
+            System.out.println("DEBUG RestaurantCatalog: Wrote snapshot " + snapshotPath);
+        } catch (IOException e) {
+            // The snapshot only speeds up the next launch, so failing to save it is not fatal.
+            System.err.println("WARNING RestaurantCatalog: Could not write snapshot " + snapshotPath + ": " + e);
+        }
+        return fromJson;
+    }
+
+    /**
+     * Rows and mutable maps filled while the file is read, then frozen into the catalog's immutable
+     * indexes. Rows follow the file order so listings and the type buttons are stable between runs.
+     */
+    private static class IndexBuilder {
+        private final List<Restaurant> rows = new ArrayList<>();
+        private final Map<String, Integer> rowByCid = new LinkedHashMap<>();
+        private final Map<String, String> placesIdToCid = new HashMap<>();
+        private final Map<String, String> normalizedNameToCid = new HashMap<>();
+        private final Map<String, List<Integer>> rowsByType = new LinkedHashMap<>();
+
+        /**
+         * Adds a restaurant to the lookup maps under its CID, Places ID, name and type. A repeated
+         * CID replaces the earlier restaurant in place, dropping its old type and name entries.
+         */
+        void add(String cid, String placesId, Restaurant restaurant) {
+            if (placesId != null) {
+                placesIdToCid.put(placesId, cid);
+            }
+
+            Integer row = rowByCid.get(cid);
+            if (row != null) {
+                Restaurant replaced = rows.get(row);
+                removeFromType(replaced.getType(), row);
+                normalizedNameToCid.remove(normalizeName(replaced.getName()), cid);
+                rows.set(row, restaurant);
+            } else {
+                row = rows.size();
+                rows.add(restaurant);
+                rowByCid.put(cid, row);
+            }
+            addToType(restaurant.getType(), row);
+            normalizedNameToCid.put(normalizeName(restaurant.getName()), cid);
+        }
+
+        /**
+         * Inserts the row into its type's list, keeping the list in file order.
+         */
+        private void addToType(String type, int row) {
+            List<Integer> typeRows = rowsByType.computeIfAbsent(type, key -> new ArrayList<>());
+            int at = Collections.binarySearch(typeRows, row);
+            if (at < 0) {
+                typeRows.add(-at - 1, row);
+            }
+        }
+
+        private void removeFromType(String type, int row) {
+            List<Integer> typeRows = rowsByType.get(type);
+            typeRows.remove(Integer.valueOf(row));
+            if (typeRows.isEmpty()) {
+                rowsByType.remove(type);
+            }
+        }
+
+        /**
+         * @return every restaurant keyed by CID, in file order
+         */
+        Map<String, Restaurant> restaurantsByCid() {
+            Map<String, Restaurant> byCid = new LinkedHashMap<>();
+            for (Map.Entry<String, Integer> entry : rowByCid.entrySet()) {
+                byCid.put(entry.getKey(), rows.get(entry.getValue()));
+            }
+            return byCid;
+        }
+    }
+
+    private static int[] toArray(List<Integer> values) {
+        int[] array = new int[values.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = values.get(i);
+        }
+        return array;
+    }
+
+    /**
+     * Normalizes a restaurant name for lookups: trimmed, inner whitespace collapsed, lower case.
+     * @param name the display name
+     * @return the normalized key, or null if name is null
+     */
+    static String normalizeName(String name) {
+        if (name == null) {
+            return null;
+        }
+        return name.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Extracts the CID parameter from a Google Maps placeUri.
+     * Example: "https://maps.google.com/?cid=5193387586656989408&..." -> "5193387586656989408"
+     */
+    private static String extractCidFromPlaceUri(String placeUri) {
+        int cidStart = placeUri.indexOf("cid=");
+        if (cidStart == -1) {
+            throw new IllegalArgumentException("No CID found in placeUri: " + placeUri);
+        }
+
+        cidStart += 4; // Move past "cid="
+        int cidEnd = placeUri.indexOf('&', cidStart);
+
+        if (cidEnd == -1) {
+            // CID is at the end of the URL
+            return placeUri.substring(cidStart);
+        } else {
+            return placeUri.substring(cidStart, cidEnd);
+        }
+    }
+
+    /**
+     * Extracts the Google Places ID from a photo name.
+     * Example: "places/ChIJs_Gr4rE0K4gR4PCci36eEkg/photos/AWn5..." -> "places/ChIJs_Gr4rE0K4gR4PCci36eEkg"
+     */
+    private static String extractPlacesIdFromPhotoName(String photoName) {
+        if (photoName != null && photoName.startsWith("places/")) {
+            int photosIndex = photoName.indexOf("/photos/");
+            if (photosIndex != -1) {
+                return photoName.substring(0, photosIndex);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Converts a Google Places ID or restaurant name to CID if needed.
+     * If the ID is already a CID, returns it as-is.
+     * @param id Either a CID, Google Places ID (places/ChIJ...), or restaurant name
+     * @return The corresponding CID
+     */
+    private String normalizeId(String id) {
+        if (id == null) {
+            return null;
+        }
+
+        // If it's a Google Places ID format, convert to CID
+        if (id.startsWith("places/")) {
+            String cid = placesIdToCid.get(id);
+            if (cid != null) {
+                System.out.println("DEBUG RestaurantCatalog: Converted Places ID " + id + " -> " + cid);
+                return cid;
+            }
+            System.err.println("WARNING RestaurantCatalog: No CID mapping found for " + id);
+            return id; // Return as-is if no mapping found
+        }
+
+        // Check if it's already a CID
+        if (rowByCid.containsKey(id)) {
+            return id;
+        }
+
+        // Check if it's a restaurant name
+        String cidFromName = normalizedNameToCid.get(normalizeName(id));
+        if (cidFromName != null) {
+            System.out.println("DEBUG RestaurantCatalog: Converted name '" + id + "' -> " + cidFromName);
+            return cidFromName;
+        }
+
+        // Return as-is if nothing matched
+        return id;
+    }
+
+    /**
+     * Compares this catalog with a newer version by CID.
+     * @param newer the catalog that replaces this one
+     * @return the places added, changed and removed in the newer catalog
+     */
+    public CatalogDiff diff(RestaurantCatalog newer) {
+        List<String> added = new ArrayList<>();
+        List<String> changed = new ArrayList<>();
+        List<String> removed = new ArrayList<>();
+        for (Map.Entry<String, Integer> entry : rowByCid.entrySet()) {
+            Integer newerRow = newer.rowByCid.get(entry.getKey());
+            if (newerRow == null) {
+                removed.add(entry.getKey());
+            } else if (!CatalogDiff.sameContent(allRestaurants.get(entry.getValue()),
+                    newer.allRestaurants.get(newerRow))) {
+                changed.add(entry.getKey());
+            }
+        }
+        for (String cid : newer.rowByCid.keySet()) {
+            if (!rowByCid.containsKey(cid)) {
+                added.add(cid);
+            }
+        }
+        return new CatalogDiff(added, changed, removed);
+    }
+
+    /**
+     * @return how the restaurants are kept in memory
+     */
+    public Storage getStorage() {
+        return storage;
+    }
+
+    /**
+     * @return load time and peak heap measured while this catalog read its json file
+     */
+    public RestaurantLoadStats getLoadStats() {
+        return loadStats;
+    }
+
+    /**
+     * @return number of restaurants in the catalog
+     */
+    public int size() {
+        return allRestaurants.size();
+    }
+
+    /**
+     * Get restaurant with given id (supports CID, Google Places ID, and restaurant name)
+     * @param id CID, Google Places ID, or restaurant name to look up
+     * @return restaurant that corresponds to given ID, or null
+     */
+    public Restaurant get(String id) {
+        return getByCid(normalizeId(id));
+    }
+
+    /**
+     * @param id CID, Google Places ID, or restaurant name
+     * @return whether the catalog holds a restaurant for the id
+     */
+    public boolean contains(String id) {
+        return rowByCid.containsKey(normalizeId(id));
+    }
+
+    /**
+     * @return unmodifiable list of every restaurant, in file order; the same instance on every call
+     */
+    public List<Restaurant> getAllRestaurants() {
+        return allRestaurants;
+    }
+
+    /**
+     * @param type the restaurant type to filter by
+     * @return unmodifiable list of restaurants matching the type
+     */
+    public List<Restaurant> getRestaurantsByType(String type) {
+        return restaurantsByType.getOrDefault(type, List.of());
+    }
+
+    /**
+     * Best ranked restaurants of a type, selected with a bounded heap over scores that are computed
+     * once per ranking (at load time for {@link RestaurantRanking#POPULARITY}).
+     * @param type the restaurant type to filter by
+     * @param limit maximum number of restaurants
+     * @param ranking how to rank them
+     * @return up to limit restaurants of the type, best first; ties keep file order
+     */
+    public List<Restaurant> getTopRestaurantsByType(String type, int limit, RestaurantRanking ranking) {
+        int[] rows = rowsByType.get(type);
+        if (rows == null) {
+            return List.of();
+        }
+        double[] scores = scores(ranking);
+        return TopRestaurants.selectByScore(restaurantsByType.get(type), limit, i -> scores[rows[i]]);
+    }
+
+    /**
+     * @return the score of every row under the ranking, cached for the first few rankings seen
+     */
+    private double[] scores(RestaurantRanking ranking) {
+        double[] scores = scoresByRanking.get(ranking);
+        if (scores != null) {
+            return scores;
+        }
+        if (scoresByRanking.size() >= MAX_CACHED_RANKINGS) {
+            return computeScores(ranking);
+        }
+        return scoresByRanking.computeIfAbsent(ranking, this::computeScores);
+    }
+
+    private double[] computeScores(RestaurantRanking ranking) {
+        double[] scores = new double[allRestaurants.size()];
+        for (int row = 0; row < scores.length; row++) {
+            scores[row] = ranking.score(allRestaurants.get(row));
+        }
+        return scores;
+    }
+
+    /**
+     * @return the grid over every restaurant's location, built on first use
+     */
+    public synchronized RestaurantSpatialIndex getSpatialIndex() {
+        if (spatialIndex == null) {
+            spatialIndex = new RestaurantSpatialIndex(allRestaurants);
+        }
+        return spatialIndex;
+    }
+
+    /**
+     * @return the first five restaurant types, in file order
+     */
+    public String[] getRestaurantTypes() {
+        return restaurantTypes.clone();
+    }
+
+    /**
+     * @return a uniformly random restaurant
+     */
+    public Restaurant getRandom() {
+        return allRestaurants.get(ThreadLocalRandom.current().nextInt(allRestaurants.size()));
+    }
+
+    /**
+     * @param name the restaurant name; matching ignores case and surrounding whitespace
+     * @return the CID or null if not found
+     */
+    public String getCidByName(String name) {
+        return normalizedNameToCid.get(normalizeName(name));
+    }
+
+    /**
+     * @param placesId a Google Places ID (places/ChIJ...)
+     * @return the CID or null if not found
+     */
+    public String getCidByPlacesId(String placesId) {
+        return placesIdToCid.get(placesId);
+    }
+
+    /**
+     * @param cid the restaurant CID
+     * @return the restaurant or null if not found
+     */
+    public Restaurant getByCid(String cid) {
+        Integer row = cid == null ? null : rowByCid.get(cid);
+        return row == null ? null : allRestaurants.get(row);
+    }
+}
@@ -0,0 +1,150 @@
+package data_access;
+
+import data_access.RestaurantCatalog.LoadMode;
+import data_access.RestaurantCatalog.Storage;
+import entity.RestaurantFactory;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Watches a data directory for restaurant json exports (restaurant.json and the dated
+ * restaurant_MM-dd-yy.json files written by RestaurantDataImporter) and hands each new one, fully
+ * loaded and indexed, to a callback. Loading runs on a single daemon thread, so readers of the
+ * current catalog are never blocked by a refresh.
+ */
+public class RestaurantCatalogWatcher implements Closeable {
+
+    private static final PathMatcher EXPORT_FILES =
+            FileSystems.getDefault().getPathMatcher("glob:restaurant*.json");
+
+    /** How long the directory must stay quiet before a written file is considered complete. */
+    private static final long SETTLE_MILLIS = 500;
+
+    private final Path directory;
+    private final RestaurantFactory restaurantFactory;
+    private final Storage storage;
+    private final Consumer<RestaurantCatalog> onLoaded;
+    private final WatchService watchService;
+    private final Thread thread;
+
+    /**
+     * Starts watching.
+     * @param directory the data directory
+     * @param restaurantFactory factory for creating restaurant objects
+     * @param onLoaded receives every catalog loaded from a new or rewritten export
+     * @throws IOException if the directory cannot be watched
+     */
+    public RestaurantCatalogWatcher(Path directory, RestaurantFactory restaurantFactory,
+                                    Consumer<RestaurantCatalog> onLoaded) throws IOException {
+        this(directory, restaurantFactory, Storage.OBJECTS, onLoaded);
+    }
+
+    /**
+     * Starts watching, loading each export into the given storage.
+     * @param directory the data directory
+     * @param restaurantFactory factory for creating restaurant objects
+     * @param storage whether loaded catalogs keep restaurant objects or columns
+     * @param onLoaded receives every catalog loaded from a new or rewritten export
+     * @throws IOException if the directory cannot be watched
+     */
+    public RestaurantCatalogWatcher(Path directory, RestaurantFactory restaurantFactory, Storage storage,
+                                    Consumer<RestaurantCatalog> onLoaded) throws IOException {
+        this.directory = directory;
+        this.restaurantFactory = restaurantFactory;
+        this.storage = storage;
+        this.onLoaded = onLoaded;
+        this.watchService = directory.getFileSystem().newWatchService();
+        directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY);
+
+        this.thread = new Thread(this::run, "restaurant-catalog-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        System.out.println("DEBUG RestaurantCatalogWatcher: Watching " + directory);
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                Set<Path> written = new LinkedHashSet<>();
+                collect(watchService.take(), written);
+                // A writer fires several events per file; wait until it has gone quiet
+                WatchKey more;
+                while ((more = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    collect(more, written);
+                }
+                Path newest = newest(written);
+                if (newest != null) {
+                    load(newest);
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Closed; let the thread end
+        }
+    }
+
+    private void collect(WatchKey key, Set<Path> written) {
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                continue;
+            }
+            Path name = (Path) event.context();
+            if (EXPORT_FILES.matches(name)) {
+                written.add(directory.resolve(name));
+            }
+        }
+        key.reset();
+    }
+
+    /**
+     * Only the most recently modified export matters when several were written at once.
+     */
+    private static Path newest(Set<Path> written) {
+        Path newest = null;
+        long newestTime = Long.MIN_VALUE;
+        for (Path path : written) {
+            try {
+                long time = Files.getLastModifiedTime(path).toMillis();
+                if (time >= newestTime) {
+                    newest = path;
+                    newestTime = time;
+                }
+            } catch (IOException e) {
+                // Deleted or renamed since the event; nothing to load
+            }
+        }
+        return newest;
+    }
+
+    private void load(Path path) {
+        try {
+            System.out.println("DEBUG RestaurantCatalogWatcher: Loading " + path);
+            onLoaded.accept(RestaurantCatalog.load(path, restaurantFactory, LoadMode.SNAPSHOT, storage));
+        } catch (IOException | RuntimeException e) {
+            // Keep serving the current catalog; a later write of the file triggers another attempt
+            System.err.println("WARNING RestaurantCatalogWatcher: Could not load " + path + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Stops watching. A refresh that is already loading still completes.
+     */
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+        thread.interrupt();
+    }
+}
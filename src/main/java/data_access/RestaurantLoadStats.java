@@ -0,0 +1,80 @@
+package data_access;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+
+/**
+ * Measurements taken while loading the restaurant catalog, so the DOM and streaming load paths
+ * can be compared on the same data file.
+ */
+public class RestaurantLoadStats {
+
+    private final String mode;
+    private final int restaurantCount;
+    private final long loadTimeMillis;
+    private final long peakHeapBytes;
+
+    public RestaurantLoadStats(String mode, int restaurantCount, long loadTimeMillis, long peakHeapBytes) {
+        this.mode = mode;
+        this.restaurantCount = restaurantCount;
+        this.loadTimeMillis = loadTimeMillis;
+        this.peakHeapBytes = peakHeapBytes;
+    }
+
+    public String getMode() {
+        return mode;
+    }
+
+    public int getRestaurantCount() {
+        return restaurantCount;
+    }
+
+    public long getLoadTimeMillis() {
+        return loadTimeMillis;
+    }
+
+    /**
+     * @return the highest heap usage observed during the load, minus the heap in use before it started
+     */
+    public long getPeakHeapBytes() {
+        return peakHeapBytes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s load: %d restaurants in %d ms, peak heap +%.1f MB",
+                mode, restaurantCount, loadTimeMillis, peakHeapBytes / (1024.0 * 1024.0));
+    }
+
+    /**
+     * Resets the peak usage of every heap memory pool and returns the heap currently in use.
+     * Call before a load, then pass the result to {@link #peakHeapSince(long)} afterwards.
+     *
+     * @return bytes of heap in use right now
+     */
+    public static long resetHeapPeak() {
+        long used = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+                used += pool.getUsage().getUsed();
+            }
+        }
+        return used;
+    }
+
+    /**
+     * @param baselineBytes the value returned by {@link #resetHeapPeak()}
+     * @return how far the heap peaked above the baseline since the last reset
+     */
+    public static long peakHeapSince(long baselineBytes) {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return Math.max(0, peak - baselineBytes);
+    }
+}
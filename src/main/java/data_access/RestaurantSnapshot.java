@@ -0,0 +1,347 @@
+package data_access;
+
+import entity.Restaurant;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary copy of a parsed restaurant json file, read back in a single read so a launch
+ * does not have to parse json at all. The file is read into a heap buffer rather than mapped, so no
+ * mapping keeps it open while its header is updated or a newer snapshot is moved over it, which
+ * Windows refuses.
+ *
+ * <p>Layout (big-endian):
+ * <pre>
+ * header      magic, version, source size, source last-modified, SHA-256 of source (32 bytes),
+ *             restaurant count, string count, list pool size
+ * strings     int offsets[stringCount + 1], then the UTF-8 bytes of every distinct string
+ * int columns one int[restaurantCount] per INT_COLUMNS entry (string ids, list ranges, counts)
+ * dbl columns one double[restaurantCount] per DOUBLE_COLUMNS entry
+ * list pool   int string ids referenced by the opening hours and photo ranges
+ * </pre>
+ * Every string (names, types, weekday descriptions...) is stored once no matter how many
+ * restaurants share it. A snapshot is only used while the SHA-256 in its header matches the json
+ * file; the size and modification time are kept alongside so an unchanged file is not re-hashed.
+ */
+public class RestaurantSnapshot {
+
+    private static final int MAGIC = 0x52534E50; // "RSNP"
+    private static final int VERSION = 1;
+    private static final int HASH_BYTES = 32;
+    private static final int NO_STRING = -1;
+
+    // Offset of the source size and modification time, rewritten when a touched file still hashes the same.
+    private static final int SOURCE_STAMP_OFFSET = 8;
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 8 + HASH_BYTES + 4 + 4 + 4;
+
+    private static final int CID = 0;
+    private static final int PLACES_ID = 1;
+    private static final int ID = 2;
+    private static final int NAME = 3;
+    private static final int ADDRESS = 4;
+    private static final int MAP_URI = 5;
+    private static final int TYPE = 6;
+    private static final int PHONE = 7;
+    private static final int WEBSITE = 8;
+    private static final int HOURS_START = 9;
+    private static final int HOURS_COUNT = 10;
+    private static final int PHOTOS_START = 11;
+    private static final int PHOTOS_COUNT = 12;
+    private static final int RATING_COUNT = 13;
+    private static final int HAS_DISCOUNT = 14;
+    private static final int INT_COLUMNS = 15;
+
+    private static final int LATITUDE = 0;
+    private static final int LONGITUDE = 1;
+    private static final int RATING = 2;
+    private static final int DISCOUNT = 3;
+    private static final int DOUBLE_COLUMNS = 4;
+
+    /**
+     * Receives each restaurant read from a snapshot, in the order of the original json file.
+     */
+    interface Sink {
+        void add(String cid, String placesId, Restaurant restaurant);
+    }
+
+    private RestaurantSnapshot() {
+    }
+
+    /**
+     * @param jsonPath the restaurant json file
+     * @return where its snapshot lives: the same name with a .snapshot extension, in the same folder
+     */
+    public static Path snapshotPathFor(Path jsonPath) {
+        String fileName = jsonPath.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        String baseName = dot > 0 ? fileName.substring(0, dot) : fileName;
+        return jsonPath.resolveSibling(baseName + ".snapshot");
+    }
+
+    /**
+     * Reads a snapshot if it exists and still matches the json file.
+     * @param snapshotPath the snapshot file
+     * @param jsonPath the json file it was built from
+     * @param sink receives every restaurant
+     * @return true if the snapshot was read, false if it is missing, from another version or stale
+     * @throws IOException if the snapshot or json file cannot be read
+     */
+    static boolean read(Path snapshotPath, Path jsonPath, Sink sink) throws IOException {
+        if (!Files.exists(snapshotPath)) {
+            return false;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(snapshotPath));
+        if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+            return false;
+        }
+        long sourceSize = buffer.getLong();
+        long sourceModified = buffer.getLong();
+        byte[] sourceHash = new byte[HASH_BYTES];
+        buffer.get(sourceHash);
+
+        long currentSize = Files.size(jsonPath);
+        long currentModified = Files.getLastModifiedTime(jsonPath).toMillis();
+        if (currentSize != sourceSize || currentModified != sourceModified) {
+            if (!Arrays.equals(sourceHash, sha256(jsonPath))) {
+                return false;
+            }
+            // Same content with a new timestamp (e.g. a fresh checkout): remember the new stamp.
+            updateSourceStamp(snapshotPath, currentSize, currentModified);
+        }
+
+        int count = buffer.getInt();
+        int stringCount = buffer.getInt();
+        int listPoolSize = buffer.getInt();
+
+        String[] strings = readStrings(buffer, stringCount);
+        int[][] ints = new int[INT_COLUMNS][count];
+        for (int[] column : ints) {
+            buffer.asIntBuffer().get(column);
+            buffer.position(buffer.position() + count * Integer.BYTES);
+        }
+        double[][] doubles = new double[DOUBLE_COLUMNS][count];
+        for (double[] column : doubles) {
+            buffer.asDoubleBuffer().get(column);
+            buffer.position(buffer.position() + count * Double.BYTES);
+        }
+        int[] listPool = new int[listPoolSize];
+        buffer.asIntBuffer().get(listPool);
+
+        for (int i = 0; i < count; i++) {
+            Restaurant restaurant = new Restaurant.Builder()
+                    .id(string(strings, ints[ID][i]))
+                    .name(string(strings, ints[NAME][i]))
+                    .location(string(strings, ints[ADDRESS][i]), string(strings, ints[MAP_URI][i]),
+                            doubles[LATITUDE][i], doubles[LONGITUDE][i])
+                    .type(string(strings, ints[TYPE][i]))
+                    .rating(doubles[RATING][i], ints[RATING_COUNT][i])
+                    .contact(string(strings, ints[PHONE][i]), string(strings, ints[WEBSITE][i]))
+                    .openingHours(list(strings, listPool, ints[HOURS_START][i], ints[HOURS_COUNT][i]))
+                    .studentDiscount(ints[HAS_DISCOUNT][i] != 0, doubles[DISCOUNT][i])
+                    .photoIds(list(strings, listPool, ints[PHOTOS_START][i], ints[PHOTOS_COUNT][i]))
+                    .build();
+            sink.add(string(strings, ints[CID][i]), string(strings, ints[PLACES_ID][i]), restaurant);
+        }
+        return true;
+    }
+
+    /**
+     * Writes a snapshot of the given restaurants. The file is written next to its final location
+     * and moved into place, so a reader never sees a half-written snapshot.
+     * @param snapshotPath where to write the snapshot
+     * @param jsonPath the json file the restaurants were read from
+     * @param restaurantsByCid restaurants keyed by CID, in file order
+     * @param placesIdToCid Google Places ID to CID mapping
+     * @throws IOException if the snapshot cannot be written
+     */
+    static void write(Path snapshotPath, Path jsonPath, Map<String, Restaurant> restaurantsByCid,
+                      Map<String, String> placesIdToCid) throws IOException {
+        Map<String, String> cidToPlacesId = new HashMap<>();
+        for (Map.Entry<String, String> entry : placesIdToCid.entrySet()) {
+            cidToPlacesId.put(entry.getValue(), entry.getKey());
+        }
+
+        int count = restaurantsByCid.size();
+        StringTable strings = new StringTable();
+        int[][] ints = new int[INT_COLUMNS][count];
+        double[][] doubles = new double[DOUBLE_COLUMNS][count];
+        List<Integer> listPool = new ArrayList<>();
+
+        int i = 0;
+        for (Map.Entry<String, Restaurant> entry : restaurantsByCid.entrySet()) {
+            Restaurant restaurant = entry.getValue();
+            ints[CID][i] = strings.id(entry.getKey());
+            ints[PLACES_ID][i] = strings.id(cidToPlacesId.get(entry.getKey()));
+            ints[ID][i] = strings.id(restaurant.getId());
+            ints[NAME][i] = strings.id(restaurant.getName());
+            ints[ADDRESS][i] = strings.id(restaurant.getAddress());
+            ints[MAP_URI][i] = strings.id(restaurant.getMapUri());
+            ints[TYPE][i] = strings.id(restaurant.getType());
+            ints[PHONE][i] = strings.id(restaurant.getPhoneNumber());
+            ints[WEBSITE][i] = strings.id(restaurant.getWebsiteUri());
+            ints[HOURS_START][i] = listPool.size();
+            ints[HOURS_COUNT][i] = addList(restaurant.getHours(), strings, listPool);
+            ints[PHOTOS_START][i] = listPool.size();
+            ints[PHOTOS_COUNT][i] = addList(restaurant.getPhotoIds(), strings, listPool);
+            ints[RATING_COUNT][i] = restaurant.getRatingCount();
+            ints[HAS_DISCOUNT][i] = restaurant.hasStudentDiscount() ? 1 : 0;
+            doubles[LATITUDE][i] = restaurant.getLatitude();
+            doubles[LONGITUDE][i] = restaurant.getLongitude();
+            doubles[RATING][i] = restaurant.getRating();
+            doubles[DISCOUNT][i] = restaurant.getDiscountValue();
+            i++;
+        }
+
+        Path temp = Files.createTempFile(snapshotPath.toAbsolutePath().getParent(), "restaurant", ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(Files.size(jsonPath));
+                out.writeLong(Files.getLastModifiedTime(jsonPath).toMillis());
+                out.write(sha256(jsonPath));
+                out.writeInt(count);
+                out.writeInt(strings.size());
+                out.writeInt(listPool.size());
+
+                strings.writeTo(out);
+                for (int[] column : ints) {
+                    for (int value : column) {
+                        out.writeInt(value);
+                    }
+                }
+                for (double[] column : doubles) {
+                    for (double value : column) {
+                        out.writeDouble(value);
+                    }
+                }
+                for (int stringId : listPool) {
+                    out.writeInt(stringId);
+                }
+            }
+            Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * @param file the file to hash
+     * @return the SHA-256 digest of its contents
+     * @throws IOException if the file cannot be read
+     */
+    static byte[] sha256(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        byte[] chunk = new byte[64 * 1024];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(chunk)) != -1) {
+                digest.update(chunk, 0, read);
+            }
+        }
+        return digest.digest();
+    }
+
+    private static void updateSourceStamp(Path snapshotPath, long size, long modified) throws IOException {
+        try (FileChannel channel = FileChannel.open(snapshotPath, StandardOpenOption.WRITE)) {
+            ByteBuffer stamp = ByteBuffer.allocate(2 * Long.BYTES).putLong(size).putLong(modified);
+            stamp.flip();
+            channel.write(stamp, SOURCE_STAMP_OFFSET);
+        }
+    }
+
+    private static String[] readStrings(ByteBuffer buffer, int stringCount) {
+        int[] offsets = new int[stringCount + 1];
+        buffer.asIntBuffer().get(offsets);
+        buffer.position(buffer.position() + offsets.length * Integer.BYTES);
+
+        byte[] bytes = new byte[offsets[stringCount]];
+        buffer.get(bytes);
+        String[] strings = new String[stringCount];
+        for (int i = 0; i < stringCount; i++) {
+            strings[i] = new String(bytes, offsets[i], offsets[i + 1] - offsets[i], StandardCharsets.UTF_8);
+        }
+        return strings;
+    }
+
+    private static String string(String[] strings, int id) {
+        return id == NO_STRING ? null : strings[id];
+    }
+
+    private static List<String> list(String[] strings, int[] listPool, int start, int count) {
+        String[] values = new String[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = strings[listPool[start + i]];
+        }
+        return List.of(values);
+    }
+
+    private static int addList(List<String> values, StringTable strings, List<Integer> listPool) {
+        if (values == null) {
+            return 0;
+        }
+        for (String value : values) {
+            listPool.add(strings.id(value));
+        }
+        return values.size();
+    }
+
+    /**
+     * Assigns each distinct string an id in first-seen order.
+     */
+    private static class StringTable {
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<byte[]> encoded = new ArrayList<>();
+
+        int id(String value) {
+            if (value == null) {
+                return NO_STRING;
+            }
+            Integer id = ids.get(value);
+            if (id == null) {
+                id = encoded.size();
+                ids.put(value, id);
+                encoded.add(value.getBytes(StandardCharsets.UTF_8));
+            }
+            return id;
+        }
+
+        int size() {
+            return encoded.size();
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            int offset = 0;
+            out.writeInt(offset);
+            for (byte[] bytes : encoded) {
+                offset += bytes.length;
+                out.writeInt(offset);
+            }
+            for (byte[] bytes : encoded) {
+                out.write(bytes);
+            }
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package data_access;
+
+import entity.Review;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * Durable storage for reviews: a json snapshot (reviews.json) plus an append-only log of the
+ * reviews added since, one json object per line (reviews.json.log).
+ *
+ * <p>Adding a review appends one line and waits for it to be synced to disk; concurrent writers
+ * share a single fsync. Once enough reviews have been logged, a background thread folds them into
+ * a new snapshot: the log is renamed to reviews.json.log.compacting, a fresh log is started, and the
+ * snapshot is written to a temporary file and moved over the old one. On startup the snapshot, any
+ * interrupted compaction and then the log are replayed, so a crash at any point loses nothing that
+ * was acknowledged. A line cut short by a crash is skipped.
+ */
+final class ReviewJournal implements Closeable {
+
+    /** Reviews logged before the log is folded into the snapshot. */
+    static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private final Path snapshotPath;
+    private final Path logPath;
+    private final Path compactingPath;
+    private final int compactionThreshold;
+    private final Supplier<List<Review>> currentReviews;
+    private final ExecutorService compactor;
+
+    // Lock order: compactionLock, then syncLock, then writeLock
+    private final Object compactionLock = new Object();
+    private final Object syncLock = new Object();
+    private final Object writeLock = new Object();
+
+    private FileChannel log;                // guarded by writeLock; not closed while syncLock is held
+    private long appended;                  // guarded by writeLock
+    private int loggedSinceCompaction;      // guarded by writeLock
+    private boolean compactionQueued;       // guarded by writeLock
+    private long synced;                    // guarded by syncLock
+
+    /**
+     * Replays the stored reviews and opens the log for appending.
+     * @param snapshotPath the json snapshot; the log files are kept next to it
+     * @param compactionThreshold reviews logged before a background compaction starts
+     * @param replay receives every stored review, oldest first; a later one replaces an earlier one
+     *               with the same review ID
+     * @param currentReviews all reviews in memory, read under the journal's write lock when
+     *                       compacting
+     * @throws IOException if the stored reviews cannot be read or the log cannot be opened
+     */
+    ReviewJournal(Path snapshotPath, int compactionThreshold, Consumer<Review> replay,
+                  Supplier<List<Review>> currentReviews) throws IOException {
+        this.snapshotPath = snapshotPath;
+        this.logPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".log");
+        this.compactingPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".log.compacting");
+        this.compactionThreshold = compactionThreshold;
+        this.currentReviews = currentReviews;
+
+        if (Files.exists(snapshotPath)) {
+            JSONArray reviewData = new JSONArray(Files.readString(snapshotPath));
+            for (int i = 0; i < reviewData.length(); i++) {
+                replay.accept(fromJson(reviewData.getJSONObject(i)));
+            }
+        }
+        int replayed = replayLog(compactingPath, replay) + replayLog(logPath, replay);
+
+        this.log = JsonLines.openForAppend(logPath);
+        this.loggedSinceCompaction = replayed;
+
+        this.compactor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "review-journal-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (replayed > 0) {
+            System.out.println("DEBUG ReviewJournal: Replayed " + replayed + " logged reviews");
+        }
+        if (replayed >= compactionThreshold || Files.exists(compactingPath)) {
+            scheduleCompaction();
+        }
+    }
+
+    /**
+     * Logs a review and returns once it is on disk. If the line cannot be written in full, the
+     * part written is discarded and the in-memory reviews are left unchanged.
+     * @param review the review to store
+     * @param apply updates the in-memory reviews; runs under the write lock so a compaction sees
+     *              either both the log line and the update or neither
+     * @throws IOException if the review cannot be written
+     */
+    void append(Review review, Runnable apply) throws IOException {
+        JSONObject json = toJson(review);
+        long sequence;
+        synchronized (writeLock) {
+            JsonLines.append(log, json);
+            apply.run();
+            sequence = ++appended;
+            if (++loggedSinceCompaction >= compactionThreshold && !compactionQueued) {
+                scheduleCompaction();
+            }
+        }
+        awaitSynced(sequence);
+    }
+
+    /**
+     * Group commit: whoever holds the sync lock syncs every line written so far, so writers queued
+     * behind it usually find their line already synced.
+     */
+    private void awaitSynced(long sequence) throws IOException {
+        synchronized (syncLock) {
+            if (synced >= sequence) {
+                return;
+            }
+            FileChannel channel;
+            long target;
+            synchronized (writeLock) {
+                channel = log;
+                target = appended;
+            }
+            channel.force(false);
+            synced = target;
+        }
+    }
+
+    /**
+     * Folds everything logged so far into a new snapshot and starts an empty log.
+     * @throws IOException if the snapshot cannot be written; the logs are then kept and replayed
+     */
+    void compact() throws IOException {
+        synchronized (compactionLock) {
+            List<Review> reviews;
+            synchronized (syncLock) {
+                synchronized (writeLock) {
+                    compactionQueued = false;
+                    if (loggedSinceCompaction == 0 && !Files.exists(compactingPath)) {
+                        return;
+                    }
+                    rotateLog();
+                    reviews = currentReviews.get();
+                    loggedSinceCompaction = 0;
+                }
+            }
+            writeSnapshot(reviews);
+            Files.deleteIfExists(compactingPath);
+            System.out.println("DEBUG ReviewJournal: Compacted " + reviews.size() + " reviews");
+        }
+    }
+
+    /**
+     * Moves the log's lines to the compacting file and opens an empty log. Every line written so
+     * far is synced first.
+     */
+    private void rotateLog() throws IOException {
+        log.force(false);
+        synced = appended;
+        log.close();
+        try {
+            if (Files.exists(compactingPath)) {
+                // An earlier compaction failed; keep its lines and add this log's after them
+                Files.write(compactingPath, Files.readAllBytes(logPath), StandardOpenOption.APPEND);
+                Files.delete(logPath);
+            } else {
+                Files.move(logPath, compactingPath, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } finally {
+            // Reopen even if the move failed, so reviews can still be added
+            log = JsonLines.openForAppend(logPath);
+        }
+    }
+
+    private void writeSnapshot(List<Review> reviews) throws IOException {
+        JsonLines.replaceAtomically(snapshotPath, writer -> {
+            writer.write("[");
+            for (int i = 0; i < reviews.size(); i++) {
+                writer.write(i == 0 ? "\n" : ",\n");
+                writer.write(toJson(reviews.get(i)).toString(2));
+            }
+            writer.write("\n]");
+        });
+    }
+
+    private void scheduleCompaction() {
+        compactionQueued = true;
+        compactor.execute(() -> {
+            try {
+                compact();
+            } catch (IOException e) {
+                System.err.println("WARNING ReviewJournal: Compaction failed, keeping the log: "
+                        + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Compacts and closes the log.
+     */
+    @Override
+    public void close() throws IOException {
+        compactor.shutdown();
+        try {
+            compactor.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        compact();
+        synchronized (writeLock) {
+            log.close();
+        }
+    }
+
+    private static int replayLog(Path path, Consumer<Review> replay) throws IOException {
+        return JsonLines.replay(path, json -> replay.accept(fromJson(json)), "ReviewJournal");
+    }
+
+    static JSONObject toJson(Review review) {
+        JSONObject json = new JSONObject();
+        json.put("reviewId", review.getReviewId());
+        json.put("authorId", review.getAuthorId());
+        json.put("restaurantId", review.getRestaurantId());
+        json.put("content", review.getContent());
+        json.put("creationDate", review.getCreationDate());
+        json.put("likes", review.getLikes());
+        return json;
+    }
+
+    static Review fromJson(JSONObject curObj) {
+        String reviewId = curObj.getString("reviewId");
+        String userId = curObj.getString("authorId");
+        String restaurantId = curObj.getString("restaurantId");
+        String content = curObj.getString("content");
+        int likes = curObj.getInt("likes");
+        String creationDate = curObj.getString("creationDate");
+        return new Review(reviewId, userId, restaurantId, content, creationDate, likes);
+    }
+}
@@ -0,0 +1,163 @@
+package data_access;
+
+import entity.User;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Thread-safe cache of users, bounded in size and in age. When full, the least recently used user
+ * is evicted; a user cached longer than the time to live counts as missing, so it is read again
+ * from the database and picks up changes made elsewhere.
+ *
+ * <p>Hits, misses and evictions are counted to size the cache.
+ */
+public class UserCache {
+
+    /** Users kept when no size is given. */
+    public static final int DEFAULT_MAX_SIZE = 10_000;
+    /** How long a user is served from the cache when no time to live is given. */
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(10);
+
+    /**
+     * A cached user and when it was cached.
+     */
+    private static final class Entry {
+        private final User user;
+        private final long cachedAt;
+
+        private Entry(User user, long cachedAt) {
+            this.user = user;
+            this.cachedAt = cachedAt;
+        }
+    }
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+
+    // guarded by itself; access order, so the eldest entry is the least recently used
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Cache with the default size and time to live.
+     */
+    public UserCache() {
+        this(DEFAULT_MAX_SIZE, DEFAULT_TTL);
+    }
+
+    /**
+     * @param maxSize most users kept
+     * @param ttl how long a user is served before it is read again
+     */
+    public UserCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, System::nanoTime);
+    }
+
+    /**
+     * @param maxSize most users kept
+     * @param ttl how long a user is served before it is read again
+     * @param nanoClock the current time in nanoseconds, like System.nanoTime
+     */
+    public UserCache(int maxSize, Duration ttl, LongSupplier nanoClock) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * @param uid the user's ID
+     * @return the cached user, or null if it is not cached or has expired
+     */
+    public User get(String uid) {
+        synchronized (entries) {
+            Entry entry = entries.get(uid);
+            if (entry != null && nanoClock.getAsLong() - entry.cachedAt >= ttlNanos) {
+                entries.remove(uid);
+                entry = null;
+            }
+            if (entry == null) {
+                misses.incrementAndGet();
+                return null;
+            }
+            hits.incrementAndGet();
+            return entry.user;
+        }
+    }
+
+    /**
+     * Caches a user, replacing any cached with the same ID and restarting its time to live.
+     * Evicts the least recently used users beyond the size bound.
+     *
+     * <p>A newer read of a user is cached as a new User rather than copied into the cached one:
+     * other threads may be reading that instance, and User is not thread-safe.
+     * @param user the user to cache
+     */
+    public void put(User user) {
+        synchronized (entries) {
+            entries.put(user.getUid(), new Entry(user, nanoClock.getAsLong()));
+            Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+            while (entries.size() > maxSize) {
+                eldest.next();
+                eldest.remove();
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Removes a user, e.g. after it is deleted.
+     * @param uid the user's ID
+     */
+    public void invalidate(String uid) {
+        synchronized (entries) {
+            entries.remove(uid);
+        }
+    }
+
+    /**
+     * @return how many users are cached, including expired ones not yet removed
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * @return lookups answered from the cache
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * @return lookups that found no user or an expired one
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * @return users removed to stay within the size bound
+     */
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    @Override
+    public String toString() {
+        return "UserCache{size=" + size() + ", hits=" + getHitCount() + ", misses=" + getMissCount()
+                + ", evictions=" + getEvictionCount() + "}";
+    }
+}
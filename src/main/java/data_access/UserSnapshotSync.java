@@ -0,0 +1,154 @@
+package data_access;
+
+import entity.User;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Keeps the logged-in user's cached User up to date from realtime snapshots of their document, so
+ * favorites changed on another device show up without polling or re-reading the user.
+ *
+ * <p>Snapshots arrive on Firestore's listener threads, so each one is cached as a new User rather
+ * than applied to the cached one, which the Swing thread may be reading; the next read of the user
+ * gets the new one. Favorite changes still waiting in the write-behind queue are applied on top, so
+ * a snapshot taken before they were written does not undo them.
+ */
+public class UserSnapshotSync {
+
+    /**
+     * Receives snapshots of one user's document.
+     */
+    public interface Listener {
+
+        /**
+         * @param uid the watched user
+         * @param user the user as now stored, or null if the document was deleted
+         */
+        void onSnapshot(String uid, User user);
+
+        /**
+         * Called when snapshots stop because of an error.
+         */
+        void onError(String uid, Exception error);
+    }
+
+    /**
+     * Stops a listener from receiving snapshots.
+     */
+    public interface Registration {
+        void remove();
+    }
+
+    /**
+     * Where snapshots come from: Firestore, or a fake in tests.
+     */
+    public interface Source {
+
+        /**
+         * Starts sending snapshots of a user's document to the listener, beginning with its
+         * current state.
+         */
+        Registration listen(String uid, Listener listener);
+    }
+
+    private final UserCache users;
+    private final Source source;
+    private final FavoritesWriteBehindQueue favoritesQueue;
+    private final Consumer<User> applied;
+
+    // guarded by this
+    private String watchedUid;
+    private Registration registration;
+
+    /**
+     * @param users the cache to keep up to date
+     * @param source where snapshots come from
+     * @param favoritesQueue favorite changes not written yet
+     */
+    public UserSnapshotSync(UserCache users, Source source, FavoritesWriteBehindQueue favoritesQueue) {
+        this(users, source, favoritesQueue, user -> { });
+    }
+
+    /**
+     * @param users the cache to keep up to date
+     * @param source where snapshots come from
+     * @param favoritesQueue favorite changes not written yet
+     * @param applied receives the user cached for each snapshot, e.g. to store it locally
+     */
+    public UserSnapshotSync(UserCache users, Source source, FavoritesWriteBehindQueue favoritesQueue,
+                            Consumer<User> applied) {
+        this.users = users;
+        this.source = source;
+        this.favoritesQueue = favoritesQueue;
+        this.applied = applied;
+    }
+
+    /**
+     * Watches a user, replacing the user watched before. Watching the same user again does nothing.
+     * @param uid the logged-in user's ID
+     */
+    public synchronized void watch(String uid) {
+        if (uid == null || uid.equals(watchedUid)) {
+            return;
+        }
+        stop();
+        System.out.println("DEBUG UserSnapshotSync: Watching user " + uid);
+        watchedUid = uid;
+        registration = source.listen(uid, new Listener() {
+            @Override
+            public void onSnapshot(String uid, User user) {
+                apply(uid, user);
+            }
+
+            @Override
+            public void onError(String uid, Exception error) {
+                System.err.println("WARNING UserSnapshotSync: Stopped watching user " + uid
+                        + ", cached copy will expire instead: " + error.getMessage());
+                stopWatching(uid);
+            }
+        });
+    }
+
+    /**
+     * Stops watching, e.g. on logout.
+     */
+    public synchronized void stop() {
+        if (registration != null) {
+            registration.remove();
+        }
+        registration = null;
+        watchedUid = null;
+    }
+
+    /**
+     * @return the watched user's ID, or null if none is watched
+     */
+    public synchronized String getWatchedUid() {
+        return watchedUid;
+    }
+
+    private synchronized void stopWatching(String uid) {
+        if (uid.equals(watchedUid)) {
+            stop();
+        }
+    }
+
+    private void apply(String uid, User snapshot) {
+        synchronized (this) {
+            if (!uid.equals(watchedUid)) {
+                // A late snapshot for a user no longer watched
+                return;
+            }
+        }
+        if (snapshot == null) {
+            users.invalidate(uid);
+            return;
+        }
+
+        List<String> favorites = favoritesQueue.withUnwrittenChanges(uid, snapshot.getFavoriteRestaurantIds());
+        User user = new User(uid, snapshot.getEmail(), snapshot.getNickname(), snapshot.getLanguage(), favorites);
+        // Restarts the time to live: the cached user is known to be current
+        users.put(user);
+        applied.accept(user);
+    }
+}
@@ -33,6 +33,14 @@ public class Restaurant {
     this.studentDiscount = builder.studentDiscount;
   }
 
+  /**
+   * For subclasses that supply every value by overriding the getters and setters, such as row
+   * views over columnar storage. All fields are left null.
+   */
+  protected Restaurant() {
+    this(new Builder());
+  }
+
   public String getId() {
     return id;
   }
@@ -1,5 +1,6 @@
 package entity;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import java.util.ArrayList;
 import java.util.List;
 import org.json.JSONArray;
@@ -64,4 +65,64 @@ public class RestaurantFactory {
         .build();
   }
 
+  /**
+   * Create restaurant object from a Jackson tree node holding a single place. Used by the streaming
+   * loader, which materializes one place at a time instead of the whole array.
+   *
+   * @param restaurant JsonNode containing restaurant data
+   * @return a restaurant obj created by calling restaurant builder
+   */
+  public Restaurant create(JsonNode restaurant) {
+
+    String id = restaurant.get("name").asText();
+    String name = restaurant.get("displayName").get("text").asText();
+    String address = restaurant.get("formattedAddress").asText();
+    String mapUri = restaurant.get("googleMapsLinks").get("placeUri").asText();
+    double latitude = restaurant.get("location").get("latitude").asDouble();
+    double longitude = restaurant.get("location").get("longitude").asDouble();
+    String type = restaurant.get("primaryTypeDisplayName").get("text").asText();
+    double rating = restaurant.get("rating").asDouble();
+    int ratingCount = restaurant.get("userRatingCount").asInt();
+    String phoneNumber = optText(restaurant, "nationalPhoneNumber");
+    String websiteUri = optText(restaurant, "websiteUri");
+
+    JsonNode jsonOpeningHours = restaurant.get("regularOpeningHours")
+        .get("weekdayDescriptions");
+
+    List<String> openingHours = new ArrayList<>(jsonOpeningHours.size());
+
+    for (JsonNode hours : jsonOpeningHours) {
+      openingHours.add(hours.asText());
+    }
+
+    List<String> photoIds = new ArrayList<>();
+
+    if (restaurant.has("photos")) {
+      for (JsonNode photo : restaurant.get("photos")) {
+        photoIds.add(photo.get("name").asText());
+      }
+    }
+
+    return new Restaurant.Builder()
+        .id(id)
+        .name(name)
+        .location(address, mapUri, latitude, longitude)
+        .type(type)
+        .rating(rating, ratingCount)
+        .contact(phoneNumber, websiteUri)
+        .openingHours(openingHours)
+        .studentDiscount(false, 0)
+        .photoIds(photoIds)
+        .build();
+  }
+
+  /**
+   * Jackson counterpart of JSONObject.optString: the text of a field, or an empty string when the
+   * field is missing, null or not text.
+   */
+  private static String optText(JsonNode node, String field) {
+    String text = node.path(field).textValue();
+    return text == null ? "" : text;
+  }
+
 }
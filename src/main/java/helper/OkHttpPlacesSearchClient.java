@@ -0,0 +1,65 @@
+package helper;
+
+import java.io.IOException;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import org.json.JSONObject;
+
+/**
+ * Places API Text Search over HTTP with okhttp3.
+ */
+public class OkHttpPlacesSearchClient implements PlacesSearchClient {
+
+  private static final String SEARCH_TEXT_URL = "https://places.googleapis.com/v1/places:searchText";
+  private static final String FIELD_MASK =
+      "places.name," +
+          "places.displayName," +
+          "places.primaryTypeDisplayName," +
+          "places.primaryType," +
+          "places.nationalPhoneNumber," +
+          "places.websiteUri," +
+          "places.formattedAddress," +
+          "places.location," +
+          "places.rating," +
+          "places.userRatingCount," +
+          "places.regularOpeningHours," +
+          "places.photos," +
+          "places.googleMapsLinks," +
+          "places.priceRange," +
+          "nextPageToken";
+
+  // clients are meant to be reused for better efficiency (as recommended by okhttp3), and one
+  // client is safe to share between the importer's worker threads
+  private final OkHttpClient client = new OkHttpClient();
+  private final String apiKey;
+
+  public OkHttpPlacesSearchClient(String apiKey) {
+    this.apiKey = apiKey;
+  }
+
+  @Override
+  public JSONObject searchText(JSONObject requestJson) throws IOException {
+    RequestBody body = RequestBody.create(requestJson.toString(),
+        MediaType.parse("application/json"));
+
+    Request request = new Request.Builder()
+        .url(SEARCH_TEXT_URL)
+        .addHeader("Content-Type", "application/json")
+        .addHeader("X-Goog-Api-Key", apiKey)
+        .addHeader("X-Goog-FieldMask", FIELD_MASK)
+        .post(body)
+        .build();
+
+    try (Response response = client.newCall(request).execute()) {
+      String responseBody = response.body() != null ? response.body().string() : "";
+      if (!response.isSuccessful()) {
+        // it is good practice to include response body in the api error message.
+        throw new PlacesApiException(response.code(), responseBody);
+      }
+      return new JSONObject(responseBody);
+    }
+  }
+}
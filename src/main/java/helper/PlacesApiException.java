@@ -0,0 +1,29 @@
+package helper;
+
+import java.io.IOException;
+
+/**
+ * Error status returned by the Places API.
+ */
+public class PlacesApiException extends IOException {
+
+  private static final long serialVersionUID = 1L;
+
+  private final int statusCode;
+
+  public PlacesApiException(int statusCode, String body) {
+    super("API error: " + statusCode + "-" + body);
+    this.statusCode = statusCode;
+  }
+
+  public int getStatusCode() {
+    return statusCode;
+  }
+
+  /**
+   * @return whether the same request may succeed later (rate limited or server error)
+   */
+  public boolean isRetryable() {
+    return statusCode == 429 || statusCode >= 500;
+  }
+}
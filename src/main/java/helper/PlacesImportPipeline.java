@@ -0,0 +1,314 @@
+package helper;
+
+import data_access.JsonLines;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * Runs many Places Text Search requests (different text queries or map tiles) concurrently, each
+ * following its own page tokens, and writes the deduplicated places to one restaurant json file.
+ *
+ * <p>Places are appended to a spool file next to the output as soon as each page arrives, and a
+ * checkpoint records every task's next page token after its page is on disk. If the import
+ * crashes or a task gives up, running the pipeline again with the same tasks and output resumes
+ * where it stopped: finished tasks are skipped, the others continue from their saved token, and
+ * places already spooled are not written twice. The output file is only written once every task
+ * has finished.
+ */
+public class PlacesImportPipeline {
+
+  /**
+   * One search to run to its last page.
+   */
+  public static class Task {
+
+    private final String key;
+    private final JSONObject request;
+
+    /**
+     * @param key     stable name of the task, used in the checkpoint
+     * @param request the searchText request body for the first page
+     */
+    public Task(String key, JSONObject request) {
+      this.key = key;
+      this.request = request;
+    }
+
+    public String getKey() {
+      return key;
+    }
+
+    public JSONObject getRequest() {
+      return request;
+    }
+  }
+
+  private static final long MAX_BACKOFF_MILLIS = 30_000;
+
+  private final PlacesSearchClient client;
+  private final int maxConcurrency;
+  private final int maxAttempts;
+  private final long initialBackoffMillis;
+
+  // Per-run state, guarded by this
+  private FileChannel spool;
+  private Set<String> seenPlaceIds;
+  private JSONObject checkpoint;
+  private Path checkpointPath;
+  private int placesWritten;
+  private int pagesFetched;
+
+  /**
+   * Pipeline with 5 attempts per request and a 1 second initial backoff.
+   *
+   * @param client         the Places API client
+   * @param maxConcurrency most requests in flight at once
+   */
+  public PlacesImportPipeline(PlacesSearchClient client, int maxConcurrency) {
+    this(client, maxConcurrency, 5, 1000);
+  }
+
+  /**
+   * @param client               the Places API client
+   * @param maxConcurrency       most requests in flight at once
+   * @param maxAttempts          tries per request before its task gives up
+   * @param initialBackoffMillis wait before the first retry; doubled on every further retry
+   */
+  public PlacesImportPipeline(PlacesSearchClient client, int maxConcurrency, int maxAttempts,
+      long initialBackoffMillis) {
+    this.client = client;
+    this.maxConcurrency = maxConcurrency;
+    this.maxAttempts = maxAttempts;
+    this.initialBackoffMillis = initialBackoffMillis;
+  }
+
+  /**
+   * @param output the restaurant json file being imported
+   * @return the spool file of places received so far
+   */
+  public static Path spoolPathFor(Path output) {
+    return output.resolveSibling(output.getFileName() + ".partial.jsonl");
+  }
+
+  /**
+   * @param output the restaurant json file being imported
+   * @return the checkpoint file of per-task page tokens
+   */
+  public static Path checkpointPathFor(Path output) {
+    return output.resolveSibling(output.getFileName() + ".checkpoint");
+  }
+
+  /**
+   * Run every task to its last page, then write the output file.
+   *
+   * @param tasks  the searches to run
+   * @param output the restaurant json file to write
+   * @return number of unique places in the output
+   * @throws IOException          if a task failed for good (rerun to resume) or a file cannot be
+   *                              written
+   * @throws InterruptedException if interrupted while waiting for the workers
+   */
+  public int run(List<Task> tasks, Path output) throws IOException, InterruptedException {
+    Path spoolPath = spoolPathFor(output);
+    openRun(spoolPath, checkpointPathFor(output));
+
+    List<Future<?>> futures = new ArrayList<>();
+    ExecutorService workers = Executors.newFixedThreadPool(maxConcurrency);
+    List<String> failures = new ArrayList<>();
+    try {
+      for (Task task : tasks) {
+        futures.add(workers.submit(() -> {
+          runTask(task);
+          return null;
+        }));
+      }
+      for (int i = 0; i < futures.size(); i++) {
+        try {
+          futures.get(i).get();
+        } catch (ExecutionException e) {
+          failures.add(tasks.get(i).getKey() + ": " + e.getCause().getMessage());
+        }
+      }
+    } finally {
+      workers.shutdownNow();
+      synchronized (this) {
+        spool.close();
+      }
+    }
+
+    System.out.println("DEBUG PlacesImportPipeline: " + pagesFetched + " pages fetched, "
+        + placesWritten + " new places spooled");
+    if (!failures.isEmpty()) {
+      throw new IOException(failures.size() + " of " + tasks.size()
+          + " searches failed; run again to resume. " + String.join("; ", failures));
+    }
+
+    int count = writeOutput(spoolPath, output);
+    Files.deleteIfExists(checkpointPath);
+    Files.deleteIfExists(spoolPath);
+    return count;
+  }
+
+  /**
+   * Load the checkpoint and the IDs of places already spooled by an earlier, unfinished run.
+   */
+  private synchronized void openRun(Path spoolPath, Path checkpointPath) throws IOException {
+    this.checkpointPath = checkpointPath;
+    this.checkpoint = Files.exists(checkpointPath)
+        ? new JSONObject(Files.readString(checkpointPath))
+        : new JSONObject();
+    this.seenPlaceIds = new HashSet<>();
+    this.placesWritten = 0;
+    this.pagesFetched = 0;
+
+    if (Files.exists(spoolPath)) {
+      readSpoolIds(spoolPath, seenPlaceIds);
+      System.out.println("DEBUG PlacesImportPipeline: Resuming with " + seenPlaceIds.size()
+          + " places and " + checkpoint.length() + " checkpointed searches");
+    }
+    // If a crash cut the last line short, the next place starts on a fresh line
+    this.spool = JsonLines.openForAppend(spoolPath);
+  }
+
+  private void runTask(Task task) throws IOException, InterruptedException {
+    String pageToken;
+    synchronized (this) {
+      JSONObject saved = checkpoint.optJSONObject(task.getKey());
+      if (saved != null && saved.optBoolean("done")) {
+        return;
+      }
+      pageToken = saved == null ? null : saved.optString("nextPageToken", null);
+    }
+
+    do {
+      JSONObject request = new JSONObject(task.getRequest().toString());
+      if (pageToken != null) {
+        request.put("pageToken", pageToken);
+      }
+      JSONObject response = fetchWithRetry(request);
+      pageToken = response.optString("nextPageToken", null);
+      if (pageToken != null && pageToken.isEmpty()) {
+        pageToken = null;
+      }
+      appendPage(task.getKey(), response.optJSONArray("places"), pageToken);
+    } while (pageToken != null);
+  }
+
+  /**
+   * Retry rate limits, server errors and network failures with exponential backoff and jitter.
+   */
+  private JSONObject fetchWithRetry(JSONObject request) throws IOException, InterruptedException {
+    for (int attempt = 1; ; attempt++) {
+      try {
+        return client.searchText(request);
+      } catch (PlacesApiException e) {
+        if (!e.isRetryable() || attempt >= maxAttempts) {
+          throw e;
+        }
+      } catch (IOException e) {
+        if (attempt >= maxAttempts) {
+          throw e;
+        }
+      }
+      long backoff = Math.min(MAX_BACKOFF_MILLIS, initialBackoffMillis << (attempt - 1));
+      Thread.sleep(backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1));
+    }
+  }
+
+  /**
+   * Spool the page's new places, then advance the task's checkpoint. The spool is synced before
+   * the checkpoint is written, so even a power loss never skips a page.
+   */
+  private synchronized void appendPage(String taskKey, JSONArray places, String nextPageToken)
+      throws IOException {
+    pagesFetched++;
+    if (places != null) {
+      for (int i = 0; i < places.length(); i++) {
+        JSONObject place = places.getJSONObject(i);
+        String id = place.optString("name");
+        if (!id.isEmpty() && seenPlaceIds.add(id)) {
+          JsonLines.append(spool, place);
+          placesWritten++;
+        }
+      }
+    }
+    spool.force(false);
+
+    JSONObject state = new JSONObject();
+    if (nextPageToken == null) {
+      state.put("done", true);
+    } else {
+      state.put("nextPageToken", nextPageToken);
+    }
+    checkpoint.put(taskKey, state);
+    JsonLines.replaceAtomically(checkpointPath, writer -> writer.write(checkpoint.toString()));
+  }
+
+  /**
+   * Streams the spool into the output json array, one place at a time, and moves it into place
+   * in one step so watchers never see a half-written file.
+   */
+  private static int writeOutput(Path spoolPath, Path output) throws IOException {
+    int[] count = {0};
+    JsonLines.replaceAtomically(output, writer -> {
+      try (BufferedReader reader = Files.newBufferedReader(spoolPath, StandardCharsets.UTF_8)) {
+        writer.write("[");
+        String line;
+        while ((line = reader.readLine()) != null) {
+          JSONObject place = parsePlace(line);
+          if (place == null) {
+            continue;
+          }
+          writer.write(count[0] == 0 ? "\n" : ",\n");
+          writer.write(place.toString(2));
+          count[0]++;
+        }
+        writer.write("\n]");
+      }
+    });
+    return count[0];
+  }
+
+  private static void readSpoolIds(Path spoolPath, Set<String> ids) throws IOException {
+    try (BufferedReader reader = Files.newBufferedReader(spoolPath, StandardCharsets.UTF_8)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        JSONObject place = parsePlace(line);
+        if (place != null) {
+          ids.add(place.getString("name"));
+        }
+      }
+    }
+  }
+
+  /**
+   * @return the place on a spool line, or null for a blank line or one cut short by a crash
+   */
+  private static JSONObject parsePlace(String line) {
+    if (line.isBlank()) {
+      return null;
+    }
+    try {
+      JSONObject place = new JSONObject(line);
+      return place.has("name") ? place : null;
+    } catch (JSONException e) {
+      return null;
+    }
+  }
+}
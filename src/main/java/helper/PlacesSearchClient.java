@@ -0,0 +1,21 @@
+package helper;
+
+import java.io.IOException;
+import org.json.JSONObject;
+
+/**
+ * Sends one Places API Text Search request. Implemented over HTTP by
+ * {@link OkHttpPlacesSearchClient}; tests can substitute an in-memory fake.
+ */
+public interface PlacesSearchClient {
+
+  /**
+   * Fetch one page of results.
+   *
+   * @param request the searchText request body, including pageToken for later pages
+   * @return the response body, with "places" and, if there are more pages, "nextPageToken"
+   * @throws PlacesApiException if the API answers with an error status
+   * @throws IOException        if the request cannot be sent or the response read
+   */
+  JSONObject searchText(JSONObject request) throws IOException;
+}
@@ -1,41 +1,30 @@
 package helper;
 
+import data_access.JsonRestaurantDataAccessObject;
+import data_access.RestaurantCatalog.LoadMode;
+import entity.RestaurantFactory;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.LinkedHashMap;
-import java.util.Map;
-import okhttp3.MediaType;
-import okhttp3.OkHttpClient;
-import okhttp3.Request;
-import okhttp3.RequestBody;
-import okhttp3.Response;
-import org.json.JSONArray;
+import java.util.ArrayList;
+import java.util.List;
 import org.json.JSONObject;
 
 /**
  * A helper that imports restaurant data from Google Place API and saves those data in a local json
  * file.
+ *
+ * <p>Usage: {@code RestaurantDataImporter [--grid N] [--concurrency N] [textQuery ...]}. Every text
+ * query (default: the one in places_request.json) is searched in each of the N x N tiles covering
+ * the request's location circle, all concurrently. An interrupted import resumes when run again on
+ * the same day with the same arguments.
  */
 public class RestaurantDataImporter {
 
-  // * static client because clients are meant to be reused for better efficiency (as recommended by okhttp3)
-
-  private static final OkHttpClient client = new OkHttpClient();
   private static final String request = "src/main/java/helper/places_request.json";
-  private static final JSONObject requestJSON;
-
-  static {
-    try {
-      requestJSON = new JSONObject(Files.readString(Path.of(request)));
-    } catch (IOException e) {
-      throw new RuntimeException(e);
-    }
-  }
-
-  // private static int test = 0;
+  private static final int DEFAULT_CONCURRENCY = 4;
 
   public static void main(String[] arg) throws Exception {
 
@@ -46,124 +35,112 @@ public class RestaurantDataImporter {
       throw new IllegalStateException("Missing environment variable: PLACES_API_TOKEN");
     }
 
-    // Map to keep track of unique places by ID (to avoid duplication across pages)
-    // LinkedHashMap is used instead of HasMap because regular HashMap would change the order data in JSON file
-    // which doesn't cause errors but would be a pain to read
-
-    final Map<String, JSONObject> placeById = new LinkedHashMap<>();
-
-    String nextPageToken = null;
-
-    do {
-
-      // ====================== Build request ======================
+    int grid = 1;
+    int concurrency = DEFAULT_CONCURRENCY;
+    List<String> queries = new ArrayList<>();
+    for (int i = 0; i < arg.length; i++) {
+      if (arg[i].equals("--grid")) {
+        grid = Integer.parseInt(arg[++i]);
+      } else if (arg[i].equals("--concurrency")) {
+        concurrency = Integer.parseInt(arg[++i]);
+      } else {
+        queries.add(arg[i]);
+      }
+    }
 
-      //read from the request json file and parse that request into request body
-      String jsonText = "";
+    JSONObject requestJSON = new JSONObject(Files.readString(Path.of(request)));
+    List<PlacesImportPipeline.Task> tasks = buildTasks(requestJSON, queries, grid);
 
-      // returns json formatted string
+    Path file = outputFile(Path.of("src", "main", "java", "data"));
+    PlacesImportPipeline pipeline = new PlacesImportPipeline(
+        new OkHttpPlacesSearchClient(apiKey), concurrency);
+    int count = pipeline.run(tasks, file);
+    System.out.println("Imported " + count + " places into " + file);
 
-      if (nextPageToken != null) {
-        requestJSON.put("pageToken", nextPageToken);
-      }
+    // Build the binary snapshot now so the first launch on this file skips json parsing
+    new JsonRestaurantDataAccessObject(file.toString(), new RestaurantFactory(), LoadMode.SNAPSHOT);
+  }
 
-      jsonText = requestJSON.toString();
-
-      RequestBody body = RequestBody.create(jsonText, MediaType.parse("application/json"));
-
-      final Request request = new Request.Builder()
-          .url("https://places.googleapis.com/v1/places:searchText")
-          .addHeader("Content-Type", "application/json")
-          .addHeader("X-Goog-Api-Key", apiKey)
-          .addHeader("X-Goog-FieldMask",
-              "places.name," +
-                  "places.displayName," +
-                  "places.primaryTypeDisplayName," +
-                  "places.primaryType," +
-                  "places.nationalPhoneNumber," +
-                  "places.websiteUri," +
-                  "places.formattedAddress," +
-                  "places.location," +
-                  "places.rating," +
-                  "places.userRatingCount," +
-                  "places.regularOpeningHours," +
-                  "places.photos," +
-                  "places.googleMapsLinks," +
-                  "places.priceRange," +
-                  "nextPageToken"
-          )
-          .post(body)
-          .build();
-
-      // ====================== Execute request ======================
-
-      try {
-        Response response = client.newCall(request).execute();
-        String responseBodyStr = response.body().string();
-        JSONObject responseBody = new JSONObject(responseBodyStr);
-        nextPageToken = responseBody.optString("nextPageToken", null);
-
-        if (!response.isSuccessful()) {
-
-          throw new RuntimeException("API error: " + response.code() + "-" +
-              (response.body() != null ? responseBodyStr : ""));
-
-          // <<<====>>> response.body() != null ? response.body().string() : "" <<<====>>>
-          // this line is a ternary operator, a short version of an if-else statement
-          // it means check if response body is null,
-          // if it is, run return response.body().string(),
-          // else, return ""
-          // it is good practice to include response body in the api error message.
-        }
-
-        JSONArray places = responseBody.getJSONArray("places");
-
-        if (places != null) {
-          for (int i = 0; i < places.length(); i++) {
-            JSONObject curPlace = places.getJSONObject(i);
-            String curId = curPlace.getString("name");
-            //test ++;
-            if (!placeById.containsKey(curId)) {
-//                            curPlace.put("rating", 0);
-//                            curPlace.put("userRatingCount", 0); // uncomment these when we want to implement our own rating system
-              placeById.put(curId, curPlace);
-            }
-          }
-        }
-      } catch (IllegalStateException e) {
-        throw new IllegalArgumentException(e);
+  /**
+   * One task per text query and tile. Keys only depend on the arguments, so a rerun with the same
+   * arguments finds its checkpoint.
+   */
+  static List<PlacesImportPipeline.Task> buildTasks(JSONObject baseRequest, List<String> queries,
+      int grid) {
+    List<String> textQueries = queries.isEmpty()
+        ? List.of(baseRequest.getString("textQuery"))
+        : queries;
+    List<JSONObject> tiles = tiles(baseRequest, grid);
+
+    List<PlacesImportPipeline.Task> tasks = new ArrayList<>();
+    for (int q = 0; q < textQueries.size(); q++) {
+      for (int t = 0; t < tiles.size(); t++) {
+        JSONObject taskRequest = new JSONObject(tiles.get(t).toString());
+        taskRequest.put("textQuery", textQueries.get(q));
+        tasks.add(new PlacesImportPipeline.Task(
+            "query" + q + "-tile" + t + ":" + textQueries.get(q), taskRequest));
       }
-    } while (nextPageToken != null);
-
-    JSONArray restaurants = new JSONArray(placeById.values());
+    }
+    return tasks;
+  }
 
-    LocalDate today = LocalDate.now();
-    DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd-yy");
+  /**
+   * Splits the request's location bias circle into grid x grid smaller circles that together
+   * cover the square around it, so each search returns places from a smaller area.
+   */
+  static List<JSONObject> tiles(JSONObject baseRequest, int grid) {
+    JSONObject circle = baseRequest.optJSONObject("locationBias") == null ? null
+        : baseRequest.getJSONObject("locationBias").optJSONObject("circle");
+    if (grid <= 1 || circle == null) {
+      return List.of(baseRequest);
+    }
 
-    String formatted = today.format(formatter);
+    double latitude = circle.getJSONObject("center").getDouble("latitude");
+    double longitude = circle.getJSONObject("center").getDouble("longitude");
+    double radius = circle.getDouble("radius");
+    double tileSide = 2 * radius / grid;
+    double metersPerDegreeLat = 111_320;
+    double metersPerDegreeLng = 111_320 * Math.cos(Math.toRadians(latitude));
+
+    List<JSONObject> tiles = new ArrayList<>();
+    for (int row = 0; row < grid; row++) {
+      for (int column = 0; column < grid; column++) {
+        double north = -radius + (row + 0.5) * tileSide;
+        double east = -radius + (column + 0.5) * tileSide;
+        JSONObject tile = new JSONObject(baseRequest.toString());
+        JSONObject tileCircle = tile.getJSONObject("locationBias").getJSONObject("circle");
+        tileCircle.getJSONObject("center")
+            .put("latitude", latitude + north / metersPerDegreeLat)
+            .put("longitude", longitude + east / metersPerDegreeLng);
+        // Circle through the tile's corners
+        tileCircle.put("radius", tileSide * Math.sqrt(2) / 2);
+        tiles.add(tile);
+      }
+    }
+    return tiles;
+  }
 
-    Path folder = Path.of("src", "main", "java", "data");
+  /**
+   * Today's dated export file, without overwriting a pre-existing file. The output is only
+   * written once an import finishes, so an interrupted import from today left its spool next to
+   * this same first free name and resumes into it.
+   */
+  private static Path outputFile(Path folder) throws IOException {
     Files.createDirectories(folder);               // create if missing
 
-    // Version control (create new file with date without overwriting pre-existing file
-    int counter = 1;
+    String formatted = LocalDate.now().format(DateTimeFormatter.ofPattern("MM-dd-yy"));
     String baseName = "restaurant";
     String extension = ".json";
 
+    int counter = 1;
     Path file = folder.resolve(baseName + "_" + formatted + extension);
-
     while (Files.exists(file)) {
       file = folder.resolve(baseName + "_" + formatted + "(" + counter + ")" + extension);
       counter++;
     }
-
-    Files.writeString(file, restaurants.toString(2));
-
-//        for(int i = 0; i < restaurants.length();i++){
-//            String name = restaurants.getJSONObject(i).getJSONObject("displayName").getString("text");
-//            System.out.println(name);
-//        }
-//        System.out.print(test);
-
+    if (Files.exists(PlacesImportPipeline.spoolPathFor(file))) {
+      System.out.println("DEBUG RestaurantDataImporter: Resuming unfinished import of " + file);
+    }
+    return file;
   }
 }
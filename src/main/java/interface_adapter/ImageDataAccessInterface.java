@@ -4,10 +4,35 @@ import java.awt.image.BufferedImage;
 
 public interface ImageDataAccessInterface {
 
+  /** Size of the photo on a restaurant card. */
+  int CARD_THUMBNAIL_WIDTH = 280;
+  int CARD_THUMBNAIL_HEIGHT = 140;
+
   /**
    * Fetch restaurant image from source
    *
    * @return image from source
    */
   BufferedImage fetchRestaurantImage(String photoId, String api_key);
+
+  /**
+   * Fetch restaurant image from source, no wider than needed
+   *
+   * @param maxWidthPx the widest the image will be shown
+   * @return image from source, at most maxWidthPx wide if the source can scale it
+   */
+  default BufferedImage fetchRestaurantImage(String photoId, String api_key, int maxWidthPx) {
+    return fetchRestaurantImage(photoId, api_key);
+  }
+
+  /**
+   * Fetch restaurant image scaled to fill a fixed size, e.g. a restaurant card
+   *
+   * @return image exactly width by height if the source can scale it, cropped rather than
+   *     stretched
+   */
+  default BufferedImage fetchRestaurantThumbnail(String photoId, String api_key, int width,
+      int height) {
+    return fetchRestaurantImage(photoId, api_key, width);
+  }
 }
@@ -0,0 +1,91 @@
+package interface_adapter;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.imageio.ImageIO;
+
+/**
+ * Images bundled with the app, each decoded once and shared. Decoding placeholder.png takes a
+ * large share of a second, so reading it again for every card that has no photo made grids slow
+ * and filled the heap with identical bitmaps.
+ *
+ * <p>Images are decoded on first use, or up front with {@link #preloadInBackground()}. Scaled
+ * variants are made once per size. The images handed out are shared: draw them, never draw on
+ * them.
+ */
+public final class ImageResources {
+
+  public static final String PLACEHOLDER = "/images/placeholder.png";
+  public static final String NO_IMAGE = "/images/no_image.png";
+
+  private static final Map<String, BufferedImage> decoded = new ConcurrentHashMap<>();
+  private static final Map<String, BufferedImage> scaled = new ConcurrentHashMap<>();
+
+  private ImageResources() {
+  }
+
+  /**
+   * @param path the image's resource path, e.g. {@link #PLACEHOLDER}
+   * @return the shared image, or a plain placeholder if it cannot be read
+   */
+  public static BufferedImage get(String path) {
+    return decoded.computeIfAbsent(path, ImageResources::read);
+  }
+
+  /**
+   * @param path the image's resource path
+   * @return the shared image scaled to cover width by height, cropped rather than stretched
+   */
+  public static BufferedImage get(String path, int width, int height) {
+    return scaled.computeIfAbsent(path + "@" + width + "x" + height,
+        key -> ImageScaling.scaleToFill(get(path), width, height));
+  }
+
+  /**
+   * @param path the image's resource path
+   * @return the shared image scaled to a width, keeping its aspect ratio
+   */
+  public static BufferedImage getAtWidth(String path, int width) {
+    return scaled.computeIfAbsent(path + "@" + width,
+        key -> ImageScaling.scaleToWidth(get(path), width));
+  }
+
+  /**
+   * Decodes the images views show first on a background thread, so the first grid does not wait
+   * for them.
+   */
+  public static void preloadInBackground() {
+    Thread preload = new Thread(() -> {
+      get(PLACEHOLDER, ImageDataAccessInterface.CARD_THUMBNAIL_WIDTH,
+          ImageDataAccessInterface.CARD_THUMBNAIL_HEIGHT);
+      get(NO_IMAGE);
+    }, "image-resources-preload");
+    preload.setDaemon(true);
+    preload.start();
+  }
+
+  private static BufferedImage read(String path) {
+    long start = System.nanoTime();
+    try (InputStream in = ImageResources.class.getResourceAsStream(path)) {
+      BufferedImage image = in == null ? null : ImageIO.read(in);
+      if (image != null) {
+        System.out.println("DEBUG ImageResources: Decoded " + path + " in "
+            + (System.nanoTime() - start) / 1_000_000 + " ms");
+        return image;
+      }
+    } catch (Exception e) {
+      System.err.println("WARNING ImageResources: Cannot read " + path + ": " + e.getMessage());
+    }
+    // Return a simple colored placeholder
+    BufferedImage placeholder = new BufferedImage(280, 140, BufferedImage.TYPE_INT_RGB);
+    Graphics2D g2d = placeholder.createGraphics();
+    g2d.setColor(new Color(255, 220, 220));
+    g2d.fillRect(0, 0, 280, 140);
+    g2d.dispose();
+    return placeholder;
+  }
+}
@@ -0,0 +1,60 @@
+package interface_adapter;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+
+/**
+ * Image scaling with Graphics2D bilinear interpolation, much faster than Image.SCALE_SMOOTH and
+ * good enough for the small changes in size the views need.
+ */
+public final class ImageScaling {
+
+  private ImageScaling() {
+  }
+
+  /**
+   * Scales an image to cover width by height, cropping what overflows rather than stretching.
+   *
+   * @return a new image exactly width by height
+   */
+  public static BufferedImage scaleToFill(BufferedImage image, int width, int height) {
+    double scale = Math.max((double) width / image.getWidth(), (double) height / image.getHeight());
+    int scaledWidth = (int) Math.ceil(image.getWidth() * scale);
+    int scaledHeight = (int) Math.ceil(image.getHeight() * scale);
+    return draw(image, width, height, (width - scaledWidth) / 2, (height - scaledHeight) / 2,
+        scaledWidth, scaledHeight);
+  }
+
+  /**
+   * Scales an image to a width, keeping its aspect ratio.
+   *
+   * @return the image itself if it already has that width, otherwise a new image
+   */
+  public static BufferedImage scaleToWidth(BufferedImage image, int width) {
+    if (image.getWidth() == width) {
+      return image;
+    }
+    int height = heightAtWidth(image, width);
+    return draw(image, width, height, 0, 0, width, height);
+  }
+
+  /**
+   * @return the image's height when scaled to a width, without scaling it
+   */
+  public static int heightAtWidth(BufferedImage image, int width) {
+    return (int) Math.round((double) image.getHeight() * width / image.getWidth());
+  }
+
+  private static BufferedImage draw(BufferedImage image, int width, int height, int x, int y,
+      int drawnWidth, int drawnHeight) {
+    BufferedImage scaled = new BufferedImage(width, height,
+        image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+    Graphics2D g2d = scaled.createGraphics();
+    g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+        RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+    g2d.drawImage(image, x, y, drawnWidth, drawnHeight, null);
+    g2d.dispose();
+    return scaled;
+  }
+}
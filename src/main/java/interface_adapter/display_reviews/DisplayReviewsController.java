@@ -2,6 +2,7 @@ package interface_adapter.display_reviews;
 
 import use_case.display_reviews.DisplayReviewsInputBoundary;
 import use_case.display_reviews.DisplayReviewsInputData;
+import use_case.display_reviews.ReviewOrder;
 
 public class DisplayReviewsController {
 
@@ -11,8 +12,26 @@ public class DisplayReviewsController {
     this.displayReviewsInteractor = displayReviewsInteractor;
   }
 
+  /**
+   * Display the first page of a restaurant's reviews.
+   *
+   * @param restaurantId the restaurant's ID
+   */
   public void execute(String restaurantId) {
     final DisplayReviewsInputData inputData = new DisplayReviewsInputData(restaurantId);
     displayReviewsInteractor.execute(inputData);
   }
+
+  /**
+   * Append the next page of a restaurant's reviews.
+   *
+   * @param restaurantId the restaurant's ID
+   * @param order        the order of the page already displayed
+   * @param cursor       the next cursor of the page already displayed
+   */
+  public void loadMore(String restaurantId, ReviewOrder order, String cursor) {
+    final DisplayReviewsInputData inputData = new DisplayReviewsInputData(restaurantId,
+        order, cursor, DisplayReviewsInputData.DEFAULT_PAGE_SIZE);
+    displayReviewsInteractor.execute(inputData);
+  }
 }
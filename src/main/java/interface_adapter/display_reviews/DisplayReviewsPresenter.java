@@ -1,9 +1,9 @@
 package interface_adapter.display_reviews;
 
 import java.util.ArrayList;
-import java.util.List;
 import use_case.display_reviews.DisplayReviewsOutputBoundary;
 import use_case.display_reviews.DisplayReviewsOutputData;
+import use_case.display_reviews.DisplayReviewsPageOutputData;
 
 public class DisplayReviewsPresenter implements DisplayReviewsOutputBoundary {
 
@@ -14,10 +14,18 @@ public class DisplayReviewsPresenter implements DisplayReviewsOutputBoundary {
   }
 
   @Override
-  public void prepareSuccessView(List<DisplayReviewsOutputData> displayReviewsOutputDataList) {
-    ArrayList<DisplayReviewsState> newStates = new ArrayList<>();
-
-    for (DisplayReviewsOutputData data : displayReviewsOutputDataList) {
+  public void prepareSuccessView(DisplayReviewsPageOutputData page) {
+    DisplayReviewsStateList previous = displayReviewsViewModel.getState();
+    // A later page is appended to the reviews already shown for the same restaurant and order
+    boolean append = !page.isFirstPage()
+        && page.getRestaurantId().equals(previous.getRestaurantId())
+        && page.getOrder() == previous.getOrder();
+    ArrayList<DisplayReviewsState> newStates = append
+        ? new ArrayList<>(previous.getDisplayReviewsStateList())
+        : new ArrayList<>();
+    int firstNewIndex = newStates.size();
+
+    for (DisplayReviewsOutputData data : page.getReviews()) {
       DisplayReviewsState state = new DisplayReviewsState();
 
       state.setAuthorDisplayName(data.getAuthorDisplayName());
@@ -29,6 +37,10 @@ public class DisplayReviewsPresenter implements DisplayReviewsOutputBoundary {
 
     DisplayReviewsStateList displayReviewsStateList = new DisplayReviewsStateList();
     displayReviewsStateList.setDisplayReviewsStateList(newStates);
+    displayReviewsStateList.setRestaurantId(page.getRestaurantId());
+    displayReviewsStateList.setOrder(page.getOrder());
+    displayReviewsStateList.setNextCursor(page.getNextCursor());
+    displayReviewsStateList.setFirstNewIndex(firstNewIndex);
 
     displayReviewsViewModel.setState(displayReviewsStateList);
     displayReviewsViewModel.firePropertyChange("display reviews");
@@ -37,6 +49,7 @@ public class DisplayReviewsPresenter implements DisplayReviewsOutputBoundary {
   @Override
   public void prepareFailView(String errorMessage) {
     displayReviewsViewModel.getState().setErrorMessage(errorMessage);
+    displayReviewsViewModel.firePropertyChange("display reviews error");
   }
 
 
@@ -2,11 +2,16 @@ package interface_adapter.display_reviews;
 
 import java.util.ArrayList;
 import java.util.List;
+import use_case.display_reviews.ReviewOrder;
 
 public class DisplayReviewsStateList {
 
   List<DisplayReviewsState> displayReviewsStateList = new ArrayList<DisplayReviewsState>();
   private String errorMessage;
+  private String restaurantId;
+  private ReviewOrder order;
+  private String nextCursor;
+  private int firstNewIndex;
 
   public DisplayReviewsStateList() {
   }
@@ -26,4 +31,45 @@ public class DisplayReviewsStateList {
   public void setErrorMessage(String errorMessage) {
     this.errorMessage = errorMessage;
   }
+
+  public String getRestaurantId() {
+    return restaurantId;
+  }
+
+  public void setRestaurantId(String restaurantId) {
+    this.restaurantId = restaurantId;
+  }
+
+  /**
+   * @return the order the shown reviews are listed in; later pages must use the same one
+   */
+  public ReviewOrder getOrder() {
+    return order;
+  }
+
+  public void setOrder(ReviewOrder order) {
+    this.order = order;
+  }
+
+  /**
+   * @return cursor for loading the next page, or null once every review is loaded
+   */
+  public String getNextCursor() {
+    return nextCursor;
+  }
+
+  public void setNextCursor(String nextCursor) {
+    this.nextCursor = nextCursor;
+  }
+
+  /**
+   * @return index of the first review added by the latest page; 0 when the list was replaced
+   */
+  public int getFirstNewIndex() {
+    return firstNewIndex;
+  }
+
+  public void setFirstNewIndex(int firstNewIndex) {
+    this.firstNewIndex = firstNewIndex;
+  }
 }
@@ -1,17 +1,15 @@
 package interface_adapter.favorites;
 
 import interface_adapter.ImageDataAccessInterface;
+import interface_adapter.ImageResources;
 import use_case.favorites.get_favorites.GetFavoritesOutputBoundary;
 import use_case.favorites.get_favorites.GetFavoritesOutputData;
 import use_case.favorites.get_favorites.GetFavoritesInputBoundary;
 import use_case.favorites.get_favorites.GetFavoritesInputData;
 
-import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 import use_case.favorites.remove_favorite.RemoveFavoriteOutputBoundary;
 import use_case.favorites.remove_favorite.RemoveFavoriteOutputData;
 
@@ -49,9 +47,11 @@ public class FavoritesPresenter implements GetFavoritesOutputBoundary, RemoveFav
             if (restaurantData.getPhotoIds() != null && !restaurantData.getPhotoIds().isEmpty()) {
                 if (apiKey != null) {
                     try {
-                        photo = imageDataAccess.fetchRestaurantImage(
+                        photo = imageDataAccess.fetchRestaurantThumbnail(
                                 restaurantData.getPhotoIds().get(0),
-                                apiKey
+                                apiKey,
+                                ImageDataAccessInterface.CARD_THUMBNAIL_WIDTH,
+                                ImageDataAccessInterface.CARD_THUMBNAIL_HEIGHT
                         );
                     } catch (Exception e) {
                         System.err.println("Failed to fetch image for restaurant: " + restaurantData.getName());
@@ -62,14 +62,9 @@ public class FavoritesPresenter implements GetFavoritesOutputBoundary, RemoveFav
 
             // If no photo was fetched, use placeholder
             if (photo == null) {
-                try {
-                    photo = ImageIO.read(Objects.requireNonNull(
-                            getClass().getResource("/images/placeholder.png")
-                    ));
-                } catch (IOException e) {
-                    System.err.println("Failed to load placeholder image");
-                    e.printStackTrace();
-                }
+                photo = ImageResources.get(ImageResources.PLACEHOLDER,
+                        ImageDataAccessInterface.CARD_THUMBNAIL_WIDTH,
+                        ImageDataAccessInterface.CARD_THUMBNAIL_HEIGHT);
             }
 
             final FavoritesState.RestaurantDisplayData displayData =
@@ -2,6 +2,7 @@ package interface_adapter.filter;
 
 import use_case.filter.FilterInputBoundary;
 import use_case.filter.FilterInputData;
+import use_case.nearby_restaurants.DistanceBound;
 
 /**
  * Controller for the filter use case.
@@ -24,6 +25,16 @@ public class FilterController {
     filterInteractor.execute(inputData);
   }
 
+  /**
+   * Execute the filter use case, keeping only restaurants within a distance bound.
+   *
+   * @param restaurantType the type of restaurant to filter by
+   * @param distanceBound  the location and radius, or null for no restriction
+   */
+  public void execute(String restaurantType, DistanceBound distanceBound) {
+    filterInteractor.execute(new FilterInputData(restaurantType, distanceBound));
+  }
+
   /**
    * Get all available restaurant types.
    *
@@ -2,6 +2,7 @@ package interface_adapter.list_search;
 
 import use_case.list_search.ListSearchInputBoundary;
 import use_case.list_search.ListSearchInputData;
+import use_case.nearby_restaurants.DistanceBound;
 
 /**
  * Controller for the ListSearch use case. Receives search queries from the UI and passes them to
@@ -21,9 +22,33 @@ public class ListSearchController {
    * @param query the text typed in the search bar
    */
   public void search(String query) {
+    search(query, false);
+  }
+
+  /**
+   * Trigger a search, optionally matching substrings and misspellings of the name, type or
+   * address instead of only name prefixes.
+   *
+   * @param query the text typed in the search bar
+   * @param fuzzy whether to use typo-tolerant matching
+   */
+  public void search(String query, boolean fuzzy) {
+    search(query, fuzzy, null);
+  }
+
+  /**
+   * Trigger a search restricted to restaurants within a distance of a location.
+   *
+   * @param query         the text typed in the search bar
+   * @param fuzzy         whether to use typo-tolerant matching
+   * @param distanceBound the location and radius, or null for no restriction
+   */
+  public void search(String query, boolean fuzzy, DistanceBound distanceBound) {
     if (query == null) {
       query = "";
     }
-    interactor.search(new ListSearchInputData(query));
+    ListSearchInputData.Mode mode = fuzzy ? ListSearchInputData.Mode.FUZZY
+        : ListSearchInputData.Mode.PREFIX;
+    interactor.search(new ListSearchInputData(query, mode, distanceBound));
   }
 }
\ No newline at end of file
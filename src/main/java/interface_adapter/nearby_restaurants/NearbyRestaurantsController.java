@@ -0,0 +1,39 @@
+package interface_adapter.nearby_restaurants;
+
+import use_case.nearby_restaurants.NearbyRestaurantsInputBoundary;
+import use_case.nearby_restaurants.NearbyRestaurantsInputData;
+
+/**
+ * Controller for the nearby restaurants use case.
+ */
+public class NearbyRestaurantsController {
+
+  private final NearbyRestaurantsInputBoundary interactor;
+
+  public NearbyRestaurantsController(NearbyRestaurantsInputBoundary interactor) {
+    this.interactor = interactor;
+  }
+
+  /**
+   * Find the closest restaurants to a location.
+   *
+   * @param latitude  latitude in degrees
+   * @param longitude longitude in degrees
+   * @param limit     number of restaurants to show
+   */
+  public void findNearest(double latitude, double longitude, int limit) {
+    interactor.execute(new NearbyRestaurantsInputData(latitude, longitude, limit));
+  }
+
+  /**
+   * Find the closest restaurants to a location within a radius.
+   *
+   * @param latitude     latitude in degrees
+   * @param longitude    longitude in degrees
+   * @param limit        maximum number of restaurants, or 0 for all within the radius
+   * @param radiusMeters maximum distance in meters
+   */
+  public void findWithin(double latitude, double longitude, int limit, double radiusMeters) {
+    interactor.execute(new NearbyRestaurantsInputData(latitude, longitude, limit, radiusMeters));
+  }
+}
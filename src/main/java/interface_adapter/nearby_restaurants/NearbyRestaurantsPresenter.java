@@ -0,0 +1,54 @@
+package interface_adapter.nearby_restaurants;
+
+import entity.Restaurant;
+import java.util.ArrayList;
+import java.util.List;
+import use_case.nearby_restaurants.NearbyRestaurant;
+import use_case.nearby_restaurants.NearbyRestaurantsOutputBoundary;
+import use_case.nearby_restaurants.NearbyRestaurantsOutputData;
+import view.RestaurantPanel;
+
+/**
+ * Presenter for the nearby restaurants use case.
+ */
+public class NearbyRestaurantsPresenter implements NearbyRestaurantsOutputBoundary {
+
+  private final NearbyRestaurantsViewModel viewModel;
+
+  public NearbyRestaurantsPresenter(NearbyRestaurantsViewModel viewModel) {
+    this.viewModel = viewModel;
+  }
+
+  @Override
+  public void presentNearby(NearbyRestaurantsOutputData outputData) {
+    List<RestaurantPanel.RestaurantDisplayData> displayDataList = new ArrayList<>();
+    List<Double> distances = new ArrayList<>();
+    for (NearbyRestaurant nearby : outputData.getRestaurants()) {
+      Restaurant restaurant = nearby.getRestaurant();
+      displayDataList.add(new RestaurantPanel.RestaurantDisplayData(
+          restaurant.getId(),
+          restaurant.getName(),
+          restaurant.getType(),
+          restaurant.getRating(),
+          restaurant.hasStudentDiscount(),
+          restaurant.getDiscountValue()
+      ));
+      distances.add(nearby.getDistanceMeters());
+    }
+
+    NearbyRestaurantsState state = viewModel.getState();
+    state.setRestaurants(displayDataList);
+    state.setDistancesMeters(distances);
+    state.setErrorMessage(null);
+    viewModel.setState(state);
+    viewModel.firePropertyChanged();
+  }
+
+  @Override
+  public void presentError(String error) {
+    NearbyRestaurantsState state = viewModel.getState();
+    state.setErrorMessage(error);
+    viewModel.setState(state);
+    viewModel.firePropertyChanged();
+  }
+}
@@ -0,0 +1,40 @@
+package interface_adapter.nearby_restaurants;
+
+import java.util.ArrayList;
+import java.util.List;
+import view.RestaurantPanel;
+
+/**
+ * State for the nearby restaurants view model: the restaurants found, nearest first, with their
+ * distances in the same order.
+ */
+public class NearbyRestaurantsState {
+
+  private List<RestaurantPanel.RestaurantDisplayData> restaurants = new ArrayList<>();
+  private List<Double> distancesMeters = new ArrayList<>();
+  private String errorMessage = null;
+
+  public List<RestaurantPanel.RestaurantDisplayData> getRestaurants() {
+    return restaurants;
+  }
+
+  public void setRestaurants(List<RestaurantPanel.RestaurantDisplayData> restaurants) {
+    this.restaurants = restaurants;
+  }
+
+  public List<Double> getDistancesMeters() {
+    return distancesMeters;
+  }
+
+  public void setDistancesMeters(List<Double> distancesMeters) {
+    this.distancesMeters = distancesMeters;
+  }
+
+  public String getErrorMessage() {
+    return errorMessage;
+  }
+
+  public void setErrorMessage(String errorMessage) {
+    this.errorMessage = errorMessage;
+  }
+}
@@ -0,0 +1,34 @@
+package interface_adapter.nearby_restaurants;
+
+import java.beans.PropertyChangeListener;
+import java.beans.PropertyChangeSupport;
+
+/**
+ * Observable view model for the nearby restaurants use case.
+ */
+public class NearbyRestaurantsViewModel {
+
+  public static final String STATE_PROPERTY = "state";
+
+  private final PropertyChangeSupport support = new PropertyChangeSupport(this);
+  private NearbyRestaurantsState state = new NearbyRestaurantsState();
+
+  public NearbyRestaurantsState getState() {
+    return state;
+  }
+
+  public void setState(NearbyRestaurantsState state) {
+    this.state = state;
+  }
+
+  /**
+   * Fires a property change to let the View know the State has changed.
+   */
+  public void firePropertyChanged() {
+    support.firePropertyChange(STATE_PROPERTY, null, this.state);
+  }
+
+  public void addPropertyChangeListener(PropertyChangeListener listener) {
+    support.addPropertyChangeListener(listener);
+  }
+}
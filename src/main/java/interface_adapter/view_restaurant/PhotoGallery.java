@@ -0,0 +1,178 @@
+package interface_adapter.view_restaurant;
+
+import interface_adapter.ImageDataAccessInterface;
+import interface_adapter.ImageResources;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Loads a restaurant's photos in the background, so the restaurant page shows at once with
+ * placeholders. The first photo is fetched on its own, so nothing competes with it; the others are
+ * fetched when shown, together with the few after them, so paging through the gallery rarely
+ * waits.
+ *
+ * <p>Each loaded photo is put into the view model's state. "restaurant photos" is announced when
+ * another photo is shown or the shown one arrives, not for photos loaded ahead of time.
+ * The times to the first photo and to the whole gallery are logged for every restaurant.
+ *
+ * <p>{@link #open} and {@link #show} are called on the callback thread, the Swing thread in the
+ * app.
+ */
+public class PhotoGallery {
+
+  /** Photos after the shown one fetched ahead of time. */
+  public static final int PREFETCH_AHEAD = 2;
+
+  private static final int THREADS = 2;
+
+  private final ViewRestaurantViewModel viewModel;
+  private final ImageDataAccessInterface imageDataAccess;
+  private final Executor callbackExecutor;
+  private final ExecutorService fetches;
+
+  // confined to the callback thread
+  private ViewRestaurantState openedState;
+  private List<String> photoIds = new ArrayList<>();
+  private String apiKey;
+  private final Set<Integer> requested = new HashSet<>();
+  private final List<Future<?>> pending = new ArrayList<>();
+  private int loadedCount;
+  private long openedNanos;
+  private long heroPhotoMillis = -1;
+  private long fullGalleryMillis = -1;
+
+  /**
+   * @param viewModel the view model whose state receives the photos
+   * @param imageDataAccess where photos are fetched from
+   * @param callbackExecutor where loaded photos are put into the state and announced
+   */
+  public PhotoGallery(ViewRestaurantViewModel viewModel, ImageDataAccessInterface imageDataAccess,
+      Executor callbackExecutor) {
+    this.viewModel = viewModel;
+    this.imageDataAccess = imageDataAccess;
+    this.callbackExecutor = callbackExecutor;
+    AtomicInteger threadNumber = new AtomicInteger();
+    this.fetches = Executors.newFixedThreadPool(THREADS, runnable -> {
+      Thread thread = new Thread(runnable, "photo-gallery-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * Starts loading the photos of the restaurant in the state just published, dropping fetches for
+   * the restaurant shown before. The state's photos must hold one entry per photo ID, null until
+   * loaded.
+   *
+   * @param state the state just published
+   * @param photoIds the restaurant's photos, in order
+   * @param apiKey the Places API key
+   */
+  public void open(ViewRestaurantState state, List<String> photoIds, String apiKey) {
+    for (Future<?> fetch : pending) {
+      fetch.cancel(false);
+    }
+    pending.clear();
+    requested.clear();
+    this.openedState = state;
+    this.photoIds = new ArrayList<>(photoIds);
+    this.apiKey = apiKey;
+    loadedCount = 0;
+    openedNanos = System.nanoTime();
+    heroPhotoMillis = -1;
+    fullGalleryMillis = -1;
+    show(0);
+  }
+
+  /**
+   * Shows a photo, fetching it if needed and the photos after it ahead of time.
+   *
+   * @param index the photo's position; wraps around at either end
+   */
+  public void show(int index) {
+    if (openedState == null || photoIds.isEmpty() || openedState != viewModel.getState()) {
+      return;
+    }
+    int shown = Math.floorMod(index, photoIds.size());
+    openedState.setPhotoIndex(shown);
+    viewModel.firePropertyChange("restaurant photos");
+
+    fetch(shown);
+    if (heroPhotoMillis >= 0) {
+      prefetchAfter(shown);
+    }
+  }
+
+  /**
+   * @return milliseconds from opening the last restaurant to its first photo, or -1 if not loaded
+   */
+  public long getHeroPhotoMillis() {
+    return heroPhotoMillis;
+  }
+
+  /**
+   * @return milliseconds from opening the last restaurant to all of its photos, or -1 if some are
+   *     not loaded
+   */
+  public long getFullGalleryMillis() {
+    return fullGalleryMillis;
+  }
+
+  private void prefetchAfter(int shown) {
+    for (int ahead = 1; ahead <= PREFETCH_AHEAD && ahead < photoIds.size(); ahead++) {
+      fetch((shown + ahead) % photoIds.size());
+    }
+  }
+
+  private void fetch(int index) {
+    if (!requested.add(index)) {
+      return;
+    }
+    ViewRestaurantState state = openedState;
+    String photoId = photoIds.get(index);
+    String key = apiKey;
+    pending.add(fetches.submit(() -> {
+      BufferedImage photo = null;
+      try {
+        photo = imageDataAccess.fetchRestaurantImage(photoId, key, ViewRestaurantViewModel.PHOTO_WIDTH);
+      } catch (RuntimeException e) {
+        System.err.println("Failed to fetch photo " + photoId + ": " + e.getMessage());
+      }
+      BufferedImage loaded = photo;
+      callbackExecutor.execute(() -> deliver(state, index, loaded));
+    }));
+  }
+
+  private void deliver(ViewRestaurantState state, int index, BufferedImage photo) {
+    if (state != openedState || state != viewModel.getState()) {
+      // Another restaurant was opened while fetching
+      return;
+    }
+    state.getPhotos().set(index, photo != null ? photo
+        : ImageResources.getAtWidth(ImageResources.NO_IMAGE, ViewRestaurantViewModel.PHOTO_WIDTH));
+    loadedCount++;
+
+    long millis = (System.nanoTime() - openedNanos) / 1_000_000;
+    if (index == 0) {
+      heroPhotoMillis = millis;
+      System.out.println("DEBUG PhotoGallery: First photo of " + state.getName() + " after " + millis + " ms");
+      prefetchAfter(state.getPhotoIndex());
+    }
+    if (loadedCount == photoIds.size()) {
+      fullGalleryMillis = millis;
+      System.out.println("DEBUG PhotoGallery: All " + loadedCount + " photos of " + state.getName()
+          + " after " + millis + " ms");
+    }
+    if (index == state.getPhotoIndex()) {
+      viewModel.firePropertyChange("restaurant photos");
+    }
+  }
+}
@@ -11,9 +11,20 @@ import use_case.view_restaurant.ViewRestaurantInputData;
 public class ViewRestaurantController {
 
   private final ViewRestaurantInputBoundary viewRestaurantUseCaseInteractor;
+  private final PhotoGallery photoGallery;
 
   public ViewRestaurantController(ViewRestaurantInputBoundary viewRestaurantUseCaseInteractor) {
+    this(viewRestaurantUseCaseInteractor, null);
+  }
+
+  /**
+   * @param photoGallery the gallery loading the shown restaurant's photos, or null if photos
+   *     cannot be paged through
+   */
+  public ViewRestaurantController(ViewRestaurantInputBoundary viewRestaurantUseCaseInteractor,
+      PhotoGallery photoGallery) {
     this.viewRestaurantUseCaseInteractor = viewRestaurantUseCaseInteractor;
+    this.photoGallery = photoGallery;
   }
 
   public void execute(String restaurantId) throws IOException {
@@ -21,4 +32,15 @@ public class ViewRestaurantController {
         restaurantId);
     viewRestaurantUseCaseInteractor.execute(viewRestaurantInputData);
   }
+
+  /**
+   * Shows another of the restaurant's photos, loading it if needed.
+   *
+   * @param index the photo's position; wraps around at either end
+   */
+  public void showPhoto(int index) {
+    if (photoGallery != null) {
+      photoGallery.show(index);
+    }
+  }
 }
@@ -1,12 +1,12 @@
 package interface_adapter.view_restaurant;
 
 import interface_adapter.ImageDataAccessInterface;
+import interface_adapter.ImageResources;
 import interface_adapter.ViewManagerModel;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Objects;
-import javax.imageio.ImageIO;
+import java.util.concurrent.Executor;
 import use_case.view_restaurant.ViewRestaurantOutputBoundary;
 import use_case.view_restaurant.ViewRestaurantOutputData;
 
@@ -14,16 +14,20 @@ public class ViewRestaurantPresenter implements ViewRestaurantOutputBoundary {
 
   private final ViewRestaurantViewModel viewRestaurantViewModel;
   private final ViewManagerModel viewManagerModel;
-  private final ImageDataAccessInterface imageDataAccess;
+  private final PhotoGallery photoGallery;
 
 
+  /**
+   * @param callbackExecutor where photos loaded in the background are announced, e.g. the Swing
+   *     thread
+   */
   public ViewRestaurantPresenter(ViewManagerModel viewManagerModel,
       ViewRestaurantViewModel viewRestaurantViewModel,
-      ImageDataAccessInterface imageDataAccess) {
+      ImageDataAccessInterface imageDataAccess, Executor callbackExecutor) {
 
     this.viewRestaurantViewModel = viewRestaurantViewModel;
     this.viewManagerModel = viewManagerModel;
-    this.imageDataAccess = imageDataAccess;
+    this.photoGallery = new PhotoGallery(viewRestaurantViewModel, imageDataAccess, callbackExecutor);
   }
 
   @Override
@@ -31,6 +35,7 @@ public class ViewRestaurantPresenter implements ViewRestaurantOutputBoundary {
     // copies the current state, so that in case there are states that do not require updating,
     // we can preserve those states.
     System.out.println("[Presenter] prepareSuccessView called, name = " + data.getName());
+    long start = System.nanoTime();
 
     ViewRestaurantState newState = new ViewRestaurantState(viewRestaurantViewModel.getState());
 
@@ -42,24 +47,17 @@ public class ViewRestaurantPresenter implements ViewRestaurantOutputBoundary {
     String apiKey = System.getenv("PLACES_API_TOKEN");
     System.out.println(data.getPhotoIds().size());
 
-    BufferedImage image = ImageIO.read(
-        Objects.requireNonNull(getClass().getResource("/images/no_image.png")));
     if (data.getPhotoIds().isEmpty()) {
-      images.add(image);
+      images.add(ImageResources.getAtWidth(ImageResources.NO_IMAGE,
+          ViewRestaurantViewModel.PHOTO_WIDTH));
     }
 
     for (int i = 0; i < data.getPhotoIds().size(); i++) {
-
-      if (apiKey == null) {
-        // No API key → use placeholder images
-        image = ImageIO.read(
-            Objects.requireNonNull(getClass().getResource("/images/placeholder.png")));
-      } else {
-        // API key exists → load real Google image
-        image = imageDataAccess.fetchRestaurantImage(data.getPhotoIds().get(i), apiKey);
-      }
-
-      images.add(image);
+      // No API key → use placeholder images
+      // API key exists → left empty here and loaded by the gallery once the page shows
+      images.add(apiKey == null
+          ? ImageResources.getAtWidth(ImageResources.PLACEHOLDER, ViewRestaurantViewModel.PHOTO_WIDTH)
+          : null);
     }
 
     newState.setName(data.getName());
@@ -71,9 +69,23 @@ public class ViewRestaurantPresenter implements ViewRestaurantOutputBoundary {
     newState.setPhoneNumber(data.getPhoneNumber());
     newState.setOpeningHours(data.getOpeningHours());
     newState.setPhotos(images);
+    newState.setPhotoIndex(0);
 
     viewRestaurantViewModel.setState(newState);
     viewRestaurantViewModel.firePropertyChange("restaurant info");
+    System.out.println("DEBUG ViewRestaurantPresenter: " + data.getName() + " shown after "
+        + (System.nanoTime() - start) / 1_000_000 + " ms");
+
+    if (apiKey != null && !data.getPhotoIds().isEmpty()) {
+      photoGallery.open(newState, data.getPhotoIds(), apiKey);
+    }
+  }
+
+  /**
+   * @return the gallery loading the shown restaurant's photos
+   */
+  public PhotoGallery getPhotoGallery() {
+    return photoGallery;
   }
 
   @Override
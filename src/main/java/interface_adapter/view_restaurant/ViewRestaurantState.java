@@ -17,7 +17,9 @@ public class ViewRestaurantState {
   private int ratingCount = 0;
   private String phoneNumber = "";
   private List<String> openingHours = new ArrayList<String>();
+  // One entry per photo, null until loaded
   private List<BufferedImage> photos = new ArrayList<BufferedImage>();
+  private int photoIndex = 0;
   private String restaurantDndError;
 
 
@@ -31,6 +33,7 @@ public class ViewRestaurantState {
     phoneNumber = copy.phoneNumber;
     openingHours = copy.openingHours;
     photos = copy.photos;
+    photoIndex = copy.photoIndex;
     restaurantDndError = copy.restaurantDndError;
   }
 
@@ -110,6 +113,21 @@ public class ViewRestaurantState {
     this.photos = photos;
   }
 
+  public int getPhotoIndex() {
+    return photoIndex;
+  }
+
+  public void setPhotoIndex(int photoIndex) {
+    this.photoIndex = photoIndex;
+  }
+
+  /**
+   * @return the photo to show, or null if it is not loaded yet
+   */
+  public BufferedImage getShownPhoto() {
+    return photoIndex < photos.size() ? photos.get(photoIndex) : null;
+  }
+
   public String getRestaurantDndError() {
     return restaurantDndError;
   }
@@ -4,6 +4,9 @@ import interface_adapter.ViewModel;
 
 public class ViewRestaurantViewModel extends ViewModel<ViewRestaurantState> {
 
+  /** Width the restaurant's photo is shown at, and so the widest photo worth fetching. */
+  public static final int PHOTO_WIDTH = 800;
+
   public ViewRestaurantViewModel() {
     super("restaurant info");
     setState(new ViewRestaurantState());
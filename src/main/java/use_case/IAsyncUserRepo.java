@@ -0,0 +1,53 @@
+package use_case;
+
+import entity.User;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking variant of IUserRepo. Every method returns at once with a future that completes
+ * when the database answers; failures complete it exceptionally with a PersistenceException.
+ * Requests run independently, so a slow one does not hold up the others.
+ */
+public interface IAsyncUserRepo {
+
+  /**
+   * Finds a User Entity by their unique Firebase ID.
+   *
+   * @param uid The unique Firebase ID to look up.
+   * @return completes with the User entity, or null if there is none.
+   */
+  CompletableFuture<User> getUserByUidAsync(String uid);
+
+  /**
+   * Finds many users at once, fetching every one not held locally in batched requests.
+   *
+   * @param uids The unique Firebase IDs to look up; duplicates are allowed.
+   * @return completes with the users found, keyed by UID. UIDs with no user are left out.
+   */
+  CompletableFuture<Map<String, User>> getUsersByUidsAsync(Collection<String> uids);
+
+  /**
+   * Saves a User Entity, creating or replacing its document.
+   *
+   * @param user The User Entity to be saved.
+   * @return completes once the write is confirmed.
+   */
+  CompletableFuture<Void> saveAsync(User user);
+
+  /**
+   * Checks if a User Entity with the given UID exists in the database.
+   *
+   * @param uid The unique Firebase ID to check.
+   * @return completes with true if the user exists, false otherwise or if the check failed.
+   */
+  CompletableFuture<Boolean> existsByUidAsync(String uid);
+
+  /**
+   * Loads every user into the in-memory cache. Concurrent callers share one request.
+   *
+   * @return completes once the cache is loaded.
+   */
+  CompletableFuture<Void> loadAllUsersAsync();
+}
@@ -1,6 +1,9 @@
 package use_case;
 
 import entity.User;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * The Repository for accessing and persisting the User Entity in the database (Firebase
@@ -17,6 +20,25 @@ public interface IUserRepo {
    */
   User getUserByUid(String uid) throws PersistenceException;
 
+  /**
+   * Finds many users at once. Implementations backed by a remote database fetch every uncached
+   * user in one batched request instead of one request per user.
+   *
+   * @param uids The unique Firebase IDs to look up; duplicates are allowed.
+   * @return The users found, keyed by UID. UIDs with no user are left out.
+   * @throws PersistenceException if an unexpected database error occurs during retrieval.
+   */
+  default Map<String, User> getUsersByUids(Collection<String> uids) throws PersistenceException {
+    Map<String, User> users = new HashMap<>();
+    for (String uid : uids) {
+      User user = getUserByUid(uid);
+      if (user != null) {
+        users.put(uid, user);
+      }
+    }
+    return users;
+  }
+
   /**
    * Saves a new User Entity to the database. This is used immediately after registration.
    *
@@ -49,4 +71,26 @@ public interface IUserRepo {
    * to user data.
    */
   void loadAllUsers() throws PersistenceException;
+
+  /**
+   * Sends any changes still waiting to be written, e.g. before the user logs out. Returns without
+   * waiting for the database to confirm them. By default nothing waits.
+   */
+  default void flushPendingWrites() {
+  }
+
+  /**
+   * Keeps the given user, normally the logged-in one, up to date with changes made elsewhere, e.g.
+   * on another device, replacing the user watched before. By default nothing is watched.
+   *
+   * @param uid The unique Firebase ID of the user to watch.
+   */
+  default void watchUser(String uid) {
+  }
+
+  /**
+   * Stops watching the user passed to watchUser, e.g. on logout.
+   */
+  default void stopWatchingUser() {
+  }
 }
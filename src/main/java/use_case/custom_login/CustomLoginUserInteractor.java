@@ -1,6 +1,5 @@
 package use_case.custom_login;
 
-import data_access.CurrentUser;
 import entity.User;
 import use_case.IAuthGateway;
 import use_case.IUserRepo;
@@ -63,10 +62,6 @@ public class CustomLoginUserInteractor implements CustomLoginInputBoundary {
 
     userRepository.loadAllUsers();
 
-    CurrentUser test = new CurrentUser(authGateway, userRepository);
-    String curUser = test.getCurrentUser().getNickname();
-    System.out.println("Custom Login Current User test: " + curUser);
-
     loginPresenter.prepareSuccessView(outputData);
   }
 }
\ No newline at end of file
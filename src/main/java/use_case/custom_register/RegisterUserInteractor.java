@@ -1,6 +1,5 @@
 package use_case.custom_register;
 
-import data_access.CurrentUser;
 import entity.User;
 import use_case.IAuthGateway;
 import use_case.IUserRepo;
@@ -66,10 +65,6 @@ public class RegisterUserInteractor implements RegisterInputBoundary {
 
       userRepository.loadAllUsers();
 
-      CurrentUser test = new CurrentUser(authGateway, userRepository);
-      String curUser = test.getCurrentUser().getNickname();
-      System.out.println("Register User Current User test: " + curUser);
-
       registerPresenter.prepareSuccessView(outputData);
 
     } catch (RuntimeException e) {
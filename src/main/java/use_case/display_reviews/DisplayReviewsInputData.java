@@ -2,13 +2,51 @@ package use_case.display_reviews;
 
 public class DisplayReviewsInputData {
 
+  /**
+   * Reviews per page when no page size is given.
+   */
+  public static final int DEFAULT_PAGE_SIZE = 20;
+
   private final String restaurantId;
+  private final ReviewOrder order;
+  private final String cursor;
+  private final int pageSize;
 
   public DisplayReviewsInputData(String restaurantId) {
+    this(restaurantId, ReviewOrder.NEWEST);
+  }
+
+  public DisplayReviewsInputData(String restaurantId, ReviewOrder order) {
+    this(restaurantId, order, null, DEFAULT_PAGE_SIZE);
+  }
+
+  /**
+   * @param restaurantId the restaurant whose reviews to display
+   * @param order        how to order the reviews
+   * @param cursor       the next cursor of the previous page, or null for the first page
+   * @param pageSize     most reviews to display in this page
+   */
+  public DisplayReviewsInputData(String restaurantId, ReviewOrder order, String cursor,
+      int pageSize) {
     this.restaurantId = restaurantId;
+    this.order = order;
+    this.cursor = cursor;
+    this.pageSize = pageSize;
   }
 
   public String getRestaurantId() {
     return restaurantId;
   }
+
+  public ReviewOrder getOrder() {
+    return order;
+  }
+
+  public String getCursor() {
+    return cursor;
+  }
+
+  public int getPageSize() {
+    return pageSize;
+  }
 }
@@ -2,9 +2,12 @@ package use_case.display_reviews;
 
 import data_access.JsonReviewDataAccessObject;
 import entity.Review;
+import entity.User;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import use_case.IUserRepo;
+import use_case.PersistenceException;
 
 public class DisplayReviewsInteractor implements DisplayReviewsInputBoundary {
 
@@ -24,26 +27,48 @@ public class DisplayReviewsInteractor implements DisplayReviewsInputBoundary {
   public void execute(DisplayReviewsInputData displayReviewsInputData) {
 
     String restaurantId = displayReviewsInputData.getRestaurantId();
-    Map<String, Review> reviews = jsonReviewDataAccessObject.reviewByRestaurant(restaurantId);
-    ArrayList<DisplayReviewsOutputData> outputDataList = new ArrayList<>();
-
-    for (Review review : reviews.values()) {
+    ReviewOrder order = displayReviewsInputData.getOrder();
+    String cursor = displayReviewsInputData.getCursor();
+    int pageSize = displayReviewsInputData.getPageSize();
+    if (pageSize <= 0) {
+      displayReviewsPresenter.prepareFailView("Page size must be positive");
+      return;
+    }
 
-      if (review.getReviewId().isEmpty()) {
-        displayReviewsPresenter.prepareFailView("ReviewId missing");
+    // One extra review tells whether another page follows
+    List<Review> reviews = jsonReviewDataAccessObject.reviewsAfter(restaurantId, order, cursor,
+        pageSize + 1);
+    String nextCursor = null;
+    if (reviews.size() > pageSize) {
+      reviews = reviews.subList(0, pageSize);
+      nextCursor = reviews.get(pageSize - 1).getReviewId();
+    }
+    // Resolve every author on the page in one lookup rather than one per review
+    List<String> authorIds = new ArrayList<>();
+    for (Review review : reviews) {
+      if (review.getAuthorId() != null && !review.getAuthorId().isEmpty()) {
+        authorIds.add(review.getAuthorId());
       }
+    }
+    Map<String, User> authors;
+    try {
+      authors = firestoreUserRepo.getUsersByUids(authorIds);
+    } catch (PersistenceException e) {
+      displayReviewsPresenter.prepareFailView("Failed to load review authors: " + e.getMessage());
+      return;
+    }
+    ArrayList<DisplayReviewsOutputData> outputDataList = new ArrayList<>();
+    // Reviews that cannot be shown are left out of the page and reported once below
+    List<String> skipped = new ArrayList<>();
 
-      if (review.getContent().isEmpty()) {
-        displayReviewsPresenter.prepareFailView("Empty review in database");
-      }
+    for (Review review : reviews) {
 
-      if (review.getAuthorId() == null || review.getAuthorId().isEmpty()) {
-        displayReviewsPresenter.prepareFailView(
-            "User not found for review: " + review.getReviewId());
+      User author = review.getAuthorId() == null ? null : authors.get(review.getAuthorId());
+      if (review.getReviewId().isEmpty() || review.getContent().isEmpty() || author == null) {
+        skipped.add(review.getReviewId());
       } else {
 
-        String authorDisplayName = firestoreUserRepo.getUserByUid(review.getAuthorId())
-            .getNickname();
+        String authorDisplayName = author.getNickname();
         String content = review.getContent();
         String creationDate = review.getCreationDate();
 
@@ -56,6 +81,11 @@ public class DisplayReviewsInteractor implements DisplayReviewsInputBoundary {
         outputDataList.add(displayReviewsOutputData);
       }
     }
-    displayReviewsPresenter.prepareSuccessView(outputDataList);
+    if (!skipped.isEmpty()) {
+      System.err.println("Skipped reviews of " + restaurantId
+          + " with no ID, no content or an unknown author: " + skipped);
+    }
+    displayReviewsPresenter.prepareSuccessView(new DisplayReviewsPageOutputData(restaurantId,
+        order, outputDataList, cursor == null, nextCursor));
   }
 }
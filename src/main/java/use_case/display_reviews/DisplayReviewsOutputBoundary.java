@@ -1,7 +1,5 @@
 package use_case.display_reviews;
 
-import java.util.List;
-
 /**
  * The output boundary for the display reviews use case.
  */
@@ -9,12 +7,16 @@ public interface DisplayReviewsOutputBoundary {
 
   /**
    * Prepare the success view for the display reviews use case
+   *
+   * @param page the requested page of reviews
    */
-  void prepareSuccessView(List<DisplayReviewsOutputData> displayReviewsOutputDataList);
+  void prepareSuccessView(DisplayReviewsPageOutputData page);
 
 
   /**
-   * Prepare the fao; view for the display reviews use case
+   * Prepare the fail view for the display reviews use case; no page is presented
+   *
+   * @param errorMessage why the page could not be loaded
    */
   void prepareFailView(String errorMessage);
 }
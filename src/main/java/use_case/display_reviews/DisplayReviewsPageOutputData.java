@@ -0,0 +1,55 @@
+package use_case.display_reviews;
+
+import java.util.List;
+
+/**
+ * One page of a restaurant's reviews.
+ */
+public class DisplayReviewsPageOutputData {
+
+  private final String restaurantId;
+  private final ReviewOrder order;
+  private final List<DisplayReviewsOutputData> reviews;
+  private final boolean firstPage;
+  private final String nextCursor;
+
+  /**
+   * @param restaurantId the restaurant the reviews belong to
+   * @param order        the order the reviews are listed in
+   * @param reviews      the reviews in this page
+   * @param firstPage    whether this page starts the list, replacing any shown before
+   * @param nextCursor   cursor for the following page, or null if this is the last page
+   */
+  public DisplayReviewsPageOutputData(String restaurantId, ReviewOrder order,
+      List<DisplayReviewsOutputData> reviews, boolean firstPage, String nextCursor) {
+    this.restaurantId = restaurantId;
+    this.order = order;
+    this.reviews = reviews;
+    this.firstPage = firstPage;
+    this.nextCursor = nextCursor;
+  }
+
+  public String getRestaurantId() {
+    return restaurantId;
+  }
+
+  public ReviewOrder getOrder() {
+    return order;
+  }
+
+  public List<DisplayReviewsOutputData> getReviews() {
+    return reviews;
+  }
+
+  public boolean isFirstPage() {
+    return firstPage;
+  }
+
+  public String getNextCursor() {
+    return nextCursor;
+  }
+
+  public boolean hasNextPage() {
+    return nextCursor != null;
+  }
+}
@@ -0,0 +1,57 @@
+package use_case.display_reviews;
+
+import entity.Review;
+import java.util.Comparator;
+
+/**
+ * How a restaurant's reviews are ordered when displayed.
+ */
+public enum ReviewOrder {
+
+  /**
+   * Most recent creation date first.
+   */
+  NEWEST(newestFirst()),
+
+  /**
+   * Most likes first, newest first among equally liked reviews.
+   */
+  MOST_LIKED(Comparator.comparingInt(Review::getLikes).reversed().thenComparing(newestFirst()));
+
+  private final Comparator<Review> comparator;
+
+  ReviewOrder(Comparator<Review> comparator) {
+    this.comparator = comparator;
+  }
+
+  /**
+   * @return compares two reviews, the one shown first being smaller; ties are broken by review ID
+   */
+  public Comparator<Review> comparator() {
+    return comparator;
+  }
+
+  private static Comparator<Review> newestFirst() {
+    return Comparator.comparingInt(ReviewOrder::creationDay).reversed()
+        .thenComparing(Review::getReviewId);
+  }
+
+  /**
+   * The MM/dd/yyyy creation date as a sortable yyyyMMdd number, or 0 if it is in another format.
+   * Cheaper than a DateTimeFormatter when sorting many reviews.
+   */
+  static int creationDay(Review review) {
+    String date = review.getCreationDate();
+    if (date.length() != 10 || date.charAt(2) != '/' || date.charAt(5) != '/') {
+      return 0;
+    }
+    try {
+      int month = Integer.parseInt(date.substring(0, 2));
+      int day = Integer.parseInt(date.substring(3, 5));
+      int year = Integer.parseInt(date.substring(6));
+      return year * 10000 + month * 100 + day;
+    } catch (NumberFormatException e) {
+      return 0;
+    }
+  }
+}
@@ -1,16 +1,44 @@
 package use_case.favorites.add_favorite;
 
+import data_access.AsyncUserDataAccessInterface;
 import data_access.UserDataAccessInterface;
 import entity.User;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
+/**
+ * Interactor for the Add Favorite use case. The user is read and saved without blocking the
+ * caller; the result is presented on the callback executor once the save completes.
+ *
+ * <p>The favorite is added to the user on the callback executor too, the thread that reads the
+ * user's favorites for display, rather than on the thread that finished reading the user.
+ */
 public class AddFavoriteInteractor implements AddFavoriteInputBoundary {
-    private final UserDataAccessInterface userDataAccess;
+    private final AsyncUserDataAccessInterface userDataAccess;
     private final AddFavoriteOutputBoundary presenter;
+    private final Executor callbackExecutor;
 
+    /**
+     * Creates an interactor that presents on the calling thread, before execute returns.
+     */
     public AddFavoriteInteractor(UserDataAccessInterface userDataAccess,
                                  AddFavoriteOutputBoundary presenter) {
+        this(AsyncUserDataAccessInterface.blocking(userDataAccess), presenter, Runnable::run);
+    }
+
+    /**
+     * @param userDataAccess   the user data access
+     * @param presenter        the presenter
+     * @param callbackExecutor where the user is changed and the presenter called, e.g. the Swing
+     *                         event thread
+     */
+    public AddFavoriteInteractor(AsyncUserDataAccessInterface userDataAccess,
+                                 AddFavoriteOutputBoundary presenter,
+                                 Executor callbackExecutor) {
         this.userDataAccess = userDataAccess;
         this.presenter = presenter;
+        this.callbackExecutor = callbackExecutor;
     }
 
     @Override
@@ -19,14 +47,11 @@ public class AddFavoriteInteractor implements AddFavoriteInputBoundary {
         System.out.println("  User ID: " + inputData.getUserId());
         System.out.println("  Restaurant ID: " + inputData.getRestaurantId());
 
-        try {
-            // Get the user
-            User user = userDataAccess.getUser(inputData.getUserId());
-
+        // Completes with the output to present, or with an error message if there is none
+        userDataAccess.getUserAsync(inputData.getUserId()).thenComposeAsync(user -> {
             if (user == null) {
                 System.out.println("  ERROR: User not found");
-                presenter.presentError("User not found");
-                return;
+                return CompletableFuture.completedFuture(new Result(null, "User not found"));
             }
 
             System.out.println("  User found: " + user.getNickname());
@@ -35,8 +60,8 @@ public class AddFavoriteInteractor implements AddFavoriteInputBoundary {
             // Check if already favorited
             if (user.getFavoriteRestaurantIds().contains(inputData.getRestaurantId())) {
                 System.out.println("  Already favorited!");
-                presenter.presentError("Restaurant is already in favorites");
-                return;
+                return CompletableFuture.completedFuture(
+                        new Result(null, "Restaurant is already in favorites"));
             }
 
             // Add to favorites
@@ -44,21 +69,40 @@ public class AddFavoriteInteractor implements AddFavoriteInputBoundary {
             System.out.println("  Added to favorites list");
             System.out.println("  New favorites: " + user.getFavoriteRestaurantIds());
 
-            // Save to database
-            userDataAccess.saveUser(user);
-            System.out.println("  Saved to database");
-
-            // Present success
-            AddFavoriteOutputData outputData = new AddFavoriteOutputData(
+            final AddFavoriteOutputData outputData = new AddFavoriteOutputData(
                     "Restaurant added to favorites!",
                     true
             );
-            presenter.presentSuccess(outputData);
+            // Save to database
+            return userDataAccess.addFavoriteAsync(user, inputData.getRestaurantId()).thenApply(saved -> {
+                System.out.println("  Saved to database");
+                return new Result(outputData, null);
+            });
+        }, callbackExecutor).whenCompleteAsync((result, exception) -> {
+            if (exception != null) {
+                Throwable cause = exception instanceof CompletionException && exception.getCause() != null
+                        ? exception.getCause() : exception;
+                System.out.println("  EXCEPTION: " + cause.getMessage());
+                cause.printStackTrace();
+                presenter.presentError("Failed to add favorite: " + cause.getMessage());
+            } else if (result.error != null) {
+                presenter.presentError(result.error);
+            } else {
+                presenter.presentSuccess(result.outputData);
+            }
+        }, callbackExecutor);
+    }
+
+    /**
+     * What to present: the output data on success, otherwise the error message.
+     */
+    private static final class Result {
+        private final AddFavoriteOutputData outputData;
+        private final String error;
 
-        } catch (Exception e) {
-            System.out.println("  EXCEPTION: " + e.getMessage());
-            e.printStackTrace();
-            presenter.presentError("Failed to add favorite: " + e.getMessage());
+        private Result(AddFavoriteOutputData outputData, String error) {
+            this.outputData = outputData;
+            this.error = error;
         }
     }
-}
\ No newline at end of file
+}
@@ -1,22 +1,47 @@
 package use_case.favorites.remove_favorite;
 
+import data_access.AsyncUserDataAccessInterface;
 import data_access.UserDataAccessInterface;
 import entity.Restaurant;
-import entity.User;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 /**
  * Interactor for the Remove Favorite use case.
  * Handles the business logic for removing a restaurant from user's favorites.
+ * The user is read and saved without blocking the caller; the result is presented on the
+ * callback executor once the save completes.
+ *
+ * <p>The favorite is removed from the user on the callback executor too, the thread that reads the
+ * user's favorites for display, rather than on the thread that finished reading the user.
  */
 public class RemoveFavoriteInteractor implements RemoveFavoriteInputBoundary {
 
-    private final UserDataAccessInterface userDataAccess;
+    private final AsyncUserDataAccessInterface userDataAccess;
     private final RemoveFavoriteOutputBoundary presenter;
+    private final Executor callbackExecutor;
 
+    /**
+     * Creates an interactor that presents on the calling thread, before execute returns.
+     */
     public RemoveFavoriteInteractor(UserDataAccessInterface userDataAccess,
                                     RemoveFavoriteOutputBoundary presenter) {
+        this(AsyncUserDataAccessInterface.blocking(userDataAccess), presenter, Runnable::run);
+    }
+
+    /**
+     * @param userDataAccess   the user data access
+     * @param presenter        the presenter
+     * @param callbackExecutor where the user is changed and the presenter called, e.g. the Swing
+     *                         event thread
+     */
+    public RemoveFavoriteInteractor(AsyncUserDataAccessInterface userDataAccess,
+                                    RemoveFavoriteOutputBoundary presenter,
+                                    Executor callbackExecutor) {
         this.userDataAccess = userDataAccess;
         this.presenter = presenter;
+        this.callbackExecutor = callbackExecutor;
     }
 
     /**
@@ -26,14 +51,13 @@ public class RemoveFavoriteInteractor implements RemoveFavoriteInputBoundary {
      */
     @Override
     public void execute(RemoveFavoriteInputData inputData) {
-        try {
-            System.out.println("DEBUG RemoveFavoriteInteractor: Attempting to remove restaurant " + inputData.getRestaurantId());
+        System.out.println("DEBUG RemoveFavoriteInteractor: Attempting to remove restaurant " + inputData.getRestaurantId());
 
-            final User user = userDataAccess.getUser(inputData.getUserId());
+        // Completes with the output to present, or with an error message if there is none
+        userDataAccess.getUserAsync(inputData.getUserId()).thenComposeAsync(user -> {
             if (user == null) {
                 System.out.println("DEBUG RemoveFavoriteInteractor: User not found");
-                presenter.presentError("User not found");
-                return;
+                return CompletableFuture.completedFuture(new Result(null, "User not found"));
             }
 
             System.out.println("DEBUG RemoveFavoriteInteractor: User found: " + user.getNickname());
@@ -43,8 +67,7 @@ public class RemoveFavoriteInteractor implements RemoveFavoriteInputBoundary {
 
             // Check if the restaurant is actually in favorites
             if (!user.getFavoriteRestaurantIds().contains(inputData.getRestaurantId())) {
-                presenter.presentError("Restaurant is not in favorites");
-                return;
+                return CompletableFuture.completedFuture(new Result(null, "Restaurant is not in favorites"));
             }
 
             // Try to get restaurant name for the success message, but don't fail if not found
@@ -63,17 +86,36 @@ public class RemoveFavoriteInteractor implements RemoveFavoriteInputBoundary {
             user.removeFavoriteRestaurantId(inputData.getRestaurantId());
             System.out.println("DEBUG RemoveFavoriteInteractor: After removal, favorites: " + user.getFavoriteRestaurantIds());
 
-            userDataAccess.saveUser(user);
-
             final RemoveFavoriteOutputData outputData = new RemoveFavoriteOutputData(
                     restaurantName,
                     true,
                     restaurantName + " removed from favorites!"
             );
+            return userDataAccess.removeFavoriteAsync(user, inputData.getRestaurantId())
+                    .thenApply(saved -> new Result(outputData, null));
+        }, callbackExecutor).whenCompleteAsync((result, exception) -> {
+            if (exception != null) {
+                Throwable cause = exception instanceof CompletionException && exception.getCause() != null
+                        ? exception.getCause() : exception;
+                presenter.presentError("Failed to remove favorite: " + cause.getMessage());
+            } else if (result.error != null) {
+                presenter.presentError(result.error);
+            } else {
+                presenter.presentSuccess(result.outputData);
+            }
+        }, callbackExecutor);
+    }
+
+    /**
+     * What to present: the output data on success, otherwise the error message.
+     */
+    private static final class Result {
+        private final RemoveFavoriteOutputData outputData;
+        private final String error;
 
-            presenter.presentSuccess(outputData);
-        } catch (Exception exception) {
-            presenter.presentError("Failed to remove favorite: " + exception.getMessage());
+        private Result(RemoveFavoriteOutputData outputData, String error) {
+            this.outputData = outputData;
+            this.error = error;
         }
     }
-}
\ No newline at end of file
+}
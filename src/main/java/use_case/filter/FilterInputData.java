@@ -1,17 +1,36 @@
 package use_case.filter;
 
+import use_case.nearby_restaurants.DistanceBound;
+
 /**
  * Input data for the filter use case.
  */
 public class FilterInputData {
 
   private final String restaurantType;
+  private final DistanceBound distanceBound;
 
   public FilterInputData(String restaurantType) {
+    this(restaurantType, null);
+  }
+
+  /**
+   * @param restaurantType the type to filter by
+   * @param distanceBound  only keep restaurants within this bound; null for any
+   */
+  public FilterInputData(String restaurantType, DistanceBound distanceBound) {
     this.restaurantType = restaurantType;
+    this.distanceBound = distanceBound;
   }
 
   public String getRestaurantType() {
     return restaurantType;
   }
-}
\ No newline at end of file
+
+  /**
+   * @return the distance bound, or null when the filter is not restricted by location
+   */
+  public DistanceBound getDistanceBound() {
+    return distanceBound;
+  }
+}
@@ -3,33 +3,57 @@ package use_case.filter;
 import entity.Restaurant;
 import java.util.List;
 import java.util.stream.Collectors;
+import use_case.nearby_restaurants.DistanceBound;
+import use_case.nearby_restaurants.NearbyRestaurant;
 
 /**
- * Interactor for the filter use case.
+ * Interactor for the filter use case. Returns the best ranked restaurants of the chosen type.
  */
 public class FilterInteractor implements FilterInputBoundary {
 
   private static final int MAX_RESTAURANTS = 10;
   private final IRestaurantDataAccess restaurantDataAccess;
   private final FilterOutputBoundary filterPresenter;
+  private final RestaurantRanking ranking;
 
   public FilterInteractor(IRestaurantDataAccess restaurantDataAccess,
       FilterOutputBoundary filterPresenter) {
+    this(restaurantDataAccess, filterPresenter, RestaurantRanking.POPULARITY);
+  }
+
+  /**
+   * @param restaurantDataAccess where restaurants come from
+   * @param filterPresenter      the output boundary
+   * @param ranking              how to choose the restaurants shown for a type
+   */
+  public FilterInteractor(IRestaurantDataAccess restaurantDataAccess,
+      FilterOutputBoundary filterPresenter, RestaurantRanking ranking) {
     this.restaurantDataAccess = restaurantDataAccess;
     this.filterPresenter = filterPresenter;
+    this.ranking = ranking;
   }
 
   @Override
   public void execute(FilterInputData filterInputData) {
     try {
       String type = filterInputData.getRestaurantType();
+      DistanceBound bound = filterInputData.getDistanceBound();
 
-      // Get restaurants of the specified type
-      List<Restaurant> restaurants = restaurantDataAccess.getRestaurantsByType(type);
+      // Get the best MAX_RESTAURANTS of the specified type, within the distance bound if given
+      List<Restaurant> restaurants;
+      if (bound == null) {
+        restaurants = restaurantDataAccess.getTopRestaurantsByType(type, MAX_RESTAURANTS, ranking);
+      } else {
+        List<Restaurant> nearby = restaurantDataAccess.getSpatialIndex()
+            .within(bound).stream()
+            .map(NearbyRestaurant::getRestaurant)
+            .filter(restaurant -> type.equals(restaurant.getType()))
+            .collect(Collectors.toList());
+        restaurants = TopRestaurants.select(nearby, MAX_RESTAURANTS, ranking);
+      }
 
-      // Limit to MAX_RESTAURANTS and extract names
+      // Extract names
       List<String> restaurantNames = restaurants.stream()
-          .limit(MAX_RESTAURANTS)
           .map(Restaurant::getName)
           .collect(Collectors.toList());
 
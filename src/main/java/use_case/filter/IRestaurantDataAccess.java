@@ -2,6 +2,7 @@ package use_case.filter;
 
 import entity.Restaurant;
 import java.util.List;
+import use_case.nearby_restaurants.RestaurantSpatialIndex;
 
 /**
  * Data access interface for restaurant filtering operations.
@@ -12,10 +13,34 @@ public interface IRestaurantDataAccess {
    * Get all restaurants of a specific type.
    *
    * @param type the restaurant type to filter by
-   * @return list of restaurants matching the type
+   * @return list of restaurants matching the type (unmodifiable)
    */
   List<Restaurant> getRestaurantsByType(String type);
 
+  /**
+   * Get the best ranked restaurants of a specific type. Implementations that keep precomputed
+   * scores should override this; the default scores every restaurant of the type.
+   *
+   * @param type    the restaurant type to filter by
+   * @param limit   maximum number of restaurants
+   * @param ranking how to rank them
+   * @return up to limit restaurants of the type, best first
+   */
+  default List<Restaurant> getTopRestaurantsByType(String type, int limit,
+      RestaurantRanking ranking) {
+    return TopRestaurants.select(getRestaurantsByType(type), limit, ranking);
+  }
+
+  /**
+   * Get a spatial index over every restaurant's location. Implementations that keep a catalog
+   * should build it once per catalog and override this; the default builds a new index per call.
+   *
+   * @return the spatial index over all restaurants
+   */
+  default RestaurantSpatialIndex getSpatialIndex() {
+    return new RestaurantSpatialIndex(getAllRestaurants());
+  }
+
   /**
    * Get all unique restaurant types available.
    *
@@ -29,4 +54,28 @@ public interface IRestaurantDataAccess {
    * @return list of all restaurant objects
    */
   List<Restaurant> getAllRestaurants();
+
+  /**
+   * Look up a restaurant by its display name. Matching ignores case and surrounding whitespace.
+   *
+   * @param name the restaurant name
+   * @return the matching restaurant, or null if none
+   */
+  Restaurant getRestaurantByName(String name);
+
+  /**
+   * Get the CID of the restaurant with the given display name.
+   *
+   * @param name the restaurant name
+   * @return the CID, or null if none
+   */
+  String getCidByName(String name);
+
+  /**
+   * Translate a Google Places ID (places/ChIJ...) into the CID used as the primary key.
+   *
+   * @param placesId the Google Places ID
+   * @return the CID, or null if the Places ID is unknown
+   */
+  String getCidByPlacesId(String placesId);
 }
\ No newline at end of file
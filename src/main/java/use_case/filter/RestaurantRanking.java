@@ -0,0 +1,29 @@
+package use_case.filter;
+
+import entity.Restaurant;
+
+/**
+ * How restaurants are ranked when only the best few are shown. Higher scores rank first.
+ *
+ * <p>Data access objects may precompute and cache scores per ranking, so use the shared constants
+ * or keep custom rankings in a field rather than creating a new lambda per query.
+ */
+@FunctionalInterface
+public interface RestaurantRanking {
+
+  /**
+   * Rating weighted by how many people rated it: rating × log10(ratingCount + 10).
+   */
+  RestaurantRanking POPULARITY = r -> r.getRating() * Math.log10(r.getRatingCount() + 10);
+
+  /**
+   * Star rating alone.
+   */
+  RestaurantRanking RATING = Restaurant::getRating;
+
+  /**
+   * @param restaurant the restaurant to score
+   * @return its score, higher is better
+   */
+  double score(Restaurant restaurant);
+}
@@ -0,0 +1,130 @@
+package use_case.filter;
+
+import entity.Restaurant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Selects the best few restaurants from a candidate list with a bounded heap, so picking k out of
+ * n costs O(n log k) instead of sorting all n.
+ */
+public final class TopRestaurants {
+
+  private TopRestaurants() {
+  }
+
+  /**
+   * Pick the highest scoring candidates, scoring each one with the ranking.
+   *
+   * @param candidates the restaurants to choose from
+   * @param limit      maximum number of results
+   * @param ranking    the ranking to apply
+   * @return up to limit restaurants, best first; ties keep candidate order
+   */
+  public static List<Restaurant> select(List<Restaurant> candidates, int limit,
+      RestaurantRanking ranking) {
+    return selectByScore(candidates, limit, i -> ranking.score(candidates.get(i)));
+  }
+
+  /**
+   * Pick the highest scoring candidates using scores that were already computed.
+   *
+   * @param candidates the restaurants to choose from
+   * @param limit      maximum number of results
+   * @param scoreAt    score of the candidate at a given position
+   * @return up to limit restaurants, best first; ties keep candidate order
+   */
+  public static List<Restaurant> selectByScore(List<Restaurant> candidates, int limit,
+      IntToDoubleFunction scoreAt) {
+    int n = candidates.size();
+    if (limit <= 0 || n == 0) {
+      return List.of();
+    }
+
+    // Min-heap of (score key, position) pairs in parallel arrays whose root is the weakest result
+    // kept so far.
+    long[] keys = new long[Math.min(limit, n)];
+    int[] positions = new int[keys.length];
+    int size = 0;
+    for (int i = 0; i < n; i++) {
+      long key = rankKey(scoreAt.applyAsDouble(i));
+      if (size < keys.length) {
+        keys[size] = key;
+        positions[size] = i;
+        siftUp(keys, positions, size++);
+      } else if (weaker(keys[0], positions[0], key, i)) {
+        keys[0] = key;
+        positions[0] = i;
+        siftDown(keys, positions, size);
+      }
+    }
+
+    // Removing the weakest result each time fills the list from the back
+    Restaurant[] result = new Restaurant[size];
+    while (size > 0) {
+      result[--size] = candidates.get(positions[0]);
+      keys[0] = keys[size];
+      positions[0] = positions[size];
+      siftDown(keys, positions, size);
+    }
+    return Arrays.asList(result);
+  }
+
+  /**
+   * Maps a score to a long that orders the same way, keeping every bit of the double. The bits of
+   * negative scores are flipped so they compare as signed integers.
+   */
+  private static long rankKey(double score) {
+    long bits = Double.doubleToLongBits(score);
+    return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+  }
+
+  /**
+   * @return whether the first result ranks below the second: a lower score, or an equal score at a
+   *         later position
+   */
+  private static boolean weaker(long key, int position, long otherKey, int otherPosition) {
+    return key < otherKey || (key == otherKey && position > otherPosition);
+  }
+
+  private static void siftUp(long[] keys, int[] positions, int index) {
+    long key = keys[index];
+    int position = positions[index];
+    while (index > 0) {
+      int parent = (index - 1) >>> 1;
+      if (!weaker(key, position, keys[parent], positions[parent])) {
+        break;
+      }
+      keys[index] = keys[parent];
+      positions[index] = positions[parent];
+      index = parent;
+    }
+    keys[index] = key;
+    positions[index] = position;
+  }
+
+  private static void siftDown(long[] keys, int[] positions, int size) {
+    long key = keys[0];
+    int position = positions[0];
+    int index = 0;
+    while (true) {
+      int child = 2 * index + 1;
+      if (child >= size) {
+        break;
+      }
+      if (child + 1 < size
+          && weaker(keys[child + 1], positions[child + 1], keys[child], positions[child])) {
+        child++;
+      }
+      if (!weaker(keys[child], positions[child], key, position)) {
+        break;
+      }
+      keys[index] = keys[child];
+      positions[index] = positions[child];
+      index = child;
+    }
+    keys[index] = key;
+    positions[index] = position;
+  }
+}
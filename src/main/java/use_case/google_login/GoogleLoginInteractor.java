@@ -1,6 +1,5 @@
 package use_case.google_login;
 
-import data_access.CurrentUser;
 import entity.User;
 import java.io.IOException;
 import use_case.GoogleAuthResult;
@@ -79,11 +78,6 @@ public class GoogleLoginInteractor implements GoogleLoginInputBoundary {
 
     userRepository.loadAllUsers();
 
-    // Debugging
-    CurrentUser test = new CurrentUser(authGateway, userRepository);
-    String curUser = test.getCurrentUser().getNickname();
-    System.out.println("Google Login Current User test: " + curUser);
-
     loginPresenter.prepareSuccessView(outputData);
   }
 }
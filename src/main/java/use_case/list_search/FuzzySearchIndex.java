@@ -0,0 +1,406 @@
+package use_case.list_search;
+
+import entity.Restaurant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Substring and typo-tolerant search over restaurant name, type and address.
+ *
+ * <p>Every field is split into lower-case terms. Terms are indexed two ways: a sorted vocabulary
+ * for prefix lookups, and a trigram inverted index (trigram to terms) that serves both substring
+ * lookups and, through a shared-trigram count filter, bounded edit-distance lookups. Each term
+ * keeps a posting list of the restaurants and fields it occurs in, so a query only touches
+ * restaurants that share a term with it. Matches are ranked by a blend of text similarity and the popularity score.
+ */
+public class FuzzySearchIndex {
+
+  private static final int NAME = 0;
+  private static final int TYPE = 1;
+  private static final int ADDRESS = 2;
+  private static final float[] FIELD_WEIGHTS = {1.0f, 0.8f, 0.6f};
+
+  private static final float PREFIX_SIMILARITY = 1.0f;
+  private static final float SUBSTRING_SIMILARITY = 0.9f;
+  private static final float ONE_EDIT_SIMILARITY = 0.75f;
+  private static final float TWO_EDIT_SIMILARITY = 0.55f;
+
+  /** Share of the final score that comes from text similarity; the rest is popularity. */
+  private static final double TEXT_WEIGHT = 0.75;
+
+  private final Restaurant[] restaurants;
+  private final double[] popularity;
+
+  private final String[] terms;          // sorted vocabulary
+  private final int[][] postings;        // term id -> (restaurant << 2 | field)
+  private final Map<String, int[]> termsByTrigram;
+
+  // Scratch space reused between queries; guarded by the instance lock.
+  private final float[] tokenBest;
+  private final float[] total;
+  private final int[] matchedTokens;
+  private final int[] tokenTouched;
+  private final int[] totalTouched;
+
+  /**
+   * Build the index.
+   *
+   * @param restaurants the restaurants to index
+   * @param scorer      popularity score, higher is better
+   */
+  public FuzzySearchIndex(List<Restaurant> restaurants, ToDoubleFunction<Restaurant> scorer) {
+    int n = restaurants.size();
+    this.restaurants = restaurants.toArray(new Restaurant[0]);
+    this.popularity = new double[n];
+
+    double maxScore = 0;
+    for (int i = 0; i < n; i++) {
+      popularity[i] = scorer.applyAsDouble(this.restaurants[i]);
+      maxScore = Math.max(maxScore, popularity[i]);
+    }
+    for (int i = 0; i < n; i++) {
+      popularity[i] = maxScore > 0 ? popularity[i] / maxScore : 0;
+    }
+
+    Map<String, List<Integer>> termPostings = new HashMap<>();
+    for (int i = 0; i < n; i++) {
+      Restaurant restaurant = this.restaurants[i];
+      addTerms(termPostings, restaurant.getName(), i, NAME);
+      addTerms(termPostings, restaurant.getType(), i, TYPE);
+      addTerms(termPostings, restaurant.getAddress(), i, ADDRESS);
+    }
+
+    this.terms = termPostings.keySet().toArray(new String[0]);
+    Arrays.sort(terms);
+    this.postings = new int[terms.length][];
+    Map<String, List<Integer>> trigramLists = new HashMap<>();
+
+    for (int termId = 0; termId < terms.length; termId++) {
+      List<Integer> list = termPostings.get(terms[termId]);
+      postings[termId] = list.stream().mapToInt(Integer::intValue).toArray();
+      for (String gram : trigrams(terms[termId])) {
+        trigramLists.computeIfAbsent(gram, g -> new ArrayList<>()).add(termId);
+      }
+    }
+
+    this.termsByTrigram = new HashMap<>();
+    for (Map.Entry<String, List<Integer>> entry : trigramLists.entrySet()) {
+      termsByTrigram.put(entry.getKey(),
+          entry.getValue().stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    this.tokenBest = new float[n];
+    this.total = new float[n];
+    this.matchedTokens = new int[n];
+    this.tokenTouched = new int[n];
+    this.totalTouched = new int[n];
+  }
+
+  /**
+   * Find restaurants matching every word of the query as a prefix, substring or near miss of a
+   * word in their name, type or address.
+   *
+   * @param query the typed text
+   * @param limit maximum number of results
+   * @return up to limit restaurants, best match first
+   */
+  public List<Restaurant> search(String query, int limit) {
+    return search(query, limit, null);
+  }
+
+  /**
+   * Like {@link #search(String, int)}, but only ranks restaurants that pass a filter, such as a
+   * distance bound.
+   *
+   * @param query  the typed text
+   * @param limit  maximum number of results
+   * @param filter restaurants to keep, or null to keep all
+   * @return up to limit restaurants, best match first
+   */
+  public synchronized List<Restaurant> search(String query, int limit,
+      Predicate<Restaurant> filter) {
+    List<String> tokens = tokenize(query);
+    if (tokens.isEmpty()) {
+      return List.of();
+    }
+
+    int totalCount = 0;
+    int tokenIndex = 0;
+    for (String token : tokens) {
+      int touchedCount = 0;
+      for (Map.Entry<Integer, Float> match : matchTerms(token).entrySet()) {
+        float similarity = match.getValue();
+        for (int posting : postings[match.getKey()]) {
+          int doc = posting >>> 2;
+          float score = similarity * FIELD_WEIGHTS[posting & 3];
+          if (tokenBest[doc] == 0) {
+            tokenTouched[touchedCount++] = doc;
+          }
+          if (score > tokenBest[doc]) {
+            tokenBest[doc] = score;
+          }
+        }
+      }
+      for (int i = 0; i < touchedCount; i++) {
+        int doc = tokenTouched[i];
+        // Only restaurants that matched every earlier word can still match the whole query.
+        if (matchedTokens[doc] == tokenIndex) {
+          if (tokenIndex == 0) {
+            totalTouched[totalCount++] = doc;
+          }
+          matchedTokens[doc]++;
+          total[doc] += tokenBest[doc];
+        }
+        tokenBest[doc] = 0;
+      }
+      tokenIndex++;
+    }
+
+    // Rank with a bounded min-heap of (score key, restaurant) pairs in parallel arrays, so the
+    // weakest kept result is always at the root and no objects are allocated per candidate.
+    int tokenCount = tokens.size();
+    long[] keys = new long[Math.max(1, limit)];
+    int[] docs = new int[keys.length];
+    int heapSize = 0;
+    for (int i = 0; i < totalCount; i++) {
+      int doc = totalTouched[i];
+      double text = total[doc] / tokenCount;
+      boolean matchedAll = matchedTokens[doc] == tokenCount;
+      total[doc] = 0;
+      matchedTokens[doc] = 0;
+      if (!matchedAll || (filter != null && !filter.test(restaurants[doc]))) {
+        continue;
+      }
+      double blended = TEXT_WEIGHT * text + (1 - TEXT_WEIGHT) * popularity[doc];
+      long key = rankKey(blended);
+      if (heapSize < limit) {
+        keys[heapSize] = key;
+        docs[heapSize] = doc;
+        siftUp(keys, docs, heapSize++);
+      } else if (limit > 0 && weaker(keys[0], docs[0], key, doc)) {
+        keys[0] = key;
+        docs[0] = doc;
+        siftDown(keys, docs, heapSize);
+      }
+    }
+
+    // Removing the weakest result each time fills the list from the back
+    Restaurant[] result = new Restaurant[heapSize];
+    while (heapSize > 0) {
+      result[--heapSize] = restaurants[docs[0]];
+      keys[0] = keys[heapSize];
+      docs[0] = docs[heapSize];
+      siftDown(keys, docs, heapSize);
+    }
+    return Arrays.asList(result);
+  }
+
+  /**
+   * Maps a score to a long that orders the same way, keeping every bit of the double. The bits of
+   * negative scores are flipped so they compare as signed integers.
+   */
+  private static long rankKey(double score) {
+    long bits = Double.doubleToLongBits(score);
+    return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+  }
+
+  /**
+   * @return whether the first result ranks below the second: a lower score, or an equal score
+   *         later in the catalog
+   */
+  private static boolean weaker(long key, int doc, long otherKey, int otherDoc) {
+    return key < otherKey || (key == otherKey && doc > otherDoc);
+  }
+
+  private static void siftUp(long[] keys, int[] docs, int index) {
+    long key = keys[index];
+    int doc = docs[index];
+    while (index > 0) {
+      int parent = (index - 1) >>> 1;
+      if (!weaker(key, doc, keys[parent], docs[parent])) {
+        break;
+      }
+      keys[index] = keys[parent];
+      docs[index] = docs[parent];
+      index = parent;
+    }
+    keys[index] = key;
+    docs[index] = doc;
+  }
+
+  private static void siftDown(long[] keys, int[] docs, int size) {
+    long key = keys[0];
+    int doc = docs[0];
+    int index = 0;
+    while (true) {
+      int child = 2 * index + 1;
+      if (child >= size) {
+        break;
+      }
+      if (child + 1 < size && weaker(keys[child + 1], docs[child + 1], keys[child], docs[child])) {
+        child++;
+      }
+      if (!weaker(keys[child], docs[child], key, doc)) {
+        break;
+      }
+      keys[index] = keys[child];
+      docs[index] = docs[child];
+      index = child;
+    }
+    keys[index] = key;
+    docs[index] = doc;
+  }
+
+  /**
+   * @return term id to similarity for every vocabulary term that matches the query token
+   */
+  private Map<Integer, Float> matchTerms(String token) {
+    Map<Integer, Float> matches = new HashMap<>();
+
+    // Prefix: a contiguous range of the sorted vocabulary.
+    int from = Arrays.binarySearch(terms, token);
+    if (from < 0) {
+      from = -from - 1;
+    }
+    for (int termId = from; termId < terms.length && terms[termId].startsWith(token); termId++) {
+      matches.put(termId, PREFIX_SIMILARITY);
+    }
+
+    // Substring: terms holding every trigram of the token, verified with contains().
+    if (token.length() >= 3) {
+      int[] candidates = null;
+      for (String gram : innerTrigrams(token)) {
+        int[] termIds = termsByTrigram.get(gram);
+        if (termIds == null) {
+          candidates = null;
+          break;
+        }
+        if (candidates == null || termIds.length < candidates.length) {
+          candidates = termIds;
+        }
+      }
+      if (candidates != null) {
+        for (int termId : candidates) {
+          if (!matches.containsKey(termId) && terms[termId].contains(token)) {
+            matches.put(termId, SUBSTRING_SIMILARITY);
+          }
+        }
+      }
+    }
+
+    // Typos: whole terms within a small edit distance of the token. One edit changes at most
+    // three padded trigrams, so a term within k edits shares at least grams - 3k of them; only
+    // terms passing that count are checked with the exact (bounded) edit distance.
+    int maxEdits = token.length() >= 8 ? 2 : token.length() >= 4 ? 1 : 0;
+    if (maxEdits > 0) {
+      Set<String> grams = trigrams(token);
+      int required = grams.size() - 3 * maxEdits;
+      Map<Integer, Integer> shared = new HashMap<>();
+      for (String gram : grams) {
+        int[] termIds = termsByTrigram.get(gram);
+        if (termIds != null) {
+          for (int termId : termIds) {
+            shared.merge(termId, 1, Integer::sum);
+          }
+        }
+      }
+      for (Map.Entry<Integer, Integer> candidate : shared.entrySet()) {
+        int termId = candidate.getKey();
+        if (candidate.getValue() < required || matches.containsKey(termId)) {
+          continue;
+        }
+        int distance = boundedLevenshtein(token, terms[termId], maxEdits);
+        if (distance <= maxEdits) {
+          matches.put(termId, distance <= 1 ? ONE_EDIT_SIMILARITY : TWO_EDIT_SIMILARITY);
+        }
+      }
+    }
+    return matches;
+  }
+
+  private static void addTerms(Map<String, List<Integer>> termPostings, String text, int doc,
+      int field) {
+    if (text == null) {
+      return;
+    }
+    for (String term : new LinkedHashSet<>(tokenize(text))) {
+      termPostings.computeIfAbsent(term, t -> new ArrayList<>()).add(doc << 2 | field);
+    }
+  }
+
+  static List<String> tokenize(String text) {
+    List<String> tokens = new ArrayList<>();
+    String lower = text.toLowerCase(Locale.ROOT);
+    int start = -1;
+    for (int i = 0; i <= lower.length(); i++) {
+      boolean wordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+      if (wordChar && start < 0) {
+        start = i;
+      } else if (!wordChar && start >= 0) {
+        tokens.add(lower.substring(start, i));
+        start = -1;
+      }
+    }
+    return tokens;
+  }
+
+  /**
+   * Trigrams of a term, including the ones that cross its start and end boundary.
+   */
+  private static Set<String> trigrams(String term) {
+    Set<String> grams = new LinkedHashSet<>(innerTrigrams(term));
+    String padded = "$" + term + "$";
+    grams.add(padded.substring(0, Math.min(3, padded.length())));
+    grams.add(padded.substring(Math.max(0, padded.length() - 3)));
+    return grams;
+  }
+
+  private static Set<String> innerTrigrams(String text) {
+    Set<String> grams = new LinkedHashSet<>();
+    for (int i = 0; i + 3 <= text.length(); i++) {
+      grams.add(text.substring(i, i + 3));
+    }
+    return grams;
+  }
+
+  /**
+   * Levenshtein distance that gives up once it must exceed maxDistance.
+   *
+   * @return the distance, or maxDistance + 1 if it is larger than maxDistance
+   */
+  static int boundedLevenshtein(String a, String b, int maxDistance) {
+    if (Math.abs(a.length() - b.length()) > maxDistance) {
+      return maxDistance + 1;
+    }
+    int[] previous = new int[b.length() + 1];
+    int[] current = new int[b.length() + 1];
+    for (int j = 0; j <= b.length(); j++) {
+      previous[j] = j;
+    }
+    for (int i = 1; i <= a.length(); i++) {
+      current[0] = i;
+      int rowMin = current[0];
+      for (int j = 1; j <= b.length(); j++) {
+        int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+        current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1),
+            previous[j - 1] + cost);
+        rowMin = Math.min(rowMin, current[j]);
+      }
+      if (rowMin > maxDistance) {
+        return maxDistance + 1;
+      }
+      int[] swap = previous;
+      previous = current;
+      current = swap;
+    }
+    return previous[b.length()];
+  }
+}
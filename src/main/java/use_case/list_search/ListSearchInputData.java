@@ -1,15 +1,44 @@
 package use_case.list_search;
 
+import use_case.nearby_restaurants.DistanceBound;
+
 /**
  * Input data for the ListSearch use case. Carries the search query from the view to the
  * interactor.
  */
 public class ListSearchInputData {
 
+  /**
+   * How the query is matched against restaurants.
+   */
+  public enum Mode {
+    /** Case-insensitive prefix of the restaurant name. */
+    PREFIX,
+    /** Substring or near-miss of any word in the name, type or address. */
+    FUZZY
+  }
+
   private final String query;
+  private final Mode mode;
+  private final DistanceBound distanceBound;
 
   public ListSearchInputData(String query) {
+    this(query, Mode.PREFIX);
+  }
+
+  public ListSearchInputData(String query, Mode mode) {
+    this(query, mode, null);
+  }
+
+  /**
+   * @param query         the search query
+   * @param mode          how the query is matched
+   * @param distanceBound only return restaurants within this bound; null for any
+   */
+  public ListSearchInputData(String query, Mode mode, DistanceBound distanceBound) {
     this.query = query;
+    this.mode = mode;
+    this.distanceBound = distanceBound;
   }
 
   /**
@@ -18,4 +47,18 @@ public class ListSearchInputData {
   public String getQuery() {
     return query;
   }
+
+  /**
+   * Returns how the query should be matched.
+   */
+  public Mode getMode() {
+    return mode;
+  }
+
+  /**
+   * Returns the distance bound, or null when the search is not restricted by location.
+   */
+  public DistanceBound getDistanceBound() {
+    return distanceBound;
+  }
 }
@@ -1,34 +1,62 @@
 package use_case.list_search;
 
 import entity.Restaurant;
-import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Predicate;
 import use_case.filter.IRestaurantDataAccess;
+import use_case.filter.RestaurantRanking;
+import use_case.nearby_restaurants.DistanceBound;
+import use_case.nearby_restaurants.RestaurantSpatialIndex;
 
 public class ListSearchInteractor implements ListSearchInputBoundary {  // <--- implement interface
 
   private final IRestaurantDataAccess restaurantDataAccess;
   private final ListSearchOutputBoundary outputBoundary;
   private final int maxVisibleRestaurants = 300;
+  private final RestaurantRanking ranking;
+
+  // Indexes over the catalog, rebuilt only when the data access hands out a different list.
+  private List<Restaurant> indexedRestaurants;
+  private RestaurantNameIndex nameIndex;
+  private FuzzySearchIndex fuzzyIndex;
 
   public ListSearchInteractor(IRestaurantDataAccess restaurantDataAccess,
       ListSearchOutputBoundary outputBoundary) {
+    this(restaurantDataAccess, outputBoundary, RestaurantRanking.POPULARITY);
+  }
+
+  /**
+   * @param restaurantDataAccess where restaurants come from
+   * @param outputBoundary       the output boundary
+   * @param ranking              how to order matches; scored once per restaurant when the indexes
+   *                             are built
+   */
+  public ListSearchInteractor(IRestaurantDataAccess restaurantDataAccess,
+      ListSearchOutputBoundary outputBoundary, RestaurantRanking ranking) {
     this.restaurantDataAccess = restaurantDataAccess;
     this.outputBoundary = outputBoundary;
+    this.ranking = ranking;
   }
 
   @Override
   public void search(ListSearchInputData inputData) {  // <--- implement interface method
     String query = inputData.getQuery();  // get query string from inputData
     try {
-      List<Restaurant> allRestaurants = restaurantDataAccess.getAllRestaurants();
+      Predicate<Restaurant> nearby = null;
+      DistanceBound bound = inputData.getDistanceBound();
+      if (bound != null) {
+        RestaurantSpatialIndex spatialIndex = restaurantDataAccess.getSpatialIndex();
+        nearby = restaurant -> spatialIndex.contains(bound, restaurant);
+      }
 
-      List<Restaurant> filtered = allRestaurants.stream()
-          .filter(r -> r.getName().toLowerCase().startsWith(query.toLowerCase()))
-          .sorted(Comparator.comparingDouble(this::ratingToReviewRatio).reversed())
-          .limit(maxVisibleRestaurants)
-          .collect(Collectors.toList());
+      List<Restaurant> filtered;
+      if (inputData.getMode() == ListSearchInputData.Mode.FUZZY) {
+        filtered = query.isBlank()
+            ? nameIndex().searchPrefix("", maxVisibleRestaurants, nearby)
+            : fuzzyIndex().search(query, maxVisibleRestaurants, nearby);
+      } else {
+        filtered = nameIndex().searchPrefix(query, maxVisibleRestaurants, nearby);
+      }
 
       ListSearchOutputData outputData = new ListSearchOutputData(filtered);
       outputBoundary.presentResults(outputData);
@@ -42,7 +70,31 @@ public class ListSearchInteractor implements ListSearchInputBoundary {  // <---
     return List.of();
   }
 
-  private double ratingToReviewRatio(Restaurant r) {
-    return r.getRating() * Math.log10(r.getRatingCount() + 10);
+  private synchronized RestaurantNameIndex nameIndex() {
+    refreshIndexes();
+    if (nameIndex == null) {
+      nameIndex = new RestaurantNameIndex(indexedRestaurants, ranking::score);
+    }
+    return nameIndex;
+  }
+
+  private synchronized FuzzySearchIndex fuzzyIndex() {
+    refreshIndexes();
+    if (fuzzyIndex == null) {
+      fuzzyIndex = new FuzzySearchIndex(indexedRestaurants, ranking::score);
+    }
+    return fuzzyIndex;
+  }
+
+  /**
+   * Drop both indexes when the catalog list changed; each is rebuilt lazily on first use.
+   */
+  private void refreshIndexes() {
+    List<Restaurant> allRestaurants = restaurantDataAccess.getAllRestaurants();
+    if (allRestaurants != indexedRestaurants) {
+      indexedRestaurants = allRestaurants;
+      nameIndex = null;
+      fuzzyIndex = null;
+    }
   }
 }
@@ -0,0 +1,232 @@
+package use_case.list_search;
+
+import entity.Restaurant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Prefix search index over restaurant names. Names are lower-cased once and kept in a sorted
+ * array, so a prefix query is two binary searches plus a walk over the matching range. Each entry
+ * carries its precomputed ranking score, so no per-query lower-casing or score math is needed.
+ */
+public class RestaurantNameIndex {
+
+  private final String[] names;
+  private final double[] scores;
+  private final Restaurant[] restaurants;
+  private final int[] positions;
+
+  // Every entry ordered by score, used when the prefix matches the whole catalog (empty query).
+  private final Restaurant[] byScore;
+
+  /**
+   * Build the index.
+   *
+   * @param restaurants the restaurants to index
+   * @param scorer      ranking score, higher is better
+   */
+  public RestaurantNameIndex(List<Restaurant> restaurants, ToDoubleFunction<Restaurant> scorer) {
+    int n = restaurants.size();
+    Integer[] order = new Integer[n];
+    String[] lowerNames = new String[n];
+    double[] rawScores = new double[n];
+
+    for (int i = 0; i < n; i++) {
+      order[i] = i;
+      lowerNames[i] = restaurants.get(i).getName().toLowerCase(Locale.ROOT);
+      rawScores[i] = scorer.applyAsDouble(restaurants.get(i));
+    }
+
+    Arrays.sort(order, Comparator.comparing((Integer i) -> lowerNames[i]));
+
+    this.names = new String[n];
+    this.scores = new double[n];
+    this.restaurants = new Restaurant[n];
+    this.positions = new int[n];
+    for (int slot = 0; slot < n; slot++) {
+      int i = order[slot];
+      names[slot] = lowerNames[i];
+      scores[slot] = rawScores[i];
+      this.restaurants[slot] = restaurants.get(i);
+      positions[slot] = i;
+    }
+
+    Integer[] rankOrder = new Integer[n];
+    for (int slot = 0; slot < n; slot++) {
+      rankOrder[slot] = slot;
+    }
+    Arrays.sort(rankOrder, this::compareRank);
+    this.byScore = new Restaurant[n];
+    for (int rank = 0; rank < n; rank++) {
+      byScore[rank] = this.restaurants[rankOrder[rank]];
+    }
+  }
+
+  /**
+   * @return number of indexed restaurants
+   */
+  public int size() {
+    return names.length;
+  }
+
+  /**
+   * Find the best scoring restaurants whose name starts with the given prefix, ignoring case.
+   *
+   * @param prefix the typed text
+   * @param limit  maximum number of results
+   * @return up to limit restaurants, best score first
+   */
+  public List<Restaurant> searchPrefix(String prefix, int limit) {
+    return searchPrefix(prefix, limit, null);
+  }
+
+  /**
+   * Find the best scoring restaurants whose name starts with the given prefix and that pass a
+   * filter, such as a distance bound.
+   *
+   * @param prefix the typed text
+   * @param limit  maximum number of results
+   * @param filter restaurants to keep, or null to keep all
+   * @return up to limit restaurants, best score first
+   */
+  public List<Restaurant> searchPrefix(String prefix, int limit, Predicate<Restaurant> filter) {
+    int from = lowerBound(prefix);
+    int to = upperBound(prefix, from);
+    int matches = to - from;
+
+    if (matches == names.length) {
+      if (filter == null) {
+        return List.of(Arrays.copyOf(byScore, Math.min(limit, byScore.length)));
+      }
+      List<Restaurant> result = new ArrayList<>();
+      for (int rank = 0; rank < byScore.length && result.size() < limit; rank++) {
+        if (filter.test(byScore[rank])) {
+          result.add(byScore[rank]);
+        }
+      }
+      return result;
+    }
+
+    if (filter != null) {
+      return searchFiltered(from, to, limit, filter);
+    }
+
+    if (matches <= limit) {
+      Integer[] slots = new Integer[matches];
+      for (int i = 0; i < matches; i++) {
+        slots[i] = from + i;
+      }
+      Arrays.sort(slots, this::compareRank);
+      return toRestaurants(slots);
+    }
+
+    // Keep the best `limit` slots in a min-heap whose head is the weakest result so far.
+    PriorityQueue<Integer> heap = new PriorityQueue<>(limit, (a, b) -> compareRank(b, a));
+    for (int slot = from; slot < to; slot++) {
+      if (heap.size() < limit) {
+        heap.add(slot);
+      } else if (compareRank(slot, heap.peek()) < 0) {
+        heap.poll();
+        heap.add(slot);
+      }
+    }
+    Integer[] slots = heap.toArray(new Integer[0]);
+    Arrays.sort(slots, this::compareRank);
+    return toRestaurants(slots);
+  }
+
+  /**
+   * Ranks the slots in [from, to) that pass the filter, keeping the best {@code limit}.
+   */
+  private List<Restaurant> searchFiltered(int from, int to, int limit,
+      Predicate<Restaurant> filter) {
+    PriorityQueue<Integer> heap = new PriorityQueue<>(Math.max(1, limit),
+        (a, b) -> compareRank(b, a));
+    for (int slot = from; slot < to; slot++) {
+      if (!filter.test(restaurants[slot])) {
+        continue;
+      }
+      if (heap.size() < limit) {
+        heap.add(slot);
+      } else if (limit > 0 && compareRank(slot, heap.peek()) < 0) {
+        heap.poll();
+        heap.add(slot);
+      }
+    }
+    Integer[] slots = heap.toArray(new Integer[0]);
+    Arrays.sort(slots, this::compareRank);
+    return toRestaurants(slots);
+  }
+
+  private List<Restaurant> toRestaurants(Integer[] slots) {
+    List<Restaurant> result = new ArrayList<>(slots.length);
+    for (int slot : slots) {
+      result.add(restaurants[slot]);
+    }
+    return result;
+  }
+
+  /**
+   * Higher score first; ties keep the catalog order so results are stable.
+   */
+  private int compareRank(int a, int b) {
+    int byScoreDesc = Double.compare(scores[b], scores[a]);
+    return byScoreDesc != 0 ? byScoreDesc : Integer.compare(positions[a], positions[b]);
+  }
+
+  /**
+   * First slot whose name is not less than the prefix.
+   */
+  private int lowerBound(String prefix) {
+    int lo = 0;
+    int hi = names.length;
+    while (lo < hi) {
+      int mid = (lo + hi) >>> 1;
+      if (comparePrefix(names[mid], prefix) < 0) {
+        lo = mid + 1;
+      } else {
+        hi = mid;
+      }
+    }
+    return lo;
+  }
+
+  /**
+   * First slot after the run of names starting with the prefix.
+   */
+  private int upperBound(String prefix, int from) {
+    int lo = from;
+    int hi = names.length;
+    while (lo < hi) {
+      int mid = (lo + hi) >>> 1;
+      if (comparePrefix(names[mid], prefix) <= 0) {
+        lo = mid + 1;
+      } else {
+        hi = mid;
+      }
+    }
+    return lo;
+  }
+
+  /**
+   * Compares the first prefix.length() characters of an indexed name against the prefix, folding
+   * the prefix to lower case one character at a time. Returns 0 when the name starts with it.
+   */
+  private static int comparePrefix(String name, String prefix) {
+    int length = Math.min(name.length(), prefix.length());
+    for (int i = 0; i < length; i++) {
+      char expected = Character.toLowerCase(prefix.charAt(i));
+      char actual = name.charAt(i);
+      if (actual != expected) {
+        return actual - expected;
+      }
+    }
+    return name.length() < prefix.length() ? -1 : 0;
+  }
+}
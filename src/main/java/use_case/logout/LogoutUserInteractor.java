@@ -21,6 +21,9 @@ public class LogoutUserInteractor implements LogoutInputBoundary {
 
   @Override
   public void execute() {
+    // Write favorite changes still queued before the session ends
+    currentUser.flushPendingWrites();
+
     // Call Firebase logout (clears any server-side session if applicable)
     authGateway.logout();
 
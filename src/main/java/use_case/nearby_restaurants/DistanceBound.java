@@ -0,0 +1,41 @@
+package use_case.nearby_restaurants;
+
+/**
+ * Restricts a query to restaurants within a radius of a location. Used by the nearby, filter and
+ * list search use cases.
+ */
+public class DistanceBound {
+
+  private final double latitude;
+  private final double longitude;
+  private final double radiusMeters;
+
+  /**
+   * @param latitude     center latitude in degrees
+   * @param longitude    center longitude in degrees
+   * @param radiusMeters maximum distance from the center, in meters
+   */
+  public DistanceBound(double latitude, double longitude, double radiusMeters) {
+    if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+      throw new IllegalArgumentException("Invalid location: " + latitude + ", " + longitude);
+    }
+    if (!(radiusMeters >= 0)) {
+      throw new IllegalArgumentException("Radius must not be negative: " + radiusMeters);
+    }
+    this.latitude = latitude;
+    this.longitude = longitude;
+    this.radiusMeters = radiusMeters;
+  }
+
+  public double getLatitude() {
+    return latitude;
+  }
+
+  public double getLongitude() {
+    return longitude;
+  }
+
+  public double getRadiusMeters() {
+    return radiusMeters;
+  }
+}
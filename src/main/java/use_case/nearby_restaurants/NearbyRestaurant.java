@@ -0,0 +1,28 @@
+package use_case.nearby_restaurants;
+
+import entity.Restaurant;
+
+/**
+ * A restaurant paired with its distance from the query location.
+ */
+public class NearbyRestaurant {
+
+  private final Restaurant restaurant;
+  private final double distanceMeters;
+
+  public NearbyRestaurant(Restaurant restaurant, double distanceMeters) {
+    this.restaurant = restaurant;
+    this.distanceMeters = distanceMeters;
+  }
+
+  public Restaurant getRestaurant() {
+    return restaurant;
+  }
+
+  /**
+   * @return distance from the query location in meters
+   */
+  public double getDistanceMeters() {
+    return distanceMeters;
+  }
+}
@@ -0,0 +1,14 @@
+package use_case.nearby_restaurants;
+
+/**
+ * Input boundary for the nearby restaurants use case.
+ */
+public interface NearbyRestaurantsInputBoundary {
+
+  /**
+   * Find the restaurants closest to a location.
+   *
+   * @param inputData the location, result limit and radius
+   */
+  void execute(NearbyRestaurantsInputData inputData);
+}
@@ -0,0 +1,57 @@
+package use_case.nearby_restaurants;
+
+/**
+ * Input data for the nearby restaurants use case. Either bound may be left open: a limit of 0
+ * returns everything within the radius, and an infinite radius returns the closest restaurants
+ * wherever they are.
+ */
+public class NearbyRestaurantsInputData {
+
+  private final double latitude;
+  private final double longitude;
+  private final int limit;
+  private final double radiusMeters;
+
+  /**
+   * Find the k closest restaurants.
+   *
+   * @param latitude  latitude in degrees
+   * @param longitude longitude in degrees
+   * @param limit     number of restaurants to return
+   */
+  public NearbyRestaurantsInputData(double latitude, double longitude, int limit) {
+    this(latitude, longitude, limit, Double.POSITIVE_INFINITY);
+  }
+
+  /**
+   * Find the closest restaurants within a radius.
+   *
+   * @param latitude     latitude in degrees
+   * @param longitude    longitude in degrees
+   * @param limit        maximum number of restaurants, or 0 for all within the radius
+   * @param radiusMeters maximum distance in meters
+   */
+  public NearbyRestaurantsInputData(double latitude, double longitude, int limit,
+      double radiusMeters) {
+    this.latitude = latitude;
+    this.longitude = longitude;
+    this.limit = limit;
+    this.radiusMeters = radiusMeters;
+  }
+
+  public double getLatitude() {
+    return latitude;
+  }
+
+  public double getLongitude() {
+    return longitude;
+  }
+
+  public int getLimit() {
+    return limit;
+  }
+
+  public double getRadiusMeters() {
+    return radiusMeters;
+  }
+}
@@ -0,0 +1,51 @@
+package use_case.nearby_restaurants;
+
+import java.util.List;
+import use_case.filter.IRestaurantDataAccess;
+
+/**
+ * Interactor for the nearby restaurants use case. Answers from the data access object's
+ * {@link RestaurantSpatialIndex}, which is built once per catalog.
+ */
+public class NearbyRestaurantsInteractor implements NearbyRestaurantsInputBoundary {
+
+  private final IRestaurantDataAccess restaurantDataAccess;
+  private final NearbyRestaurantsOutputBoundary presenter;
+
+  public NearbyRestaurantsInteractor(IRestaurantDataAccess restaurantDataAccess,
+      NearbyRestaurantsOutputBoundary presenter) {
+    this.restaurantDataAccess = restaurantDataAccess;
+    this.presenter = presenter;
+  }
+
+  @Override
+  public void execute(NearbyRestaurantsInputData inputData) {
+    double latitude = inputData.getLatitude();
+    double longitude = inputData.getLongitude();
+    int limit = inputData.getLimit();
+    double radius = inputData.getRadiusMeters();
+
+    if (!(latitude >= -90 && latitude <= 90 && longitude >= -180 && longitude <= 180)) {
+      presenter.presentError("Invalid location: " + latitude + ", " + longitude);
+      return;
+    }
+    if (limit < 0 || !(radius >= 0)) {
+      presenter.presentError("Limit and radius must not be negative");
+      return;
+    }
+    if (limit == 0 && Double.isInfinite(radius)) {
+      presenter.presentError("Give a result limit, a radius or both");
+      return;
+    }
+
+    try {
+      RestaurantSpatialIndex index = restaurantDataAccess.getSpatialIndex();
+      List<NearbyRestaurant> nearby = limit > 0
+          ? index.nearest(latitude, longitude, limit, radius)
+          : index.within(latitude, longitude, radius);
+      presenter.presentNearby(new NearbyRestaurantsOutputData(nearby));
+    } catch (Exception e) {
+      presenter.presentError("Error finding nearby restaurants: " + e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,21 @@
+package use_case.nearby_restaurants;
+
+/**
+ * Output boundary for the nearby restaurants use case.
+ */
+public interface NearbyRestaurantsOutputBoundary {
+
+  /**
+   * Present the restaurants found, nearest first.
+   *
+   * @param outputData the restaurants and their distances
+   */
+  void presentNearby(NearbyRestaurantsOutputData outputData);
+
+  /**
+   * Present an error.
+   *
+   * @param error message to show
+   */
+  void presentError(String error);
+}
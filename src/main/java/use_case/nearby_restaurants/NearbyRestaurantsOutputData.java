@@ -0,0 +1,22 @@
+package use_case.nearby_restaurants;
+
+import java.util.List;
+
+/**
+ * Output data for the nearby restaurants use case.
+ */
+public class NearbyRestaurantsOutputData {
+
+  private final List<NearbyRestaurant> restaurants;
+
+  public NearbyRestaurantsOutputData(List<NearbyRestaurant> restaurants) {
+    this.restaurants = restaurants;
+  }
+
+  /**
+   * @return the restaurants found, nearest first
+   */
+  public List<NearbyRestaurant> getRestaurants() {
+    return restaurants;
+  }
+}
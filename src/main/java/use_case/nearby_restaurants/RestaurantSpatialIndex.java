@@ -0,0 +1,345 @@
+package use_case.nearby_restaurants;
+
+import entity.Restaurant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Uniform grid over restaurant locations for nearest-neighbour and radius queries.
+ *
+ * <p>Coordinates are projected once onto a flat plane in meters (longitude scaled by the cosine of
+ * the catalog's mean latitude), so queries only do flat arithmetic. Within a city this agrees with
+ * the great-circle distance to well under one percent. The grid is sized for a handful of
+ * restaurants per cell and stored cell by cell in flat arrays, so a query touches only the cells
+ * around the location instead of the whole catalog.
+ */
+public class RestaurantSpatialIndex {
+
+  private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+  private static final int TARGET_PER_CELL = 4;
+  private static final double MIN_CELL_METERS = 25;
+
+  private final double cosReference;
+  private final Restaurant[] restaurants;  // grouped by cell
+  private final double[] xs;
+  private final double[] ys;
+  private final double minX;
+  private final double minY;
+  private final double cellSize;
+  private final int columns;
+  private final int rows;
+  private final int[] cellStart;           // cell -> first slot, plus one end marker
+
+  /**
+   * Build the index. Restaurants without a location (0, 0) are left out.
+   *
+   * @param source the restaurants to index
+   */
+  public RestaurantSpatialIndex(List<Restaurant> source) {
+    List<Restaurant> located = new ArrayList<>(source.size());
+    double latitudeSum = 0;
+    for (Restaurant restaurant : source) {
+      if (hasLocation(restaurant)) {
+        located.add(restaurant);
+        latitudeSum += restaurant.getLatitude();
+      }
+    }
+    int n = located.size();
+    this.cosReference = Math.cos(Math.toRadians(n == 0 ? 0 : latitudeSum / n));
+
+    double[] px = new double[n];
+    double[] py = new double[n];
+    double lowX = n == 0 ? 0 : Double.POSITIVE_INFINITY;
+    double lowY = lowX;
+    double highX = n == 0 ? 0 : Double.NEGATIVE_INFINITY;
+    double highY = highX;
+    for (int i = 0; i < n; i++) {
+      px[i] = projectX(located.get(i).getLongitude());
+      py[i] = projectY(located.get(i).getLatitude());
+      lowX = Math.min(lowX, px[i]);
+      lowY = Math.min(lowY, py[i]);
+      highX = Math.max(highX, px[i]);
+      highY = Math.max(highY, py[i]);
+    }
+    this.minX = lowX;
+    this.minY = lowY;
+
+    // Aim for TARGET_PER_CELL restaurants per cell, but never more cells than about two per
+    // restaurant, which would happen when the points lie along a line or far apart.
+    double width = highX - lowX;
+    double height = highY - lowY;
+    double size = Math.max(MIN_CELL_METERS,
+        Math.sqrt(width * height * TARGET_PER_CELL / Math.max(1, n)));
+    long maxCells = 2L * n + 16;
+    while ((long) (width / size + 1) * (long) (height / size + 1) > maxCells) {
+      size *= 1.5;
+    }
+    this.cellSize = size;
+    this.columns = (int) (width / size) + 1;
+    this.rows = (int) (height / size) + 1;
+
+    // Counting sort by cell; restaurants keep their catalog order inside a cell.
+    int cells = columns * rows;
+    int[] cellOf = new int[n];
+    this.cellStart = new int[cells + 1];
+    for (int i = 0; i < n; i++) {
+      cellOf[i] = column(px[i]) + row(py[i]) * columns;
+      cellStart[cellOf[i] + 1]++;
+    }
+    for (int cell = 0; cell < cells; cell++) {
+      cellStart[cell + 1] += cellStart[cell];
+    }
+    int[] next = Arrays.copyOf(cellStart, cells);
+    this.restaurants = new Restaurant[n];
+    this.xs = new double[n];
+    this.ys = new double[n];
+    for (int i = 0; i < n; i++) {
+      int slot = next[cellOf[i]]++;
+      restaurants[slot] = located.get(i);
+      xs[slot] = px[i];
+      ys[slot] = py[i];
+    }
+  }
+
+  /**
+   * @return number of indexed restaurants
+   */
+  public int size() {
+    return restaurants.length;
+  }
+
+  /**
+   * Find the restaurants closest to a location.
+   *
+   * @param latitude     query latitude in degrees
+   * @param longitude    query longitude in degrees
+   * @param limit        maximum number of results
+   * @param radiusMeters ignore restaurants further than this; use infinity for no bound
+   * @return up to limit restaurants, nearest first
+   */
+  public List<NearbyRestaurant> nearest(double latitude, double longitude, int limit,
+      double radiusMeters) {
+    if (limit <= 0 || restaurants.length == 0) {
+      return List.of();
+    }
+    double qx = projectX(longitude);
+    double qy = projectY(latitude);
+    double radiusSquared = radiusMeters * radiusMeters;
+    long centerColumn = (long) Math.floor((qx - minX) / cellSize);
+    long centerRow = (long) Math.floor((qy - minY) / cellSize);
+    // Square rings of cells around the query's cell, skipping rings that miss the grid entirely.
+    long firstRing = Math.max(Math.max(0, Math.max(-centerColumn, centerColumn - columns + 1)),
+        Math.max(-centerRow, centerRow - rows + 1));
+    long lastRing = Math.max(Math.max(Math.abs(centerColumn), Math.abs(centerColumn - columns + 1)),
+        Math.max(Math.abs(centerRow), Math.abs(centerRow - rows + 1)));
+
+    // Bounded max-heap of packed (squared distance, slot) keys; the root is the furthest kept.
+    long[] heap = new long[limit];
+    int[] heapSize = {0};
+    for (long ring = firstRing; ring <= lastRing; ring++) {
+      // Anything not yet visited lies at least (ring - 1) whole cells away.
+      double reach = Math.max(0, ring - 1) * cellSize;
+      double reachSquared = reach * reach;
+      if (reachSquared > radiusSquared
+          || (heapSize[0] == limit && squaredDistance(heap[0]) <= reachSquared)) {
+        break;
+      }
+      long top = centerRow - ring;
+      long bottom = centerRow + ring;
+      long left = centerColumn - ring;
+      long right = centerColumn + ring;
+      int fromColumn = (int) Math.max(0, left);
+      int toColumn = (int) Math.min(columns - 1, right);
+      int fromRow = (int) Math.max(0, top + 1);
+      int toRow = (int) Math.min(rows - 1, bottom - 1);
+      if (top >= 0 && top < rows) {
+        collectRow((int) top, fromColumn, toColumn, qx, qy, radiusSquared, heap, heapSize);
+      }
+      if (ring > 0 && bottom >= 0 && bottom < rows) {
+        collectRow((int) bottom, fromColumn, toColumn, qx, qy, radiusSquared, heap, heapSize);
+      }
+      for (int row = fromRow; row <= toRow; row++) {
+        if (left >= 0 && left < columns) {
+          collectRow(row, (int) left, (int) left, qx, qy, radiusSquared, heap, heapSize);
+        }
+        if (right >= 0 && right < columns) {
+          collectRow(row, (int) right, (int) right, qx, qy, radiusSquared, heap, heapSize);
+        }
+      }
+    }
+    return toNearby(Arrays.copyOf(heap, heapSize[0]));
+  }
+
+  /**
+   * Offers every restaurant in a run of cells on one grid row to the bounded heap.
+   */
+  private void collectRow(int row, int fromColumn, int toColumn, double qx, double qy,
+      double radiusSquared, long[] heap, int[] heapSize) {
+    int limit = heap.length;
+    for (int slot = cellStart[fromColumn + row * columns];
+        slot < cellStart[toColumn + row * columns + 1]; slot++) {
+      double dx = xs[slot] - qx;
+      double dy = ys[slot] - qy;
+      double distanceSquared = dx * dx + dy * dy;
+      if (distanceSquared > radiusSquared) {
+        continue;
+      }
+      long key = distanceKey(distanceSquared, slot);
+      if (heapSize[0] < limit) {
+        heap[heapSize[0]] = key;
+        siftUp(heap, heapSize[0]++);
+      } else if (key < heap[0]) {
+        heap[0] = key;
+        siftDown(heap, limit);
+      }
+    }
+  }
+
+  /**
+   * Find every restaurant within a radius of a location.
+   *
+   * @param latitude     query latitude in degrees
+   * @param longitude    query longitude in degrees
+   * @param radiusMeters maximum distance in meters
+   * @return the matching restaurants, nearest first
+   */
+  public List<NearbyRestaurant> within(double latitude, double longitude, double radiusMeters) {
+    if (restaurants.length == 0) {
+      return List.of();
+    }
+    double qx = projectX(longitude);
+    double qy = projectY(latitude);
+    double radiusSquared = radiusMeters * radiusMeters;
+    int firstColumn = column(qx - radiusMeters);
+    int lastColumn = column(qx + radiusMeters);
+    int firstRow = row(qy - radiusMeters);
+    int lastRow = row(qy + radiusMeters);
+
+    long[] keys = new long[16];
+    int count = 0;
+    for (int row = firstRow; row <= lastRow; row++) {
+      for (int cell = firstColumn + row * columns; cell <= lastColumn + row * columns; cell++) {
+        for (int slot = cellStart[cell]; slot < cellStart[cell + 1]; slot++) {
+          double dx = xs[slot] - qx;
+          double dy = ys[slot] - qy;
+          double distanceSquared = dx * dx + dy * dy;
+          if (distanceSquared <= radiusSquared) {
+            if (count == keys.length) {
+              keys = Arrays.copyOf(keys, count * 2);
+            }
+            keys[count++] = distanceKey(distanceSquared, slot);
+          }
+        }
+      }
+    }
+    return toNearby(Arrays.copyOf(keys, count));
+  }
+
+  /**
+   * Find every restaurant inside a distance bound.
+   *
+   * @param bound the location and radius
+   * @return the matching restaurants, nearest first
+   */
+  public List<NearbyRestaurant> within(DistanceBound bound) {
+    return within(bound.getLatitude(), bound.getLongitude(), bound.getRadiusMeters());
+  }
+
+  /**
+   * Check a single restaurant against a distance bound, using the same distance as the queries.
+   * Restaurants without a location are never inside a bound.
+   *
+   * @param restaurant the restaurant to test
+   * @param bound      the location and radius
+   * @return whether the restaurant lies within the bound
+   */
+  public boolean contains(DistanceBound bound, Restaurant restaurant) {
+    if (!hasLocation(restaurant)) {
+      return false;
+    }
+    double dx = projectX(restaurant.getLongitude()) - projectX(bound.getLongitude());
+    double dy = projectY(restaurant.getLatitude()) - projectY(bound.getLatitude());
+    return dx * dx + dy * dy <= bound.getRadiusMeters() * bound.getRadiusMeters();
+  }
+
+  private List<NearbyRestaurant> toNearby(long[] keys) {
+    Arrays.sort(keys);
+    List<NearbyRestaurant> result = new ArrayList<>(keys.length);
+    for (long key : keys) {
+      result.add(new NearbyRestaurant(restaurants[(int) key],
+          Math.sqrt(squaredDistance(key))));
+    }
+    return result;
+  }
+
+  private double projectX(double longitude) {
+    return Math.toRadians(longitude) * cosReference * EARTH_RADIUS_METERS;
+  }
+
+  private static double projectY(double latitude) {
+    return Math.toRadians(latitude) * EARTH_RADIUS_METERS;
+  }
+
+  /**
+   * Grid column of a projected x, clamped to the grid.
+   */
+  private int column(double x) {
+    return (int) Math.max(0, Math.min(columns - 1, Math.floor((x - minX) / cellSize)));
+  }
+
+  /**
+   * Grid row of a projected y, clamped to the grid.
+   */
+  private int row(double y) {
+    return (int) Math.max(0, Math.min(rows - 1, Math.floor((y - minY) / cellSize)));
+  }
+
+  private static boolean hasLocation(Restaurant restaurant) {
+    return restaurant.getLatitude() != 0 || restaurant.getLongitude() != 0;
+  }
+
+  /**
+   * Packs a squared distance and a slot into one long that orders by distance, then by slot.
+   */
+  private static long distanceKey(double distanceSquared, int slot) {
+    return (long) Float.floatToIntBits((float) distanceSquared) << 32 | slot;
+  }
+
+  private static double squaredDistance(long key) {
+    return Float.intBitsToFloat((int) (key >>> 32));
+  }
+
+  private static void siftUp(long[] heap, int index) {
+    long key = heap[index];
+    while (index > 0) {
+      int parent = (index - 1) >>> 1;
+      if (heap[parent] >= key) {
+        break;
+      }
+      heap[index] = heap[parent];
+      index = parent;
+    }
+    heap[index] = key;
+  }
+
+  private static void siftDown(long[] heap, int size) {
+    long key = heap[0];
+    int index = 0;
+    while (true) {
+      int child = 2 * index + 1;
+      if (child >= size) {
+        break;
+      }
+      if (child + 1 < size && heap[child + 1] > heap[child]) {
+        child++;
+      }
+      if (heap[child] <= key) {
+        break;
+      }
+      heap[index] = heap[child];
+      index = child;
+    }
+    heap[index] = key;
+  }
+}
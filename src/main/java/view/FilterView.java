@@ -1,16 +1,16 @@
 package view;
 
-import data_access.JsonRestaurantDataAccessObject;
 import entity.Restaurant;
 import interface_adapter.ImageDataAccessInterface;
+import interface_adapter.ImageResources;
 import interface_adapter.ViewManagerModel;
 import interface_adapter.filter.FilterController;
 import interface_adapter.filter.FilterState;
 import interface_adapter.filter.FilterViewModel;
 import interface_adapter.view_restaurant.ViewRestaurantController;
 import interface_adapter.view_restaurant.ViewRestaurantViewModel;
+import use_case.filter.IRestaurantDataAccess;
 
-import javax.imageio.ImageIO;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.image.BufferedImage;
@@ -34,12 +34,10 @@ public class FilterView extends JPanel implements PropertyChangeListener {
 
     // Data access for images and restaurant info
     private ImageDataAccessInterface imageDataAccess;
-    private JsonRestaurantDataAccessObject restaurantDataAccess;
+    private ThumbnailLoader thumbnailLoader;
+    private IRestaurantDataAccess restaurantDataAccess;
     private String apiKey;
 
-    // Map restaurant names to their CIDs for navigation
-    private java.util.Map<String, String> nameToCidMap = new java.util.HashMap<>();
-
     private final JLabel titleLabel;
     private final JButton backButton;
     private final JPanel buttonPanel;
@@ -133,6 +131,7 @@ public class FilterView extends JPanel implements PropertyChangeListener {
         // Force the panel to resize when viewport changes
         scrollPane.getViewport().addChangeListener(e -> {
             restaurantCardsPanel.revalidate();
+            updateVisibleThumbnails();
         });
 
         // Add components to main panel
@@ -185,43 +184,30 @@ public class FilterView extends JPanel implements PropertyChangeListener {
     }
 
     /**
-     * Fetches an image for a restaurant.
+     * Shows the placeholder on a restaurant's card and fetches its photo in the background.
      */
-    private BufferedImage fetchRestaurantImage(Restaurant restaurant) {
-        if (imageDataAccess == null || apiKey == null || apiKey.isEmpty()) {
-            return getPlaceholderImage();
+    private void loadRestaurantImage(Restaurant restaurant, RestaurantPanel restaurantPanel) {
+        restaurantPanel.setImage(getPlaceholderImage());
+        if (thumbnailLoader != null && restaurant.getPhotoIds() != null && !restaurant.getPhotoIds().isEmpty()) {
+            thumbnailLoader.add(restaurantPanel, restaurant.getPhotoIds().get(0), restaurantPanel::setImage);
         }
+    }
 
-        try {
-            if (restaurant != null && restaurant.getPhotoIds() != null && !restaurant.getPhotoIds().isEmpty()) {
-                String photoId = restaurant.getPhotoIds().get(0);
-                BufferedImage image = imageDataAccess.fetchRestaurantImage(photoId, apiKey);
-                if (image != null) {
-                    return image;
-                }
-            }
-        } catch (Exception e) {
-            System.err.println("Error fetching image for " + restaurant.getName() + ": " + e.getMessage());
+    /**
+     * Fetches photos for the cards now in or near view; see ThumbnailLoader.
+     */
+    private void updateVisibleThumbnails() {
+        if (thumbnailLoader != null) {
+            thumbnailLoader.setVisibleArea(scrollPane.getViewport().getViewRect());
         }
-
-        return getPlaceholderImage();
     }
 
     /**
-     * Gets a placeholder image.
+     * Gets the shared card-size placeholder image.
      */
     private BufferedImage getPlaceholderImage() {
-        try {
-            return ImageIO.read(getClass().getResource("/images/placeholder.png"));
-        } catch (Exception e) {
-            // Return a simple colored placeholder
-            BufferedImage placeholder = new BufferedImage(280, 140, BufferedImage.TYPE_INT_RGB);
-            Graphics2D g2d = placeholder.createGraphics();
-            g2d.setColor(new Color(255, 220, 220));
-            g2d.fillRect(0, 0, 280, 140);
-            g2d.dispose();
-            return placeholder;
-        }
+        return ImageResources.get(ImageResources.PLACEHOLDER,
+                ImageDataAccessInterface.CARD_THUMBNAIL_WIDTH, ImageDataAccessInterface.CARD_THUMBNAIL_HEIGHT);
     }
 
     /**
@@ -297,6 +283,9 @@ public class FilterView extends JPanel implements PropertyChangeListener {
 
         // Clear previous restaurant cards
         restaurantCardsPanel.removeAll();
+        if (thumbnailLoader != null) {
+            thumbnailLoader.clear();
+        }
 
         // Reset to FlowLayout in case it was changed
         if (!(restaurantCardsPanel.getLayout() instanceof FlowLayout)) {
@@ -318,7 +307,6 @@ public class FilterView extends JPanel implements PropertyChangeListener {
                 Restaurant restaurant = findRestaurantByName(restaurantName);
 
                 RestaurantPanel.RestaurantDisplayData displayData;
-                BufferedImage image = null;
                 String restaurantId;
 
                 if (restaurant != null) {
@@ -332,7 +320,6 @@ public class FilterView extends JPanel implements PropertyChangeListener {
                             false,
                             0.0
                     );
-                    image = fetchRestaurantImage(restaurant);
                 } else {
                     // Fallback to placeholder data
                     restaurantId = restaurantName;
@@ -346,7 +333,10 @@ public class FilterView extends JPanel implements PropertyChangeListener {
                     );
                 }
 
-                RestaurantPanel restaurantPanel = new RestaurantPanel(displayData, image);
+                RestaurantPanel restaurantPanel = new RestaurantPanel(displayData);
+                if (restaurant != null) {
+                    loadRestaurantImage(restaurant, restaurantPanel);
+                }
 
                 // Set up click listener to navigate to RestaurantView
                 final String finalRestaurantId = restaurantId;
@@ -362,23 +352,20 @@ public class FilterView extends JPanel implements PropertyChangeListener {
         restaurantCardsPanel.repaint();
         scrollPane.revalidate();
         scrollPane.repaint();
+
+        // Cards have bounds once laid out, which happens after revalidate
+        SwingUtilities.invokeLater(this::updateVisibleThumbnails);
     }
 
     /**
-     * Finds a restaurant by name from the data access.
+     * Finds a restaurant by name using the data access name index.
      */
     private Restaurant findRestaurantByName(String name) {
         if (restaurantDataAccess == null) {
             return null;
         }
 
-        List<Restaurant> allRestaurants = restaurantDataAccess.getAllRestaurants();
-        for (Restaurant restaurant : allRestaurants) {
-            if (restaurant.getName().equals(name)) {
-                return restaurant;
-            }
-        }
-        return null;
+        return restaurantDataAccess.getRestaurantByName(name);
     }
 
     /**
@@ -445,24 +432,14 @@ public class FilterView extends JPanel implements PropertyChangeListener {
 
     public void setImageDataAccess(ImageDataAccessInterface imageDataAccess) {
         this.imageDataAccess = imageDataAccess;
+        if (thumbnailLoader != null) {
+            thumbnailLoader.shutdown();
+        }
+        thumbnailLoader = imageDataAccess == null || apiKey == null || apiKey.isEmpty()
+                ? null : new ThumbnailLoader(imageDataAccess, apiKey);
     }
 
-    public void setRestaurantDataAccess(JsonRestaurantDataAccessObject restaurantDataAccess) {
+    public void setRestaurantDataAccess(IRestaurantDataAccess restaurantDataAccess) {
         this.restaurantDataAccess = restaurantDataAccess;
-
-        // Build name-to-CID map for navigation
-        // We need to iterate through all restaurants and find their CIDs
-        if (restaurantDataAccess != null) {
-            nameToCidMap.clear();
-            List<Restaurant> allRestaurants = restaurantDataAccess.getAllRestaurants();
-            for (Restaurant restaurant : allRestaurants) {
-                // Try to find this restaurant's CID by checking if we can look it up
-                // The restaurant name becomes the key, and we'll try to find the actual ID
-                String name = restaurant.getName();
-                // For now, just store name -> name mapping
-                // The actual CID lookup will happen in getRestaurantId
-                nameToCidMap.put(name, name);
-            }
-        }
     }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import data_access.UserDataAccessInterface;
 import entity.Restaurant;
 import entity.User;
 import interface_adapter.ImageDataAccessInterface;
+import interface_adapter.ImageResources;
 import interface_adapter.ViewManagerModel;
 import interface_adapter.chat.ChatController;
 import interface_adapter.chat.ChatState;
@@ -19,11 +20,14 @@ import interface_adapter.list_search.ListSearchViewModel;
 import interface_adapter.logged_in.LoggedInState;
 import interface_adapter.logged_in.LoggedInViewModel;
 import interface_adapter.logout.LogoutController;
+import interface_adapter.nearby_restaurants.NearbyRestaurantsController;
+import interface_adapter.nearby_restaurants.NearbyRestaurantsState;
+import interface_adapter.nearby_restaurants.NearbyRestaurantsViewModel;
 import interface_adapter.random_restauarant.RandomRestaurantController;
 import interface_adapter.view_restaurant.ViewRestaurantController;
 import interface_adapter.view_restaurant.ViewRestaurantViewModel;
+import use_case.nearby_restaurants.DistanceBound;
 
-import javax.imageio.ImageIO;
 import javax.swing.*;
 import javax.swing.event.DocumentEvent;
 import javax.swing.event.DocumentListener;
@@ -33,7 +37,6 @@ import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
 import java.io.IOException;
 import java.util.List;
-import java.util.Objects;
 
 /**
  * The View displayed after successful login. Shows user information, provides logout functionality,
@@ -43,6 +46,12 @@ public class LoggedInView extends JPanel implements PropertyChangeListener {
 
     public static final String VIEW_NAME = "logged in";
 
+    // There is no device location, so "near me" means near the St. George campus.
+    private static final double CAMPUS_LATITUDE = 43.6629;
+    private static final double CAMPUS_LONGITUDE = -79.3957;
+    private static final double NEAR_CAMPUS_METERS = 1500;
+    private static final int NEARBY_LIMIT = 20;
+
     // ViewModels
     private final LoggedInViewModel loggedInViewModel;
 
@@ -56,10 +65,14 @@ public class LoggedInView extends JPanel implements PropertyChangeListener {
     private final JButton searchButton;
     private String searchHolder = "";
     private final JTextField searchField;
+    private final JCheckBox fuzzySearchCheckBox;
+    private final JCheckBox nearCampusCheckBox;
+    private final JButton nearbyButton;
     private final JPanel restaurantGridPanel;
     private final JScrollPane restaurantScrollPane;
 
     private ListSearchViewModel listSearchViewModel;
+    private NearbyRestaurantsViewModel nearbyRestaurantsViewModel;
 
     // Controllers
     private LogoutController logoutController;
@@ -68,6 +81,7 @@ public class LoggedInView extends JPanel implements PropertyChangeListener {
     private ViewManagerModel viewManagerModel;
     private ViewRestaurantViewModel viewRestaurantViewModel;
     private ListSearchController searchController;
+    private NearbyRestaurantsController nearbyRestaurantsController;
 
     // Favorites
     private FavoritesViewModel favoritesViewModel;
@@ -78,6 +92,7 @@ public class LoggedInView extends JPanel implements PropertyChangeListener {
 
     // Image and restaurant data loading
     private ImageDataAccessInterface imageDataAccess;
+    private ThumbnailLoader thumbnailLoader;
     private JsonRestaurantDataAccessObject restaurantDataAccess;
     private String apiKey;
 
@@ -198,17 +213,37 @@ public class LoggedInView extends JPanel implements PropertyChangeListener {
             }
         });
 
+        fuzzySearchCheckBox = new JCheckBox("Typo-tolerant");
+        fuzzySearchCheckBox.setBackground(Color.WHITE);
+        fuzzySearchCheckBox.setToolTipText("Also match cuisine, address and misspelled names");
+
+        nearCampusCheckBox = new JCheckBox("Near campus");
+        nearCampusCheckBox.setBackground(Color.WHITE);
+        nearCampusCheckBox.setToolTipText("Only show restaurants within 1.5 km of campus");
+
         searchButton = new JButton("\uD83D\uDD0D");
         searchButton.setAlignmentX(Component.RIGHT_ALIGNMENT);
         searchButton.addActionListener(evt -> {
           if(searchHolder != null && searchController != null) {
-            searchController.search(searchHolder);
+            DistanceBound bound = nearCampusCheckBox.isSelected()
+                ? new DistanceBound(CAMPUS_LATITUDE, CAMPUS_LONGITUDE, NEAR_CAMPUS_METERS)
+                : null;
+            searchController.search(searchHolder, fuzzySearchCheckBox.isSelected(), bound);
           }
           else {
             JOptionPane.showMessageDialog(this, "Search bar is empty.");
           }
         });
 
+        nearbyButton = new JButton("Nearby");
+        nearbyButton.setToolTipText("Show the restaurants closest to campus");
+        nearbyButton.addActionListener(evt -> {
+            if (nearbyRestaurantsController != null) {
+                nearbyRestaurantsController.findNearest(CAMPUS_LATITUDE, CAMPUS_LONGITUDE,
+                        NEARBY_LIMIT);
+            }
+        });
+
         JPanel chatButtonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT, 5, 0));
         chatButtonPanel.setBackground(Color.WHITE);
         chatButtonPanel.add(sendChatButton); // 先加Send按钮
@@ -248,6 +283,9 @@ public class LoggedInView extends JPanel implements PropertyChangeListener {
         searchField.setPreferredSize(new Dimension(400, 28));
         searchPanel.add(searchField);
         searchPanel.add(searchButton, BorderLayout.EAST);
+        searchPanel.add(fuzzySearchCheckBox);
+        searchPanel.add(nearCampusCheckBox);
+        searchPanel.add(nearbyButton);
 
         searchField.getDocument().addDocumentListener(new DocumentListener() {
             @Override
@@ -312,6 +350,7 @@ public class LoggedInView extends JPanel implements PropertyChangeListener {
         // Force the panel to resize when viewport changes
         restaurantScrollPane.getViewport().addChangeListener(e -> {
             restaurantGridPanel.revalidate();
+            updateVisibleThumbnails();
         });
 
         // Add to main panel
@@ -394,62 +433,49 @@ public class LoggedInView extends JPanel implements PropertyChangeListener {
     }
 
     /**
-     * Fetches an image for a restaurant using the restaurant data access.
+     * Finds the photo to show on a restaurant's card, using the restaurant data access.
+     * @return the first photo ID, or null if there is none or images cannot be fetched
      */
-    private BufferedImage fetchRestaurantImage(RestaurantPanel.RestaurantDisplayData displayData) {
+    private String findPhotoId(RestaurantPanel.RestaurantDisplayData displayData) {
         // Check if we have necessary dependencies
-        if (imageDataAccess == null) {
-            System.out.println("DEBUG: imageDataAccess is null");
-            return getPlaceholderImage();
-        }
-
-        if (apiKey == null || apiKey.isEmpty()) {
-            System.out.println("DEBUG: API key is null or empty");
-            return getPlaceholderImage();
+        if (thumbnailLoader == null) {
+            System.out.println("DEBUG: imageDataAccess is null or API key is null or empty");
+            return null;
         }
 
         if (restaurantDataAccess == null) {
             System.out.println("DEBUG: restaurantDataAccess is null");
-            return getPlaceholderImage();
+            return null;
         }
 
         try {
             // Use restaurantDataAccess to get restaurant data including photo IDs
             Restaurant restaurant = restaurantDataAccess.get(displayData.getId());
             if (restaurant != null && restaurant.getPhotoIds() != null && !restaurant.getPhotoIds().isEmpty()) {
-                String photoId = restaurant.getPhotoIds().get(0);
-                System.out.println("DEBUG: Fetching image for " + displayData.getName() + " with photoId: " + photoId);
-                BufferedImage image = imageDataAccess.fetchRestaurantImage(photoId, apiKey);
-                if (image != null) {
-                    return image;
-                }
-            } else {
-                System.out.println("DEBUG: No photo IDs for restaurant: " + displayData.getName());
+                return restaurant.getPhotoIds().get(0);
             }
+            System.out.println("DEBUG: No photo IDs for restaurant: " + displayData.getName());
         } catch (Exception e) {
-            System.err.println("Error fetching image for " + displayData.getName() + ": " + e.getMessage());
+            System.err.println("Error finding photo for " + displayData.getName() + ": " + e.getMessage());
         }
+        return null;
+    }
 
-        return getPlaceholderImage();
+    /**
+     * Fetches photos for the cards now in or near view; see ThumbnailLoader.
+     */
+    private void updateVisibleThumbnails() {
+        if (thumbnailLoader != null) {
+            thumbnailLoader.setVisibleArea(restaurantScrollPane.getViewport().getViewRect());
+        }
     }
 
     /**
-     * Gets a placeholder image.
+     * Gets the shared card-size placeholder image.
      */
     private BufferedImage getPlaceholderImage() {
-        try {
-            return ImageIO.read(Objects.requireNonNull(
-                    getClass().getResource("/images/placeholder.png")
-            ));
-        } catch (Exception e) {
-            // Return a simple colored placeholder
-            BufferedImage placeholder = new BufferedImage(280, 140, BufferedImage.TYPE_INT_RGB);
-            Graphics2D g2d = placeholder.createGraphics();
-            g2d.setColor(new Color(255, 220, 220));
-            g2d.fillRect(0, 0, 280, 140);
-            g2d.dispose();
-            return placeholder;
-        }
+        return ImageResources.get(ImageResources.PLACEHOLDER,
+                ImageDataAccessInterface.CARD_THUMBNAIL_WIDTH, ImageDataAccessInterface.CARD_THUMBNAIL_HEIGHT);
     }
 
     /**
@@ -457,15 +483,19 @@ public class LoggedInView extends JPanel implements PropertyChangeListener {
      */
     private void populateRestaurantGrid(List<RestaurantPanel.RestaurantDisplayData> restaurants) {
         restaurantGridPanel.removeAll();
+        if (thumbnailLoader != null) {
+            thumbnailLoader.clear();
+        }
 
         RestaurantPanel.HeartClickListener heartListener = createFavoritesHeartListener();
 
         for (RestaurantPanel.RestaurantDisplayData displayData : restaurants) {
-            // Fetch image for this restaurant
-            BufferedImage image = fetchRestaurantImage(displayData);
-
-            // Create panel with image
-            RestaurantPanel panel = new RestaurantPanel(displayData, image);
+            // Show the placeholder until the photo is fetched in the background
+            RestaurantPanel panel = new RestaurantPanel(displayData, getPlaceholderImage());
+            String photoId = findPhotoId(displayData);
+            if (photoId != null) {
+                thumbnailLoader.add(panel, photoId, panel::setImage);
+            }
 
             // Check if favorited and set heart state
             boolean isFavorited = isRestaurantFavorited(displayData.getId());
@@ -496,6 +526,9 @@ public class LoggedInView extends JPanel implements PropertyChangeListener {
         // Force scroll pane to update
         restaurantScrollPane.revalidate();
         restaurantScrollPane.repaint();
+
+        // Cards have bounds once laid out, which happens after revalidate
+        SwingUtilities.invokeLater(this::updateVisibleThumbnails);
     }
 
     @Override
@@ -506,6 +539,9 @@ public class LoggedInView extends JPanel implements PropertyChangeListener {
         } else if (evt.getSource() == listSearchViewModel) {
             ListSearchState state = (ListSearchState) evt.getNewValue();
             updateListSearchView(state);
+        } else if (evt.getSource() == nearbyRestaurantsViewModel) {
+            NearbyRestaurantsState state = (NearbyRestaurantsState) evt.getNewValue();
+            updateNearbyView(state);
         }
     }
 
@@ -532,6 +568,16 @@ public class LoggedInView extends JPanel implements PropertyChangeListener {
         populateRestaurantGrid(state.getFilteredRestaurants());
     }
 
+    private void updateNearbyView(NearbyRestaurantsState state) {
+        if (state.getErrorMessage() != null && !state.getErrorMessage().isEmpty()) {
+            JOptionPane.showMessageDialog(this, state.getErrorMessage());
+            state.setErrorMessage(null);
+            return;
+        }
+
+        populateRestaurantGrid(state.getRestaurants());
+    }
+
     public String getViewName() {
         return VIEW_NAME;
     }
@@ -564,6 +610,19 @@ public class LoggedInView extends JPanel implements PropertyChangeListener {
         this.searchController = searchController;
     }
 
+    public void setNearbyRestaurantsController(
+            NearbyRestaurantsController nearbyRestaurantsController) {
+        this.nearbyRestaurantsController = nearbyRestaurantsController;
+    }
+
+    public void setNearbyRestaurantsViewModel(
+            NearbyRestaurantsViewModel nearbyRestaurantsViewModel) {
+        this.nearbyRestaurantsViewModel = nearbyRestaurantsViewModel;
+        if (this.nearbyRestaurantsViewModel != null) {
+            this.nearbyRestaurantsViewModel.addPropertyChangeListener(this);
+        }
+    }
+
     public void setListSearchViewModel(ListSearchViewModel listSearchViewModel) {
         this.listSearchViewModel = listSearchViewModel;
         if (this.listSearchViewModel != null) {
@@ -607,6 +666,11 @@ public class LoggedInView extends JPanel implements PropertyChangeListener {
 
     public void setImageDataAccess(ImageDataAccessInterface imageDataAccess) {
         this.imageDataAccess = imageDataAccess;
+        if (thumbnailLoader != null) {
+            thumbnailLoader.shutdown();
+        }
+        thumbnailLoader = imageDataAccess == null || apiKey == null || apiKey.isEmpty()
+                ? null : new ThumbnailLoader(imageDataAccess, apiKey);
     }
 
     public void setRestaurantDataAccess(JsonRestaurantDataAccessObject restaurantDataAccess) {
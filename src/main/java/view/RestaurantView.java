@@ -3,6 +3,8 @@ package view;
 import data_access.UserDataAccessInterface;
 import entity.Review;
 import entity.User;
+import interface_adapter.ImageResources;
+import interface_adapter.ImageScaling;
 import interface_adapter.ViewManagerModel;
 import interface_adapter.add_review.AddReviewController;
 import interface_adapter.add_review.AddReviewViewModel;
@@ -38,11 +40,14 @@ import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.List;
 
 
 public class RestaurantView extends JPanel implements ActionListener, PropertyChangeListener {
 
 
+    private static final int MAX_PHOTO_HEIGHT = 700;
+
     private final String viewName = "restaurant info";
     private final RestaurantTitlePanel titlePanel;
     private final JPanel imageAndInfoPanel = new JPanel();
@@ -74,6 +79,8 @@ public class RestaurantView extends JPanel implements ActionListener, PropertyCh
     private LoggedInViewModel loggedInViewModel;
     private DisplayReviewsViewModel displayReviewsViewModel = new DisplayReviewsViewModel();
     private DisplayReviewsController displayReviewsController;
+    // Whether the next page of reviews has been requested and not displayed yet
+    private boolean loadingReviews = false;
 
     // Favorite controllers
     private AddFavoriteController addFavoriteController;
@@ -111,6 +118,7 @@ public class RestaurantView extends JPanel implements ActionListener, PropertyCh
 
         // align content to the left
         imageAndInfoPanel.add(createImageLabel(state));
+        addGalleryListener();
         imageAndInfoPanel.add(Box.createVerticalStrut(8));
         imageAndInfoPanel.add(createInfoPanel());
         imageAndInfoPanel.add(Box.createVerticalGlue());
@@ -156,6 +164,8 @@ public class RestaurantView extends JPanel implements ActionListener, PropertyCh
         leftScroll.setBorder(null);
 
         rightScroll.setBorder(null);
+        // Fetch the next page of reviews when scrolled near the bottom
+        rightScroll.getVerticalScrollBar().addAdjustmentListener(e -> loadMoreReviewsIfNearBottom());
 
         add(titlePanel, BorderLayout.NORTH);
         add(leftScroll, BorderLayout.WEST);
@@ -296,22 +306,23 @@ public class RestaurantView extends JPanel implements ActionListener, PropertyCh
         // get the image and save it in a label
 
         if (state.getPhotos() != null && !state.getPhotos().isEmpty()) {
-            ImageIcon shortestIcon = new ImageIcon(state.getPhotos().get(0));
-
-            for (BufferedImage image : state.getPhotos()) {
-                Image scaled = image.getScaledInstance(800, -1, Image.SCALE_SMOOTH);
-                ImageIcon curIcon = new ImageIcon(scaled);
-
-                if (curIcon.getIconHeight() < shortestIcon.getIconHeight()) {
-                    shortestIcon = curIcon;
-                }
+            // Photos still loading in the background show the placeholder until they arrive
+            BufferedImage photo = state.getShownPhoto();
+            if (photo == null) {
+                photo = ImageResources.getAtWidth(ImageResources.PLACEHOLDER, ViewRestaurantViewModel.PHOTO_WIDTH);
+            }
 
-                if (curIcon.getIconHeight() < 700) {
-                    break;
-                }
+            // Tall photos are cropped rather than pushing the rest of the page down
+            if (ImageScaling.heightAtWidth(photo, ViewRestaurantViewModel.PHOTO_WIDTH) > MAX_PHOTO_HEIGHT) {
+                imageLabel.setIcon(new ImageIcon(ImageScaling.scaleToFill(photo, ViewRestaurantViewModel.PHOTO_WIDTH,
+                        MAX_PHOTO_HEIGHT)));
+            } else {
+                imageLabel.setIcon(new ImageIcon(ImageScaling.scaleToWidth(photo, ViewRestaurantViewModel.PHOTO_WIDTH)));
             }
 
-            imageLabel.setIcon(shortestIcon);
+            int count = state.getPhotos().size();
+            imageLabel.setToolTipText(count > 1
+                    ? "Photo " + (state.getPhotoIndex() + 1) + " of " + count + " - click for the next" : null);
         }
 
         imageLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
@@ -322,6 +333,19 @@ public class RestaurantView extends JPanel implements ActionListener, PropertyCh
         return imageLabel;
     }
 
+    /**
+     * Pages through the restaurant's photos when the photo is clicked.
+     */
+    private void addGalleryListener() {
+        imageLabel.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (viewRestaurantController != null) {
+                    viewRestaurantController.showPhoto(viewRestaurantViewModel.getState().getPhotoIndex() + 1);
+                }
+            }
+        });
+    }
 
     private void addReviewListener() {
         submitReview.addMouseListener(new MouseAdapter() {
@@ -366,6 +390,19 @@ public class RestaurantView extends JPanel implements ActionListener, PropertyCh
 
     @Override
     public void propertyChange(PropertyChangeEvent evt) {
+        if ("restaurant photos".equals(evt.getPropertyName())) {
+            // Only the photo changed: another one is shown, or the shown one has loaded
+            createImageLabel(viewRestaurantViewModel.getState());
+            return;
+        }
+        if ("display reviews error".equals(evt.getPropertyName())) {
+            JOptionPane.showMessageDialog(this, displayReviewsViewModel.getState().getErrorMessage(),
+                    "Error", JOptionPane.ERROR_MESSAGE);
+            // Cleared after the dialog closes, so scrolling can retry the page
+            loadingReviews = false;
+            return;
+        }
+
         System.out.println("RestaurantView.propertyChange fired: " + evt.getPropertyName());
         addReviewListener();
         addExitListener();
@@ -412,9 +449,14 @@ public class RestaurantView extends JPanel implements ActionListener, PropertyCh
 
         if ("display reviews".equals(evt.getPropertyName()) && evt.getPropertyName() != null) {
             DisplayReviewsStateList state = displayReviewsViewModel.getState();
-            reviewsContainer.removeAll();
+            List<DisplayReviewsState> reviewStates = state.getDisplayReviewsStateList();
+            loadingReviews = false;
+            // Only the latest page is new; earlier pages are already on screen
+            if (state.getFirstNewIndex() == 0) {
+                reviewsContainer.removeAll();
+            }
 
-            for (DisplayReviewsState reviewState : state.getDisplayReviewsStateList()) {
+            for (DisplayReviewsState reviewState : reviewStates.subList(state.getFirstNewIndex(), reviewStates.size())) {
 
                 ReviewPanel reviewPanel = new ReviewPanel(reviewState.getAuthorDisplayName(), reviewState.getCreationDate(), reviewState.getContent());
 
@@ -428,6 +470,8 @@ public class RestaurantView extends JPanel implements ActionListener, PropertyCh
                 reviewPanel.setMaximumSize(new Dimension(Integer.MAX_VALUE, preferredSize.height));
             }
 
+            // A short first page may not fill the panel, leaving nothing to scroll
+            SwingUtilities.invokeLater(this::loadMoreReviewsIfNearBottom);
         }
 
         if ("review status".equals(evt.getPropertyName()) && evt.getPropertyName() != null) {
@@ -454,6 +498,20 @@ public class RestaurantView extends JPanel implements ActionListener, PropertyCh
         repaint();
     }
 
+    private void loadMoreReviewsIfNearBottom() {
+        DisplayReviewsStateList state = displayReviewsViewModel.getState();
+        if (loadingReviews || displayReviewsController == null || state.getNextCursor() == null) {
+            return;
+        }
+        JScrollBar scrollBar = rightScroll.getVerticalScrollBar();
+        int distanceToBottom = scrollBar.getMaximum() - scrollBar.getValue() - scrollBar.getVisibleAmount();
+        if (distanceToBottom < rightScroll.getViewport().getHeight() / 2) {
+            loadingReviews = true;
+            displayReviewsController.loadMore(state.getRestaurantId(), state.getOrder(),
+                    state.getNextCursor());
+        }
+    }
+
     private void openTranslationWindowFor(DisplayReviewsState reviewState) {
         // Get DeepL API key
         String key = System.getenv("DEEPL_API_KEY");
@@ -0,0 +1,263 @@
+package view;
+
+import interface_adapter.ImageDataAccessInterface;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Loads restaurant card thumbnails in the background, so a grid of cards paints at once with
+ * placeholders and each photo is swapped in when it arrives.
+ *
+ * <p>Only cards in or near the visible area are fetched: visible cards first, then cards within
+ * one screen above or below, each in grid order. Fetches not yet started for cards scrolled away
+ * are cancelled and requested again if the card comes back. The time each fetch takes is recorded.
+ *
+ * <p>Cards are added and the visible area set on the Swing thread; loaded photos are handed back
+ * through the callback executor, the Swing thread by default.
+ */
+public class ThumbnailLoader {
+
+    /** Fetches run at the same time when no count is given. */
+    public static final int DEFAULT_THREADS = 6;
+
+    private static final int VISIBLE = 0;
+    private static final int NEAR = 1;
+    private static final int AWAY = 2;
+
+    private final ImageDataAccessInterface imageDataAccess;
+    private final String apiKey;
+    private final Executor callbackExecutor;
+    private final ThreadPoolExecutor fetches;
+
+    // confined to the callback thread; in grid order
+    private final Map<Component, Card> cards = new LinkedHashMap<>();
+    private long nextSequence;
+
+    private final AtomicLong fetchCount = new AtomicLong();
+    private final AtomicLong totalFetchNanos = new AtomicLong();
+    private final AtomicLong maxFetchNanos = new AtomicLong();
+    private final AtomicLong cancelledCount = new AtomicLong();
+
+    /**
+     * Loader handing photos back on the Swing thread.
+     * @param imageDataAccess where photos are fetched from
+     * @param apiKey the Places API key
+     */
+    public ThumbnailLoader(ImageDataAccessInterface imageDataAccess, String apiKey) {
+        this(imageDataAccess, apiKey, DEFAULT_THREADS, SwingUtilities::invokeLater);
+    }
+
+    /**
+     * @param imageDataAccess where photos are fetched from
+     * @param apiKey the Places API key
+     * @param threads most fetches run at the same time
+     * @param callbackExecutor where loaded photos are handed to cards
+     */
+    public ThumbnailLoader(ImageDataAccessInterface imageDataAccess, String apiKey, int threads,
+                           Executor callbackExecutor) {
+        this.imageDataAccess = imageDataAccess;
+        this.apiKey = apiKey;
+        this.callbackExecutor = callbackExecutor;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.fetches = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                new PriorityBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "thumbnail-loader-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.fetches.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Adds a card whose photo is fetched once it is in or near the visible area.
+     * @param card the card, a child of the panel the visible area is given in
+     * @param photoId the photo to show on it
+     * @param onLoaded receives the photo; not called if the fetch fails
+     */
+    public void add(Component card, String photoId, Consumer<BufferedImage> onLoaded) {
+        cards.put(card, new Card(card, photoId, onLoaded, nextSequence++));
+    }
+
+    /**
+     * Fetches photos for cards in or near the area and cancels fetches not yet started for cards
+     * away from it. Call whenever the grid is laid out or scrolled.
+     * @param visibleArea the visible part of the panel holding the cards, in its coordinates
+     */
+    public void setVisibleArea(Rectangle visibleArea) {
+        Rectangle nearArea = new Rectangle(visibleArea.x, visibleArea.y - visibleArea.height,
+                visibleArea.width, visibleArea.height * 3);
+        for (Card card : cards.values()) {
+            if (card.loaded) {
+                continue;
+            }
+            Rectangle bounds = card.component.getBounds();
+            int priority = bounds.intersects(visibleArea) ? VISIBLE : bounds.intersects(nearArea) ? NEAR : AWAY;
+            Fetch fetch = card.fetch;
+
+            if (priority == AWAY) {
+                if (fetch != null && fetch.cancel()) {
+                    fetches.remove(fetch);
+                    cancelledCount.incrementAndGet();
+                    card.fetch = null;
+                }
+            } else if (fetch == null) {
+                card.fetch = new Fetch(card, priority);
+                fetches.execute(card.fetch);
+            } else if (fetch.priority != priority && fetches.remove(fetch)) {
+                // Still queued: queue again so the new priority takes effect
+                card.fetch = new Fetch(card, priority);
+                fetches.execute(card.fetch);
+            }
+        }
+    }
+
+    /**
+     * Forgets every card, e.g. before the grid is filled again, cancelling fetches not yet started.
+     */
+    public void clear() {
+        for (Card card : cards.values()) {
+            if (card.fetch != null && card.fetch.cancel()) {
+                fetches.remove(card.fetch);
+                cancelledCount.incrementAndGet();
+            }
+        }
+        cards.clear();
+    }
+
+    /**
+     * Stops fetching. Fetches not yet started are dropped.
+     */
+    public void shutdown() {
+        fetches.shutdownNow();
+    }
+
+    /**
+     * @return fetches finished, successful or not
+     */
+    public long getFetchCount() {
+        return fetchCount.get();
+    }
+
+    /**
+     * @return mean time a fetch took, in milliseconds
+     */
+    public double getAverageFetchMillis() {
+        long count = fetchCount.get();
+        return count == 0 ? 0 : totalFetchNanos.get() / 1_000_000.0 / count;
+    }
+
+    /**
+     * @return longest time a fetch took, in milliseconds
+     */
+    public double getMaxFetchMillis() {
+        return maxFetchNanos.get() / 1_000_000.0;
+    }
+
+    /**
+     * @return fetches cancelled before they started
+     */
+    public long getCancelledCount() {
+        return cancelledCount.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ThumbnailLoader{fetches=%d, avgMillis=%.1f, maxMillis=%.1f, cancelled=%d, queued=%d}",
+                getFetchCount(), getAverageFetchMillis(), getMaxFetchMillis(), getCancelledCount(),
+                fetches.getQueue().size());
+    }
+
+    private void recordFetch(String photoId, long nanos) {
+        fetchCount.incrementAndGet();
+        totalFetchNanos.addAndGet(nanos);
+        maxFetchNanos.accumulateAndGet(nanos, Math::max);
+        System.out.println("DEBUG ThumbnailLoader: Fetched " + photoId + " in " + nanos / 1_000_000 + " ms");
+    }
+
+    private void deliver(Card card, Fetch fetch, BufferedImage image) {
+        if (cards.get(card.component) != card || card.fetch != fetch) {
+            // The grid was filled again, or the fetch was replaced, while fetching
+            return;
+        }
+        card.fetch = null;
+        card.loaded = true;
+        if (image != null) {
+            card.onLoaded.accept(image);
+        }
+    }
+
+    private static final class Card {
+        final Component component;
+        final String photoId;
+        final Consumer<BufferedImage> onLoaded;
+        final long sequence;
+
+        // confined to the callback thread
+        Fetch fetch;
+        boolean loaded;
+
+        Card(Component component, String photoId, Consumer<BufferedImage> onLoaded, long sequence) {
+            this.component = component;
+            this.photoId = photoId;
+            this.onLoaded = onLoaded;
+            this.sequence = sequence;
+        }
+    }
+
+    private final class Fetch implements Runnable, Comparable<Fetch> {
+        final Card card;
+        final int priority;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        Fetch(Card card, int priority) {
+            this.card = card;
+            this.priority = priority;
+        }
+
+        /**
+         * @return true if the fetch had not started and now never will
+         */
+        boolean cancel() {
+            return claimed.compareAndSet(false, true);
+        }
+
+        @Override
+        public void run() {
+            if (!claimed.compareAndSet(false, true)) {
+                return;
+            }
+            long start = System.nanoTime();
+            BufferedImage image = null;
+            try {
+                image = imageDataAccess.fetchRestaurantThumbnail(card.photoId, apiKey,
+                        ImageDataAccessInterface.CARD_THUMBNAIL_WIDTH, ImageDataAccessInterface.CARD_THUMBNAIL_HEIGHT);
+            } catch (RuntimeException e) {
+                System.err.println("Error fetching image " + card.photoId + ": " + e.getMessage());
+            }
+            long nanos = System.nanoTime() - start;
+            BufferedImage loaded = image;
+            callbackExecutor.execute(() -> deliver(card, this, loaded));
+            recordFetch(card.photoId, nanos);
+        }
+
+        @Override
+        public int compareTo(Fetch other) {
+            if (priority != other.priority) {
+                return Integer.compare(priority, other.priority);
+            }
+            return Long.compare(card.sequence, other.card.sequence);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import data_access.CachingImageDataAccess;
+import data_access.DiskImageCache;
+import data_access.PhotoSource;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for CachingImageDataAccess serving photos from memory, disk and downloads.
+ */
+public class CachingImageDataAccessTest {
+
+  @Test
+  public void testRepeatedRequestServedFromMemory() throws IOException {
+    // Arrange
+    FakePhotoSource source = new FakePhotoSource();
+    CachingImageDataAccess images = new CachingImageDataAccess(source, 1024 * 1024,
+        new DiskImageCache(Files.createTempDirectory("images"), 1024 * 1024));
+
+    // Act
+    BufferedImage first = images.fetchRestaurantImage("places/a/photos/1", "key");
+    BufferedImage second = images.fetchRestaurantImage("places/a/photos/1", "key");
+
+    // Assert
+    assertNotNull(first);
+    assertTrue(first == second, "Second request should get the decoded photo");
+    assertEquals(1, source.getDownloads());
+    assertEquals(1, images.getMemoryHits());
+    assertEquals(0.5, images.getHitRate(), 0.001);
+  }
+
+  @Test
+  public void testThumbnailFetchedSmallAndScaledToSize() throws IOException {
+    // Arrange
+    FakePhotoSource source = new FakePhotoSource();
+    CachingImageDataAccess images = new CachingImageDataAccess(source, 1024 * 1024, null);
+
+    // Act
+    BufferedImage first = images.fetchRestaurantThumbnail("places/a/photos/1", "key", 40, 20);
+    BufferedImage second = images.fetchRestaurantThumbnail("places/a/photos/1", "key", 40, 20);
+
+    // Assert
+    assertEquals(40, first.getWidth());
+    assertEquals(20, first.getHeight());
+    assertEquals(40, source.getLastWidth(),
+        "Photo should be fetched only as wide as the thumbnail");
+    assertTrue(first == second, "Second request should get the scaled thumbnail");
+    assertEquals(1, source.getDownloads());
+  }
+
+  @Test
+  public void testPhotoKeptOnDiskBetweenRuns() throws IOException {
+    // Arrange
+    Path directory = Files.createTempDirectory("images");
+    FakePhotoSource source = new FakePhotoSource();
+    new CachingImageDataAccess(source, 1024 * 1024, new DiskImageCache(directory, 1024 * 1024))
+        .fetchRestaurantImage("places/a/photos/1", "key");
+
+    // Act
+    CachingImageDataAccess restarted = new CachingImageDataAccess(source, 1024 * 1024,
+        new DiskImageCache(directory, 1024 * 1024));
+    BufferedImage image = restarted.fetchRestaurantImage("places/a/photos/1", "key");
+
+    // Assert
+    assertNotNull(image);
+    assertEquals(1, source.getDownloads(), "Photo should not be downloaded again");
+    assertEquals(1, restarted.getDiskHits());
+  }
+
+  @Test
+  public void testConcurrentRequestsShareOneDownload() throws Exception {
+    // Arrange
+    FakePhotoSource source = new FakePhotoSource();
+    source.holdDownloads();
+    CachingImageDataAccess images = new CachingImageDataAccess(source, 1024 * 1024, null);
+    ExecutorService pool = Executors.newFixedThreadPool(8);
+
+    // Act
+    List<Future<BufferedImage>> requests = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      requests.add(pool.submit(() -> images.fetchRestaurantImage("places/a/photos/1", "key")));
+    }
+    Thread.sleep(200);
+    source.releaseDownloads();
+
+    // Assert
+    for (Future<BufferedImage> request : requests) {
+      assertNotNull(request.get(5, TimeUnit.SECONDS));
+    }
+    pool.shutdown();
+    assertEquals(1, source.getDownloads(), "One download for all requests");
+  }
+
+  @Test
+  public void testDiskBoundedByTotalBytes() throws IOException {
+    // Arrange
+    int photoBytes = createPhoto().length;
+    DiskImageCache disk = new DiskImageCache(Files.createTempDirectory("images"), 2L * photoBytes);
+
+    // Act
+    disk.put("photo1", createPhoto());
+    disk.put("photo2", createPhoto());
+    disk.get("photo1");
+    disk.put("photo3", createPhoto());
+
+    // Assert
+    assertEquals(2L * photoBytes, disk.getTotalBytes());
+    assertNotNull(disk.get("photo1"), "Recently read photo should stay");
+    assertNull(disk.get("photo2"), "Least recently used photo should be deleted");
+  }
+
+  @Test
+  public void testFailedDownloadIsNotCached() throws IOException {
+    // Arrange
+    FakePhotoSource source = new FakePhotoSource();
+    source.failDownloads();
+    CachingImageDataAccess images = new CachingImageDataAccess(source, 1024 * 1024, null);
+
+    // Act
+    BufferedImage first = images.fetchRestaurantImage("places/a/photos/1", "key");
+    BufferedImage second = images.fetchRestaurantImage("places/a/photos/1", "key");
+
+    // Assert
+    assertNull(first);
+    assertNull(second);
+    assertEquals(2, source.getDownloads(), "Each request should try again");
+  }
+
+  private static byte[] createPhoto() throws IOException {
+    ByteArrayOutputStream png = new ByteArrayOutputStream();
+    ImageIO.write(new BufferedImage(8, 8, BufferedImage.TYPE_INT_RGB), "png", png);
+    return png.toByteArray();
+  }
+
+  // ==================== Test Doubles ====================
+
+  /**
+   * Test double for PhotoSource that counts downloads and can hold them until released
+   */
+  private static class FakePhotoSource implements PhotoSource {
+
+    private final AtomicInteger downloads = new AtomicInteger();
+    private CountDownLatch gate = new CountDownLatch(0);
+    private boolean failing;
+    private volatile int lastWidth;
+
+    @Override
+    public byte[] fetchPhoto(String photoReference, String apiKey, int maxWidthPx)
+        throws IOException {
+      downloads.incrementAndGet();
+      lastWidth = maxWidthPx;
+      try {
+        gate.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      if (failing) {
+        throw new IOException("offline");
+      }
+      return createPhoto();
+    }
+
+    public void holdDownloads() {
+      gate = new CountDownLatch(1);
+    }
+
+    public void releaseDownloads() {
+      gate.countDown();
+    }
+
+    public void failDownloads() {
+      failing = true;
+    }
+
+    public int getLastWidth() {
+      return lastWidth;
+    }
+
+    public int getDownloads() {
+      return downloads.get();
+    }
+  }
+}
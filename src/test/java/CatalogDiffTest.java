@@ -0,0 +1,113 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import data_access.CatalogDiff;
+import data_access.JsonRestaurantDataAccessObject;
+import data_access.RestaurantCatalog;
+import entity.RestaurantFactory;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for CatalogDiff comparing two versions of the restaurant catalog.
+ */
+public class CatalogDiffTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  public void testAddedChangedAndRemovedPlacesAreCounted() throws IOException {
+    // Arrange
+    RestaurantCatalog older = load("older.json",
+        place("1", "Kept Cafe", 4.0), place("2", "Rated Again", 3.5),
+        place("3", "Closed Diner", 4.2));
+    RestaurantCatalog newer = load("newer.json",
+        place("1", "Kept Cafe", 4.0), place("2", "Rated Again", 4.5),
+        place("4", "New Bistro", 4.8), place("5", "Another Opening", 3.9));
+
+    // Act
+    CatalogDiff diff = older.diff(newer);
+
+    // Assert
+    assertEquals(List.of("4", "5"), sorted(diff.getAddedCids()));
+    assertEquals(List.of("2"), diff.getChangedCids());
+    assertEquals(List.of("3"), diff.getRemovedCids());
+    assertFalse(diff.isEmpty());
+    assertEquals("added=2, changed=1, removed=1", diff.toString());
+  }
+
+  @Test
+  public void testSameContentIsEmpty() throws IOException {
+    // Arrange
+    RestaurantCatalog older = load("older.json", place("1", "Kept Cafe", 4.0));
+    RestaurantCatalog newer = load("newer.json", place("1", "Kept Cafe", 4.0));
+
+    // Act
+    CatalogDiff diff = older.diff(newer);
+
+    // Assert
+    assertTrue(diff.isEmpty(),
+        "A rewritten file with the same places should not count as a change");
+  }
+
+  @Test
+  public void testUnchangedCatalogIsNotSwapped() throws IOException {
+    // Arrange
+    RestaurantCatalog current = load("current.json", place("1", "Kept Cafe", 4.0));
+    JsonRestaurantDataAccessObject restaurants = new JsonRestaurantDataAccessObject(current);
+    List<?> before = restaurants.getAllRestaurants();
+
+    // Act
+    CatalogDiff unchanged =
+        restaurants.replaceCatalog(load("same.json", place("1", "Kept Cafe", 4.0)));
+    List<?> afterUnchanged = restaurants.getAllRestaurants();
+    CatalogDiff changed =
+        restaurants.replaceCatalog(load("changed.json", place("1", "Kept Cafe", 4.4)));
+
+    // Assert
+    assertTrue(unchanged.isEmpty());
+    assertSame(before.get(0), afterUnchanged.get(0), "The current catalog should be kept");
+    assertEquals(List.of("1"), changed.getChangedCids());
+    assertEquals(4.4, restaurants.getAllRestaurants().get(0).getRating());
+  }
+
+  private static List<String> sorted(List<String> cids) {
+    List<String> copy = new ArrayList<>(cids);
+    Collections.sort(copy);
+    return copy;
+  }
+
+  private RestaurantCatalog load(String fileName, JSONObject... places) throws IOException {
+    Path json = directory.resolve(fileName);
+    Files.writeString(json, new JSONArray(List.of(places)).toString(2));
+    return RestaurantCatalog.load(json, new RestaurantFactory(), RestaurantCatalog.LoadMode.DOM);
+  }
+
+  private static JSONObject place(String cid, String name, double rating) {
+    return new JSONObject()
+        .put("name", "places/P" + cid)
+        .put("displayName", new JSONObject().put("text", name))
+        .put("formattedAddress", cid + " King St W, Toronto")
+        .put("googleMapsLinks",
+            new JSONObject().put("placeUri", "https://maps.google.com/?cid=" + cid))
+        .put("location", new JSONObject().put("latitude", 43.66).put("longitude", -79.39))
+        .put("primaryTypeDisplayName", new JSONObject().put("text", "Cafe"))
+        .put("rating", rating)
+        .put("userRatingCount", 10)
+        .put("regularOpeningHours", new JSONObject()
+            .put("weekdayDescriptions", new JSONArray().put("Monday: 9:00 AM – 5:00 PM")))
+        .put("photos", new JSONArray()
+            .put(new JSONObject().put("name", "places/P" + cid + "/photos/a")));
+  }
+}
@@ -0,0 +1,129 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import data_access.RestaurantCatalog;
+import entity.Restaurant;
+import entity.RestaurantFactory;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for ColumnarRestaurants, comparing a catalog kept in columns with the same catalog
+ * kept as restaurant objects.
+ */
+public class ColumnarRestaurantsTest {
+
+  private static final List<String> WEEKDAYS =
+      List.of("Monday: 9:00 AM – 5:00 PM", "Tuesday: 9:00 AM – 5:00 PM", "Wednesday: Closed");
+
+  @TempDir
+  Path directory;
+
+  @Test
+  public void testColumnsMatchObjectsForEveryGetter() throws IOException {
+    // Arrange
+    Path json = writeCatalog(
+        place("1", "Kept Cafe", "Cafe", 4.5, WEEKDAYS, "416-555-0101", "https://kept.example.com",
+            "places/P1/photos/a", "places/P1/photos/b"),
+        place("2", "Sushi Place", "Japanese Restaurant", 3.75, WEEKDAYS, null, null),
+        place("3", "Noodle Bar", "Japanese Restaurant", 4.0, List.of("Monday: Open 24 hours"),
+            "416-555-0103", null, "places/elsewhere/photos/c"),
+        place("4", "Corner Cafe", "Cafe", 0.0, List.of(), null, "https://corner.example.com",
+            "places/P4/photos/d"));
+
+    // Act
+    RestaurantCatalog objects = RestaurantCatalog.load(json, new RestaurantFactory(),
+        RestaurantCatalog.LoadMode.DOM, RestaurantCatalog.Storage.OBJECTS);
+    RestaurantCatalog columns = RestaurantCatalog.load(json, new RestaurantFactory(),
+        RestaurantCatalog.LoadMode.DOM, RestaurantCatalog.Storage.COLUMNAR);
+
+    // Assert
+    assertSameRestaurants(objects.getAllRestaurants(), columns.getAllRestaurants());
+    for (String type : List.of("Cafe", "Japanese Restaurant")) {
+      assertSameRestaurants(objects.getRestaurantsByType(type), columns.getRestaurantsByType(type));
+    }
+    assertEquals(RestaurantCatalog.Storage.COLUMNAR, columns.getStorage());
+  }
+
+  @Test
+  public void testColumnarRestaurantsAreReadOnly() throws IOException {
+    // Arrange
+    Path json = writeCatalog(place("1", "Kept Cafe", "Cafe", 4.5, WEEKDAYS, null, null));
+    Restaurant restaurant = RestaurantCatalog.load(json, new RestaurantFactory(),
+        RestaurantCatalog.LoadMode.DOM, RestaurantCatalog.Storage.COLUMNAR).getAllRestaurants()
+        .get(0);
+
+    // Act & Assert
+    assertThrows(UnsupportedOperationException.class, () -> restaurant.setRating(1.0));
+    assertThrows(UnsupportedOperationException.class,
+        () -> restaurant.setStudentDiscount(true, 0.1));
+    assertEquals(4.5, restaurant.getRating());
+  }
+
+  private static void assertSameRestaurants(List<Restaurant> expected, List<Restaurant> actual) {
+    assertEquals(expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      Restaurant object = expected.get(i);
+      Restaurant row = actual.get(i);
+      String where = "Restaurant " + object.getId();
+      assertEquals(object.getId(), row.getId(), where);
+      assertEquals(object.getName(), row.getName(), where);
+      assertEquals(object.getAddress(), row.getAddress(), where);
+      assertEquals(object.getMapUri(), row.getMapUri(), where);
+      assertEquals(object.getLatitude(), row.getLatitude(), where);
+      assertEquals(object.getLongitude(), row.getLongitude(), where);
+      assertEquals(object.getType(), row.getType(), where);
+      assertEquals(object.getRating(), row.getRating(), where);
+      assertEquals(object.getRatingCount(), row.getRatingCount(), where);
+      assertEquals(object.getPhoneNumber(), row.getPhoneNumber(), where);
+      assertEquals(object.getWebsiteUri(), row.getWebsiteUri(), where);
+      assertEquals(object.getHours(), row.getHours(), where);
+      assertEquals(object.getPhotoIds(), row.getPhotoIds(), where);
+      assertEquals(object.hasStudentDiscount(), row.hasStudentDiscount(), where);
+      assertEquals(object.getDiscountValue(), row.getDiscountValue(), where);
+    }
+  }
+
+  private Path writeCatalog(JSONObject... places) throws IOException {
+    Path json = directory.resolve("restaurant.json");
+    Files.writeString(json, new JSONArray(List.of(places)).toString(2));
+    return json;
+  }
+
+  private static JSONObject place(String cid, String name, String type, double rating,
+      List<String> hours, String phone, String website, String... photoNames) {
+    JSONObject place = new JSONObject()
+        .put("name", "places/P" + cid)
+        .put("displayName", new JSONObject().put("text", name))
+        .put("formattedAddress", cid + " King St W, Toronto")
+        .put("googleMapsLinks",
+            new JSONObject().put("placeUri", "https://maps.google.com/?cid=" + cid))
+        .put("location", new JSONObject().put("latitude", 43.6 + cid.length() / 100.0)
+            .put("longitude", -79.4))
+        .put("primaryTypeDisplayName", new JSONObject().put("text", type))
+        .put("rating", rating)
+        .put("userRatingCount", 10 * cid.hashCode())
+        .put("regularOpeningHours",
+            new JSONObject().put("weekdayDescriptions", new JSONArray(hours)));
+    if (phone != null) {
+      place.put("nationalPhoneNumber", phone);
+    }
+    if (website != null) {
+      place.put("websiteUri", website);
+    }
+    if (photoNames.length > 0) {
+      JSONArray photos = new JSONArray();
+      for (String photoName : photoNames) {
+        photos.put(new JSONObject().put("name", photoName));
+      }
+      place.put("photos", photos);
+    }
+    return place;
+  }
+}
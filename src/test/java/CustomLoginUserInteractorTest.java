@@ -3,8 +3,6 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.any;
-import static org.mockito.Mockito.atLeast;
-import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -67,8 +65,6 @@ class CustomLoginUserInteractorTest {
 
     when(mockAuthGateway.loginWithEmailAndPassword(TEST_EMAIL, TEST_PASSWORD))
         .thenReturn(TEST_UID);
-    when(mockAuthGateway.getCurrentUserUid())
-        .thenReturn(TEST_UID);
     when(mockUserRepository.getUserByUid(TEST_UID))
         .thenReturn(mockUser);
 
@@ -82,8 +78,9 @@ class CustomLoginUserInteractorTest {
     // 2. Verify loadAllUsers was called after successful login
     verify(mockUserRepository).loadAllUsers();
 
-    // 3. Verify getCurrentUserUid was called by CurrentUser instance
-    verify(mockAuthGateway, atLeastOnce()).getCurrentUserUid();
+    // 3. Verify the user is not read back or watched as a side effect
+    verify(mockAuthGateway, never()).getCurrentUserUid();
+    verify(mockUserRepository, never()).watchUser(anyString());
 
     // 4. Verify success view was prepared with correct data
     ArgumentCaptor<CustomLoginOutputData> outputCaptor =
@@ -243,8 +240,6 @@ class CustomLoginUserInteractorTest {
 
     when(mockAuthGateway.loginWithEmailAndPassword(TEST_EMAIL, TEST_PASSWORD))
         .thenReturn(TEST_UID);
-    when(mockAuthGateway.getCurrentUserUid())
-        .thenReturn(TEST_UID);
     when(mockUserRepository.getUserByUid(TEST_UID))
         .thenReturn(mockUser);
 
@@ -272,8 +267,6 @@ class CustomLoginUserInteractorTest {
 
     when(mockAuthGateway.loginWithEmailAndPassword(TEST_EMAIL, TEST_PASSWORD))
         .thenReturn(TEST_UID);
-    when(mockAuthGateway.getCurrentUserUid())
-        .thenReturn(TEST_UID);
     when(mockUserRepository.getUserByUid(TEST_UID))
         .thenReturn(mockUser);
 
@@ -310,8 +303,6 @@ class CustomLoginUserInteractorTest {
 
     when(mockAuthGateway.loginWithEmailAndPassword(TEST_EMAIL, TEST_PASSWORD))
         .thenReturn(TEST_UID);
-    when(mockAuthGateway.getCurrentUserUid())
-        .thenReturn(TEST_UID);
     when(mockUserRepository.getUserByUid(TEST_UID))
         .thenReturn(mockUser);
 
@@ -334,16 +325,14 @@ class CustomLoginUserInteractorTest {
   }
 
   @Test
-  @DisplayName("Verify CurrentUser can retrieve user after successful login")
-  void testCurrentUserFunctionalityAfterLogin() {
+  @DisplayName("Verify login reads the user once without watching it")
+  void testLoginDoesNotWatchUser() {
     // Arrange
     CustomLoginInputData inputData = new CustomLoginInputData(TEST_EMAIL, TEST_PASSWORD);
     User mockUser = new User(TEST_UID, TEST_EMAIL, TEST_NICKNAME);
 
     when(mockAuthGateway.loginWithEmailAndPassword(TEST_EMAIL, TEST_PASSWORD))
         .thenReturn(TEST_UID);
-    when(mockAuthGateway.getCurrentUserUid())
-        .thenReturn(TEST_UID);
     when(mockUserRepository.getUserByUid(TEST_UID))
         .thenReturn(mockUser);
 
@@ -351,12 +340,8 @@ class CustomLoginUserInteractorTest {
     interactor.execute(inputData);
 
     // Assert
-    // Verify that getCurrentUserUid was called at least once
-    // (by the CurrentUser test instance in the interactor)
-    verify(mockAuthGateway, atLeastOnce()).getCurrentUserUid();
-
-    // Verify getUserByUid was called at least twice
-    // (once for the main flow, once for CurrentUser test)
-    verify(mockUserRepository, atLeast(2)).getUserByUid(TEST_UID);
+    verify(mockUserRepository).getUserByUid(TEST_UID);
+    verify(mockAuthGateway, never()).getCurrentUserUid();
+    verify(mockUserRepository, never()).watchUser(anyString());
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,273 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import data_access.InMemoryUserRepo;
+import entity.Review;
+import interface_adapter.display_reviews.DisplayReviewsController;
+import interface_adapter.display_reviews.DisplayReviewsPresenter;
+import interface_adapter.display_reviews.DisplayReviewsState;
+import interface_adapter.display_reviews.DisplayReviewsStateList;
+import interface_adapter.display_reviews.DisplayReviewsViewModel;
+import data_access.JsonReviewDataAccessObject;
+import entity.User;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import use_case.display_reviews.DisplayReviewsInputData;
+import use_case.display_reviews.DisplayReviewsInteractor;
+import use_case.display_reviews.DisplayReviewsOutputBoundary;
+import use_case.display_reviews.DisplayReviewsOutputData;
+import use_case.display_reviews.DisplayReviewsPageOutputData;
+import use_case.display_reviews.ReviewOrder;
+
+/**
+ * Unit test for DisplayReviewsInteractor paging through a restaurant's reviews.
+ */
+public class DisplayReviewsInteractorTest {
+
+  private static final String RESTAURANT = "places/restaurant1";
+
+  @Test
+  public void testFirstPageHasNewestReviewsAndCursor() throws IOException {
+    // Arrange
+    JsonReviewDataAccessObject reviews = createReviews(25);
+    TestDisplayReviewsPresenter testPresenter = new TestDisplayReviewsPresenter();
+    DisplayReviewsInteractor interactor =
+        new DisplayReviewsInteractor(reviews, testPresenter, createAuthors());
+
+    // Act
+    interactor.execute(new DisplayReviewsInputData(RESTAURANT, ReviewOrder.NEWEST, null, 10));
+
+    // Assert
+    DisplayReviewsPageOutputData page = testPresenter.getPages().get(0);
+    assertTrue(page.isFirstPage(), "First page should replace shown reviews");
+    assertEquals(10, page.getReviews().size());
+    assertEquals("Review 24", page.getReviews().get(0).getContent());
+    assertTrue(page.hasNextPage(), "More reviews follow");
+  }
+
+  @Test
+  public void testCursorPagesThroughEveryReviewOnce() throws IOException {
+    // Arrange
+    JsonReviewDataAccessObject reviews = createReviews(25);
+    TestDisplayReviewsPresenter testPresenter = new TestDisplayReviewsPresenter();
+    DisplayReviewsInteractor interactor =
+        new DisplayReviewsInteractor(reviews, testPresenter, createAuthors());
+
+    // Act
+    String cursor = null;
+    do {
+      interactor.execute(new DisplayReviewsInputData(RESTAURANT, ReviewOrder.NEWEST, cursor, 10));
+      cursor = testPresenter.getLastPage().getNextCursor();
+    } while (cursor != null);
+
+    // Assert
+    List<String> contents = new ArrayList<>();
+    for (DisplayReviewsPageOutputData page : testPresenter.getPages()) {
+      for (DisplayReviewsOutputData review : page.getReviews()) {
+        contents.add(review.getContent());
+      }
+    }
+    assertEquals(3, testPresenter.getPages().size(), "Three pages of 10, 10 and 5");
+    assertEquals(25, contents.size());
+    for (int i = 0; i < 25; i++) {
+      assertEquals("Review " + (24 - i), contents.get(i));
+    }
+    assertFalse(testPresenter.getPages().get(1).isFirstPage());
+    assertNull(testPresenter.getLastPage().getNextCursor());
+  }
+
+  @Test
+  public void testNewReviewDoesNotShiftNextPage() throws IOException {
+    // Arrange
+    JsonReviewDataAccessObject reviews = createReviews(20);
+    TestDisplayReviewsPresenter testPresenter = new TestDisplayReviewsPresenter();
+    DisplayReviewsInteractor interactor =
+        new DisplayReviewsInteractor(reviews, testPresenter, createAuthors());
+    interactor.execute(new DisplayReviewsInputData(RESTAURANT, ReviewOrder.NEWEST, null, 10));
+    String cursor = testPresenter.getLastPage().getNextCursor();
+
+    // Act
+    reviews.addReview("new-review", "author", RESTAURANT, "Brand new", "12/31/2030");
+    interactor.execute(new DisplayReviewsInputData(RESTAURANT, ReviewOrder.NEWEST, cursor, 10));
+
+    // Assert
+    List<DisplayReviewsOutputData> secondPage = testPresenter.getLastPage().getReviews();
+    assertEquals(10, secondPage.size());
+    assertEquals("Review 9",
+        secondPage.get(0).getContent(), "Second page continues after the first");
+  }
+
+  @Test
+  public void testAuthorsResolvedInOneLookupPerPage() throws IOException {
+    // Arrange
+    JsonReviewDataAccessObject reviews = createReviews(20);
+    InMemoryUserRepo authors = createAuthors();
+    TestDisplayReviewsPresenter testPresenter = new TestDisplayReviewsPresenter();
+    DisplayReviewsInteractor interactor =
+        new DisplayReviewsInteractor(reviews, testPresenter, authors);
+
+    // Act
+    interactor.execute(new DisplayReviewsInputData(RESTAURANT, ReviewOrder.NEWEST, null, 10));
+
+    // Assert
+    List<DisplayReviewsOutputData> page = testPresenter.getLastPage().getReviews();
+    assertEquals("Nickname author4", page.get(0).getAuthorDisplayName());
+    assertEquals("Nickname author3", page.get(1).getAuthorDisplayName());
+    assertEquals(1, authors.getRoundTrips(), "One lookup for all ten authors");
+  }
+
+  @Test
+  public void testLoadMoreKeepsShownOrder() throws IOException {
+    // Arrange: likes differ from creation order, so the two orders page differently
+    Path snapshot = Files.createTempDirectory("reviews").resolve("reviews.json");
+    JSONArray json = new JSONArray();
+    for (int i = 0; i < 15; i++) {
+      json.put(new JSONObject()
+          .put("reviewId", "review" + i)
+          .put("authorId", "author" + (i % 5))
+          .put("restaurantId", RESTAURANT)
+          .put("content", "Review " + i)
+          .put("creationDate", String.format("01/%02d/2025", i + 1))
+          .put("likes", i % 4));
+    }
+    Files.writeString(snapshot, json.toString());
+    JsonReviewDataAccessObject reviews = new JsonReviewDataAccessObject(snapshot.toString());
+    DisplayReviewsViewModel viewModel = new DisplayReviewsViewModel();
+    DisplayReviewsInteractor interactor = new DisplayReviewsInteractor(reviews,
+        new DisplayReviewsPresenter(viewModel), createAuthors());
+    DisplayReviewsController controller = new DisplayReviewsController(interactor);
+    interactor.execute(new DisplayReviewsInputData(RESTAURANT, ReviewOrder.MOST_LIKED, null, 10));
+
+    // Act
+    DisplayReviewsStateList shown = viewModel.getState();
+    controller.loadMore(shown.getRestaurantId(), shown.getOrder(), shown.getNextCursor());
+
+    // Assert
+    List<String> expected = new ArrayList<>();
+    for (Review review : reviews.reviewsForRestaurant(RESTAURANT, ReviewOrder.MOST_LIKED)) {
+      expected.add(review.getContent());
+    }
+    List<String> contents = new ArrayList<>();
+    for (DisplayReviewsState state : viewModel.getState().getDisplayReviewsStateList()) {
+      contents.add(state.getContent());
+    }
+    assertEquals(ReviewOrder.MOST_LIKED, viewModel.getState().getOrder());
+    assertEquals(expected, contents, "The second page should continue in the order shown");
+  }
+
+  @Test
+  public void testUnknownAuthorIsSkippedWithoutFailing() throws IOException {
+    // Arrange
+    JsonReviewDataAccessObject reviews = createReviews(3);
+    reviews.addReview("ghost-review", "ghost", RESTAURANT, "Who wrote this", "12/31/2030");
+    TestDisplayReviewsPresenter testPresenter = new TestDisplayReviewsPresenter();
+    DisplayReviewsInteractor interactor =
+        new DisplayReviewsInteractor(reviews, testPresenter, createAuthors());
+
+    // Act
+    interactor.execute(new DisplayReviewsInputData(RESTAURANT, ReviewOrder.NEWEST, null, 10));
+
+    // Assert
+    assertNull(testPresenter.getErrorMessage(), "A missing author should not fail the page");
+    assertEquals(1, testPresenter.getPages().size());
+    assertEquals("Review 2", testPresenter.getLastPage().getReviews().get(0).getContent());
+    assertEquals(3, testPresenter.getLastPage().getReviews().size());
+  }
+
+  @Test
+  public void testFailViewIsAnnounced() {
+    // Arrange
+    DisplayReviewsViewModel viewModel = new DisplayReviewsViewModel();
+    List<String> events = new ArrayList<>();
+    viewModel.addPropertyChangeListener(evt -> events.add(evt.getPropertyName()));
+
+    // Act
+    new DisplayReviewsPresenter(viewModel).prepareFailView("Failed to load review authors");
+
+    // Assert
+    assertEquals("Failed to load review authors", viewModel.getState().getErrorMessage());
+    assertEquals(List.of("display reviews error"), events,
+        "The view must hear about the failure to stop waiting for the page");
+  }
+
+  @Test
+  public void testInvalidPageSize() throws IOException {
+    // Arrange
+    JsonReviewDataAccessObject reviews = createReviews(3);
+    TestDisplayReviewsPresenter testPresenter = new TestDisplayReviewsPresenter();
+    DisplayReviewsInteractor interactor =
+        new DisplayReviewsInteractor(reviews, testPresenter, createAuthors());
+
+    // Act
+    interactor.execute(new DisplayReviewsInputData(RESTAURANT, ReviewOrder.NEWEST, null, 0));
+
+    // Assert
+    assertTrue(testPresenter.getPages().isEmpty());
+    assertEquals("Page size must be positive", testPresenter.getErrorMessage());
+  }
+
+  /**
+   * Review i is created on day i, so higher numbers are newer.
+   */
+  private JsonReviewDataAccessObject createReviews(int count) throws IOException {
+    Path snapshot = Files.createTempDirectory("reviews").resolve("reviews.json");
+    Files.writeString(snapshot, "[]");
+    JsonReviewDataAccessObject reviews = new JsonReviewDataAccessObject(snapshot.toString());
+    for (int i = 0; i < count; i++) {
+      reviews.addReview("review" + i, "author" + (i % 5), RESTAURANT, "Review " + i,
+          String.format("01/%02d/2025", i + 1));
+    }
+    reviews.addReview("other", "author", "places/restaurant2", "Elsewhere", "01/01/2025");
+    return reviews;
+  }
+
+  private static InMemoryUserRepo createAuthors() {
+    InMemoryUserRepo users = new InMemoryUserRepo();
+    for (int i = 0; i < 5; i++) {
+      users.save(new User("author" + i, "author" + i + "@example.com", "Nickname author" + i));
+    }
+    users.save(new User("author", "author@example.com", "Nickname author"));
+    return users;
+  }
+
+  // ==================== Test Doubles ====================
+
+  /**
+   * Test double for DisplayReviewsOutputBoundary
+   */
+  private static class TestDisplayReviewsPresenter implements DisplayReviewsOutputBoundary {
+
+    private final List<DisplayReviewsPageOutputData> pages = new ArrayList<>();
+    private String errorMessage;
+
+    @Override
+    public void prepareSuccessView(DisplayReviewsPageOutputData page) {
+      pages.add(page);
+    }
+
+    @Override
+    public void prepareFailView(String errorMessage) {
+      this.errorMessage = errorMessage;
+    }
+
+    public List<DisplayReviewsPageOutputData> getPages() {
+      return pages;
+    }
+
+    public DisplayReviewsPageOutputData getLastPage() {
+      return pages.get(pages.size() - 1);
+    }
+
+    public String getErrorMessage() {
+      return errorMessage;
+    }
+  }
+}
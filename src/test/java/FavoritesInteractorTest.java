@@ -1,15 +1,20 @@
-import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertFalse;
-import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import data_access.AsyncUserDataAccessInterface;
 import data_access.UserDataAccessInterface;
 import entity.Restaurant;
 import entity.User;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import org.junit.Test;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import use_case.PersistenceException;
 import use_case.favorites.add_favorite.AddFavoriteInputData;
 import use_case.favorites.add_favorite.AddFavoriteInteractor;
 import use_case.favorites.add_favorite.AddFavoriteOutputBoundary;
@@ -47,10 +52,10 @@ public class FavoritesInteractorTest {
         interactor.execute(inputData);
 
         // Assert
-        assertTrue("Present success should be called", testPresenter.isSuccessCalled());
-        assertFalse("Present error should not be called", testPresenter.isErrorCalled());
-        assertTrue("User should have the restaurant in favorites",
-                testDataAccess.getUser(userId).getFavoriteRestaurantIds().contains(restaurantId));
+        assertTrue(testPresenter.isSuccessCalled(), "Present success should be called");
+        assertFalse(testPresenter.isErrorCalled(), "Present error should not be called");
+        assertTrue(testDataAccess.getUser(userId).getFavoriteRestaurantIds().contains(restaurantId),
+                "User should have the restaurant in favorites");
     }
 
     @Test
@@ -69,10 +74,11 @@ public class FavoritesInteractorTest {
         interactor.execute(inputData);
 
         // Assert
-        assertTrue("Present error should be called for non-existent user", testPresenter.isErrorCalled());
-        assertFalse("Present success should not be called", testPresenter.isSuccessCalled());
-        assertTrue("Error message should mention user not found",
-                testPresenter.getErrorMessage().contains("User not found"));
+        assertTrue(testPresenter.isErrorCalled(),
+                "Present error should be called for non-existent user");
+        assertFalse(testPresenter.isSuccessCalled(), "Present success should not be called");
+        assertTrue(testPresenter.getErrorMessage().contains("User not found"),
+                "Error message should mention user not found");
     }
 
     @Test
@@ -93,10 +99,10 @@ public class FavoritesInteractorTest {
         interactor.execute(inputData);
 
         // Assert
-        assertTrue("Present error should be called for duplicate", testPresenter.isErrorCalled());
-        assertFalse("Present success should not be called", testPresenter.isSuccessCalled());
-        assertTrue("Error message should mention already in favorites",
-                testPresenter.getErrorMessage().contains("already in favorites"));
+        assertTrue(testPresenter.isErrorCalled(), "Present error should be called for duplicate");
+        assertFalse(testPresenter.isSuccessCalled(), "Present success should not be called");
+        assertTrue(testPresenter.getErrorMessage().contains("already in favorites"),
+                "Error message should mention already in favorites");
     }
 
     @Test
@@ -116,10 +122,10 @@ public class FavoritesInteractorTest {
 
         // Assert
         List<String> favorites = testDataAccess.getUser(userId).getFavoriteRestaurantIds();
-        assertEquals("User should have 3 favorites", 3, favorites.size());
-        assertTrue("Should contain rest1", favorites.contains("rest1"));
-        assertTrue("Should contain rest2", favorites.contains("rest2"));
-        assertTrue("Should contain rest3", favorites.contains("rest3"));
+        assertEquals(3, favorites.size(), "User should have 3 favorites");
+        assertTrue(favorites.contains("rest1"), "Should contain rest1");
+        assertTrue(favorites.contains("rest2"), "Should contain rest2");
+        assertTrue(favorites.contains("rest3"), "Should contain rest3");
     }
 
     // ==================== RemoveFavoriteInteractor Tests ====================
@@ -143,10 +149,10 @@ public class FavoritesInteractorTest {
         interactor.execute(inputData);
 
         // Assert
-        assertTrue("Present success should be called", testPresenter.isSuccessCalled());
-        assertFalse("Present error should not be called", testPresenter.isErrorCalled());
-        assertFalse("Restaurant should be removed from favorites",
-                testDataAccess.getUser(userId).getFavoriteRestaurantIds().contains(restaurantId));
+        assertTrue(testPresenter.isSuccessCalled(), "Present success should be called");
+        assertFalse(testPresenter.isErrorCalled(), "Present error should not be called");
+        assertFalse(testDataAccess.getUser(userId).getFavoriteRestaurantIds().contains(restaurantId),
+                "Restaurant should be removed from favorites");
     }
 
     @Test
@@ -165,10 +171,11 @@ public class FavoritesInteractorTest {
         interactor.execute(inputData);
 
         // Assert
-        assertTrue("Present error should be called for non-existent user", testPresenter.isErrorCalled());
-        assertFalse("Present success should not be called", testPresenter.isSuccessCalled());
-        assertTrue("Error message should mention user not found",
-                testPresenter.getErrorMessage().contains("User not found"));
+        assertTrue(testPresenter.isErrorCalled(),
+                "Present error should be called for non-existent user");
+        assertFalse(testPresenter.isSuccessCalled(), "Present success should not be called");
+        assertTrue(testPresenter.getErrorMessage().contains("User not found"),
+                "Error message should mention user not found");
     }
 
     @Test
@@ -189,10 +196,11 @@ public class FavoritesInteractorTest {
         interactor.execute(inputData);
 
         // Assert
-        assertTrue("Present error should be called when not in favorites", testPresenter.isErrorCalled());
-        assertFalse("Present success should not be called", testPresenter.isSuccessCalled());
-        assertTrue("Error message should mention not in favorites",
-                testPresenter.getErrorMessage().contains("not in favorites"));
+        assertTrue(testPresenter.isErrorCalled(),
+                "Present error should be called when not in favorites");
+        assertFalse(testPresenter.isSuccessCalled(), "Present success should not be called");
+        assertTrue(testPresenter.getErrorMessage().contains("not in favorites"),
+                "Error message should mention not in favorites");
     }
 
     @Test
@@ -216,10 +224,10 @@ public class FavoritesInteractorTest {
 
         // Assert
         List<String> favorites = testDataAccess.getUser(userId).getFavoriteRestaurantIds();
-        assertEquals("User should have 2 favorites remaining", 2, favorites.size());
-        assertTrue("Should still contain rest1", favorites.contains("rest1"));
-        assertFalse("Should not contain rest2", favorites.contains("rest2"));
-        assertTrue("Should still contain rest3", favorites.contains("rest3"));
+        assertEquals(2, favorites.size(), "User should have 2 favorites remaining");
+        assertTrue(favorites.contains("rest1"), "Should still contain rest1");
+        assertFalse(favorites.contains("rest2"), "Should not contain rest2");
+        assertTrue(favorites.contains("rest3"), "Should still contain rest3");
     }
 
     // ==================== GetFavoritesInteractor Tests ====================
@@ -244,10 +252,11 @@ public class FavoritesInteractorTest {
         interactor.execute(inputData);
 
         // Assert
-        assertTrue("Present favorites should be called", testPresenter.isSuccessCalled());
-        assertFalse("Present error should not be called", testPresenter.isErrorCalled());
-        assertEquals("Should return 2 favorite restaurants", 2,
-                testPresenter.getOutputData().getRestaurants().size());
+        assertTrue(testPresenter.isSuccessCalled(), "Present favorites should be called");
+        assertFalse(testPresenter.isErrorCalled(), "Present error should not be called");
+        assertEquals(2,
+                testPresenter.getOutputData().getRestaurants().size(),
+                "Should return 2 favorite restaurants");
     }
 
     @Test
@@ -267,10 +276,11 @@ public class FavoritesInteractorTest {
         interactor.execute(inputData);
 
         // Assert
-        assertTrue("Present favorites should be called even for empty favorites", testPresenter.isSuccessCalled());
-        assertFalse("Present error should not be called", testPresenter.isErrorCalled());
-        assertEquals("Should return empty list", 0,
-                testPresenter.getOutputData().getRestaurants().size());
+        assertTrue(testPresenter.isSuccessCalled(),
+                "Present favorites should be called even for empty favorites");
+        assertFalse(testPresenter.isErrorCalled(), "Present error should not be called");
+        assertEquals(0,
+                testPresenter.getOutputData().getRestaurants().size(), "Should return empty list");
     }
 
     @Test
@@ -288,10 +298,11 @@ public class FavoritesInteractorTest {
         interactor.execute(inputData);
 
         // Assert
-        assertTrue("Present error should be called for non-existent user", testPresenter.isErrorCalled());
-        assertFalse("Present favorites should not be called", testPresenter.isSuccessCalled());
-        assertTrue("Error message should mention user not found",
-                testPresenter.getErrorMessage().contains("User not found"));
+        assertTrue(testPresenter.isErrorCalled(),
+                "Present error should be called for non-existent user");
+        assertFalse(testPresenter.isSuccessCalled(), "Present favorites should not be called");
+        assertTrue(testPresenter.getErrorMessage().contains("User not found"),
+                "Error message should mention user not found");
     }
 
     @Test
@@ -314,10 +325,92 @@ public class FavoritesInteractorTest {
         interactor.execute(inputData);
 
         // Assert
-        assertTrue("Should handle missing restaurant gracefully", testPresenter.isSuccessCalled());
+        assertTrue(testPresenter.isSuccessCalled(), "Should handle missing restaurant gracefully");
         // Should return only the restaurant that exists
-        assertEquals("Should return 1 restaurant (the one that exists)", 1,
-                testPresenter.getOutputData().getRestaurants().size());
+        assertEquals(1,
+                testPresenter.getOutputData().getRestaurants().size(),
+                "Should return 1 restaurant (the one that exists)");
+    }
+
+    // ==================== Asynchronous Data Access Tests ====================
+
+    @Test
+    public void testAddFavoritePresentsOnlyAfterSaveCompletes() {
+        // Arrange
+        PendingUserDataAccess testDataAccess = new PendingUserDataAccess();
+        TestAddFavoritePresenter testPresenter = new TestAddFavoritePresenter();
+        AddFavoriteInteractor interactor = new AddFavoriteInteractor(testDataAccess, testPresenter, Runnable::run);
+        testDataAccess.addUser("user123", "TestUser");
+
+        // Act
+        interactor.execute(new AddFavoriteInputData("user123", "rest456"));
+
+        // Assert
+        assertFalse(testPresenter.isSuccessCalled() || testPresenter.isErrorCalled(),
+                "Nothing should be presented while the save is in flight");
+        testDataAccess.getPendingSave(0).complete(null);
+        assertTrue(testPresenter.isSuccessCalled(), "Present success should be called once saved");
+    }
+
+    @Test
+    public void testSlowSaveDoesNotHoldUpOtherRequests() {
+        // Arrange
+        PendingUserDataAccess testDataAccess = new PendingUserDataAccess();
+        TestAddFavoritePresenter slowPresenter = new TestAddFavoritePresenter();
+        TestAddFavoritePresenter fastPresenter = new TestAddFavoritePresenter();
+        testDataAccess.addUser("user1", "SlowUser");
+        testDataAccess.addUser("user2", "FastUser");
+
+        // Act
+        new AddFavoriteInteractor(testDataAccess, slowPresenter, Runnable::run)
+                .execute(new AddFavoriteInputData("user1", "rest456"));
+        new AddFavoriteInteractor(testDataAccess, fastPresenter, Runnable::run)
+                .execute(new AddFavoriteInputData("user2", "rest456"));
+        testDataAccess.getPendingSave(1).complete(null);
+
+        // Assert
+        assertTrue(fastPresenter.isSuccessCalled(), "Second request should be presented");
+        assertFalse(slowPresenter.isSuccessCalled(), "First request is still saving");
+    }
+
+    @Test
+    public void testFavoriteChangedOnCallbackThread() {
+        // Arrange
+        PendingUserDataAccess testDataAccess = new PendingUserDataAccess();
+        TestAddFavoritePresenter testPresenter = new TestAddFavoritePresenter();
+        Queue<Runnable> callbackThread = new ArrayDeque<>();
+        AddFavoriteInteractor interactor = new AddFavoriteInteractor(testDataAccess, testPresenter, callbackThread::add);
+        testDataAccess.addUser("user123", "TestUser");
+
+        // Act
+        interactor.execute(new AddFavoriteInputData("user123", "rest456"));
+        boolean changedBeforeCallback = testDataAccess.getUser("user123").getFavoriteRestaurantIds().contains("rest456");
+        callbackThread.poll().run();
+
+        // Assert
+        assertFalse(changedBeforeCallback, "The user should only be changed on the callback thread");
+        assertTrue(testDataAccess.getUser("user123").getFavoriteRestaurantIds().contains("rest456"));
+        testDataAccess.getPendingSave(0).complete(null);
+        callbackThread.poll().run();
+        assertTrue(testPresenter.isSuccessCalled(), "Present success should be called once saved");
+    }
+
+    @Test
+    public void testRemoveFavoriteSaveFailure() {
+        // Arrange
+        PendingUserDataAccess testDataAccess = new PendingUserDataAccess();
+        TestRemoveFavoritePresenter testPresenter = new TestRemoveFavoritePresenter();
+        RemoveFavoriteInteractor interactor = new RemoveFavoriteInteractor(testDataAccess, testPresenter, Runnable::run);
+        testDataAccess.addUser("user123", "TestUser");
+        testDataAccess.addFavoriteToUser("user123", "rest456");
+
+        // Act
+        interactor.execute(new RemoveFavoriteInputData("user123", "rest456"));
+        testDataAccess.getPendingSave(0).completeExceptionally(new PersistenceException("offline"));
+
+        // Assert
+        assertFalse(testPresenter.isSuccessCalled(), "Present success should not be called");
+        assertEquals("Failed to remove favorite: offline", testPresenter.getErrorMessage());
     }
 
     // ==================== Test Doubles ====================
@@ -384,6 +477,30 @@ public class FavoritesInteractorTest {
         }
     }
 
+    /**
+     * Asynchronous test double whose saves stay pending until the test completes them
+     */
+    private static class PendingUserDataAccess extends TestUserDataAccess implements AsyncUserDataAccessInterface {
+
+        private final List<CompletableFuture<Void>> pendingSaves = new ArrayList<>();
+
+        @Override
+        public CompletableFuture<User> getUserAsync(String userId) {
+            return CompletableFuture.completedFuture(getUser(userId));
+        }
+
+        @Override
+        public CompletableFuture<Void> saveUserAsync(User user) {
+            CompletableFuture<Void> save = new CompletableFuture<>();
+            pendingSaves.add(save);
+            return save;
+        }
+
+        public CompletableFuture<Void> getPendingSave(int index) {
+            return pendingSaves.get(index);
+        }
+    }
+
     /**
      * Test implementation of User for testing
      */
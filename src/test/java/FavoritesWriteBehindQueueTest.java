@@ -0,0 +1,124 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import data_access.FavoritesWriteBehindQueue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for FavoritesWriteBehindQueue combining and retrying favorite writes.
+ */
+public class FavoritesWriteBehindQueueTest {
+
+  @Test
+  public void testChangesWithinDelayAreWrittenOnce() throws Exception {
+    // Arrange
+    RecordingWriter writer = new RecordingWriter(0);
+    FavoritesWriteBehindQueue queue = new FavoritesWriteBehindQueue(writer, 200, 3);
+
+    // Act
+    queue.add("user1", "restA");
+    queue.add("user1", "restB");
+    queue.remove("user1", "restA");
+    queue.add("user1", "restC").get(5, TimeUnit.SECONDS);
+
+    // Assert
+    assertEquals(1, writer.getWrites().size(), "Four changes should be one write");
+    assertEquals("[restB, restC] -[restA]", writer.getWrites().get(0));
+  }
+
+  @Test
+  public void testFlushWritesWithoutWaitingForDelay() throws Exception {
+    // Arrange
+    RecordingWriter writer = new RecordingWriter(0);
+    FavoritesWriteBehindQueue queue = new FavoritesWriteBehindQueue(writer, 60_000, 3);
+    queue.add("user1", "restA");
+    queue.remove("user2", "restB");
+
+    // Act
+    queue.flush().get(5, TimeUnit.SECONDS);
+
+    // Assert
+    assertEquals(2, writer.getWrites().size(), "Each user should be written");
+  }
+
+  @Test
+  public void testFailedWriteIsRetried() throws Exception {
+    // Arrange
+    RecordingWriter writer = new RecordingWriter(2);
+    FavoritesWriteBehindQueue queue = new FavoritesWriteBehindQueue(writer, 10, 5);
+
+    // Act
+    queue.add("user1", "restA").get(5, TimeUnit.SECONDS);
+
+    // Assert
+    assertEquals(3, writer.getWrites().size(), "Two failures then one success");
+  }
+
+  @Test
+  public void testChangesGivenUpAfterLastAttempt() throws Exception {
+    // Arrange
+    RecordingWriter writer = new RecordingWriter(Integer.MAX_VALUE);
+    FavoritesWriteBehindQueue queue = new FavoritesWriteBehindQueue(writer, 10, 2);
+
+    // Act
+    CompletableFuture<Void> write = queue.add("user1", "restA");
+
+    // Assert
+    try {
+      write.get(5, TimeUnit.SECONDS);
+      fail("The write should fail");
+    } catch (ExecutionException e) {
+      assertEquals("offline", e.getCause().getMessage());
+    }
+    assertEquals(2, writer.getWrites().size());
+    assertTrue(writer.getAbandoned().contains("user1 [restA] -[]"),
+        "Abandoned changes should be reported");
+  }
+
+  // ==================== Test Doubles ====================
+
+  /**
+   * Test double for FavoritesWriteBehindQueue.Writer that fails its first writes
+   */
+  private static class RecordingWriter implements FavoritesWriteBehindQueue.Writer {
+
+    private final List<String> writes = new ArrayList<>();
+    private final List<String> abandoned = new ArrayList<>();
+    private int failuresLeft;
+
+    RecordingWriter(int failures) {
+      this.failuresLeft = failures;
+    }
+
+    @Override
+    public synchronized CompletableFuture<Void> write(String uid, Set<String> added,
+        Set<String> removed) {
+      writes.add(added + " -" + removed);
+      if (failuresLeft > 0) {
+        failuresLeft--;
+        return CompletableFuture.failedFuture(new IllegalStateException("offline"));
+      }
+      return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public synchronized void abandoned(String uid, Set<String> added, Set<String> removed) {
+      abandoned.add(uid + " " + added + " -" + removed);
+    }
+
+    public synchronized List<String> getWrites() {
+      return new ArrayList<>(writes);
+    }
+
+    public synchronized List<String> getAbandoned() {
+      return new ArrayList<>(abandoned);
+    }
+  }
+}
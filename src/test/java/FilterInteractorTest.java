@@ -1,18 +1,19 @@
-import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertFalse;
-import static org.junit.Assert.assertNotNull;
-import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import entity.Restaurant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import org.junit.Test;
+import org.junit.jupiter.api.Test;
 import use_case.filter.FilterInputData;
 import use_case.filter.FilterInteractor;
 import use_case.filter.FilterOutputBoundary;
 import use_case.filter.FilterOutputData;
 import use_case.filter.IRestaurantDataAccess;
+import use_case.nearby_restaurants.DistanceBound;
 
 /**
  * Unit test for FilterInteractor.
@@ -33,12 +34,13 @@ public class FilterInteractorTest {
     filterInteractor.execute(inputData);
 
     // Assert
-    assertTrue("Success view should be called", testPresenter.isSuccessViewCalled());
-    assertFalse("Fail view should not be called", testPresenter.isFailViewCalled());
-    assertEquals("Filter type should match input", restaurantType,
-        testPresenter.getOutputData().getFilterType());
-    assertEquals("Should return 3 Italian restaurants", 3,
-        testPresenter.getOutputData().getRestaurantNames().size());
+    assertTrue(testPresenter.isSuccessViewCalled(), "Success view should be called");
+    assertFalse(testPresenter.isFailViewCalled(), "Fail view should not be called");
+    assertEquals(restaurantType,
+        testPresenter.getOutputData().getFilterType(), "Filter type should match input");
+    assertEquals(3,
+        testPresenter.getOutputData().getRestaurantNames().size(),
+        "Should return 3 Italian restaurants");
   }
 
   @Test
@@ -55,10 +57,11 @@ public class FilterInteractorTest {
     filterInteractor.execute(inputData);
 
     // Assert
-    assertTrue("Success view should be called even with empty results",
-        testPresenter.isSuccessViewCalled());
-    assertEquals("Should return empty list for nonexistent type", 0,
-        testPresenter.getOutputData().getRestaurantNames().size());
+    assertTrue(testPresenter.isSuccessViewCalled(),
+        "Success view should be called even with empty results");
+    assertEquals(0,
+        testPresenter.getOutputData().getRestaurantNames().size(),
+        "Should return empty list for nonexistent type");
   }
 
   @Test
@@ -75,9 +78,10 @@ public class FilterInteractorTest {
     filterInteractor.execute(inputData);
 
     // Assert
-    assertTrue("Success view should be called", testPresenter.isSuccessViewCalled());
-    assertEquals("Should limit results to 10 restaurants", 10,
-        testPresenter.getOutputData().getRestaurantNames().size());
+    assertTrue(testPresenter.isSuccessViewCalled(), "Success view should be called");
+    assertEquals(10,
+        testPresenter.getOutputData().getRestaurantNames().size(),
+        "Should limit results to 10 restaurants");
   }
 
   @Test
@@ -94,12 +98,12 @@ public class FilterInteractorTest {
     filterInteractor.execute(inputData);
 
     // Assert
-    assertTrue("Fail view should be called when exception occurs",
-        testPresenter.isFailViewCalled());
-    assertFalse("Success view should not be called when exception occurs",
-        testPresenter.isSuccessViewCalled());
-    assertTrue("Error message should indicate filtering error",
-        testPresenter.getErrorMessage().contains("Error filtering restaurants"));
+    assertTrue(testPresenter.isFailViewCalled(),
+        "Fail view should be called when exception occurs");
+    assertFalse(testPresenter.isSuccessViewCalled(),
+        "Success view should not be called when exception occurs");
+    assertTrue(testPresenter.getErrorMessage().contains("Error filtering restaurants"),
+        "Error message should indicate filtering error");
   }
 
   @Test
@@ -113,14 +117,14 @@ public class FilterInteractorTest {
     String[] types = filterInteractor.getAvailableTypes();
 
     // Assert
-    assertNotNull("Available types should not be null", types);
-    assertEquals("Should return 3 types", 3, types.length);
-    assertTrue("Should contain Italian Restaurant",
-        Arrays.asList(types).contains("Italian Restaurant"));
-    assertTrue("Should contain Chinese Restaurant",
-        Arrays.asList(types).contains("Chinese Restaurant"));
-    assertTrue("Should contain Japanese Restaurant",
-        Arrays.asList(types).contains("Japanese Restaurant"));
+    assertNotNull(types, "Available types should not be null");
+    assertEquals(3, types.length, "Should return 3 types");
+    assertTrue(Arrays.asList(types).contains("Italian Restaurant"),
+        "Should contain Italian Restaurant");
+    assertTrue(Arrays.asList(types).contains("Chinese Restaurant"),
+        "Should contain Chinese Restaurant");
+    assertTrue(Arrays.asList(types).contains("Japanese Restaurant"),
+        "Should contain Japanese Restaurant");
   }
 
   @Test
@@ -138,9 +142,47 @@ public class FilterInteractorTest {
 
     // Assert
     List<String> names = testPresenter.getOutputData().getRestaurantNames();
-    assertEquals("Should return 2 Japanese restaurants", 2, names.size());
-    assertTrue("Should contain Sushi Place", names.contains("Sushi Place"));
-    assertTrue("Should contain Ramen House", names.contains("Ramen House"));
+    assertEquals(2, names.size(), "Should return 2 Japanese restaurants");
+    assertTrue(names.contains("Sushi Place"), "Should contain Sushi Place");
+    assertTrue(names.contains("Ramen House"), "Should contain Ramen House");
+  }
+
+  @Test
+  public void testExecuteReturnsBestRankedRestaurants() {
+    // Arrange: rank the Chinese restaurants by their number, highest first
+    TestRestaurantDataAccess testDataAccess = new TestRestaurantDataAccess();
+    TestFilterPresenter testPresenter = new TestFilterPresenter();
+    FilterInteractor filterInteractor = new FilterInteractor(testDataAccess, testPresenter,
+        restaurant -> Integer.parseInt(restaurant.getId().substring(1)));
+
+    // Act
+    filterInteractor.execute(new FilterInputData("Chinese Restaurant"));
+
+    // Assert
+    List<String> names = testPresenter.getOutputData().getRestaurantNames();
+    assertEquals(10, names.size(), "Should return the best 10 of 12");
+    assertEquals("Chinese Place 12", names.get(0));
+    assertEquals("Chinese Place 3", names.get(9));
+  }
+
+  @Test
+  public void testExecuteWithDistanceBound() {
+    // Arrange
+    TestRestaurantDataAccess testDataAccess = new TestRestaurantDataAccess();
+    TestFilterPresenter testPresenter = new TestFilterPresenter();
+    FilterInteractor filterInteractor = new FilterInteractor(testDataAccess, testPresenter);
+
+    // Act: every test restaurant sits at (43.0, -79.0)
+    filterInteractor.execute(new FilterInputData("Italian Restaurant",
+        new DistanceBound(43.0, -79.0, 100)));
+    int nearbyCount = testPresenter.getOutputData().getRestaurantNames().size();
+    filterInteractor.execute(new FilterInputData("Italian Restaurant",
+        new DistanceBound(43.66, -79.39, 5000)));
+    int farCount = testPresenter.getOutputData().getRestaurantNames().size();
+
+    // Assert
+    assertEquals(3, nearbyCount, "All 3 Italian restaurants are within 100 m");
+    assertEquals(0, farCount, "No Italian restaurant is within 5 km of downtown Toronto");
   }
 
   // ==================== Test Doubles ====================
@@ -195,6 +237,27 @@ public class FilterInteractorTest {
       return allRestaurants;
     }
 
+    @Override
+    public Restaurant getRestaurantByName(String name) {
+      for (Restaurant restaurant : getAllRestaurants()) {
+        if (restaurant.getName().equalsIgnoreCase(name.trim())) {
+          return restaurant;
+        }
+      }
+      return null;
+    }
+
+    @Override
+    public String getCidByName(String name) {
+      Restaurant restaurant = getRestaurantByName(name);
+      return restaurant == null ? null : restaurant.getId();
+    }
+
+    @Override
+    public String getCidByPlacesId(String placesId) {
+      return null;  // Not used in these tests
+    }
+
     private Restaurant createRestaurant(String id, String name, String type) {
       return new Restaurant.Builder()
           .id(id)
@@ -0,0 +1,67 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import entity.Restaurant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import use_case.list_search.FuzzySearchIndex;
+
+/**
+ * Unit tests for FuzzySearchIndex ranking equally good text matches by popularity.
+ */
+public class FuzzySearchIndexTest {
+
+  @Test
+  public void testPopularityCloserThanFloatPrecisionIsOrdered() {
+    // Arrange: same name and address, popularity only differs beyond the 24 bits a float keeps
+    List<Restaurant> restaurants = restaurants("A", "B", "C");
+    Map<String, Double> popularity = Map.of("A", 4.000000001, "B", 4.000000003, "C", 4.000000002);
+    FuzzySearchIndex index = new FuzzySearchIndex(restaurants, r -> popularity.get(r.getId()));
+
+    // Act
+    List<Restaurant> top = index.search("bagel", 2);
+
+    // Assert
+    assertEquals(List.of("B", "C"), ids(top));
+  }
+
+  @Test
+  public void testTiesKeepCatalogOrder() {
+    // Arrange
+    List<Restaurant> restaurants = restaurants("A", "B", "C");
+    FuzzySearchIndex index = new FuzzySearchIndex(restaurants, r -> 4.0);
+
+    // Act
+    List<Restaurant> top = index.search("bagel", 3);
+
+    // Assert
+    assertEquals(List.of("A", "B", "C"), ids(top));
+  }
+
+  private static List<Restaurant> restaurants(String... ids) {
+    List<Restaurant> restaurants = new ArrayList<>();
+    for (String id : ids) {
+      restaurants.add(new Restaurant.Builder()
+          .id(id)
+          .name("Bagel Shop")
+          .location("123 Main St", "http://maps.google.com", 43.0, -79.0)
+          .type("Bakery")
+          .rating(4.0, 10)
+          .contact("416-123-4567", "http://example.com")
+          .openingHours(List.of("Mon-Fri: 9AM-5PM"))
+          .studentDiscount(false, 0.0)
+          .photoIds(List.of("photo1"))
+          .build());
+    }
+    return restaurants;
+  }
+
+  private static List<String> ids(List<Restaurant> restaurants) {
+    List<String> ids = new ArrayList<>();
+    for (Restaurant restaurant : restaurants) {
+      ids.add(restaurant.getId());
+    }
+    return ids;
+  }
+}
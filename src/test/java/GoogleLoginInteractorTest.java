@@ -2,7 +2,6 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
@@ -71,10 +70,6 @@ class GoogleLoginInteractorTest {
         .thenReturn(googleAuthResult);
     when(mockUserRepository.existsByUid(TEST_UID))
         .thenReturn(false);  // User doesn't exist yet
-    when(mockAuthGateway.getCurrentUserUid())
-        .thenReturn(TEST_UID);
-    when(mockUserRepository.getUserByUid(TEST_UID))
-        .thenReturn(new User(TEST_UID, TEST_EMAIL, TEST_DISPLAY_NAME));
 
     // Act
     interactor.execute();
@@ -98,8 +93,9 @@ class GoogleLoginInteractorTest {
     // 4. Verify loadAllUsers was called after successful registration
     verify(mockUserRepository).loadAllUsers();
 
-    // 5. Verify getCurrentUserUid was called by CurrentUser instance
-    verify(mockAuthGateway, atLeastOnce()).getCurrentUserUid();
+    // 5. Verify the user is not read back or watched as a side effect
+    verify(mockAuthGateway, never()).getCurrentUserUid();
+    verify(mockUserRepository, never()).watchUser(anyString());
 
     // 6. Verify success view was prepared
     ArgumentCaptor<GoogleLoginOutputData> outputCaptor =
@@ -134,8 +130,6 @@ class GoogleLoginInteractorTest {
         .thenReturn(true);  // User already exists
     when(mockUserRepository.getUserByUid(TEST_UID))
         .thenReturn(existingUser);
-    when(mockAuthGateway.getCurrentUserUid())
-        .thenReturn(TEST_UID);
 
     // Act
     interactor.execute();
@@ -154,8 +148,9 @@ class GoogleLoginInteractorTest {
     // 4. Verify loadAllUsers was called after successful login
     verify(mockUserRepository).loadAllUsers();
 
-    // 5. Verify getCurrentUserUid was called by CurrentUser instance
-    verify(mockAuthGateway, atLeastOnce()).getCurrentUserUid();
+    // 5. Verify the user is not read back or watched as a side effect
+    verify(mockAuthGateway, never()).getCurrentUserUid();
+    verify(mockUserRepository, never()).watchUser(anyString());
 
     // 6. Verify success view was prepared with EXISTING user's data
     ArgumentCaptor<GoogleLoginOutputData> outputCaptor =
@@ -261,10 +256,6 @@ class GoogleLoginInteractorTest {
         .thenReturn(googleAuthResult);
     when(mockUserRepository.existsByUid("google-uid-abc123"))
         .thenReturn(false);
-    when(mockAuthGateway.getCurrentUserUid())
-        .thenReturn("google-uid-abc123");
-    when(mockUserRepository.getUserByUid("google-uid-abc123"))
-        .thenReturn(new User("google-uid-abc123", "john.doe@gmail.com", "John Doe"));
 
     // Act
     interactor.execute();
@@ -296,10 +287,6 @@ class GoogleLoginInteractorTest {
         .thenReturn(googleAuthResult);
     when(mockUserRepository.existsByUid(TEST_UID))
         .thenReturn(false);
-    when(mockAuthGateway.getCurrentUserUid())
-        .thenReturn(TEST_UID);
-    when(mockUserRepository.getUserByUid(TEST_UID))
-        .thenReturn(new User(TEST_UID, TEST_EMAIL, "A"));
 
     // Act
     interactor.execute();
@@ -329,10 +316,6 @@ class GoogleLoginInteractorTest {
         .thenReturn(googleAuthResult);
     when(mockUserRepository.existsByUid(TEST_UID))
         .thenReturn(false);
-    when(mockAuthGateway.getCurrentUserUid())
-        .thenReturn(TEST_UID);
-    when(mockUserRepository.getUserByUid(TEST_UID))
-        .thenReturn(new User(TEST_UID, "user+test@gmail.com", TEST_DISPLAY_NAME));
 
     // Act
     interactor.execute();
@@ -361,10 +344,6 @@ class GoogleLoginInteractorTest {
         .thenReturn(googleAuthResult);
     when(mockUserRepository.existsByUid(TEST_UID))
         .thenReturn(false);
-    when(mockAuthGateway.getCurrentUserUid())
-        .thenReturn(TEST_UID);
-    when(mockUserRepository.getUserByUid(TEST_UID))
-        .thenReturn(new User(TEST_UID, TEST_EMAIL, TEST_DISPLAY_NAME));
 
     // Act
     interactor.execute();
@@ -402,8 +381,6 @@ class GoogleLoginInteractorTest {
         .thenReturn(true);
     when(mockUserRepository.getUserByUid(TEST_UID))
         .thenReturn(existingUser);
-    when(mockAuthGateway.getCurrentUserUid())
-        .thenReturn(TEST_UID);
 
     // Act
     interactor.execute();
@@ -440,10 +417,6 @@ class GoogleLoginInteractorTest {
         .thenReturn(googleAuthResult);
     when(mockUserRepository.existsByUid(TEST_UID))
         .thenReturn(false);
-    when(mockAuthGateway.getCurrentUserUid())
-        .thenReturn(TEST_UID);
-    when(mockUserRepository.getUserByUid(TEST_UID))
-        .thenReturn(new User(TEST_UID, TEST_EMAIL, "New User"));
 
     interactor.execute();
 
@@ -462,8 +435,6 @@ class GoogleLoginInteractorTest {
         .thenReturn(true);
     when(mockUserRepository.getUserByUid(TEST_UID))
         .thenReturn(existingUser);
-    when(mockAuthGateway.getCurrentUserUid())
-        .thenReturn(TEST_UID);
 
     interactor.execute();
 
@@ -473,8 +444,8 @@ class GoogleLoginInteractorTest {
   }
 
   @Test
-  @DisplayName("Verify CurrentUser can retrieve user after successful Google login")
-  void testCurrentUserFunctionalityAfterLogin() throws IOException {
+  @DisplayName("Verify a returning Google login reads the user once without watching it")
+  void testLoginDoesNotWatchUser() throws IOException {
     // Arrange
     GoogleAuthResult googleAuthResult = new GoogleAuthResult(TEST_UID, TEST_EMAIL,
         TEST_DISPLAY_NAME);
@@ -486,22 +457,14 @@ class GoogleLoginInteractorTest {
         .thenReturn(true);
     when(mockUserRepository.getUserByUid(TEST_UID))
         .thenReturn(mockUser);
-    when(mockAuthGateway.getCurrentUserUid())
-        .thenReturn(TEST_UID);
 
     // Act
     interactor.execute();
 
     // Assert
-    // Verify that getCurrentUserUid was called at least once
-    // (by the CurrentUser test instance in the interactor)
-    verify(mockAuthGateway, atLeastOnce()).getCurrentUserUid();
-
-    // Verify getUserByUid was called at least twice
-    // (once for the main flow, once for CurrentUser test)
-    verify(mockUserRepository, atLeast(2)).getUserByUid(TEST_UID);
-
-    // Verify loadAllUsers was called
+    verify(mockUserRepository).getUserByUid(TEST_UID);
+    verify(mockAuthGateway, never()).getCurrentUserUid();
+    verify(mockUserRepository, never()).watchUser(anyString());
     verify(mockUserRepository).loadAllUsers();
   }
-}
\ No newline at end of file
+}
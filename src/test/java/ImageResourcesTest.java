@@ -0,0 +1,46 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import interface_adapter.ImageResources;
+import java.awt.image.BufferedImage;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for ImageResources sharing decoded bundled images.
+ */
+public class ImageResourcesTest {
+
+  @Test
+  public void testImageDecodedOnceAndShared() {
+    // Act
+    BufferedImage first = ImageResources.get(ImageResources.NO_IMAGE);
+    BufferedImage second = ImageResources.get(ImageResources.NO_IMAGE);
+
+    // Assert
+    assertTrue(first == second, "Every caller should get the same image");
+  }
+
+  @Test
+  public void testScaledVariantMadeOncePerSize() {
+    // Act
+    BufferedImage card = ImageResources.get(ImageResources.PLACEHOLDER, 280, 140);
+    BufferedImage wide = ImageResources.getAtWidth(ImageResources.PLACEHOLDER, 800);
+
+    // Assert
+    assertEquals(280, card.getWidth());
+    assertEquals(140, card.getHeight());
+    assertEquals(800, wide.getWidth());
+    assertTrue(card == ImageResources.get(ImageResources.PLACEHOLDER, 280, 140));
+    assertTrue(wide == ImageResources.getAtWidth(ImageResources.PLACEHOLDER, 800));
+  }
+
+  @Test
+  public void testMissingImageFallsBackToPlainPlaceholder() {
+    // Act
+    BufferedImage image = ImageResources.get("/images/does_not_exist.png");
+
+    // Assert
+    assertEquals(280, image.getWidth());
+    assertEquals(140, image.getHeight());
+  }
+}
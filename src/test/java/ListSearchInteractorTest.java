@@ -1,11 +1,11 @@
-import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertFalse;
-import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import entity.Restaurant;
 import java.util.ArrayList;
 import java.util.List;
-import org.junit.Test;
+import org.junit.jupiter.api.Test;
 import use_case.filter.IRestaurantDataAccess;
 import use_case.list_search.ListSearchInputData;
 import use_case.list_search.ListSearchInteractor;
@@ -31,12 +31,13 @@ public class ListSearchInteractorTest {
     interactor.search(inputData);
 
     // Assert
-    assertTrue("Present results should be called", testPresenter.isPresentResultsCalled());
-    assertFalse("Present error should not be called", testPresenter.isPresentErrorCalled());
-    assertEquals("Should return 1 matching restaurant", 1,
-        testPresenter.getOutputData().getFilteredRestaurants().size());
-    assertEquals("Should match Pizza Parlor", "Pizza Parlor",
-        testPresenter.getOutputData().getFilteredRestaurants().get(0).getName());
+    assertTrue(testPresenter.isPresentResultsCalled(), "Present results should be called");
+    assertFalse(testPresenter.isPresentErrorCalled(), "Present error should not be called");
+    assertEquals(1, testPresenter.getOutputData().getFilteredRestaurants().size(),
+        "Should return 1 matching restaurant");
+    assertEquals("Pizza Parlor",
+        testPresenter.getOutputData().getFilteredRestaurants().get(0).getName(),
+        "Should match Pizza Parlor");
   }
 
   @Test
@@ -53,10 +54,10 @@ public class ListSearchInteractorTest {
     interactor.search(inputData);
 
     // Assert
-    assertTrue("Present results should be called", testPresenter.isPresentResultsCalled());
-    assertFalse("Present error should not be called", testPresenter.isPresentErrorCalled());
-    assertEquals("Should return all restaurants for empty query", 5,
-        testPresenter.getOutputData().getFilteredRestaurants().size());
+    assertTrue(testPresenter.isPresentResultsCalled(), "Present results should be called");
+    assertFalse(testPresenter.isPresentErrorCalled(), "Present error should not be called");
+    assertEquals(5, testPresenter.getOutputData().getFilteredRestaurants().size(),
+        "Should return all restaurants for empty query");
   }
 
   @Test
@@ -73,10 +74,10 @@ public class ListSearchInteractorTest {
     interactor.search(inputData);
 
     // Assert
-    assertTrue("Present results should be called", testPresenter.isPresentResultsCalled());
-    assertFalse("Present error should not be called", testPresenter.isPresentErrorCalled());
-    assertEquals("Should return empty list for no matches", 0,
-        testPresenter.getOutputData().getFilteredRestaurants().size());
+    assertTrue(testPresenter.isPresentResultsCalled(), "Present results should be called");
+    assertFalse(testPresenter.isPresentErrorCalled(), "Present error should not be called");
+    assertEquals(0, testPresenter.getOutputData().getFilteredRestaurants().size(),
+        "Should return empty list for no matches");
   }
 
   @Test
@@ -93,15 +94,16 @@ public class ListSearchInteractorTest {
     interactor.search(inputData);
 
     // Assert
-    assertTrue("Present results should be called", testPresenter.isPresentResultsCalled());
-    assertEquals("Should match case-insensitively", 1,
-        testPresenter.getOutputData().getFilteredRestaurants().size());
-    assertEquals("Should match Sushi Place", "Sushi Place",
-        testPresenter.getOutputData().getFilteredRestaurants().get(0).getName());
+    assertTrue(testPresenter.isPresentResultsCalled(), "Present results should be called");
+    assertEquals(1, testPresenter.getOutputData().getFilteredRestaurants().size(),
+        "Should match case-insensitively");
+    assertEquals("Sushi Place",
+        testPresenter.getOutputData().getFilteredRestaurants().get(0).getName(),
+        "Should match Sushi Place");
   }
 
   @Test
-  public void testSearchSortsByRatingToReviewRatio() {
+  public void testSearchSortsByPopularity() {
     // Arrange
     TestRestaurantDataAccess testDataAccess = new TestRestaurantDataAccess();
     TestListSearchPresenter testPresenter = new TestListSearchPresenter();
@@ -114,16 +116,16 @@ public class ListSearchInteractorTest {
     interactor.search(inputData);
 
     // Assert
-    assertTrue("Present results should be called", testPresenter.isPresentResultsCalled());
+    assertTrue(testPresenter.isPresentResultsCalled(), "Present results should be called");
     List<Restaurant> results = testPresenter.getOutputData().getFilteredRestaurants();
-    assertEquals("Should return 2 restaurants starting with P", 2, results.size());
-
-    // Pizza Parlor has rating 5.0/10 = 0.5, Pasta Palace has 4.0/100 = 0.04
-    // Pizza Parlor should be first (higher ratio)
-    assertEquals("First result should be Pizza Parlor (higher ratio)", "Pizza Parlor",
-        results.get(0).getName());
-    assertEquals("Second result should be Pasta Palace (lower ratio)", "Pasta Palace",
-        results.get(1).getName());
+    assertEquals(2, results.size(), "Should return 2 restaurants starting with P");
+
+    // Ranked by rating x log10(ratingCount + 10): Pasta Palace scores 4.0 x log10(110) = 8.2,
+    // Pizza Parlor 5.0 x log10(20) = 6.5, so many ratings outweigh a higher star rating
+    assertEquals("Pasta Palace", results.get(0).getName(),
+        "First result should be Pasta Palace (higher score)");
+    assertEquals("Pizza Parlor", results.get(1).getName(),
+        "Second result should be Pizza Parlor (lower score)");
   }
 
   @Test
@@ -140,12 +142,12 @@ public class ListSearchInteractorTest {
     interactor.search(inputData);
 
     // Assert
-    assertTrue("Present error should be called when exception occurs",
-        testPresenter.isPresentErrorCalled());
-    assertFalse("Present results should not be called when exception occurs",
-        testPresenter.isPresentResultsCalled());
-    assertTrue("Error message should indicate search error",
-        testPresenter.getErrorMessage().contains("Error searching restaurants"));
+    assertTrue(testPresenter.isPresentErrorCalled(),
+        "Present error should be called when exception occurs");
+    assertFalse(testPresenter.isPresentResultsCalled(),
+        "Present results should not be called when exception occurs");
+    assertTrue(testPresenter.getErrorMessage().contains("Error searching restaurants"),
+        "Error message should indicate search error");
   }
 
   @Test
@@ -163,9 +165,9 @@ public class ListSearchInteractorTest {
     interactor.search(inputData);
 
     // Assert
-    assertTrue("Present results should be called", testPresenter.isPresentResultsCalled());
-    assertEquals("Should limit results to 300 restaurants", 300,
-        testPresenter.getOutputData().getFilteredRestaurants().size());
+    assertTrue(testPresenter.isPresentResultsCalled(), "Present results should be called");
+    assertEquals(300, testPresenter.getOutputData().getFilteredRestaurants().size(),
+        "Should limit results to 300 restaurants");
   }
 
   // ==================== Test Doubles ====================
@@ -221,6 +223,27 @@ public class ListSearchInteractorTest {
       return restaurants;
     }
 
+    @Override
+    public Restaurant getRestaurantByName(String name) {
+      for (Restaurant restaurant : getAllRestaurants()) {
+        if (restaurant.getName().equalsIgnoreCase(name.trim())) {
+          return restaurant;
+        }
+      }
+      return null;
+    }
+
+    @Override
+    public String getCidByName(String name) {
+      Restaurant restaurant = getRestaurantByName(name);
+      return restaurant == null ? null : restaurant.getId();
+    }
+
+    @Override
+    public String getCidByPlacesId(String placesId) {
+      return null;  // Not used in these tests
+    }
+
     private Restaurant createRestaurant(String id, String name, String type, double rating,
         int ratingCount) {
       return new Restaurant.Builder()
@@ -0,0 +1,174 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import entity.Restaurant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import use_case.filter.IRestaurantDataAccess;
+import use_case.list_search.ListSearchInputData;
+import use_case.list_search.ListSearchInteractor;
+import use_case.list_search.ListSearchOutputBoundary;
+import use_case.list_search.ListSearchOutputData;
+import use_case.nearby_restaurants.DistanceBound;
+
+/**
+ * Unit tests for ListSearchInteractor's fuzzy mode and distance bound.
+ */
+public class ListSearchModesTest {
+
+  private final TestRestaurantDataAccess testDataAccess = new TestRestaurantDataAccess();
+  private final TestListSearchPresenter testPresenter = new TestListSearchPresenter();
+  private final ListSearchInteractor interactor =
+      new ListSearchInteractor(testDataAccess, testPresenter);
+
+  @Test
+  public void testFuzzySearchToleratesMisspelledName() {
+    // Arrange
+    ListSearchInputData inputData =
+        new ListSearchInputData("pizza parlr", ListSearchInputData.Mode.FUZZY);
+
+    // Act
+    interactor.search(inputData);
+
+    // Assert
+    assertFalse(testPresenter.isPresentErrorCalled(), "Present error should not be called");
+    List<Restaurant> results = testPresenter.getOutputData().getFilteredRestaurants();
+    assertEquals(1, results.size(), "Should return 1 matching restaurant");
+    assertEquals("Pizza Parlor", results.get(0).getName(), "Should match Pizza Parlor");
+  }
+
+  @Test
+  public void testFuzzySearchMatchesPartialCuisine() {
+    // Act
+    interactor.search(new ListSearchInputData("japan", ListSearchInputData.Mode.FUZZY));
+
+    // Assert
+    List<Restaurant> results = testPresenter.getOutputData().getFilteredRestaurants();
+    assertEquals(2, results.size(), "Should return both Japanese restaurants");
+    for (Restaurant restaurant : results) {
+      assertEquals("Japanese Restaurant", restaurant.getType());
+    }
+  }
+
+  @Test
+  public void testFuzzySearchMatchesSubstring() {
+    // Act
+    interactor.search(new ListSearchInputData("lace", ListSearchInputData.Mode.FUZZY));
+
+    // Assert
+    List<Restaurant> results = testPresenter.getOutputData().getFilteredRestaurants();
+    assertEquals(2, results.size(), "Should match Pasta Palace and Sushi Place");
+    assertTrue(results.stream().anyMatch(r -> r.getName().equals("Pasta Palace")));
+    assertTrue(results.stream().anyMatch(r -> r.getName().equals("Sushi Place")));
+  }
+
+  @Test
+  public void testSearchWithDistanceBound() {
+    // Act: every test restaurant sits at (43.0, -79.0)
+    interactor.search(new ListSearchInputData("P", ListSearchInputData.Mode.PREFIX,
+        new DistanceBound(43.0, -79.0, 100)));
+    int nearbyCount = testPresenter.getOutputData().getFilteredRestaurants().size();
+    interactor.search(new ListSearchInputData("P", ListSearchInputData.Mode.PREFIX,
+        new DistanceBound(43.66, -79.39, 5000)));
+    int farCount = testPresenter.getOutputData().getFilteredRestaurants().size();
+
+    // Assert
+    assertEquals(2, nearbyCount, "Both P restaurants are within 100 m of their location");
+    assertEquals(0, farCount, "No restaurant is within 5 km of downtown Toronto");
+  }
+
+  // ==================== Test Doubles ====================
+
+  /**
+   * Test double for IRestaurantDataAccess
+   */
+  private static class TestRestaurantDataAccess implements IRestaurantDataAccess {
+
+    private final List<Restaurant> restaurants = List.of(
+        createRestaurant("R1", "Pasta Palace", "Italian Restaurant", 4.0, 100),
+        createRestaurant("R2", "Pizza Parlor", "Italian Restaurant", 5.0, 10),
+        createRestaurant("R3", "Trattoria", "Italian Restaurant", 4.5, 50),
+        createRestaurant("J1", "Sushi Place", "Japanese Restaurant", 4.8, 80),
+        createRestaurant("J2", "Ramen House", "Japanese Restaurant", 4.2, 60));
+
+    @Override
+    public List<Restaurant> getRestaurantsByType(String type) {
+      return new ArrayList<>();  // Not used in ListSearchInteractor
+    }
+
+    @Override
+    public String[] getAllRestaurantTypes() {
+      return new String[0];  // Not used in ListSearchInteractor
+    }
+
+    @Override
+    public List<Restaurant> getAllRestaurants() {
+      return new ArrayList<>(restaurants);
+    }
+
+    @Override
+    public Restaurant getRestaurantByName(String name) {
+      for (Restaurant restaurant : restaurants) {
+        if (restaurant.getName().equalsIgnoreCase(name.trim())) {
+          return restaurant;
+        }
+      }
+      return null;
+    }
+
+    @Override
+    public String getCidByName(String name) {
+      Restaurant restaurant = getRestaurantByName(name);
+      return restaurant == null ? null : restaurant.getId();
+    }
+
+    @Override
+    public String getCidByPlacesId(String placesId) {
+      return null;  // Not used in these tests
+    }
+
+    private static Restaurant createRestaurant(String id, String name, String type, double rating,
+        int ratingCount) {
+      return new Restaurant.Builder()
+          .id(id)
+          .name(name)
+          .location("123 Main St", "http://maps.google.com", 43.0, -79.0)
+          .type(type)
+          .rating(rating, ratingCount)
+          .contact("416-123-4567", "http://example.com")
+          .openingHours(List.of("Mon-Fri: 9AM-5PM"))
+          .studentDiscount(false, 0.0)
+          .photoIds(List.of("photo1"))
+          .build();
+    }
+  }
+
+  /**
+   * Test double for ListSearchOutputBoundary
+   */
+  private static class TestListSearchPresenter implements ListSearchOutputBoundary {
+
+    private boolean presentErrorCalled = false;
+    private ListSearchOutputData outputData;
+
+    @Override
+    public void presentResults(ListSearchOutputData outputData) {
+      this.outputData = outputData;
+    }
+
+    @Override
+    public void presentError(String error) {
+      this.presentErrorCalled = true;
+    }
+
+    public boolean isPresentErrorCalled() {
+      return presentErrorCalled;
+    }
+
+    public ListSearchOutputData getOutputData() {
+      return outputData;
+    }
+  }
+}
@@ -0,0 +1,119 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import data_access.LocalUserStore;
+import entity.User;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for LocalUserStore keeping users on disk.
+ */
+public class LocalUserStoreTest {
+
+  @Test
+  public void testStoredUserIsReadAfterReopening() throws IOException {
+    // Arrange
+    Path path = Files.createTempDirectory("users").resolve("users.jsonl");
+    LocalUserStore store = new LocalUserStore(path);
+    User alice = createUser("alice", "restA", "restB");
+
+    // Act
+    store.put(alice);
+    store.close();
+    LocalUserStore reopened = new LocalUserStore(path);
+
+    // Assert
+    User stored = reopened.get("alice");
+    assertFalse(alice == stored, "Store should hand out copies");
+    assertEquals("Nickname alice", stored.getNickname());
+    assertEquals(List.of("restA", "restB"), stored.getFavoriteRestaurantIds());
+  }
+
+  @Test
+  public void testLaterSaveReplacesEarlierOne() throws IOException {
+    // Arrange
+    Path path = Files.createTempDirectory("users").resolve("users.jsonl");
+    LocalUserStore store = new LocalUserStore(path);
+    User alice = createUser("alice", "restA");
+    store.put(alice);
+
+    // Act
+    alice.removeFavoriteRestaurantId("restA");
+    alice.addFavoriteRestaurantId("restC");
+    store.put(alice);
+    store.close();
+
+    // Assert
+    assertEquals(List.of("restC"), new LocalUserStore(path).get("alice").getFavoriteRestaurantIds());
+  }
+
+  @Test
+  public void testRemovedUserStaysRemoved() throws IOException {
+    // Arrange
+    Path path = Files.createTempDirectory("users").resolve("users.jsonl");
+    LocalUserStore store = new LocalUserStore(path);
+    store.put(createUser("alice"));
+
+    // Act
+    store.remove("alice");
+    store.close();
+
+    // Assert
+    assertNull(new LocalUserStore(path).get("alice"));
+  }
+
+  @Test
+  public void testLineCutShortByCrashIsSkipped() throws IOException {
+    // Arrange
+    Path path = Files.createTempDirectory("users").resolve("users.jsonl");
+    LocalUserStore store = new LocalUserStore(path);
+    store.put(createUser("alice", "restA"));
+    store.close();
+    Files.write(path, "{\"uid\":\"bob\",\"nick".getBytes(StandardCharsets.UTF_8),
+        StandardOpenOption.APPEND);
+
+    // Act
+    LocalUserStore reopened = new LocalUserStore(path);
+    reopened.put(createUser("carol"));
+    reopened.close();
+
+    // Assert
+    LocalUserStore recovered = new LocalUserStore(path);
+    assertEquals(List.of("restA"), recovered.get("alice").getFavoriteRestaurantIds());
+    assertNull(recovered.get("bob"));
+    assertEquals("Nickname carol", recovered.get("carol").getNickname());
+  }
+
+  @Test
+  public void testRepeatedSavesAreCompacted() throws IOException {
+    // Arrange
+    Path path = Files.createTempDirectory("users").resolve("users.jsonl");
+    LocalUserStore store = new LocalUserStore(path);
+    User alice = createUser("alice");
+
+    // Act
+    for (int i = 0; i < 3000; i++) {
+      alice.setNickname("Nickname " + i);
+      store.put(alice);
+    }
+    store.close();
+
+    // Assert
+    assertTrue(Files.readAllLines(path).size() < 2000, "Log should be rewritten");
+    assertEquals("Nickname 2999", new LocalUserStore(path).get("alice").getNickname());
+  }
+
+  private static User createUser(String uid, String... favorites) {
+    return new User(uid, uid + "@example.com", "Nickname " + uid, "en",
+        new ArrayList<>(List.of(favorites)));
+  }
+}
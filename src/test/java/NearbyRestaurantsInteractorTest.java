@@ -0,0 +1,255 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import entity.Restaurant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import use_case.filter.IRestaurantDataAccess;
+import use_case.nearby_restaurants.NearbyRestaurant;
+import use_case.nearby_restaurants.NearbyRestaurantsInputData;
+import use_case.nearby_restaurants.NearbyRestaurantsInteractor;
+import use_case.nearby_restaurants.NearbyRestaurantsOutputBoundary;
+import use_case.nearby_restaurants.NearbyRestaurantsOutputData;
+import use_case.nearby_restaurants.RestaurantSpatialIndex;
+
+/**
+ * Unit test for NearbyRestaurantsInteractor.
+ */
+public class NearbyRestaurantsInteractorTest {
+
+  private static final double CAMPUS_LAT = 43.6629;
+  private static final double CAMPUS_LNG = -79.3957;
+
+  @Test
+  public void testNearestReturnsClosestFirst() {
+    // Arrange
+    TestRestaurantDataAccess testDataAccess = new TestRestaurantDataAccess();
+    TestNearbyPresenter testPresenter = new TestNearbyPresenter();
+    NearbyRestaurantsInteractor interactor =
+        new NearbyRestaurantsInteractor(testDataAccess, testPresenter);
+
+    // Act
+    interactor.execute(new NearbyRestaurantsInputData(CAMPUS_LAT, CAMPUS_LNG, 3));
+
+    // Assert
+    List<NearbyRestaurant> nearby = testPresenter.getOutputData().getRestaurants();
+    assertEquals(3, nearby.size(), "Should return 3 restaurants");
+    assertEquals("On Campus Cafe", nearby.get(0).getRestaurant().getName());
+    assertEquals("Spadina Noodles", nearby.get(1).getRestaurant().getName());
+    assertEquals("Bloor Bakery", nearby.get(2).getRestaurant().getName());
+    assertTrue(nearby.get(0).getDistanceMeters() <= nearby.get(1).getDistanceMeters()
+            && nearby.get(1).getDistanceMeters() <= nearby.get(2).getDistanceMeters(),
+        "Distances should be ascending");
+  }
+
+  @Test
+  public void testRadiusReturnsEveryRestaurantInside() {
+    // Arrange
+    TestRestaurantDataAccess testDataAccess = new TestRestaurantDataAccess();
+    TestNearbyPresenter testPresenter = new TestNearbyPresenter();
+    NearbyRestaurantsInteractor interactor =
+        new NearbyRestaurantsInteractor(testDataAccess, testPresenter);
+
+    // Act
+    interactor.execute(new NearbyRestaurantsInputData(CAMPUS_LAT, CAMPUS_LNG, 0, 1500));
+
+    // Assert
+    List<NearbyRestaurant> nearby = testPresenter.getOutputData().getRestaurants();
+    assertEquals(3, nearby.size(), "Three restaurants are within 1.5 km");
+    for (NearbyRestaurant restaurant : nearby) {
+      assertTrue(restaurant.getDistanceMeters() <= 1500);
+    }
+  }
+
+  @Test
+  public void testRadiusAndLimitTogether() {
+    // Arrange
+    TestRestaurantDataAccess testDataAccess = new TestRestaurantDataAccess();
+    TestNearbyPresenter testPresenter = new TestNearbyPresenter();
+    NearbyRestaurantsInteractor interactor =
+        new NearbyRestaurantsInteractor(testDataAccess, testPresenter);
+
+    // Act
+    interactor.execute(new NearbyRestaurantsInputData(CAMPUS_LAT, CAMPUS_LNG, 10, 300));
+
+    // Assert
+    List<NearbyRestaurant> nearby = testPresenter.getOutputData().getRestaurants();
+    assertEquals(1, nearby.size(), "Only the campus cafe is within 300 m");
+    assertEquals("On Campus Cafe", nearby.get(0).getRestaurant().getName());
+  }
+
+  @Test
+  public void testRestaurantsWithoutLocationAreSkipped() {
+    // Arrange
+    TestRestaurantDataAccess testDataAccess = new TestRestaurantDataAccess();
+    TestNearbyPresenter testPresenter = new TestNearbyPresenter();
+    NearbyRestaurantsInteractor interactor =
+        new NearbyRestaurantsInteractor(testDataAccess, testPresenter);
+
+    // Act
+    interactor.execute(new NearbyRestaurantsInputData(0.0, 0.0, 10));
+
+    // Assert
+    List<NearbyRestaurant> nearby = testPresenter.getOutputData().getRestaurants();
+    assertEquals(5, nearby.size(), "Every located restaurant, none of them at (0, 0)");
+    for (NearbyRestaurant restaurant : nearby) {
+      assertFalse(restaurant.getRestaurant().getName().equals("Unknown Location"));
+    }
+  }
+
+  @Test
+  public void testInvalidLocation() {
+    // Arrange
+    TestRestaurantDataAccess testDataAccess = new TestRestaurantDataAccess();
+    TestNearbyPresenter testPresenter = new TestNearbyPresenter();
+    NearbyRestaurantsInteractor interactor =
+        new NearbyRestaurantsInteractor(testDataAccess, testPresenter);
+
+    // Act
+    interactor.execute(new NearbyRestaurantsInputData(95.0, CAMPUS_LNG, 5));
+
+    // Assert
+    assertNotNull(testPresenter.getErrorMessage(), "Error should be presented");
+    assertTrue(testPresenter.getErrorMessage().contains("Invalid location"));
+  }
+
+  @Test
+  public void testMatchesBruteForceOnRandomPoints() {
+    // Arrange
+    Random random = new Random(42);
+    List<Restaurant> restaurants = new ArrayList<>();
+    double latitudeSum = 0;
+    for (int i = 0; i < 2000; i++) {
+      double lat = 43.58 + random.nextDouble() * 0.2;
+      restaurants.add(createRestaurant("R" + i, "Restaurant " + i,
+          lat, -79.55 + random.nextDouble() * 0.3));
+      latitudeSum += lat;
+    }
+    double cosReference = Math.cos(Math.toRadians(latitudeSum / restaurants.size()));
+    RestaurantSpatialIndex index = new RestaurantSpatialIndex(restaurants);
+
+    for (int query = 0; query < 50; query++) {
+      double lat = 43.5 + random.nextDouble() * 0.4;
+      double lng = -79.7 + random.nextDouble() * 0.6;
+
+      // Act
+      List<NearbyRestaurant> nearest = index.nearest(lat, lng, 15, Double.POSITIVE_INFINITY);
+      List<NearbyRestaurant> within = index.within(lat, lng, 2000);
+
+      // Assert
+      List<Double> expected = new ArrayList<>();
+      for (Restaurant restaurant : restaurants) {
+        expected.add(flatDistance(lat, lng, restaurant, cosReference));
+      }
+      expected.sort(Comparator.naturalOrder());
+      assertEquals(15, nearest.size());
+      for (int i = 0; i < 15; i++) {
+        assertEquals(expected.get(i), nearest.get(i).getDistanceMeters(), 0.01);
+      }
+      long inside = expected.stream().filter(distance -> distance <= 2000).count();
+      assertEquals(inside, within.size());
+    }
+  }
+
+  /**
+   * Reference distance computed independently of the index, on the same flat projection.
+   */
+  private static double flatDistance(double lat, double lng, Restaurant restaurant,
+      double cosReference) {
+    double dx = Math.toRadians(restaurant.getLongitude() - lng) * cosReference * 6_371_008.8;
+    double dy = Math.toRadians(restaurant.getLatitude() - lat) * 6_371_008.8;
+    return Math.sqrt(dx * dx + dy * dy);
+  }
+
+  private static Restaurant createRestaurant(String id, String name, double lat, double lng) {
+    return new Restaurant.Builder()
+        .id(id)
+        .name(name)
+        .location("123 Main St", "http://maps.google.com", lat, lng)
+        .type("Restaurant")
+        .rating(4.5, 100)
+        .contact("416-123-4567", "http://example.com")
+        .openingHours(List.of("Mon-Fri: 9AM-5PM"))
+        .studentDiscount(false, 0.0)
+        .photoIds(List.of("photo1"))
+        .build();
+  }
+
+  // ==================== Test Doubles ====================
+
+  /**
+   * Test double for IRestaurantDataAccess with restaurants at known distances from campus.
+   */
+  private static class TestRestaurantDataAccess implements IRestaurantDataAccess {
+
+    private final List<Restaurant> restaurants = List.of(
+        createRestaurant("N1", "On Campus Cafe", 43.6631, -79.3960),        // ~30 m
+        createRestaurant("N2", "Spadina Noodles", 43.6580, -79.4000),       // ~650 m
+        createRestaurant("N3", "Bloor Bakery", 43.6700, -79.3900),          // ~900 m
+        createRestaurant("N4", "Harbourfront Grill", 43.6400, -79.3800),    // ~2.8 km
+        createRestaurant("N5", "Scarborough Diner", 43.7700, -79.2300),     // ~18 km
+        createRestaurant("N6", "Unknown Location", 0.0, 0.0));
+
+    @Override
+    public List<Restaurant> getRestaurantsByType(String type) {
+      return restaurants;
+    }
+
+    @Override
+    public String[] getAllRestaurantTypes() {
+      return new String[]{"Restaurant"};
+    }
+
+    @Override
+    public List<Restaurant> getAllRestaurants() {
+      return restaurants;
+    }
+
+    @Override
+    public Restaurant getRestaurantByName(String name) {
+      return null;  // Not used in these tests
+    }
+
+    @Override
+    public String getCidByName(String name) {
+      return null;  // Not used in these tests
+    }
+
+    @Override
+    public String getCidByPlacesId(String placesId) {
+      return null;  // Not used in these tests
+    }
+  }
+
+  /**
+   * Test double for NearbyRestaurantsOutputBoundary
+   */
+  private static class TestNearbyPresenter implements NearbyRestaurantsOutputBoundary {
+
+    private NearbyRestaurantsOutputData outputData;
+    private String errorMessage;
+
+    @Override
+    public void presentNearby(NearbyRestaurantsOutputData outputData) {
+      this.outputData = outputData;
+    }
+
+    @Override
+    public void presentError(String error) {
+      this.errorMessage = error;
+    }
+
+    public NearbyRestaurantsOutputData getOutputData() {
+      return outputData;
+    }
+
+    public String getErrorMessage() {
+      return errorMessage;
+    }
+  }
+}
@@ -0,0 +1,162 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import interface_adapter.ImageDataAccessInterface;
+import interface_adapter.view_restaurant.PhotoGallery;
+import interface_adapter.view_restaurant.ViewRestaurantState;
+import interface_adapter.view_restaurant.ViewRestaurantViewModel;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for PhotoGallery loading a restaurant's photos in the background.
+ */
+public class PhotoGalleryTest {
+
+  private final LinkedBlockingQueue<Runnable> swingThread = new LinkedBlockingQueue<>();
+  private final FakeImageDataAccess images = new FakeImageDataAccess();
+  private final ViewRestaurantViewModel viewModel = new ViewRestaurantViewModel();
+  private final PhotoGallery gallery = new PhotoGallery(viewModel, images, swingThread::add);
+
+  @Test
+  public void testFirstPhotoFetchedAloneThenNextOnesAhead() throws InterruptedException {
+    // Arrange
+    ViewRestaurantState state = publish("Cafe", 6);
+
+    // Act
+    gallery.open(state, photoIds(6), "key");
+    runSwingThread(1);
+
+    // Assert
+    assertEquals(List.of("photo0"),
+        images.getRequested().subList(0, 1), "Nothing should compete with the first photo");
+    runSwingThread(PhotoGallery.PREFETCH_AHEAD);
+    assertEquals(List.of("photo0", "photo1", "photo2"), sorted(images.getRequested()));
+    assertNotNull(state.getPhotos().get(2));
+    assertNull(state.getPhotos().get(3), "Photos further on should wait until shown");
+    assertTrue(gallery.getHeroPhotoMillis() >= 0);
+    assertEquals(-1, gallery.getFullGalleryMillis());
+  }
+
+  @Test
+  public void testShowingPhotoLoadsItAndWrapsAround() throws InterruptedException {
+    // Arrange
+    ViewRestaurantState state = publish("Cafe", 4);
+    gallery.open(state, photoIds(4), "key");
+    runSwingThread(1 + PhotoGallery.PREFETCH_AHEAD);
+
+    // Act
+    gallery.show(-1);
+    runSwingThread(1);
+
+    // Assert
+    assertEquals(3, state.getPhotoIndex());
+    assertNotNull(state.getShownPhoto());
+    assertEquals(4, images.getRequested().size(), "Each photo should be fetched once");
+    assertTrue(gallery.getFullGalleryMillis() >= 0);
+  }
+
+  @Test
+  public void testPhotoOfPreviousRestaurantIsDropped() throws InterruptedException {
+    // Arrange
+    ViewRestaurantState first = publish("Cafe", 2);
+    gallery.open(first, photoIds(2), "key");
+    awaitCallbacks(1);
+
+    // Act
+    ViewRestaurantState second = publish("Bistro", 2);
+    gallery.open(second, List.of("other0", "other1"), "key");
+    runSwingThread(2);
+
+    // Assert
+    assertNull(first.getPhotos().get(0));
+    assertNotNull(second.getPhotos().get(0));
+    assertTrue(images.getRequested().contains("other0"));
+  }
+
+  @Test
+  public void testOnlyShownPhotoArrivalIsAnnounced() throws InterruptedException {
+    // Arrange
+    ViewRestaurantState state = publish("Cafe", 6);
+    List<String> events = new ArrayList<>();
+    viewModel.addPropertyChangeListener(evt -> events.add(evt.getPropertyName()));
+
+    // Act
+    gallery.open(state, photoIds(6), "key");
+    runSwingThread(1 + PhotoGallery.PREFETCH_AHEAD);
+
+    // Assert
+    assertNotNull(state.getPhotos().get(PhotoGallery.PREFETCH_AHEAD));
+    assertEquals(List.of("restaurant photos", "restaurant photos"), events,
+        "Opening and the first photo arriving should redraw; photos fetched ahead should not");
+  }
+
+  private ViewRestaurantState publish(String name, int photoCount) {
+    ViewRestaurantState state = new ViewRestaurantState();
+    state.setName(name);
+    state.setPhotos(new ArrayList<>(Collections.nCopies(photoCount, null)));
+    viewModel.setState(state);
+    return state;
+  }
+
+  private static List<String> photoIds(int count) {
+    List<String> ids = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      ids.add("photo" + i);
+    }
+    return ids;
+  }
+
+  private static List<String> sorted(List<String> values) {
+    List<String> copy = new ArrayList<>(values);
+    Collections.sort(copy);
+    return copy;
+  }
+
+  private void awaitCallbacks(int count) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5000;
+    while (swingThread.size() < count && System.currentTimeMillis() < deadline) {
+      Thread.sleep(5);
+    }
+  }
+
+  /**
+   * Runs the given number of callbacks, waiting for each, as the Swing thread would.
+   */
+  private void runSwingThread(int count) throws InterruptedException {
+    for (int i = 0; i < count; i++) {
+      Runnable task = swingThread.poll(5, TimeUnit.SECONDS);
+      assertNotNull(task, "Expected a loaded photo");
+      task.run();
+    }
+  }
+
+  // ==================== Test Doubles ====================
+
+  /**
+   * Test double for ImageDataAccessInterface that records requests
+   */
+  private static class FakeImageDataAccess implements ImageDataAccessInterface {
+
+    private final List<String> requested = Collections.synchronizedList(new ArrayList<>());
+
+    @Override
+    public BufferedImage fetchRestaurantImage(String photoId, String api_key) {
+      requested.add(photoId);
+      return new BufferedImage(8, 6, BufferedImage.TYPE_INT_RGB);
+    }
+
+    public List<String> getRequested() {
+      synchronized (requested) {
+        return new ArrayList<>(requested);
+      }
+    }
+  }
+}
@@ -0,0 +1,226 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import helper.PlacesApiException;
+import helper.PlacesImportPipeline;
+import helper.PlacesSearchClient;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for PlacesImportPipeline running searches against a fake Places API.
+ */
+public class PlacesImportPipelineTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  public void testResumesFromCheckpointAfterCrashMidPage() throws Exception {
+    // Arrange: the second page of "tile" fails for good, so the first run stops after page one
+    Path output = directory.resolve("restaurant.json");
+    FakePlacesClient client = new FakePlacesClient()
+        .search("tile", List.of("places/a", "places/b"), List.of("places/c"), List.of("places/d"));
+    client.failWith("tile", 1, 400);
+    assertThrows(IOException.class, () -> pipeline(client).run(tasks("tile"), output));
+    // A crash while spooling the next page left half a line behind
+    Files.writeString(PlacesImportPipeline.spoolPathFor(output), "{\"name\":\"places/c\",\"disp",
+        StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+    client.clearRequests();
+
+    // Act
+    int count = pipeline(client).run(tasks("tile"), output);
+
+    // Assert
+    assertEquals(List.of("tile:1", "tile:2"), client.getRequests(),
+        "The resumed run should continue from the saved page token");
+    assertEquals(4, count);
+    assertEquals(List.of("places/a", "places/b", "places/c", "places/d"), placeNames(output));
+    assertFalse(Files.exists(PlacesImportPipeline.spoolPathFor(output)));
+    assertFalse(Files.exists(PlacesImportPipeline.checkpointPathFor(output)));
+  }
+
+  @Test
+  public void testPlaceFromTwoSearchesWrittenOnce() throws Exception {
+    // Arrange: neighbouring tiles overlap in places/shared
+    Path output = directory.resolve("restaurant.json");
+    FakePlacesClient client = new FakePlacesClient()
+        .search("north", List.of("places/n1", "places/shared"))
+        .search("south", List.of("places/shared"), List.of("places/s1"));
+
+    // Act
+    int count = pipeline(client).run(tasks("north", "south"), output);
+
+    // Assert
+    assertEquals(3, count);
+    List<String> names = placeNames(output);
+    Collections.sort(names);
+    assertEquals(List.of("places/n1", "places/s1", "places/shared"), names);
+  }
+
+  @Test
+  public void testRateLimitsAndServerErrorsAreRetried() throws Exception {
+    // Arrange
+    Path output = directory.resolve("restaurant.json");
+    FakePlacesClient client = new FakePlacesClient().search("tile", List.of("places/a"));
+    client.failWith("tile", 0, 429, 503);
+
+    // Act
+    int count = pipeline(client).run(tasks("tile"), output);
+
+    // Assert
+    assertEquals(List.of("tile:0", "tile:0", "tile:0"), client.getRequests(),
+        "Two failed attempts and one that succeeds");
+    assertEquals(1, count);
+  }
+
+  @Test
+  public void testClientErrorIsNotRetried() throws Exception {
+    // Arrange
+    Path output = directory.resolve("restaurant.json");
+    FakePlacesClient client = new FakePlacesClient().search("tile", List.of("places/a"));
+    client.failWith("tile", 0, 403);
+
+    // Act
+    IOException error = assertThrows(IOException.class,
+        () -> pipeline(client).run(tasks("tile"), output));
+
+    // Assert
+    assertEquals(List.of("tile:0"), client.getRequests());
+    assertTrue(error.getMessage().contains("403"));
+    assertFalse(Files.exists(output));
+  }
+
+  @Test
+  public void testOutputReplacedOnlyWhenImportFinishes() throws Exception {
+    // Arrange
+    Path output = directory.resolve("restaurant.json");
+    Files.writeString(output, "[]");
+    FakePlacesClient client = new FakePlacesClient()
+        .search("tile", List.of("places/a"), List.of("places/b"));
+    client.failWith("tile", 1, 500, 500, 500);
+
+    // Act
+    assertThrows(IOException.class, () -> pipeline(client).run(tasks("tile"), output));
+    String afterFailure = Files.readString(output);
+    client.onRequest(() -> assertEquals("[]", readQuietly(output),
+        "The old output should stay in place while importing"));
+    int count = pipeline(client).run(tasks("tile"), output);
+
+    // Assert
+    assertEquals("[]", afterFailure, "A failed import should not touch the output");
+    assertEquals(2, count);
+    assertEquals(List.of("places/a", "places/b"), placeNames(output));
+    try (var files = Files.list(directory)) {
+      assertEquals(List.of(output), files.collect(Collectors.toList()),
+          "No temporary files should be left behind");
+    }
+  }
+
+  private static PlacesImportPipeline pipeline(PlacesSearchClient client) {
+    return new PlacesImportPipeline(client, 2, 3, 1);
+  }
+
+  private static List<PlacesImportPipeline.Task> tasks(String... queries) {
+    List<PlacesImportPipeline.Task> tasks = new ArrayList<>();
+    for (String query : queries) {
+      tasks.add(new PlacesImportPipeline.Task(query, new JSONObject().put("textQuery", query)));
+    }
+    return tasks;
+  }
+
+  private static List<String> placeNames(Path output) throws IOException {
+    JSONArray places = new JSONArray(Files.readString(output));
+    List<String> names = new ArrayList<>();
+    for (int i = 0; i < places.length(); i++) {
+      names.add(places.getJSONObject(i).getString("name"));
+    }
+    return names;
+  }
+
+  private static String readQuietly(Path path) {
+    try {
+      return Files.readString(path);
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  // ==================== Test Doubles ====================
+
+  /**
+   * Test double for PlacesSearchClient serving scripted pages, with page tokens of the form
+   * "query:page", that can fail a page with given statuses before serving it
+   */
+  private static class FakePlacesClient implements PlacesSearchClient {
+
+    private final Map<String, List<List<String>>> pages = new HashMap<>();
+    private final Map<String, Deque<Integer>> failures = new HashMap<>();
+    private final List<String> requests = new ArrayList<>();
+    private Runnable onRequest = () -> { };
+
+    @SafeVarargs
+    final FakePlacesClient search(String query, List<String>... placeNames) {
+      pages.put(query, List.copyOf(Arrays.asList(placeNames)));
+      return this;
+    }
+
+    void failWith(String query, int page, Integer... statusCodes) {
+      failures.put(query + ":" + page, new ArrayDeque<>(List.of(statusCodes)));
+    }
+
+    void onRequest(Runnable onRequest) {
+      this.onRequest = onRequest;
+    }
+
+    @Override
+    public synchronized JSONObject searchText(JSONObject request) throws IOException {
+      onRequest.run();
+      String query = request.getString("textQuery");
+      String token = request.optString("pageToken", query + ":0");
+      requests.add(token);
+
+      Deque<Integer> failing = failures.get(token);
+      if (failing != null && !failing.isEmpty()) {
+        throw new PlacesApiException(failing.poll(), "scripted failure");
+      }
+      int page = Integer.parseInt(token.substring(token.indexOf(':') + 1));
+      List<List<String>> searchPages = pages.get(query);
+      JSONArray places = new JSONArray();
+      for (String name : searchPages.get(page)) {
+        places.put(new JSONObject().put("name", name).put("displayName", name));
+      }
+      JSONObject response = new JSONObject().put("places", places);
+      if (page + 1 < searchPages.size()) {
+        response.put("nextPageToken", query + ":" + (page + 1));
+      }
+      return response;
+    }
+
+    synchronized List<String> getRequests() {
+      return new ArrayList<>(requests);
+    }
+
+    synchronized void clearRequests() {
+      requests.clear();
+    }
+  }
+}
@@ -4,7 +4,6 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.contains;
-import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
@@ -70,20 +69,10 @@ class RegisterUserInteractorTest {
         TEST_NICKNAME
     );
 
-    User expectedUser = new User(TEST_UID, TEST_EMAIL, TEST_NICKNAME);
-
     // Mock the auth gateway to return a UID
     when(mockAuthGateway.registerWithEmailAndPassword(TEST_EMAIL, TEST_PASSWORD))
         .thenReturn(TEST_UID);
 
-    // Mock getCurrentUserUid for CurrentUser instance
-    when(mockAuthGateway.getCurrentUserUid())
-        .thenReturn(TEST_UID);
-
-    // Mock getUserByUid for CurrentUser.getCurrentUser() call
-    when(mockUserRepository.getUserByUid(TEST_UID))
-        .thenReturn(expectedUser);
-
     // Act
     interactor.execute(inputData);
 
@@ -103,13 +92,12 @@ class RegisterUserInteractorTest {
     // 3. Verify loadAllUsers was called after successful registration
     verify(mockUserRepository).loadAllUsers();
 
-    // 4. Verify getCurrentUserUid was called by CurrentUser instance
-    verify(mockAuthGateway, atLeastOnce()).getCurrentUserUid();
-
-    // 5. Verify getUserByUid was called by CurrentUser instance
-    verify(mockUserRepository, atLeastOnce()).getUserByUid(TEST_UID);
+    // 4. Verify the user is not read back or watched as a side effect
+    verify(mockAuthGateway, never()).getCurrentUserUid();
+    verify(mockUserRepository, never()).getUserByUid(anyString());
+    verify(mockUserRepository, never()).watchUser(anyString());
 
-    // 6. Verify success view was prepared
+    // 5. Verify success view was prepared
     ArgumentCaptor<RegisterOutputData> outputCaptor = ArgumentCaptor.forClass(
         RegisterOutputData.class);
     verify(mockPresenter).prepareSuccessView(outputCaptor.capture());
@@ -119,7 +107,7 @@ class RegisterUserInteractorTest {
     assertTrue(output.isSuccess());
     assertEquals(TEST_UID, output.getUid());
 
-    // 7. Verify no failure view was called
+    // 6. Verify no failure view was called
     verify(mockPresenter, never()).prepareFailView(anyString());
   }
 
@@ -376,44 +364,6 @@ class RegisterUserInteractorTest {
     verify(mockPresenter, never()).prepareSuccessView(any(RegisterOutputData.class));
   }
 
-  @Test
-  @DisplayName("Failure: CurrentUser.getCurrentUser() returns null")
-  void testCurrentUserReturnsNull() {
-    // Arrange
-    RegisterInputData inputData = new RegisterInputData(
-        TEST_EMAIL,
-        TEST_PASSWORD,
-        TEST_PASSWORD,
-        TEST_NICKNAME
-    );
-
-    when(mockAuthGateway.registerWithEmailAndPassword(TEST_EMAIL, TEST_PASSWORD))
-        .thenReturn(TEST_UID);
-    when(mockAuthGateway.getCurrentUserUid())
-        .thenReturn(TEST_UID);
-    when(mockUserRepository.getUserByUid(TEST_UID))
-        .thenReturn(null);  // CurrentUser will return null
-
-    // Act
-    interactor.execute(inputData);
-
-    // Assert
-    // 1. Auth succeeded
-    verify(mockAuthGateway).registerWithEmailAndPassword(TEST_EMAIL, TEST_PASSWORD);
-
-    // 2. User was saved
-    verify(mockUserRepository).save(any(User.class));
-
-    // 3. loadAllUsers was called
-    verify(mockUserRepository).loadAllUsers();
-
-    // 4. Failure view called because getCurrentUser() returned null
-    verify(mockPresenter).prepareFailView(contains("Cannot invoke \"entity.User.getNickname()\""));
-
-    // 5. Success view never called
-    verify(mockPresenter, never()).prepareSuccessView(any(RegisterOutputData.class));
-  }
-
   // ==================== EDGE CASES ====================
 
   @Test
@@ -450,14 +400,9 @@ class RegisterUserInteractorTest {
     );
 
     String specialUid = "special-uid-456";
-    User specialUser = new User(specialUid, TEST_EMAIL, "Test@User#123");
 
     when(mockAuthGateway.registerWithEmailAndPassword(TEST_EMAIL, TEST_PASSWORD))
         .thenReturn(specialUid);
-    when(mockAuthGateway.getCurrentUserUid())
-        .thenReturn(specialUid);
-    when(mockUserRepository.getUserByUid(specialUid))
-        .thenReturn(specialUser);
 
     // Act
     interactor.execute(inputData);
@@ -488,16 +433,11 @@ class RegisterUserInteractorTest {
     );
 
     String firebaseUid = "firebase-generated-uid-abc123";
-    User completeUser = new User(firebaseUid, "complete@example.com", "CompleteUser");
 
     when(mockAuthGateway.registerWithEmailAndPassword(
         "complete@example.com",
         "securePassword123"
     )).thenReturn(firebaseUid);
-    when(mockAuthGateway.getCurrentUserUid())
-        .thenReturn(firebaseUid);
-    when(mockUserRepository.getUserByUid(firebaseUid))
-        .thenReturn(completeUser);
 
     // Act
     interactor.execute(inputData);
@@ -517,17 +457,13 @@ class RegisterUserInteractorTest {
     // 3. Load all users into cache
     inOrder.verify(mockUserRepository).loadAllUsers();
 
-    // 4. CurrentUser checks getCurrentUserUid and getUserByUid
-    inOrder.verify(mockAuthGateway).getCurrentUserUid();
-    inOrder.verify(mockUserRepository).getUserByUid(firebaseUid);
-
-    // 5. Finally, call presenter
+    // 4. Finally, call presenter
     inOrder.verify(mockPresenter).prepareSuccessView(any(RegisterOutputData.class));
   }
 
   @Test
-  @DisplayName("Verify CurrentUser can retrieve user after successful registration")
-  void testCurrentUserFunctionalityAfterRegistration() {
+  @DisplayName("Verify registration neither reads the new user back nor watches it")
+  void testRegistrationDoesNotWatchUser() {
     // Arrange
     RegisterInputData inputData = new RegisterInputData(
         TEST_EMAIL,
@@ -536,29 +472,16 @@ class RegisterUserInteractorTest {
         TEST_NICKNAME
     );
 
-    User mockUser = new User(TEST_UID, TEST_EMAIL, TEST_NICKNAME);
-
     when(mockAuthGateway.registerWithEmailAndPassword(TEST_EMAIL, TEST_PASSWORD))
         .thenReturn(TEST_UID);
-    when(mockAuthGateway.getCurrentUserUid())
-        .thenReturn(TEST_UID);
-    when(mockUserRepository.getUserByUid(TEST_UID))
-        .thenReturn(mockUser);
 
     // Act
     interactor.execute(inputData);
 
     // Assert
-    // Verify that getCurrentUserUid was called at least once
-    // (by the CurrentUser test instance in the interactor)
-    verify(mockAuthGateway, atLeastOnce()).getCurrentUserUid();
-
-    // Verify getUserByUid was called at least once
-    // (for the CurrentUser test)
-    verify(mockUserRepository, atLeastOnce()).getUserByUid(TEST_UID);
-
-    // Verify loadAllUsers was called
-    verify(mockUserRepository).loadAllUsers();
+    verify(mockAuthGateway, never()).getCurrentUserUid();
+    verify(mockUserRepository, never()).getUserByUid(anyString());
+    verify(mockUserRepository, never()).watchUser(anyString());
 
     // Verify success view was called
     verify(mockPresenter).prepareSuccessView(any(RegisterOutputData.class));
@@ -575,14 +498,8 @@ class RegisterUserInteractorTest {
         TEST_NICKNAME
     );
 
-    User mockUser = new User(TEST_UID, TEST_EMAIL, TEST_NICKNAME);
-
     when(mockAuthGateway.registerWithEmailAndPassword(TEST_EMAIL, TEST_PASSWORD))
         .thenReturn(TEST_UID);
-    when(mockAuthGateway.getCurrentUserUid())
-        .thenReturn(TEST_UID);
-    when(mockUserRepository.getUserByUid(TEST_UID))
-        .thenReturn(mockUser);
 
     // Act
     interactor.execute(inputData);
@@ -0,0 +1,151 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import data_access.JsonRestaurantDataAccessObject;
+import data_access.RestaurantCatalog;
+import entity.Restaurant;
+import entity.RestaurantFactory;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import use_case.nearby_restaurants.RestaurantSpatialIndex;
+
+/**
+ * Unit tests for the name, Places ID, type and location lookups RestaurantCatalog keeps.
+ */
+public class RestaurantCatalogIndexTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  public void testNameLookupIgnoresCaseAndWhitespace() throws IOException {
+    // Arrange
+    JsonRestaurantDataAccessObject restaurants = open(
+        place("1", "Kept  Cafe", "Cafe"), place("2", "Ramen House", "Japanese Restaurant"));
+
+    // Act
+    Restaurant spaced = restaurants.getRestaurantByName("  kept cafe ");
+    Restaurant upper = restaurants.getRestaurantByName("RAMEN   HOUSE");
+
+    // Assert
+    assertEquals("Kept  Cafe", spaced.getName());
+    assertEquals("Ramen House", upper.getName());
+    assertEquals("1", restaurants.getCidByName("KEPT CAFE"));
+    assertNull(restaurants.getRestaurantByName("Kept"), "Only whole names should match");
+  }
+
+  @Test
+  public void testPlacesIdLookup() throws IOException {
+    // Arrange
+    JsonRestaurantDataAccessObject restaurants = open(
+        place("1", "Kept Cafe", "Cafe"), place("2", "Ramen House", "Japanese Restaurant"));
+
+    // Act
+    String cid = restaurants.getCidByPlacesId("places/P2");
+
+    // Assert
+    assertEquals("2", cid);
+    assertNull(restaurants.getCidByPlacesId("places/unknown"));
+  }
+
+  @Test
+  public void testTypeListsKeepFileOrder() throws IOException {
+    // Arrange
+    JsonRestaurantDataAccessObject restaurants = open(
+        place("1", "First Cafe", "Cafe"),
+        place("2", "Ramen House", "Japanese Restaurant"),
+        place("3", "Second Cafe", "Cafe"));
+
+    // Act
+    List<Restaurant> cafes = restaurants.getRestaurantsByType("Cafe");
+
+    // Assert
+    assertEquals(List.of("First Cafe", "Second Cafe"), names(cafes));
+    assertEquals(List.of("Ramen House"),
+        names(restaurants.getRestaurantsByType("Japanese Restaurant")));
+    assertEquals(List.of(), restaurants.getRestaurantsByType("Bakery"));
+  }
+
+  @Test
+  public void testRepeatedCidReplacesTypeAndNameEntries() throws IOException {
+    // Arrange: CID 1 appears twice, renamed and with another type the second time
+    JsonRestaurantDataAccessObject restaurants = open(
+        place("1", "Old Name", "Cafe"),
+        place("2", "Bread Corner", "Bakery"),
+        place("3", "Other Cafe", "Cafe"),
+        place("1", "New Name", "Bakery"));
+
+    // Act
+    List<Restaurant> cafes = restaurants.getRestaurantsByType("Cafe");
+    List<Restaurant> bakeries = restaurants.getRestaurantsByType("Bakery");
+
+    // Assert
+    assertEquals(3, restaurants.getAllRestaurants().size());
+    assertEquals(List.of("Other Cafe"), names(cafes), "The replaced row should leave its old type");
+    assertEquals(List.of("New Name", "Bread Corner"), names(bakeries),
+        "The replaced row should keep its file position in the new type");
+    assertNull(restaurants.getRestaurantByName("Old Name"));
+    assertEquals("places/P1", restaurants.getRestaurantByName("New Name").getId());
+  }
+
+  @Test
+  public void testSpatialIndexIsBuiltOncePerCatalog() throws IOException {
+    // Arrange
+    JsonRestaurantDataAccessObject restaurants = open(place("1", "Kept Cafe", "Cafe"));
+    RestaurantSpatialIndex first = restaurants.getSpatialIndex();
+
+    // Act
+    RestaurantSpatialIndex again = restaurants.getSpatialIndex();
+    restaurants.replaceCatalog(load(place("1", "Kept Cafe", "Cafe"), place("2", "New", "Cafe")));
+    RestaurantSpatialIndex refreshed = restaurants.getSpatialIndex();
+
+    // Assert
+    assertSame(first, again, "Queries on the same catalog should share its index");
+    assertNotSame(first, refreshed, "A new catalog should come with its own index");
+    assertEquals(2, refreshed.size());
+  }
+
+  private JsonRestaurantDataAccessObject open(JSONObject... places) throws IOException {
+    return new JsonRestaurantDataAccessObject(load(places));
+  }
+
+  private RestaurantCatalog load(JSONObject... places) throws IOException {
+    Path json = Files.createTempFile(directory, "restaurants", ".json");
+    Files.writeString(json, new JSONArray(List.of(places)).toString(2));
+    return RestaurantCatalog.load(json, new RestaurantFactory(), RestaurantCatalog.LoadMode.DOM);
+  }
+
+  private static List<String> names(List<Restaurant> restaurants) {
+    List<String> names = new ArrayList<>();
+    for (Restaurant restaurant : restaurants) {
+      names.add(restaurant.getName());
+    }
+    return names;
+  }
+
+  private static JSONObject place(String cid, String name, String type) {
+    return new JSONObject()
+        .put("name", "places/P" + cid)
+        .put("displayName", new JSONObject().put("text", name))
+        .put("formattedAddress", cid + " King St W, Toronto")
+        .put("googleMapsLinks",
+            new JSONObject().put("placeUri", "https://maps.google.com/?cid=" + cid))
+        .put("location", new JSONObject().put("latitude", 43.66).put("longitude", -79.39))
+        .put("primaryTypeDisplayName", new JSONObject().put("text", type))
+        .put("rating", 4.0)
+        .put("userRatingCount", 10)
+        .put("regularOpeningHours", new JSONObject()
+            .put("weekdayDescriptions", new JSONArray().put("Monday: 9:00 AM – 5:00 PM")))
+        .put("photos", new JSONArray()
+            .put(new JSONObject().put("name", "places/P" + cid + "/photos/a")));
+  }
+}
@@ -0,0 +1,116 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import entity.Restaurant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import use_case.list_search.RestaurantNameIndex;
+
+/**
+ * Unit tests for RestaurantNameIndex prefix search.
+ */
+public class RestaurantNameIndexTest {
+
+  @Test
+  public void testPrefixMatchesOnlyNamesStartingWithIt() {
+    // Arrange
+    RestaurantNameIndex index = new RestaurantNameIndex(List.of(
+        createRestaurant("Pa", 3.0),
+        createRestaurant("Pasta Palace", 4.0),
+        createRestaurant("Pastry Shop", 4.5),
+        createRestaurant("Pizza Parlor", 5.0),
+        createRestaurant("Apasta", 5.0),
+        createRestaurant("Q Bar", 2.0)), Restaurant::getRating);
+
+    // Act
+    List<Restaurant> pas = index.searchPrefix("pas", 10);
+    List<Restaurant> p = index.searchPrefix("p", 10);
+    List<Restaurant> beyondLast = index.searchPrefix("zzz", 10);
+    List<Restaurant> longerThanNames = index.searchPrefix("pastas", 10);
+
+    // Assert
+    assertEquals(List.of("Pastry Shop", "Pasta Palace"), names(pas));
+    assertEquals(List.of("Pizza Parlor", "Pastry Shop", "Pasta Palace", "Pa"), names(p));
+    assertEquals(List.of(), names(beyondLast));
+    assertEquals(List.of(), names(longerThanNames),
+        "A prefix longer than every name matches none");
+  }
+
+  @Test
+  public void testPrefixIgnoresCase() {
+    // Arrange
+    RestaurantNameIndex index = new RestaurantNameIndex(List.of(
+        createRestaurant("sushi place", 4.0),
+        createRestaurant("SUSHI BAR", 4.5),
+        createRestaurant("Ramen House", 4.2)), Restaurant::getRating);
+
+    // Act
+    List<Restaurant> upper = index.searchPrefix("SuShI", 10);
+    List<Restaurant> lower = index.searchPrefix("sushi", 10);
+
+    // Assert
+    assertEquals(List.of("SUSHI BAR", "sushi place"), names(upper));
+    assertEquals(names(upper), names(lower), "Query case should not change the matches");
+  }
+
+  @Test
+  public void testTiesKeepCatalogOrder() {
+    // Arrange: the catalog order differs from the alphabetical order the index is built in
+    List<Restaurant> restaurants = List.of(
+        createRestaurant("Cafe C", 4.0),
+        createRestaurant("Cafe A", 4.0),
+        createRestaurant("Cafe B", 4.0),
+        createRestaurant("Cafe D", 4.5));
+    RestaurantNameIndex index = new RestaurantNameIndex(restaurants, Restaurant::getRating);
+
+    // Act
+    List<Restaurant> sorted = index.searchPrefix("cafe", 10);
+    List<Restaurant> fromHeap = index.searchPrefix("cafe", 3);
+    List<Restaurant> everything = index.searchPrefix("", 2);
+
+    // Assert
+    assertEquals(List.of("Cafe D", "Cafe C", "Cafe A", "Cafe B"), names(sorted));
+    assertEquals(List.of("Cafe D", "Cafe C", "Cafe A"), names(fromHeap),
+        "The bounded heap should break ties the same way as the full sort");
+    assertEquals(List.of("Cafe D", "Cafe C"), names(everything));
+  }
+
+  @Test
+  public void testFilterIsAppliedBeforeTheLimit() {
+    // Arrange
+    RestaurantNameIndex index = new RestaurantNameIndex(List.of(
+        createRestaurant("Bistro One", 5.0),
+        createRestaurant("Bistro Two", 4.0),
+        createRestaurant("Bistro Three", 3.0),
+        createRestaurant("Diner", 4.5)), Restaurant::getRating);
+
+    // Act
+    List<Restaurant> result = index.searchPrefix("bistro", 1,
+        restaurant -> !restaurant.getName().equals("Bistro One"));
+
+    // Assert
+    assertEquals(List.of("Bistro Two"), names(result));
+  }
+
+  private static List<String> names(List<Restaurant> restaurants) {
+    List<String> names = new ArrayList<>();
+    for (Restaurant restaurant : restaurants) {
+      names.add(restaurant.getName());
+    }
+    return names;
+  }
+
+  private static Restaurant createRestaurant(String name, double rating) {
+    return new Restaurant.Builder()
+        .id(name)
+        .name(name)
+        .location("123 Main St", "http://maps.google.com", 43.0, -79.0)
+        .type("Restaurant")
+        .rating(rating, 10)
+        .contact("416-123-4567", "http://example.com")
+        .openingHours(List.of("Mon-Fri: 9AM-5PM"))
+        .studentDiscount(false, 0.0)
+        .photoIds(List.of("photo1"))
+        .build();
+  }
+}
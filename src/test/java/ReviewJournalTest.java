@@ -0,0 +1,165 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import data_access.JsonReviewDataAccessObject;
+import entity.Review;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import use_case.display_reviews.ReviewOrder;
+
+/**
+ * Unit tests for the review journal behind JsonReviewDataAccessObject: the json snapshot, the
+ * append-only log and their compaction.
+ */
+public class ReviewJournalTest {
+
+  private static final int NO_COMPACTION = 1000;
+
+  @TempDir
+  Path directory;
+
+  @Test
+  public void testSnapshotAndLogAreReplayed() throws IOException {
+    // Arrange
+    Path snapshot = directory.resolve("reviews.json");
+    Files.writeString(snapshot, new JSONArray().put(reviewJson("r1", "R", "Great")).toString());
+    Files.writeString(logOf(snapshot), reviewJson("r2", "R", "Fine") + "\n"
+        + reviewJson("r1", "R", "Edited") + "\n");
+
+    // Act
+    JsonReviewDataAccessObject reviews = open(snapshot, NO_COMPACTION);
+
+    // Assert
+    assertEquals(List.of("r1", "r2"), reviewIds(reviews, "R"));
+    assertEquals("Edited", reviews.reviewByRestaurant("R").get("r1").getContent(),
+        "A logged review should replace the one in the snapshot");
+  }
+
+  @Test
+  public void testLineCutShortIsSkippedAndNextReviewStartsOnNewLine() throws IOException {
+    // Arrange: a crash left half a line at the end of the log
+    Path snapshot = directory.resolve("reviews.json");
+    Files.writeString(logOf(snapshot),
+        reviewJson("r1", "R", "Great") + "\n{\"reviewId\":\"r2\",\"au");
+    JsonReviewDataAccessObject reviews = open(snapshot, NO_COMPACTION);
+
+    // Act
+    reviews.addReview("r3", "author", "R", "Later", "01/02/2024");
+    JsonReviewDataAccessObject reopened = open(snapshot, NO_COMPACTION);
+
+    // Assert
+    assertEquals(List.of("r1", "r3"), reviewIds(reopened, "R"));
+  }
+
+  @Test
+  public void testLeftoverCompactingLogIsReplayedAndFolded() throws IOException {
+    // Arrange: a crash during compaction left the renamed log behind
+    Path snapshot = directory.resolve("reviews.json");
+    Files.writeString(snapshot, new JSONArray().put(reviewJson("r1", "R", "Great")).toString());
+    Files.writeString(compactingOf(snapshot), reviewJson("r2", "R", "Fine") + "\n");
+    Files.writeString(logOf(snapshot), reviewJson("r3", "R", "Good") + "\n");
+
+    // Act
+    JsonReviewDataAccessObject reviews = open(snapshot, NO_COMPACTION);
+    List<String> replayed = reviewIds(reviews, "R");
+    reviews.close();
+
+    // Assert
+    assertEquals(List.of("r1", "r2", "r3"), replayed);
+    assertFalse(Files.exists(compactingOf(snapshot)));
+    assertEquals(3, new JSONArray(Files.readString(snapshot)).length(),
+        "Every review should be folded into the snapshot");
+  }
+
+  @Test
+  public void testFailedCompactionKeepsLoggedReviews() throws IOException {
+    // Arrange: a directory where the new snapshot is written makes compaction fail
+    Path snapshot = directory.resolve("reviews.json");
+    JsonReviewDataAccessObject reviews = open(snapshot, NO_COMPACTION);
+    reviews.addReview("r1", "author", "R", "Great", "01/01/2024");
+    Path blocker = Files.createDirectory(directory.resolve("reviews.json.tmp"));
+
+    // Act
+    assertThrows(IOException.class, reviews::save);
+    reviews.addReview("r2", "author", "R", "Fine", "01/02/2024");
+    String keptForCompaction = Files.readString(compactingOf(snapshot));
+    String logged = Files.readString(logOf(snapshot));
+    Files.delete(blocker);
+    reviews.close();
+
+    // Assert
+    assertTrue(keptForCompaction.contains("\"r1\""), "The failed compaction should keep its log");
+    assertTrue(logged.contains("\"r2\""));
+    assertFalse(Files.exists(compactingOf(snapshot)));
+    assertEquals(List.of("r1", "r2"), reviewIds(open(snapshot, NO_COMPACTION), "R"));
+  }
+
+  @Test
+  public void testAcknowledgedReviewsSurviveCrash() throws IOException {
+    // Arrange: a small threshold so background compactions run while reviews are added
+    Path snapshot = directory.resolve("reviews.json");
+    JsonReviewDataAccessObject reviews = open(snapshot, 3);
+    List<String> added = new ArrayList<>();
+
+    // Act: the first instance is never closed, as if the process had died
+    for (int i = 0; i < 20; i++) {
+      added.add(addReview(reviews, i));
+    }
+    // Let background compactions finish, then log two more reviews that stay below the threshold
+    reviews.save();
+    added.add(addReview(reviews, 20));
+    added.add(addReview(reviews, 21));
+    JsonReviewDataAccessObject reopened = open(snapshot, NO_COMPACTION);
+
+    // Assert
+    assertEquals(added, reviewIds(reopened, "R"),
+        "Reviews in the snapshot and reviews only in the log should both be kept");
+  }
+
+  private static String addReview(JsonReviewDataAccessObject reviews, int i) throws IOException {
+    String reviewId = String.format("r%02d", i);
+    reviews.addReview(reviewId, "author", "R", "Review " + i, "01/01/2024");
+    return reviewId;
+  }
+
+  private static JsonReviewDataAccessObject open(Path snapshot, int compactionThreshold) {
+    return new JsonReviewDataAccessObject(snapshot.toString(), compactionThreshold);
+  }
+
+  private static Path logOf(Path snapshot) {
+    return snapshot.resolveSibling("reviews.json.log");
+  }
+
+  private static Path compactingOf(Path snapshot) {
+    return snapshot.resolveSibling("reviews.json.log.compacting");
+  }
+
+  private static List<String> reviewIds(JsonReviewDataAccessObject reviews, String restaurantId) {
+    List<String> ids = new ArrayList<>();
+    for (Review review : reviews.reviewsForRestaurant(restaurantId, ReviewOrder.NEWEST)) {
+      ids.add(review.getReviewId());
+    }
+    Collections.sort(ids);
+    return ids;
+  }
+
+  private static JSONObject reviewJson(String reviewId, String restaurantId, String content) {
+    return new JSONObject()
+        .put("reviewId", reviewId)
+        .put("authorId", "author")
+        .put("restaurantId", restaurantId)
+        .put("content", content)
+        .put("creationDate", "01/01/2024")
+        .put("likes", 0);
+  }
+}
@@ -0,0 +1,157 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import interface_adapter.ImageDataAccessInterface;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import javax.swing.JPanel;
+import org.junit.jupiter.api.Test;
+import view.ThumbnailLoader;
+
+/**
+ * Unit tests for ThumbnailLoader fetching card photos in the background.
+ */
+public class ThumbnailLoaderTest {
+
+  private static final int CARD_HEIGHT = 100;
+
+  private final Queue<Runnable> swingThread = new ConcurrentLinkedQueue<>();
+  private final List<String> shown = new ArrayList<>();
+
+  @Test
+  public void testOnlyCardsInOrNearViewAreFetched() throws InterruptedException {
+    // Arrange
+    FakeImageDataAccess images = new FakeImageDataAccess(null);
+    ThumbnailLoader loader = new ThumbnailLoader(images, "key", 4, swingThread::add);
+    addCards(loader, 10);
+
+    // Act
+    loader.setVisibleArea(new Rectangle(0, 0, 100, 2 * CARD_HEIGHT));
+    awaitFetches(loader, 4);
+    runSwingThread();
+
+    // Assert
+    Collections.sort(shown);
+    assertEquals(List.of("photo0", "photo1", "photo2", "photo3"), shown);
+    assertTrue(loader.getMaxFetchMillis() > 0, "Latency should be recorded");
+    loader.shutdown();
+  }
+
+  @Test
+  public void testVisibleCardsFirstAndScrolledAwayCardsCancelled() throws InterruptedException {
+    // Arrange
+    CountDownLatch firstFetch = new CountDownLatch(1);
+    FakeImageDataAccess images = new FakeImageDataAccess(firstFetch);
+    ThumbnailLoader loader = new ThumbnailLoader(images, "key", 1, swingThread::add);
+    addCards(loader, 10);
+    loader.setVisibleArea(new Rectangle(0, 0, 100, CARD_HEIGHT));
+    images.awaitFirstRequest();
+
+    // Act
+    loader.setVisibleArea(new Rectangle(0, 5 * CARD_HEIGHT, 100, CARD_HEIGHT));
+    firstFetch.countDown();
+    awaitFetches(loader, 4);
+    runSwingThread();
+
+    // Assert
+    assertEquals(List.of("photo0", "photo5", "photo4", "photo6"), images.getRequested());
+    assertEquals(1, loader.getCancelledCount(), "Card scrolled away should not be fetched");
+    assertEquals(List.of("photo0", "photo5", "photo4", "photo6"), shown);
+    loader.shutdown();
+  }
+
+  @Test
+  public void testClearedCardsAreNotUpdated() throws InterruptedException {
+    // Arrange
+    CountDownLatch firstFetch = new CountDownLatch(1);
+    FakeImageDataAccess images = new FakeImageDataAccess(firstFetch);
+    ThumbnailLoader loader = new ThumbnailLoader(images, "key", 1, swingThread::add);
+    addCards(loader, 3);
+    loader.setVisibleArea(new Rectangle(0, 0, 100, CARD_HEIGHT));
+    images.awaitFirstRequest();
+
+    // Act
+    loader.clear();
+    firstFetch.countDown();
+    awaitFetches(loader, 1);
+    runSwingThread();
+
+    // Assert
+    assertEquals(List.of("photo0"), images.getRequested());
+    assertTrue(shown.isEmpty(), "Cards of a previous grid should not change");
+    loader.shutdown();
+  }
+
+  private void addCards(ThumbnailLoader loader, int count) {
+    for (int i = 0; i < count; i++) {
+      JPanel card = new JPanel();
+      card.setBounds(0, i * CARD_HEIGHT, 100, CARD_HEIGHT);
+      String photoId = "photo" + i;
+      loader.add(card, photoId, image -> shown.add(photoId));
+    }
+  }
+
+  private static void awaitFetches(ThumbnailLoader loader, int count) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5000;
+    while (loader.getFetchCount() < count && System.currentTimeMillis() < deadline) {
+      Thread.sleep(5);
+    }
+    assertEquals(count, loader.getFetchCount());
+  }
+
+  private void runSwingThread() {
+    Runnable task;
+    while ((task = swingThread.poll()) != null) {
+      task.run();
+    }
+  }
+
+  // ==================== Test Doubles ====================
+
+  /**
+   * Test double for ImageDataAccessInterface that records requests and can hold the first one
+   */
+  private static class FakeImageDataAccess implements ImageDataAccessInterface {
+
+    private final List<String> requested = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch firstFetch;
+
+    FakeImageDataAccess(CountDownLatch firstFetch) {
+      this.firstFetch = firstFetch;
+    }
+
+    @Override
+    public BufferedImage fetchRestaurantImage(String photoId, String api_key) {
+      boolean first = requested.isEmpty();
+      requested.add(photoId);
+      try {
+        if (first && firstFetch != null) {
+          firstFetch.await();
+        }
+        Thread.sleep(2);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return new BufferedImage(4, 4, BufferedImage.TYPE_INT_RGB);
+    }
+
+    public void awaitFirstRequest() throws InterruptedException {
+      long deadline = System.currentTimeMillis() + 5000;
+      while (requested.isEmpty() && System.currentTimeMillis() < deadline) {
+        Thread.sleep(5);
+      }
+    }
+
+    public List<String> getRequested() {
+      synchronized (requested) {
+        return new ArrayList<>(requested);
+      }
+    }
+  }
+}
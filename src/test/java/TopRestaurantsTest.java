@@ -0,0 +1,65 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import entity.Restaurant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import use_case.filter.TopRestaurants;
+
+/**
+ * Unit tests for TopRestaurants picking the best few restaurants by score.
+ */
+public class TopRestaurantsTest {
+
+  @Test
+  public void testScoresCloserThanFloatPrecisionAreOrdered() {
+    // Arrange: the scores only differ beyond the 24 bits a float keeps
+    List<Restaurant> candidates = restaurants("A", "B", "C");
+    double[] scores = {4.000000001, 4.000000003, 4.000000002};
+
+    // Act
+    List<Restaurant> top = TopRestaurants.selectByScore(candidates, 2, i -> scores[i]);
+
+    // Assert
+    assertEquals(List.of("B", "C"), names(top));
+  }
+
+  @Test
+  public void testTiesKeepCandidateOrderAndNegativeScoresRankLast() {
+    // Arrange
+    List<Restaurant> candidates = restaurants("A", "B", "C", "D", "E");
+    double[] scores = {-1.5, 2.0, -0.25, 2.0, 0.0};
+
+    // Act
+    List<Restaurant> top = TopRestaurants.selectByScore(candidates, 4, i -> scores[i]);
+
+    // Assert
+    assertEquals(List.of("B", "D", "E", "C"), names(top));
+  }
+
+  private static List<Restaurant> restaurants(String... names) {
+    List<Restaurant> restaurants = new ArrayList<>();
+    for (String name : names) {
+      restaurants.add(new Restaurant.Builder()
+          .id(name)
+          .name(name)
+          .location("123 Main St", "http://maps.google.com", 43.0, -79.0)
+          .type("Cafe")
+          .rating(4.0, 10)
+          .contact("416-123-4567", "http://example.com")
+          .openingHours(List.of("Mon-Fri: 9AM-5PM"))
+          .studentDiscount(false, 0.0)
+          .photoIds(List.of("photo1"))
+          .build());
+    }
+    return restaurants;
+  }
+
+  private static List<String> names(List<Restaurant> restaurants) {
+    List<String> names = new ArrayList<>();
+    for (Restaurant restaurant : restaurants) {
+      names.add(restaurant.getName());
+    }
+    return names;
+  }
+}
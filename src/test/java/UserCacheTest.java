@@ -0,0 +1,74 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import data_access.UserCache;
+import entity.User;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for UserCache eviction, expiry and counters.
+ */
+public class UserCacheTest {
+
+  @Test
+  public void testLeastRecentlyUsedUserIsEvicted() {
+    // Arrange
+    UserCache cache = new UserCache(2, Duration.ofMinutes(10));
+    User alice = createUser("alice");
+    cache.put(alice);
+    cache.put(createUser("bob"));
+    cache.get("alice");
+
+    // Act
+    cache.put(createUser("carol"));
+
+    // Assert
+    assertSame(alice, cache.get("alice"), "Recently read user should stay");
+    assertNull(cache.get("bob"), "Least recently used user should be evicted");
+    assertEquals(1, cache.getEvictionCount());
+    assertEquals(2, cache.size());
+  }
+
+  @Test
+  public void testExpiredUserIsAMiss() {
+    // Arrange
+    AtomicLong now = new AtomicLong();
+    UserCache cache = new UserCache(10, Duration.ofMinutes(10), now::get);
+    cache.put(createUser("alice"));
+
+    // Act
+    now.addAndGet(TimeUnit.MINUTES.toNanos(9));
+    User beforeExpiry = cache.get("alice");
+    now.addAndGet(TimeUnit.MINUTES.toNanos(1));
+    User afterExpiry = cache.get("alice");
+
+    // Assert
+    assertEquals("alice", beforeExpiry.getUid());
+    assertNull(afterExpiry, "User should expire after its time to live");
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testHitsAndMissesAreCounted() {
+    // Arrange
+    UserCache cache = new UserCache(10, Duration.ofMinutes(10));
+    cache.put(createUser("alice"));
+
+    // Act
+    cache.get("alice");
+    cache.get("alice");
+    cache.get("bob");
+
+    // Assert
+    assertEquals(2, cache.getHitCount());
+    assertEquals(1, cache.getMissCount());
+  }
+
+  private static User createUser(String uid) {
+    return new User(uid, uid + "@example.com", "Nickname " + uid);
+  }
+}
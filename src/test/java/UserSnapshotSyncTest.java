@@ -0,0 +1,152 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import data_access.FavoritesWriteBehindQueue;
+import data_access.UserCache;
+import data_access.UserSnapshotSync;
+import entity.User;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for UserSnapshotSync applying realtime user snapshots to the cache.
+ */
+public class UserSnapshotSyncTest {
+
+  @Test
+  public void testSnapshotCachedAsNewUser() {
+    // Arrange
+    UserCache cache = new UserCache(10, Duration.ofMinutes(10));
+    User cached = createUser("alice", "restA");
+    cache.put(cached);
+    FakeSnapshotSource source = new FakeSnapshotSource();
+    UserSnapshotSync sync = new UserSnapshotSync(cache, source, createQueue());
+    sync.watch("alice");
+
+    // Act
+    source.send("alice", createUser("alice", "restA", "restB"));
+
+    // Assert
+    User fresh = cache.get("alice");
+    assertNotSame(cached, fresh, "The user other threads may be reading should not change");
+    assertEquals(List.of("restA"), cached.getFavoriteRestaurantIds());
+    assertEquals(List.of("restA", "restB"), fresh.getFavoriteRestaurantIds());
+  }
+
+  @Test
+  public void testUnwrittenFavoriteSurvivesOlderSnapshot() {
+    // Arrange
+    UserCache cache = new UserCache(10, Duration.ofMinutes(10));
+    User cached = createUser("alice", "restA", "restC");
+    cache.put(cached);
+    FavoritesWriteBehindQueue queue = createQueue();
+    queue.add("alice", "restC");
+    FakeSnapshotSource source = new FakeSnapshotSource();
+    UserSnapshotSync sync = new UserSnapshotSync(cache, source, queue);
+    sync.watch("alice");
+
+    // Act
+    source.send("alice", createUser("alice", "restA"));
+
+    // Assert
+    assertEquals(List.of("restA", "restC"), cache.get("alice").getFavoriteRestaurantIds());
+  }
+
+  @Test
+  public void testDeletedUserIsRemovedFromCache() {
+    // Arrange
+    UserCache cache = new UserCache(10, Duration.ofMinutes(10));
+    cache.put(createUser("alice"));
+    FakeSnapshotSource source = new FakeSnapshotSource();
+    UserSnapshotSync sync = new UserSnapshotSync(cache, source, createQueue());
+    sync.watch("alice");
+
+    // Act
+    source.send("alice", null);
+
+    // Assert
+    assertNull(cache.get("alice"));
+  }
+
+  @Test
+  public void testWatchingAnotherUserStopsTheFirst() {
+    // Arrange
+    UserCache cache = new UserCache(10, Duration.ofMinutes(10));
+    FakeSnapshotSource source = new FakeSnapshotSource();
+    UserSnapshotSync sync = new UserSnapshotSync(cache, source, createQueue());
+    sync.watch("alice");
+
+    // Act
+    sync.watch("bob");
+
+    // Assert
+    assertTrue(source.isRemoved("alice"), "First listener should be removed");
+    assertEquals("bob", sync.getWatchedUid());
+  }
+
+  @Test
+  public void testErrorStopsWatching() {
+    // Arrange
+    UserCache cache = new UserCache(10, Duration.ofMinutes(10));
+    FakeSnapshotSource source = new FakeSnapshotSource();
+    UserSnapshotSync sync = new UserSnapshotSync(cache, source, createQueue());
+    sync.watch("alice");
+
+    // Act
+    source.fail("alice", new IllegalStateException("permission denied"));
+    source.send("alice", createUser("alice", "restA"));
+
+    // Assert
+    assertNull(sync.getWatchedUid());
+    assertNull(cache.get("alice"), "Snapshots after the error should be ignored");
+  }
+
+  private static User createUser(String uid, String... favorites) {
+    return new User(uid, uid + "@example.com", "Nickname " + uid, "en",
+        new ArrayList<>(List.of(favorites)));
+  }
+
+  /**
+   * Queue whose changes stay unwritten for the length of a test.
+   */
+  private static FavoritesWriteBehindQueue createQueue() {
+    return new FavoritesWriteBehindQueue(
+        (uid, added, removed) -> CompletableFuture.completedFuture(null), 60_000, 1);
+  }
+
+  // ==================== Test Doubles ====================
+
+  /**
+   * Test double for UserSnapshotSync.Source that sends snapshots when the test says so
+   */
+  private static class FakeSnapshotSource implements UserSnapshotSync.Source {
+
+    private final Map<String, UserSnapshotSync.Listener> listeners = new HashMap<>();
+    private final List<String> removed = new ArrayList<>();
+
+    @Override
+    public UserSnapshotSync.Registration listen(String uid, UserSnapshotSync.Listener listener) {
+      listeners.put(uid, listener);
+      return () -> removed.add(uid);
+    }
+
+    public void send(String uid, User user) {
+      listeners.get(uid).onSnapshot(uid, user);
+    }
+
+    public void fail(String uid, Exception error) {
+      listeners.get(uid).onError(uid, error);
+    }
+
+    public boolean isRemoved(String uid) {
+      return removed.contains(uid);
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package benchmark;
+
+import data_access.InMemoryUserRepo;
+import data_access.JsonReviewDataAccessObject;
+import entity.User;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import use_case.display_reviews.DisplayReviewsInputData;
+import use_case.display_reviews.DisplayReviewsInteractor;
+import use_case.display_reviews.DisplayReviewsOutputBoundary;
+import use_case.display_reviews.DisplayReviewsPageOutputData;
+import use_case.display_reviews.ReviewOrder;
+
+/**
+ * Times displaying one page of reviews when every user lookup costs a simulated database round
+ * trip, resolving authors one at a time (the previous behaviour) against in one batch.
+ *
+ * <p>Usage: {@code AuthorLookupBenchmark [pageSize] [roundTripMillis]}.
+ */
+public class AuthorLookupBenchmark {
+
+  public static void main(String[] args) throws Exception {
+    int pageSize = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+    long roundTrip = args.length > 1 ? Long.parseLong(args[1]) : 30;
+
+    Path snapshot = Files.createTempDirectory("reviews").resolve("reviews.json");
+    Files.writeString(snapshot, "[]");
+    JsonReviewDataAccessObject reviews = new JsonReviewDataAccessObject(snapshot.toString());
+    InMemoryUserRepo users = new InMemoryUserRepo(roundTrip);
+    for (int i = 0; i < pageSize; i++) {
+      users.save(new User("author" + i, "author" + i + "@example.com", "Author " + i));
+      reviews.addReview("review" + i, "author" + i, "places/popular", "Review " + i,
+          "11/16/2025");
+    }
+    DisplayReviewsOutputBoundary presenter = new DisplayReviewsOutputBoundary() {
+      @Override
+      public void prepareSuccessView(DisplayReviewsPageOutputData page) {
+      }
+
+      @Override
+      public void prepareFailView(String errorMessage) {
+        throw new IllegalStateException(errorMessage);
+      }
+    };
+
+    long start = System.nanoTime();
+    for (int i = 0; i < pageSize; i++) {
+      users.getUserByUid("author" + i).getNickname();
+    }
+    long oneByOne = (System.nanoTime() - start) / 1_000_000;
+
+    int before = users.getRoundTrips();
+    start = System.nanoTime();
+    new DisplayReviewsInteractor(reviews, presenter, users).execute(
+        new DisplayReviewsInputData("places/popular", ReviewOrder.NEWEST, null, pageSize));
+    long batched = (System.nanoTime() - start) / 1_000_000;
+
+    System.out.printf("%d reviews, %d ms per round trip: one by one %d ms (%d round trips) | "
+            + "batched %d ms (%d round trip)%n", pageSize, roundTrip, oneByOne, pageSize,
+        batched, users.getRoundTrips() - before);
+  }
+}
@@ -0,0 +1,126 @@
+package benchmark;
+
+import data_access.CatalogDiff;
+import data_access.JsonRestaurantDataAccessObject;
+import data_access.RestaurantCatalog;
+import data_access.RestaurantCatalog.LoadMode;
+import data_access.RestaurantCatalogWatcher;
+import entity.Restaurant;
+import entity.RestaurantFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * Writes a modified export into a watched data directory while reader threads keep querying the
+ * DAO, then reports the refresh diff, how long the export took to go live and the slowest read
+ * seen during the refresh.
+ *
+ * <p>Usage: {@code CatalogRefreshBenchmark [copies]} where copies scales the catalog.
+ */
+public class CatalogRefreshBenchmark {
+
+  private static final int READERS = 2;
+
+  public static void main(String[] args) throws Exception {
+    int copies = args.length > 0 ? Integer.parseInt(args[0]) : 50;
+    Path directory = Files.createTempDirectory("restaurant-data");
+    Path current = directory.resolve("restaurant.json");
+    Files.move(RestaurantLoadBenchmark.replicate(
+        Path.of("src/main/java/data/restaurant.json"), copies), current);
+
+    JsonRestaurantDataAccessObject dataAccess = new JsonRestaurantDataAccessObject(
+        RestaurantCatalog.load(current, new RestaurantFactory(), LoadMode.STREAMING));
+    int before = dataAccess.getAllRestaurants().size();
+
+    CountDownLatch refreshed = new CountDownLatch(1);
+    CatalogDiff[] diff = new CatalogDiff[1];
+    dataAccess.addRefreshListener(d -> {
+      diff[0] = d;
+      refreshed.countDown();
+    });
+
+    // Readers keep looking restaurants up, about once per millisecond each, and track the slowest
+    AtomicBoolean running = new AtomicBoolean(true);
+    AtomicLong slowestRead = new AtomicLong();
+    AtomicLong reads = new AtomicLong();
+    Thread[] readers = new Thread[READERS];
+    for (int i = 0; i < READERS; i++) {
+      readers[i] = new Thread(() -> {
+        while (running.get()) {
+          long start = System.nanoTime();
+          List<Restaurant> all = dataAccess.getAllRestaurants();
+          Restaurant sample = all.get((int) (reads.get() % all.size()));
+          dataAccess.getRestaurantByName(sample.getName());
+          slowestRead.accumulateAndGet(System.nanoTime() - start, Math::max);
+          reads.incrementAndGet();
+          try {
+            Thread.sleep(1);
+          } catch (InterruptedException e) {
+            return;
+          }
+        }
+      });
+      readers[i].start();
+    }
+
+    RestaurantCatalogWatcher watcher = dataAccess.watchForUpdates(directory);
+    try {
+      Thread.sleep(1000);
+      slowestRead.set(0);
+
+      // New export: drop the first 10 places, re-rate the next 25 and add one copy of the source
+      JSONArray places = new JSONArray(Files.readString(current));
+      JSONArray export = new JSONArray();
+      for (int i = 10; i < places.length(); i++) {
+        JSONObject place = places.getJSONObject(i);
+        if (i < 35) {
+          place.put("rating", 1.0);
+        }
+        export.put(place);
+      }
+      JSONArray extra = new JSONArray(Files.readString(RestaurantLoadBenchmark.replicate(
+          Path.of("src/main/java/data/restaurant.json"), 1)));
+      for (int i = 0; i < extra.length(); i++) {
+        JSONObject links = extra.getJSONObject(i).getJSONObject("googleMapsLinks");
+        links.put("placeUri", links.getString("placeUri").replace("cid=", "cid=99"));
+        export.put(extra.getJSONObject(i));
+      }
+
+      String exportJson = export.toString();
+      long written = System.nanoTime();
+      Files.writeString(directory.resolve("restaurant_01-01-30.json"), exportJson);
+      if (!refreshed.await(60, TimeUnit.SECONDS)) {
+        throw new IllegalStateException("Refresh not picked up");
+      }
+      long liveMillis = (System.nanoTime() - written) / 1_000_000;
+
+      running.set(false);
+      for (Thread reader : readers) {
+        reader.join();
+      }
+      System.out.printf("%d -> %d restaurants%n", before, dataAccess.getAllRestaurants().size());
+      System.out.printf("RESULT diff %s (expected added=%d, changed=25, removed=10)%n",
+          diff[0], extra.length());
+      System.out.printf("RESULT live %d ms after write (includes %d ms settle delay)%n",
+          liveMillis, 500);
+      System.out.printf("RESULT %d reads during refresh, slowest %.1f us%n", reads.get(),
+          slowestRead.get() / 1000.0);
+    } finally {
+      watcher.close();
+      running.set(false);
+      try (Stream<Path> files = Files.list(directory)) {
+        files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+      }
+      Files.deleteIfExists(directory);
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package benchmark;
+
+import data_access.ColumnarRestaurants;
+import entity.Restaurant;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * Compares the retained heap of restaurant objects against {@link ColumnarRestaurants} holding
+ * the same places, and checks that the row views return the same values.
+ *
+ * <p>Usage: {@code ColumnarCatalogHeapBenchmark [sizes...]}, default 1000 10000 100000. Run with
+ * a large enough heap, e.g. -Xmx2g.
+ */
+public class ColumnarCatalogHeapBenchmark {
+
+  public static void main(String[] args) throws Exception {
+    int[] sizes = args.length > 0
+        ? java.util.Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+        : new int[]{1_000, 10_000, 100_000};
+
+    // Load classes and the template export before measuring
+    ColumnarRestaurants.of(SyntheticRestaurants.generate(10, 1));
+
+    for (int size : sizes) {
+      long baseline = usedHeapAfterGc();
+      List<Restaurant> objects = SyntheticRestaurants.generate(size, 42);
+      long objectBytes = usedHeapAfterGc() - baseline;
+
+      long photoChars = 0;
+      for (Restaurant restaurant : objects) {
+        for (String photoId : restaurant.getPhotoIds()) {
+          photoChars += photoId.length();
+        }
+      }
+
+      ColumnarRestaurants columns = ColumnarRestaurants.of(objects);
+      verifySame(objects, columns);
+      objects = null;
+      long columnarBytes = usedHeapAfterGc() - baseline;
+
+      System.out.printf("RESULT %7d restaurants  objects %7.2f MB (%4d B each)  columnar %7.2f MB "
+              + "(%4d B each)  %.1fx smaller, %d distinct hours lists, photo names %d chars each%n",
+          size, objectBytes / (1024.0 * 1024.0), objectBytes / size,
+          columnarBytes / (1024.0 * 1024.0), columnarBytes / size,
+          (double) objectBytes / columnarBytes, columns.distinctHoursLists(), photoChars / size);
+    }
+  }
+
+  private static long usedHeapAfterGc() throws InterruptedException {
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+      Thread.sleep(50);
+    }
+    return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+  }
+
+  private static void verifySame(List<Restaurant> objects, ColumnarRestaurants columns) {
+    for (int i = 0; i < objects.size(); i++) {
+      Restaurant a = objects.get(i);
+      Restaurant b = columns.get(i);
+      if (!a.getId().equals(b.getId()) || !a.getName().equals(b.getName())
+          || !a.getType().equals(b.getType()) || a.getRating() != b.getRating()
+          || a.getRatingCount() != b.getRatingCount() || a.getLatitude() != b.getLatitude()
+          || !a.getHours().equals(b.getHours()) || !a.getPhotoIds().equals(b.getPhotoIds())) {
+        throw new AssertionError("Columnar row differs at " + i);
+      }
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package benchmark;
+
+import entity.Restaurant;
+import java.util.Arrays;
+import java.util.List;
+import use_case.list_search.FuzzySearchIndex;
+
+/**
+ * Measures typo-tolerant search latency over a large synthetic catalog: misspelled names, partial
+ * cuisine words and address fragments.
+ *
+ * <p>Usage: {@code FuzzySearchBenchmark [restaurants]}, default 50000.
+ */
+public class FuzzySearchBenchmark {
+
+  private static final int WARMUP_ROUNDS = 1000;
+  private static final int ROUNDS = 200;
+  private static final String[] QUERIES = {
+      "bakry", "coffe", "horton", "bistr", "tim hortns", "espreso", "bagel", "breakfst",
+      "dundas", "bloor st", "yonge", "pizz", "cheesburger", "sandwch", "dumplin", "fast food"
+  };
+
+  public static void main(String[] args) throws Exception {
+    int count = args.length > 0 ? Integer.parseInt(args[0]) : 50_000;
+    List<Restaurant> restaurants = SyntheticRestaurants.generate(count, 42);
+
+    long buildStart = System.nanoTime();
+    FuzzySearchIndex index = new FuzzySearchIndex(restaurants,
+        r -> r.getRating() * Math.log10(r.getRatingCount() + 10));
+    System.out.printf("%d restaurants, index built in %d ms%n", count,
+        (System.nanoTime() - buildStart) / 1_000_000);
+
+    // Warm up the JIT before measuring
+    for (int round = 0; round < WARMUP_ROUNDS; round++) {
+      for (String query : QUERIES) {
+        index.search(query, 300);
+      }
+    }
+
+    long[] latencies = new long[ROUNDS * QUERIES.length];
+    int n = 0;
+    for (int round = 0; round < ROUNDS; round++) {
+      for (String query : QUERIES) {
+        long start = System.nanoTime();
+        index.search(query, 300);
+        latencies[n++] = System.nanoTime() - start;
+      }
+    }
+    Arrays.sort(latencies);
+    System.out.printf("RESULT fuzzy  p50 %7.1f us   p99 %7.1f us   max %7.1f us%n",
+        latencies[latencies.length / 2] / 1000.0,
+        latencies[(int) (latencies.length * 0.99)] / 1000.0,
+        latencies[latencies.length - 1] / 1000.0);
+
+    for (String query : new String[]{"tim hortns", "bakry", "bloor st"}) {
+      List<Restaurant> top = index.search(query, 3);
+      System.out.printf("  %-10s -> %s%n", query,
+          top.stream().map(Restaurant::getName).reduce((a, b) -> a + " | " + b).orElse("-"));
+    }
+  }
+}
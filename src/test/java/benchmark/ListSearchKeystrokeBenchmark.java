@@ -0,0 +1,109 @@
+package benchmark;
+
+import data_access.JsonRestaurantDataAccessObject;
+import data_access.RestaurantCatalog.LoadMode;
+import entity.Restaurant;
+import entity.RestaurantFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import use_case.list_search.ListSearchInputData;
+import use_case.list_search.ListSearchInteractor;
+import use_case.list_search.ListSearchOutputBoundary;
+import use_case.list_search.ListSearchOutputData;
+
+/**
+ * Replays typed-character sequences against the list search use case and reports per-keystroke
+ * latency, next to the previous filter-and-sort implementation for comparison.
+ *
+ * <p>Usage: {@code ListSearchKeystrokeBenchmark [copies]} where copies scales the catalog.
+ */
+public class ListSearchKeystrokeBenchmark {
+
+  private static final int ROUNDS = 20;
+
+  public static void main(String[] args) throws Exception {
+    int copies = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+    Path source = RestaurantLoadBenchmark.replicate(
+        Path.of("src/main/java/data/restaurant.json"), copies);
+    JsonRestaurantDataAccessObject dataAccess = new JsonRestaurantDataAccessObject(
+        source.toString(), new RestaurantFactory(), LoadMode.STREAMING);
+    Files.deleteIfExists(source);
+
+    // Type the first words of a sample of real names, one character at a time, then backspace.
+    List<String> keystrokes = new ArrayList<>();
+    List<Restaurant> all = dataAccess.getAllRestaurants();
+    for (int i = 0; i < Math.min(25, all.size()); i++) {
+      String name = all.get(i * (all.size() / 25)).getName();
+      String typed = name.substring(0, Math.min(8, name.length()));
+      for (int len = 0; len <= typed.length(); len++) {
+        keystrokes.add(typed.substring(0, len));
+      }
+      for (int len = typed.length() - 1; len >= 0; len--) {
+        keystrokes.add(typed.substring(0, len));
+      }
+    }
+
+    System.out.printf("%d restaurants, %d keystrokes per round%n", all.size(), keystrokes.size());
+
+    ListSearchInteractor interactor = new ListSearchInteractor(dataAccess, new NoOpPresenter());
+    long[] indexed = replay(keystrokes, query -> interactor.search(new ListSearchInputData(query)));
+    long[] scan = replay(keystrokes, query -> scanSearch(all, query));
+
+    report("prefix index", indexed);
+    report("filter+sort ", scan);
+  }
+
+  private static long[] replay(List<String> keystrokes, java.util.function.Consumer<String> search) {
+    // Warm up the JIT before measuring
+    for (int round = 0; round < ROUNDS; round++) {
+      keystrokes.forEach(search);
+    }
+    long[] latencies = new long[keystrokes.size() * ROUNDS];
+    int n = 0;
+    for (int round = 0; round < ROUNDS; round++) {
+      for (String query : keystrokes) {
+        long start = System.nanoTime();
+        search.accept(query);
+        latencies[n++] = System.nanoTime() - start;
+      }
+    }
+    return latencies;
+  }
+
+  /**
+   * The implementation that the prefix index replaced.
+   */
+  private static List<Restaurant> scanSearch(List<Restaurant> all, String query) {
+    return all.stream()
+        .filter(r -> r.getName().toLowerCase().startsWith(query.toLowerCase()))
+        .sorted(Comparator.comparingDouble(
+            (Restaurant r) -> r.getRating() * Math.log10(r.getRatingCount() + 10)).reversed())
+        .limit(300)
+        .collect(Collectors.toList());
+  }
+
+  private static void report(String label, long[] latencies) {
+    Arrays.sort(latencies);
+    System.out.printf("RESULT %s  p50 %7.1f us   p99 %7.1f us   max %7.1f us%n", label,
+        latencies[latencies.length / 2] / 1000.0,
+        latencies[(int) (latencies.length * 0.99)] / 1000.0,
+        latencies[latencies.length - 1] / 1000.0);
+  }
+
+  private static class NoOpPresenter implements ListSearchOutputBoundary {
+
+    @Override
+    public void presentResults(ListSearchOutputData outputData) {
+    }
+
+    @Override
+    public void presentError(String error) {
+      throw new IllegalStateException(error);
+    }
+  }
+}
@@ -0,0 +1,90 @@
+package benchmark;
+
+import entity.Restaurant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+import use_case.nearby_restaurants.RestaurantSpatialIndex;
+
+/**
+ * Measures k-nearest and radius query latency of the spatial index over a large synthetic catalog,
+ * next to a full scan that sorts every restaurant by distance.
+ *
+ * <p>Usage: {@code NearbySearchBenchmark [restaurants]}, default 50000.
+ */
+public class NearbySearchBenchmark {
+
+  private static final int WARMUP_ROUNDS = 2000;
+  private static final int ROUNDS = 500;
+  private static final int QUERIES = 20;
+
+  public static void main(String[] args) throws Exception {
+    int count = args.length > 0 ? Integer.parseInt(args[0]) : 50_000;
+    List<Restaurant> restaurants = SyntheticRestaurants.generate(count, 42);
+
+    long buildStart = System.nanoTime();
+    RestaurantSpatialIndex index = new RestaurantSpatialIndex(restaurants);
+    System.out.printf("%d restaurants, index built in %d ms%n", count,
+        (System.nanoTime() - buildStart) / 1_000_000);
+
+    // Query around real restaurant locations, as a user standing downtown would.
+    Random random = new Random(7);
+    double[][] locations = new double[QUERIES][];
+    for (int i = 0; i < QUERIES; i++) {
+      Restaurant near = restaurants.get(random.nextInt(count));
+      locations[i] = new double[]{near.getLatitude() + (random.nextDouble() - 0.5) * 0.01,
+          near.getLongitude() + (random.nextDouble() - 0.5) * 0.01};
+    }
+
+    report("nearest 20   ", measure(locations, WARMUP_ROUNDS, ROUNDS,
+        at -> index.nearest(at[0], at[1], 20, Double.POSITIVE_INFINITY)));
+    report("within 500 m ", measure(locations, WARMUP_ROUNDS, ROUNDS,
+        at -> index.within(at[0], at[1], 500)));
+    report("scan+sort 20 ", measure(locations, 20, 20, at -> scan(restaurants, at, 20)));
+  }
+
+  /**
+   * Distance of every restaurant, then sort, as a baseline.
+   */
+  private static List<Restaurant> scan(List<Restaurant> restaurants, double[] at, int k) {
+    List<Restaurant> sorted = new ArrayList<>(restaurants);
+    double cos = Math.cos(Math.toRadians(at[0]));
+    sorted.sort(Comparator.comparingDouble(r -> {
+      double dx = (r.getLongitude() - at[1]) * cos;
+      double dy = r.getLatitude() - at[0];
+      return dx * dx + dy * dy;
+    }));
+    return sorted.subList(0, k);
+  }
+
+  private static long[] measure(double[][] locations, int warmupRounds, int rounds,
+      Consumer<double[]> query) {
+    // Warm up the JIT before measuring
+    for (int round = 0; round < warmupRounds; round++) {
+      for (double[] at : locations) {
+        query.accept(at);
+      }
+    }
+    long[] latencies = new long[rounds * locations.length];
+    int n = 0;
+    for (int round = 0; round < rounds; round++) {
+      for (double[] at : locations) {
+        long start = System.nanoTime();
+        query.accept(at);
+        latencies[n++] = System.nanoTime() - start;
+      }
+    }
+    return latencies;
+  }
+
+  private static void report(String label, long[] latencies) {
+    Arrays.sort(latencies);
+    System.out.printf("RESULT %s  p50 %8.1f us   p99 %8.1f us   max %8.1f us%n", label,
+        latencies[latencies.length / 2] / 1000.0,
+        latencies[(int) (latencies.length * 0.99)] / 1000.0,
+        latencies[latencies.length - 1] / 1000.0);
+  }
+}
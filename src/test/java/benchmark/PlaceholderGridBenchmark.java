@@ -0,0 +1,73 @@
+package benchmark;
+
+import interface_adapter.ImageDataAccessInterface;
+import interface_adapter.ImageResources;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import javax.imageio.ImageIO;
+import view.RestaurantPanel;
+
+/**
+ * Measures building and painting a grid of restaurant cards that all show the placeholder, once
+ * decoding placeholder.png for every card as the views used to, and once sharing the card-size
+ * image from ImageResources. Also reports the heap the grid keeps alive.
+ *
+ * <p>Usage: {@code PlaceholderGridBenchmark [cards]}, default 60. Run headless with
+ * {@code -Djava.awt.headless=true}.
+ */
+public class PlaceholderGridBenchmark {
+
+  private static final int ROUNDS = 3;
+
+  public static void main(String[] args) throws Exception {
+    int cards = args.length > 0 ? Integer.parseInt(args[0]) : 60;
+
+    // The first round of each also warms up the JIT; the best round is reported
+    for (int round = 0; round < ROUNDS; round++) {
+      measure("decode per card", cards, PlaceholderGridBenchmark::decodePlaceholder);
+      measure("shared        ", cards, () -> ImageResources.get(ImageResources.PLACEHOLDER,
+          ImageDataAccessInterface.CARD_THUMBNAIL_WIDTH, ImageDataAccessInterface.CARD_THUMBNAIL_HEIGHT));
+    }
+  }
+
+  private static void measure(String label, int cards, Supplier<BufferedImage> placeholder) {
+    long heapBefore = usedHeapAfterGc();
+    long start = System.nanoTime();
+
+    List<RestaurantPanel> grid = new ArrayList<>(cards);
+    BufferedImage canvas = new BufferedImage(280, 200, BufferedImage.TYPE_INT_RGB);
+    for (int i = 0; i < cards; i++) {
+      RestaurantPanel panel = new RestaurantPanel(new RestaurantPanel.RestaurantDisplayData(
+          "id" + i, "Restaurant " + i, "Cafe", 4.2, false, 0.0), placeholder.get());
+      panel.setSize(280, 200);
+      Graphics2D g2d = canvas.createGraphics();
+      panel.paint(g2d);
+      g2d.dispose();
+      grid.add(panel);
+    }
+
+    long millis = (System.nanoTime() - start) / 1_000_000;
+    long retained = usedHeapAfterGc() - heapBefore;
+    System.out.printf("RESULT %s %4d cards in %6d ms   grid heap %7.1f MB%n",
+        label, grid.size(), millis, retained / (1024.0 * 1024.0));
+  }
+
+  private static BufferedImage decodePlaceholder() {
+    try {
+      return ImageIO.read(PlaceholderGridBenchmark.class.getResource(ImageResources.PLACEHOLDER));
+    } catch (Exception e) {
+      throw new IllegalStateException("Cannot read placeholder", e);
+    }
+  }
+
+  private static long usedHeapAfterGc() {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
@@ -0,0 +1,120 @@
+package benchmark;
+
+import helper.PlacesApiException;
+import helper.PlacesImportPipeline;
+import helper.PlacesSearchClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * Imports from a fake Places API with a fixed latency per page, first one search at a time and then
+ * concurrently, and reports the wall time of each. Then interrupts an import part way through and
+ * resumes it, reporting how many pages the resumed run fetched again.
+ *
+ * <p>Usage: {@code PlacesImportBenchmark [searches] [pagesPerSearch] [latencyMillis]}.
+ */
+public class PlacesImportBenchmark {
+
+  private static final int PLACES_PER_PAGE = 20;
+
+  public static void main(String[] args) throws Exception {
+    int searches = args.length > 0 ? Integer.parseInt(args[0]) : 16;
+    int pages = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+    int latency = args.length > 2 ? Integer.parseInt(args[2]) : 100;
+    List<PlacesImportPipeline.Task> tasks = new ArrayList<>();
+    for (int i = 0; i < searches; i++) {
+      tasks.add(new PlacesImportPipeline.Task("search" + i,
+          new JSONObject().put("textQuery", "search" + i)));
+    }
+    // Neighbouring searches share half of their places, like overlapping map tiles
+    int expected = (searches + 1) * pages * PLACES_PER_PAGE / 2;
+    Path directory = Files.createTempDirectory("places-import");
+
+    for (int concurrency : new int[]{1, 8}) {
+      FakeClient client = new FakeClient(pages, latency, -1);
+      Path output = directory.resolve("restaurant_c" + concurrency + ".json");
+      long start = System.nanoTime();
+      int count = new PlacesImportPipeline(client, concurrency, 5, 10).run(tasks, output);
+      long millis = (System.nanoTime() - start) / 1_000_000;
+      System.out.printf("concurrency %d: %d ms, %d pages, %d places (expected %d), %d in file%n",
+          concurrency, millis, client.fetches.get(), count, expected,
+          new JSONArray(Files.readString(output)).length());
+    }
+
+    // Every search fails for good on its last page, then a second run resumes the import
+    Path output = directory.resolve("restaurant_resumed.json");
+    FakeClient failing = new FakeClient(pages, latency, pages - 1);
+    try {
+      new PlacesImportPipeline(failing, 8, 2, 10).run(tasks, output);
+    } catch (Exception e) {
+      System.out.println("first run: " + failing.fetches.get() + " pages, stopped: "
+          + e.getMessage().substring(0, e.getMessage().indexOf('.') + 1));
+    }
+    FakeClient resumed = new FakeClient(pages, latency, -1);
+    int count = new PlacesImportPipeline(resumed, 8, 5, 10).run(tasks, output);
+    System.out.printf("resumed run: %d pages fetched (%d needed), %d places (expected %d)%n",
+        resumed.fetches.get(), searches, count, expected);
+    System.out.println("spool and checkpoint removed: "
+        + !Files.exists(PlacesImportPipeline.spoolPathFor(output))
+        + " " + !Files.exists(PlacesImportPipeline.checkpointPathFor(output)));
+  }
+
+  /**
+   * Serves pages of fake places after a fixed delay. The first request for each page is rate
+   * limited once, and a page can be made to fail for good.
+   */
+  private static class FakeClient implements PlacesSearchClient {
+
+    private final int pages;
+    private final int latency;
+    private final int failingPage;
+    private final Set<String> rateLimited = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger fetches = new AtomicInteger();
+
+    FakeClient(int pages, int latency, int failingPage) {
+      this.pages = pages;
+      this.latency = latency;
+      this.failingPage = failingPage;
+    }
+
+    @Override
+    public JSONObject searchText(JSONObject request) throws PlacesApiException {
+      int search = Integer.parseInt(request.getString("textQuery").substring("search".length()));
+      int page = request.has("pageToken")
+          ? Integer.parseInt(request.getString("pageToken")) : 0;
+      if (rateLimited.add(search + "/" + page)) {
+        throw new PlacesApiException(429, "RESOURCE_EXHAUSTED");
+      }
+      if (page == failingPage) {
+        throw new PlacesApiException(403, "PERMISSION_DENIED");
+      }
+      try {
+        Thread.sleep(latency);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      fetches.incrementAndGet();
+
+      JSONArray places = new JSONArray();
+      for (int i = 0; i < PLACES_PER_PAGE; i++) {
+        // Each search's places overlap half of the next search's on the same page
+        String id = page + "-" + (search * PLACES_PER_PAGE / 2 + i);
+        places.put(new JSONObject()
+            .put("name", "places/" + id)
+            .put("displayName", new JSONObject().put("text", "Place " + id)));
+      }
+      JSONObject response = new JSONObject().put("places", places);
+      if (page + 1 < pages) {
+        response.put("nextPageToken", String.valueOf(page + 1));
+      }
+      return response;
+    }
+  }
+}
@@ -0,0 +1,94 @@
+package benchmark;
+
+import interface_adapter.ImageDataAccessInterface;
+import interface_adapter.view_restaurant.PhotoGallery;
+import interface_adapter.view_restaurant.ViewRestaurantState;
+import interface_adapter.view_restaurant.ViewRestaurantViewModel;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Breaks down how long opening a restaurant page takes when its photos come from a slow source:
+ * until the page shows, until its first photo shows, and until every photo has been shown. Once
+ * fetching every photo before publishing the page, as the presenter used to, and once with
+ * PhotoGallery, paging to the next photo as soon as the shown one arrives.
+ *
+ * <p>Usage: {@code RestaurantGalleryBenchmark [photos] [fetchMillis]}, default 10 photos at 150 ms.
+ */
+public class RestaurantGalleryBenchmark {
+
+  public static void main(String[] args) throws Exception {
+    int photos = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+    long fetchMillis = args.length > 1 ? Long.parseLong(args[1]) : 150;
+    ImageDataAccessInterface slowSource = (photoId, apiKey) -> {
+      try {
+        Thread.sleep(fetchMillis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB);
+    };
+    List<String> photoIds = new ArrayList<>();
+    for (int i = 0; i < photos; i++) {
+      photoIds.add("places/p/photos/" + i);
+    }
+    System.out.printf("%d photos, %d ms per fetch%n", photos, fetchMillis);
+
+    // Before: every photo fetched in turn, then the page published with all of them
+    long start = System.nanoTime();
+    List<BufferedImage> loaded = new ArrayList<>();
+    for (String photoId : photoIds) {
+      loaded.add(slowSource.fetchRestaurantImage(photoId, "key"));
+    }
+    long eager = (System.nanoTime() - start) / 1_000_000;
+    report("eager", eager, eager, eager);
+
+    // After: the page published at once, photos loaded by the gallery while paging through them
+    ExecutorService swingThread = Executors.newSingleThreadExecutor();
+    ViewRestaurantViewModel viewModel = new ViewRestaurantViewModel();
+    PhotoGallery gallery = new PhotoGallery(viewModel, slowSource, swingThread);
+    CountDownLatch allShown = new CountDownLatch(1);
+    long[] pageMillis = new long[1];
+
+    start = System.nanoTime();
+    long galleryStart = start;
+    swingThread.execute(() -> {
+      ViewRestaurantState state = new ViewRestaurantState();
+      state.setName("Benchmark Cafe");
+      state.setPhotos(new ArrayList<>(Collections.nCopies(photos, null)));
+      viewModel.setState(state);
+      pageMillis[0] = (System.nanoTime() - galleryStart) / 1_000_000;
+
+      boolean[] seen = new boolean[photos];
+      viewModel.addPropertyChangeListener(evt -> {
+        int shown = state.getPhotoIndex();
+        if (state.getShownPhoto() == null || seen[shown]) {
+          return;
+        }
+        seen[shown] = true;
+        if (shown == photos - 1) {
+          allShown.countDown();
+        } else {
+          // The user pages on as soon as the photo shows
+          gallery.show(shown + 1);
+        }
+      });
+      gallery.open(state, photoIds, "key");
+    });
+    allShown.await(5, TimeUnit.MINUTES);
+    long lazy = (System.nanoTime() - start) / 1_000_000;
+    report("lazy ", pageMillis[0], gallery.getHeroPhotoMillis(), lazy);
+    swingThread.shutdown();
+  }
+
+  private static void report(String label, long pageMillis, long firstPhotoMillis, long allPhotosMillis) {
+    System.out.printf("RESULT %s page %6d ms   first photo %6d ms   all photos %6d ms%n",
+        label, pageMillis, firstPhotoMillis, allPhotosMillis);
+  }
+}
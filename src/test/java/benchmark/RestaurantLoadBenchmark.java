@@ -0,0 +1,75 @@
+package benchmark;
+
+import data_access.JsonRestaurantDataAccessObject;
+import data_access.RestaurantCatalog.LoadMode;
+import data_access.RestaurantLoadStats;
+import entity.RestaurantFactory;
+import java.io.BufferedWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * Compares load time and peak heap of the DOM and streaming restaurant loaders.
+ *
+ * <p>Usage: {@code RestaurantLoadBenchmark [jsonPath] [copies]}. When copies is greater than 1 the
+ * source file is replicated into a temporary file (with unique CIDs) to simulate a larger export.
+ */
+public class RestaurantLoadBenchmark {
+
+  private static final int ITERATIONS = 5;
+
+  public static void main(String[] args) throws Exception {
+    String jsonPath = args.length > 0 ? args[0] : "src/main/java/data/restaurant.json";
+    int copies = args.length > 1 ? Integer.parseInt(args[1]) : 50;
+
+    Path source = copies > 1 ? replicate(Path.of(jsonPath), copies) : Path.of(jsonPath);
+    System.out.printf("Loading %s (%.1f MB)%n", source, Files.size(source) / (1024.0 * 1024.0));
+
+    for (LoadMode mode : new LoadMode[]{LoadMode.DOM, LoadMode.STREAMING}) {
+      long totalMillis = 0;
+      long maxPeak = 0;
+      for (int i = 0; i < ITERATIONS; i++) {
+        System.gc();
+        RestaurantLoadStats stats = new JsonRestaurantDataAccessObject(
+            source.toString(), new RestaurantFactory(), mode).getLoadStats();
+        totalMillis += stats.getLoadTimeMillis();
+        maxPeak = Math.max(maxPeak, stats.getPeakHeapBytes());
+      }
+      System.out.printf("RESULT %-9s avg %6d ms   max peak heap +%.1f MB%n",
+          mode, totalMillis / ITERATIONS, maxPeak / (1024.0 * 1024.0));
+    }
+
+    if (copies > 1) {
+      Files.deleteIfExists(source);
+    }
+  }
+
+  /**
+   * Writes {@code copies} copies of every place to a temp file, rewriting the CID of each copy so
+   * the DAO keeps them all.
+   */
+  static Path replicate(Path source, int copies) throws Exception {
+    JSONArray original = new JSONArray(Files.readString(source));
+    Path target = Files.createTempFile("restaurants-x" + copies, ".json");
+    try (BufferedWriter writer = Files.newBufferedWriter(target)) {
+      writer.write('[');
+      for (int copy = 0; copy < copies; copy++) {
+        for (int i = 0; i < original.length(); i++) {
+          JSONObject place = new JSONObject(original.getJSONObject(i).toString());
+          JSONObject links = place.getJSONObject("googleMapsLinks");
+          links.put("placeUri", links.getString("placeUri").replace("cid=", "cid=" + copy + "0"));
+          place.getJSONObject("displayName")
+              .put("text", place.getJSONObject("displayName").getString("text") + " #" + copy);
+          if (copy > 0 || i > 0) {
+            writer.write(',');
+          }
+          writer.write(place.toString());
+        }
+      }
+      writer.write(']');
+    }
+    return target;
+  }
+}
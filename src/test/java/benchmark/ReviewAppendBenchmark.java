@@ -0,0 +1,104 @@
+package benchmark;
+
+import data_access.JsonReviewDataAccessObject;
+import entity.Review;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * Measures how long adding one review takes as the number of stored reviews grows, rewriting the
+ * whole reviews.json per review (the previous behaviour) against appending to the review log. Then
+ * reopens a log cut short by a simulated crash and checks every acknowledged review came back.
+ *
+ * <p>Usage: {@code ReviewAppendBenchmark [adds]}.
+ */
+public class ReviewAppendBenchmark {
+
+  public static void main(String[] args) throws Exception {
+    int adds = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+    Path directory = Files.createTempDirectory("reviews");
+
+    for (int existing : new int[]{1_000, 10_000, 50_000}) {
+      Path snapshot = directory.resolve("reviews_" + existing + ".json");
+      List<Review> reviews = writeSnapshot(snapshot, existing);
+
+      long[] rewrite = new long[adds];
+      for (int i = 0; i < adds; i++) {
+        long start = System.nanoTime();
+        reviews.add(newReview(i));
+        Files.writeString(snapshot, new JSONArray(reviews).toString(2));
+        rewrite[i] = System.nanoTime() - start;
+      }
+
+      writeSnapshot(snapshot, existing);
+      JsonReviewDataAccessObject dataAccess =
+          new JsonReviewDataAccessObject(snapshot.toString(), adds / 2);
+      long[] append = new long[adds];
+      for (int i = 0; i < adds; i++) {
+        Review review = newReview(i);
+        long start = System.nanoTime();
+        dataAccess.addReview(review.getReviewId(), review.getAuthorId(), review.getRestaurantId(),
+            review.getContent(), review.getCreationDate());
+        append[i] = System.nanoTime() - start;
+      }
+      dataAccess.close();
+
+      System.out.printf("%,d reviews: rewrite p50 %.2f ms p99 %.2f ms | log p50 %.2f ms p99 %.2f ms"
+              + " (compacting every %d)%n", existing, percentile(rewrite, 50),
+          percentile(rewrite, 99), percentile(append, 50), percentile(append, 99), adds / 2);
+    }
+
+    // Crash: reviews logged but never compacted, and a half-written last line
+    Path snapshot = directory.resolve("reviews_crash.json");
+    writeSnapshot(snapshot, 1_000);
+    JsonReviewDataAccessObject dataAccess =
+        new JsonReviewDataAccessObject(snapshot.toString(), Integer.MAX_VALUE);
+    for (int i = 0; i < 250; i++) {
+      dataAccess.addReview(UUID.randomUUID().toString(), "author", "places/crash", "Logged " + i,
+          "11/16/2025");
+    }
+    Files.writeString(snapshot.resolveSibling(snapshot.getFileName() + ".log"),
+        "{\"reviewId\":\"torn", StandardOpenOption.APPEND);
+    JsonReviewDataAccessObject recovered =
+        new JsonReviewDataAccessObject(snapshot.toString(), Integer.MAX_VALUE);
+    recovered.addReview(UUID.randomUUID().toString(), "author", "places/crash", "After restart",
+        "11/16/2025");
+    JsonReviewDataAccessObject again =
+        new JsonReviewDataAccessObject(snapshot.toString(), Integer.MAX_VALUE);
+    System.out.println("recovered after crash: " + again.reviewByRestaurant("places/crash").size()
+        + " of 251 logged reviews");
+  }
+
+  private static List<Review> writeSnapshot(Path snapshot, int count) throws Exception {
+    List<Review> reviews = new ArrayList<>();
+    JSONArray json = new JSONArray();
+    for (int i = 0; i < count; i++) {
+      Review review = newReview(i);
+      reviews.add(review);
+      json.put(new JSONObject(review));
+    }
+    Files.writeString(snapshot, json.toString(2));
+    Files.deleteIfExists(snapshot.resolveSibling(snapshot.getFileName() + ".log"));
+    return reviews;
+  }
+
+  private static Review newReview(int i) {
+    return new Review(UUID.randomUUID().toString(), "author" + (i % 97),
+        "places/restaurant" + (i % 1_000),
+        "Review number " + i + ": friendly staff, good coffee and plenty of seating.",
+        "11/16/2025");
+  }
+
+  private static double percentile(long[] nanos, int percentile) {
+    long[] sorted = nanos.clone();
+    Arrays.sort(sorted);
+    return sorted[Math.min(sorted.length - 1, sorted.length * percentile / 100)] / 1e6;
+  }
+}
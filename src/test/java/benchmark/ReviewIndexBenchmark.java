@@ -0,0 +1,91 @@
+package benchmark;
+
+import data_access.JsonReviewDataAccessObject;
+import entity.Review;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import use_case.display_reviews.ReviewOrder;
+
+/**
+ * Times opening a restaurant page's reviews, scanning every review (the previous behaviour)
+ * against reading the per-restaurant index, and checks the index matches the sorted scan after
+ * reviews are added.
+ *
+ * <p>Usage: {@code ReviewIndexBenchmark [reviews] [restaurants]}.
+ */
+public class ReviewIndexBenchmark {
+
+  public static void main(String[] args) throws Exception {
+    int count = args.length > 0 ? Integer.parseInt(args[0]) : 50_000;
+    int restaurants = args.length > 1 ? Integer.parseInt(args[1]) : 1_000;
+    Random random = new Random(7);
+
+    JSONArray json = new JSONArray();
+    Map<String, Review> reviewsById = new HashMap<>();
+    for (int i = 0; i < count; i++) {
+      Review review = new Review("review" + i, "author" + random.nextInt(500),
+          "places/restaurant" + random.nextInt(restaurants), "Review " + i,
+          String.format("%02d/%02d/%d", 1 + random.nextInt(12), 1 + random.nextInt(28),
+              2020 + random.nextInt(6)), random.nextInt(50));
+      reviewsById.put(review.getReviewId(), review);
+      json.put(new JSONObject(review));
+    }
+    Path snapshot = Files.createTempDirectory("reviews").resolve("reviews.json");
+    Files.writeString(snapshot, json.toString());
+    JsonReviewDataAccessObject dataAccess = new JsonReviewDataAccessObject(snapshot.toString());
+
+    for (int i = 0; i < 100; i++) {
+      String restaurantId = "places/restaurant" + random.nextInt(restaurants);
+      dataAccess.addReview("added" + i, "author", restaurantId, "Added " + i, "12/31/2025");
+      reviewsById.put("added" + i,
+          new Review("added" + i, "author", restaurantId, "Added " + i, "12/31/2025"));
+    }
+
+    int queries = 2_000;
+    long[] scan = new long[queries];
+    long[] indexed = new long[queries];
+    long sink = 0;
+    for (int i = 0; i < queries; i++) {
+      String restaurantId = "places/restaurant" + random.nextInt(restaurants);
+
+      long start = System.nanoTime();
+      List<Review> scanned = new ArrayList<>();
+      for (Review review : reviewsById.values()) {
+        if (review.getRestaurantId().equals(restaurantId)) {
+          scanned.add(review);
+        }
+      }
+      scanned.sort(ReviewOrder.NEWEST.comparator());
+      scan[i] = System.nanoTime() - start;
+
+      start = System.nanoTime();
+      List<Review> fromIndex = dataAccess.reviewsForRestaurant(restaurantId, ReviewOrder.NEWEST);
+      indexed[i] = System.nanoTime() - start;
+      sink += fromIndex.size();
+
+      List<String> expected = new ArrayList<>();
+      List<String> actual = new ArrayList<>();
+      scanned.forEach(review -> expected.add(review.getReviewId()));
+      fromIndex.forEach(review -> actual.add(review.getReviewId()));
+      if (!expected.equals(actual)) {
+        throw new AssertionError("Index differs from scan for " + restaurantId);
+      }
+    }
+    System.out.printf("%,d reviews, %,d restaurants: scan p50 %.1f us | index p50 %.2f us (%d)%n",
+        count, restaurants, percentile(scan, 50), percentile(indexed, 50), sink);
+  }
+
+  private static double percentile(long[] nanos, int percentile) {
+    long[] sorted = nanos.clone();
+    Arrays.sort(sorted);
+    return sorted[Math.min(sorted.length - 1, sorted.length * percentile / 100)] / 1e3;
+  }
+}
@@ -0,0 +1,67 @@
+package benchmark;
+
+import data_access.RestaurantCatalog;
+import data_access.RestaurantCatalog.LoadMode;
+import entity.RestaurantFactory;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Measures the retained heap of the restaurant catalog when the restaurant DAO and the user repo
+ * each load their own copy (the old behaviour) versus sharing one catalog.
+ *
+ * <p>Usage: {@code SharedCatalogMemoryBenchmark [copies]}, default 1 (the real export); larger
+ * values replicate it as in {@link RestaurantLoadBenchmark}.
+ */
+public class SharedCatalogMemoryBenchmark {
+
+  public static void main(String[] args) throws Exception {
+    int copies = args.length > 0 ? Integer.parseInt(args[0]) : 1;
+    Path source = Path.of("src/main/java/data/restaurant.json");
+    Path json = copies > 1 ? RestaurantLoadBenchmark.replicate(source, copies) : source;
+    try {
+      // Load once and drop it, so class loading and parser setup are not counted below
+      RestaurantCatalog.load(json, new RestaurantFactory(), LoadMode.STREAMING);
+
+      long baseline = usedHeapAfterGc();
+      RestaurantCatalog daoCopy = RestaurantCatalog.load(json, new RestaurantFactory(),
+          LoadMode.STREAMING);
+      RestaurantCatalog userRepoCopy = RestaurantCatalog.load(json, new RestaurantFactory(),
+          LoadMode.STREAMING);
+      long separate = usedHeapAfterGc() - baseline;
+      keepAlive(daoCopy, userRepoCopy);
+      daoCopy = null;
+      userRepoCopy = null;
+
+      baseline = usedHeapAfterGc();
+      RestaurantCatalog forDao = RestaurantCatalog.shared(json, LoadMode.STREAMING);
+      RestaurantCatalog forUserRepo = RestaurantCatalog.shared(json, LoadMode.STREAMING);
+      long shared = usedHeapAfterGc() - baseline;
+      keepAlive(forDao, forUserRepo);
+
+      System.out.printf("RESULT %d restaurants  separate catalogs %.2f MB  shared catalog %.2f MB"
+              + "  saved %.2f MB (same instance: %b)%n",
+          forDao.size(), separate / (1024.0 * 1024.0), shared / (1024.0 * 1024.0),
+          (separate - shared) / (1024.0 * 1024.0), forDao == forUserRepo);
+    } finally {
+      if (copies > 1) {
+        Files.deleteIfExists(json);
+      }
+    }
+  }
+
+  private static long usedHeapAfterGc() throws InterruptedException {
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+      Thread.sleep(50);
+    }
+    return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+  }
+
+  private static void keepAlive(Object a, Object b) {
+    if (a.hashCode() == b.hashCode() && a != b) {
+      System.out.print("");
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package benchmark;
+
+import data_access.JsonRestaurantDataAccessObject;
+import data_access.RestaurantCatalog.LoadMode;
+import data_access.RestaurantSnapshot;
+import entity.Restaurant;
+import entity.RestaurantFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Compares cold catalog load from json against the binary snapshot, at several catalog sizes, and
+ * checks that both paths produce the same restaurants.
+ *
+ * <p>Usage: {@code SnapshotStartupBenchmark [copies...]}, default 1 10 50, where copies scales the
+ * real export as in {@link RestaurantLoadBenchmark}.
+ */
+public class SnapshotStartupBenchmark {
+
+  private static final int ITERATIONS = 5;
+
+  public static void main(String[] args) throws Exception {
+    int[] sizes = args.length > 0
+        ? java.util.Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+        : new int[]{1, 10, 50};
+
+    for (int copies : sizes) {
+      Path json = RestaurantLoadBenchmark.replicate(
+          Path.of("src/main/java/data/restaurant.json"), copies);
+      Path snapshot = RestaurantSnapshot.snapshotPathFor(json);
+      try {
+        long buildStart = System.nanoTime();
+        JsonRestaurantDataAccessObject first =
+            new JsonRestaurantDataAccessObject(json.toString(), new RestaurantFactory(),
+                LoadMode.SNAPSHOT);
+        long buildMillis = (System.nanoTime() - buildStart) / 1_000_000;
+
+        long jsonMillis = averageMillis(json, LoadMode.STREAMING);
+        long snapshotMillis = averageMillis(json, LoadMode.SNAPSHOT);
+
+        JsonRestaurantDataAccessObject fromSnapshot = new JsonRestaurantDataAccessObject(
+            json.toString(), new RestaurantFactory(), LoadMode.SNAPSHOT);
+        verifySame(first.getAllRestaurants(), fromSnapshot.getAllRestaurants());
+
+        System.out.printf("RESULT %6d restaurants  json %5.1f MB  snapshot %5.1f MB  "
+                + "json load %5d ms  snapshot load %5d ms  (first run incl. snapshot write %d ms)%n",
+            first.getAllRestaurants().size(), Files.size(json) / (1024.0 * 1024.0),
+            Files.size(snapshot) / (1024.0 * 1024.0), jsonMillis, snapshotMillis, buildMillis);
+      } finally {
+        Files.deleteIfExists(json);
+        Files.deleteIfExists(snapshot);
+      }
+    }
+  }
+
+  private static long averageMillis(Path json, LoadMode mode) throws Exception {
+    long total = 0;
+    for (int i = 0; i < ITERATIONS; i++) {
+      System.gc();
+      long start = System.nanoTime();
+      new JsonRestaurantDataAccessObject(json.toString(), new RestaurantFactory(), mode);
+      total += System.nanoTime() - start;
+    }
+    return total / ITERATIONS / 1_000_000;
+  }
+
+  private static void verifySame(List<Restaurant> expected, List<Restaurant> actual) {
+    if (expected.size() != actual.size()) {
+      throw new AssertionError("Snapshot has " + actual.size() + " restaurants, json has "
+          + expected.size());
+    }
+    for (int i = 0; i < expected.size(); i++) {
+      Restaurant a = expected.get(i);
+      Restaurant b = actual.get(i);
+      if (!a.getId().equals(b.getId()) || !a.getName().equals(b.getName())
+          || !a.getAddress().equals(b.getAddress()) || !a.getType().equals(b.getType())
+          || a.getRating() != b.getRating() || a.getRatingCount() != b.getRatingCount()
+          || a.getLatitude() != b.getLatitude() || a.getLongitude() != b.getLongitude()
+          || !a.getHours().equals(b.getHours()) || !a.getPhotoIds().equals(b.getPhotoIds())
+          || !a.getPhoneNumber().equals(b.getPhoneNumber())
+          || !a.getWebsiteUri().equals(b.getWebsiteUri())) {
+        throw new AssertionError("Snapshot differs from json at " + a.getId());
+      }
+    }
+  }
+}
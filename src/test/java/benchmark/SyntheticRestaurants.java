@@ -0,0 +1,71 @@
+package benchmark;
+
+import data_access.JsonRestaurantDataAccessObject;
+import entity.Restaurant;
+import entity.RestaurantFactory;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Builds large in-memory catalogs for benchmarks by recombining the real restaurant export: names
+ * are stitched from words of different real names, and location and rating are jittered, so the
+ * vocabulary and field shapes stay realistic without writing a huge JSON file. Every restaurant
+ * gets its own copies of its strings and lists, as the json loaders produce.
+ */
+final class SyntheticRestaurants {
+
+  private SyntheticRestaurants() {
+  }
+
+  static List<Restaurant> generate(int count, long seed) throws IOException {
+    List<Restaurant> base = new JsonRestaurantDataAccessObject(
+        "src/main/java/data/restaurant.json", new RestaurantFactory()).getAllRestaurants();
+    Random random = new Random(seed);
+    List<Restaurant> result = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      Restaurant template = base.get(random.nextInt(base.size()));
+      String[] first = base.get(random.nextInt(base.size())).getName().split(" ");
+      String[] second = base.get(random.nextInt(base.size())).getName().split(" ");
+      String placesId = "places/Synthetic" + i;
+      String name = first[0] + " " + second[second.length - 1] + " " + (i % 97);
+      result.add(new Restaurant.Builder()
+          .id(placesId)
+          .name(name)
+          .location((random.nextInt(900) + 1) + " " + template.getAddress(), template.getMapUri(),
+              template.getLatitude() + (random.nextDouble() - 0.5) * 0.2,
+              template.getLongitude() + (random.nextDouble() - 0.5) * 0.2)
+          .type(copy(template.getType()))
+          .rating(Math.round((3 + random.nextDouble() * 2) * 10) / 10.0, random.nextInt(5000))
+          .contact(copy(template.getPhoneNumber()), copy(template.getWebsiteUri()))
+          .openingHours(copy(template.getHours()))
+          .studentDiscount(template.hasStudentDiscount(), template.getDiscountValue())
+          .photoIds(photosFor(placesId, template.getPhotoIds()))
+          .build());
+    }
+    return result;
+  }
+
+  // Fresh copies, so every restaurant owns its strings as it would after parsing json
+  private static String copy(String value) {
+    return value == null ? null : new String(value.toCharArray());
+  }
+
+  // Photo names are "<places id>/photos/<token>"; keep the template's tokens under the new id
+  private static List<String> photosFor(String placesId, List<String> templatePhotos) {
+    List<String> photos = new ArrayList<>(templatePhotos.size());
+    for (String photo : templatePhotos) {
+      photos.add(placesId + photo.substring(photo.indexOf("/photos/")));
+    }
+    return photos;
+  }
+
+  private static List<String> copy(List<String> values) {
+    List<String> copies = new ArrayList<>(values.size());
+    for (String value : values) {
+      copies.add(copy(value));
+    }
+    return copies;
+  }
+}
@@ -0,0 +1,81 @@
+package benchmark;
+
+import data_access.JsonRestaurantDataAccessObject;
+import data_access.RestaurantCatalog.LoadMode;
+import entity.Restaurant;
+import entity.RestaurantFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import use_case.filter.RestaurantRanking;
+import use_case.filter.TopRestaurants;
+
+/**
+ * Compares ways of picking the best 10 restaurants of each type: a full sort with the score
+ * recomputed in the comparator, a bounded heap scoring on the fly, and the catalog's bounded heap
+ * over scores precomputed at load.
+ *
+ * <p>Usage: {@code TopRestaurantsBenchmark [copies]} where copies scales the catalog.
+ */
+public class TopRestaurantsBenchmark {
+
+  private static final int LIMIT = 10;
+  private static final int WARMUP_ROUNDS = 200;
+  private static final int ROUNDS = 200;
+
+  public static void main(String[] args) throws Exception {
+    int copies = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+    Path source = RestaurantLoadBenchmark.replicate(
+        Path.of("src/main/java/data/restaurant.json"), copies);
+    JsonRestaurantDataAccessObject dataAccess = new JsonRestaurantDataAccessObject(
+        source.toString(), new RestaurantFactory(), LoadMode.STREAMING);
+    Files.deleteIfExists(source);
+
+    String[] types = dataAccess.getAllRestaurantTypes();
+    System.out.printf("%d restaurants, %d types, largest type %d%n",
+        dataAccess.getAllRestaurants().size(), types.length,
+        Arrays.stream(types).mapToInt(t -> dataAccess.getRestaurantsByType(t).size()).max()
+            .orElse(0));
+
+    report("full sort        ", measure(types, type -> dataAccess.getRestaurantsByType(type)
+        .stream()
+        .sorted(Comparator.comparingDouble(
+            (Restaurant r) -> r.getRating() * Math.log10(r.getRatingCount() + 10)).reversed())
+        .limit(LIMIT)
+        .collect(Collectors.toList())));
+    report("heap, scored     ", measure(types, type -> TopRestaurants.select(
+        dataAccess.getRestaurantsByType(type), LIMIT, RestaurantRanking.POPULARITY)));
+    report("heap, precomputed", measure(types, type -> dataAccess.getTopRestaurantsByType(
+        type, LIMIT, RestaurantRanking.POPULARITY)));
+  }
+
+  private static long[] measure(String[] types, Consumer<String> query) {
+    // Warm up the JIT before measuring
+    for (int round = 0; round < WARMUP_ROUNDS; round++) {
+      for (String type : types) {
+        query.accept(type);
+      }
+    }
+    long[] latencies = new long[ROUNDS * types.length];
+    int n = 0;
+    for (int round = 0; round < ROUNDS; round++) {
+      for (String type : types) {
+        long start = System.nanoTime();
+        query.accept(type);
+        latencies[n++] = System.nanoTime() - start;
+      }
+    }
+    return latencies;
+  }
+
+  private static void report(String label, long[] latencies) {
+    Arrays.sort(latencies);
+    System.out.printf("RESULT %s  p50 %8.1f us   p99 %8.1f us%n", label,
+        latencies[latencies.length / 2] / 1000.0,
+        latencies[(int) (latencies.length * 0.99)] / 1000.0);
+  }
+}
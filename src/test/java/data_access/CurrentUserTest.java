@@ -0,0 +1,36 @@
+package data_access;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import entity.User;
+import org.junit.jupiter.api.Test;
+import use_case.IAuthGateway;
+
+/**
+ * Unit tests for CurrentUser reading the logged-in user through the repository.
+ */
+class CurrentUserTest {
+
+  @Test
+  void testReplacedUserIsReturnedOnNextCall() {
+    // Arrange
+    IAuthGateway auth = mock(IAuthGateway.class);
+    when(auth.getCurrentUserUid()).thenReturn("uid-1");
+    InMemoryUserRepo repo = new InMemoryUserRepo();
+    repo.save(new User("uid-1", "user@example.com", "Before"));
+    CurrentUser currentUser = new CurrentUser(auth, repo);
+    currentUser.getCurrentUser();
+
+    // Act: the repository swaps in a new instance, as a snapshot update or undo does
+    User replacement = new User("uid-1", "user@example.com", "After");
+    repo.update(replacement);
+    User user = currentUser.getCurrentUser();
+
+    // Assert
+    assertSame(replacement, user, "The repository's latest copy should be returned");
+    assertEquals("After", user.getNickname());
+  }
+}
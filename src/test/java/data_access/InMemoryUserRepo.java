@@ -0,0 +1,98 @@
+package data_access;
+
+import entity.User;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import use_case.IUserRepo;
+import use_case.PersistenceException;
+
+/**
+ * Test double for IUserRepo kept in memory, shared by tests and benchmarks. It can simulate the
+ * latency of a remote database: every lookup, whether of one user or a batch, costs one round trip,
+ * and round trips are counted.
+ */
+public class InMemoryUserRepo implements IUserRepo {
+
+    private final Map<String, User> usersById = new ConcurrentHashMap<>();
+    private final long roundTripMillis;
+    private final AtomicInteger roundTrips = new AtomicInteger();
+
+    /**
+     * Creates an empty repository that answers immediately.
+     */
+    public InMemoryUserRepo() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty repository.
+     * @param roundTripMillis how long each lookup blocks, like a request to a remote database
+     */
+    public InMemoryUserRepo(long roundTripMillis) {
+        this.roundTripMillis = roundTripMillis;
+    }
+
+    @Override
+    public User getUserByUid(String uid) throws PersistenceException {
+        roundTrip();
+        return usersById.get(uid);
+    }
+
+    /**
+     * Looks up every user in one round trip.
+     */
+    @Override
+    public Map<String, User> getUsersByUids(Collection<String> uids) throws PersistenceException {
+        roundTrip();
+        Map<String, User> users = new HashMap<>();
+        for (String uid : uids) {
+            User user = usersById.get(uid);
+            if (user != null) {
+                users.put(uid, user);
+            }
+        }
+        return users;
+    }
+
+    @Override
+    public void save(User user) {
+        usersById.put(user.getUid(), user);
+    }
+
+    @Override
+    public void update(User user) {
+        save(user);
+    }
+
+    @Override
+    public boolean existsByUid(String uid) {
+        return usersById.containsKey(uid);
+    }
+
+    @Override
+    public void loadAllUsers() {
+        // Everything is already in memory
+    }
+
+    /**
+     * @return how many lookups were made so far
+     */
+    public int getRoundTrips() {
+        return roundTrips.get();
+    }
+
+    private void roundTrip() throws PersistenceException {
+        roundTrips.incrementAndGet();
+        if (roundTripMillis > 0) {
+            try {
+                Thread.sleep(roundTripMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new PersistenceException("Interrupted while looking up users");
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package data_access;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import entity.Restaurant;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for RestaurantSnapshot writing and reading back the binary copy of the json file.
+ */
+class RestaurantSnapshotTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void testEveryFieldSurvivesRoundTrip() throws IOException {
+    // Arrange
+    Path json = writeJson("[{\"name\":\"places/full\"}]");
+    Restaurant full = new Restaurant.Builder()
+        .id("111")
+        .name("Full Cafe")
+        .location("1 King St W", "https://maps.google.com/?cid=111", 43.6532, -79.3832)
+        .type("Cafe")
+        .rating(4.25, 321)
+        .contact("416-555-0101", "https://full.example.com")
+        .openingHours(List.of("Monday: 9:00 AM – 5:00 PM", "Tuesday: Closed"))
+        .studentDiscount(true, 0.15)
+        .photoIds(List.of("places/full/photos/a", "places/full/photos/b"))
+        .build();
+    Restaurant sparse = new Restaurant.Builder()
+        .id("222")
+        .name("Sparse Diner")
+        .location("2 Queen St E", "https://maps.google.com/?cid=222", -33.5, 151.25)
+        .type("Cafe")
+        .rating(0.0, 0)
+        .contact(null, null)
+        .openingHours(List.of())
+        .studentDiscount(false, 0.0)
+        .photoIds(null)
+        .build();
+    Map<String, Restaurant> restaurantsByCid = new LinkedHashMap<>();
+    restaurantsByCid.put("111", full);
+    restaurantsByCid.put("222", sparse);
+    Map<String, String> placesIdToCid = Map.of("places/full", "111");
+    Path snapshot = RestaurantSnapshot.snapshotPathFor(json);
+
+    // Act
+    RestaurantSnapshot.write(snapshot, json, restaurantsByCid, placesIdToCid);
+    List<Object[]> read = new ArrayList<>();
+    boolean used = RestaurantSnapshot.read(snapshot, json,
+        (cid, placesId, restaurant) -> read.add(new Object[]{cid, placesId, restaurant}));
+
+    // Assert
+    assertTrue(used);
+    assertEquals(2, read.size());
+    assertEquals("111", read.get(0)[0]);
+    assertEquals("places/full", read.get(0)[1]);
+    assertSameRestaurant(full, (Restaurant) read.get(0)[2]);
+    assertEquals("222", read.get(1)[0]);
+    assertNull(read.get(1)[1], "A restaurant without a Places ID should read back as null");
+    Restaurant sparseRead = (Restaurant) read.get(1)[2];
+    assertSameRestaurant(sparse, sparseRead);
+    assertEquals(List.of(), sparseRead.getPhotoIds(), "Absent photos should read back empty");
+  }
+
+  @Test
+  void testChangedJsonInvalidatesSnapshot() throws IOException {
+    // Arrange
+    Path json = writeJson("[{\"name\":\"places/a\"}]");
+    Path snapshot = RestaurantSnapshot.snapshotPathFor(json);
+    RestaurantSnapshot.write(snapshot, json, Map.of(), Map.of());
+
+    // Act: an edit of the same length, seen with a later timestamp
+    FileTime written = Files.getLastModifiedTime(json);
+    Files.writeString(json, "[{\"name\":\"places/b\"}]");
+    Files.setLastModifiedTime(json, FileTime.fromMillis(written.toMillis() + 1000));
+    boolean used = RestaurantSnapshot.read(snapshot, json, (cid, placesId, restaurant) -> { });
+
+    // Assert
+    assertFalse(used, "A snapshot of other json content should not be used");
+  }
+
+  @Test
+  void testTouchedJsonKeepsSnapshotWhichCanThenBeReplaced() throws IOException {
+    // Arrange
+    Path json = writeJson("[{\"name\":\"places/a\"}]");
+    Path snapshot = RestaurantSnapshot.snapshotPathFor(json);
+    RestaurantSnapshot.write(snapshot, json, Map.of(), Map.of());
+    Files.setLastModifiedTime(json, FileTime.fromMillis(Files.getLastModifiedTime(json).toMillis()
+        + 60_000));
+
+    // Act
+    boolean used = RestaurantSnapshot.read(snapshot, json, (cid, placesId, restaurant) -> { });
+    RestaurantSnapshot.write(snapshot, json, Map.of(), Map.of());
+
+    // Assert
+    assertTrue(used, "Same content with a new timestamp should still use the snapshot");
+    assertTrue(RestaurantSnapshot.read(snapshot, json, (cid, placesId, restaurant) -> { }));
+  }
+
+  private Path writeJson(String content) throws IOException {
+    Path json = directory.resolve("restaurant.json");
+    Files.writeString(json, content);
+    return json;
+  }
+
+  private static void assertSameRestaurant(Restaurant expected, Restaurant actual) {
+    assertEquals(expected.getId(), actual.getId());
+    assertEquals(expected.getName(), actual.getName());
+    assertEquals(expected.getAddress(), actual.getAddress());
+    assertEquals(expected.getMapUri(), actual.getMapUri());
+    assertEquals(expected.getLatitude(), actual.getLatitude());
+    assertEquals(expected.getLongitude(), actual.getLongitude());
+    assertEquals(expected.getType(), actual.getType());
+    assertEquals(expected.getRating(), actual.getRating());
+    assertEquals(expected.getRatingCount(), actual.getRatingCount());
+    assertEquals(expected.getPhoneNumber(), actual.getPhoneNumber());
+    assertEquals(expected.getWebsiteUri(), actual.getWebsiteUri());
+    assertEquals(expected.getHours(), actual.getHours());
+    assertEquals(expected.hasStudentDiscount(), actual.hasStudentDiscount());
+    assertEquals(expected.getDiscountValue(), actual.getDiscountValue());
+    if (expected.getPhotoIds() != null) {
+      assertEquals(expected.getPhotoIds(), actual.getPhotoIds());
+    }
+  }
+}